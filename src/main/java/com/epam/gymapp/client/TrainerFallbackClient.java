@@ -1,17 +1,101 @@
 package com.epam.gymapp.client;
 
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.stereotype.Component;
 
 import com.epam.gymapp.dto.TrainerWorkloadRequest;
+import com.epam.gymapp.messaging.WorkloadDeadLetterStore;
+
+import feign.FeignException;
+import feign.RetryableException;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 
-@Component
+/**
+ * Fallback for one failed call, created by {@link TrainerFallbackFactory} with the cause.
+ *
+ * When the failure is transient (circuit breaker open, bulkhead full, time limiter, I/O error
+ * or a 5xx answer) the request is parked in the {@link WorkloadDeadLetterStore} and answered
+ * with 202 Accepted and the {@value #PARKED_HEADER} header, so it is delivered by the next
+ * replay and callers can tell it apart from a real acceptance. A 4xx answer means the service
+ * rejected the request itself and a replay would be rejected again, so it is logged and
+ * dropped and the status is passed on. Any other failure is logged and answered with 500.
+ */
 public class TrainerFallbackClient implements TrainerWorkloadClient {
 
+    private static final Logger logger = LoggerFactory.getLogger(TrainerFallbackClient.class);
+    public static final String PARKED_HEADER = "X-Workload-Parked";
+
+    private static final String QUEUED = "Trainer workload service unavailable, update queued for replay";
+
+    private final WorkloadDeadLetterStore deadLetterStore;
+    private final Throwable cause;
+
+    public TrainerFallbackClient(WorkloadDeadLetterStore deadLetterStore, Throwable cause) {
+        this.deadLetterStore = deadLetterStore;
+        this.cause = cause;
+    }
+
     @Override
     public ResponseEntity<String> updateTrainerWorkload(TrainerWorkloadRequest request) {
-        return ResponseEntity.ok("Fallback response: Unable to update trainer workload at the moment.");
+        return handle(List.of(request));
+    }
+
+    @Override
+    public ResponseEntity<String> updateTrainerWorkloadBatch(List<TrainerWorkloadRequest> requests) {
+        return handle(requests);
+    }
+
+    /**
+     * Whether the response was produced by this fallback after parking the events.
+     */
+    public static boolean isParked(ResponseEntity<?> response) {
+        return response != null && response.getHeaders().containsKey(PARKED_HEADER);
     }
 
+    /**
+     * Whether a failure is worth a later replay.
+     */
+    static boolean isTransient(Throwable cause) {
+        if (cause == null) return true;
+        for (Throwable current = cause; current != null; current = current.getCause()) {
+            if (current instanceof CallNotPermittedException || current instanceof BulkheadFullException
+                    || current instanceof TimeoutException || current instanceof RetryableException
+                    || current instanceof IOException) {
+                return true;
+            }
+            if (current instanceof FeignException feignException && feignException.status() >= 500) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private ResponseEntity<String> handle(List<TrainerWorkloadRequest> requests) {
+        if (isTransient(cause)) {
+            logger.warn("Queueing {} workload update(s) starting at {}: {}", requests.size(),
+                    requests.get(0).getEventId(), describe(cause));
+            requests.forEach(deadLetterStore::park);
+            return ResponseEntity.accepted().header(PARKED_HEADER, "true").body(QUEUED);
+        }
+        if (cause instanceof FeignException feignException && feignException.status() >= 400
+                && feignException.status() < 500) {
+            logger.error("Trainer workload service rejected {} workload update(s) starting at {} with {}, dropping them: {}",
+                    requests.size(), requests.get(0).getEventId(), feignException.status(), feignException.contentUTF8());
+            return ResponseEntity.status(feignException.status()).body(feignException.contentUTF8());
+        }
+        logger.error("Workload update(s) starting at {} failed and will not be replayed: {}",
+                requests.get(0).getEventId(), describe(cause), cause);
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(describe(cause));
+    }
 
+    private static String describe(Throwable cause) {
+        return cause == null ? "unknown cause" : cause.getClass().getSimpleName() + ": " + cause.getMessage();
+    }
 }
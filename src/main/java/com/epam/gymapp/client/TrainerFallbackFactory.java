@@ -0,0 +1,25 @@
+package com.epam.gymapp.client;
+
+import org.springframework.cloud.openfeign.FallbackFactory;
+import org.springframework.stereotype.Component;
+
+import com.epam.gymapp.messaging.WorkloadDeadLetterStore;
+
+/**
+ * Gives each failed call of {@link TrainerWorkloadClient} a {@link TrainerFallbackClient} that
+ * knows why the call failed, so only transient failures are parked for replay.
+ */
+@Component
+public class TrainerFallbackFactory implements FallbackFactory<TrainerWorkloadClient> {
+
+    private final WorkloadDeadLetterStore deadLetterStore;
+
+    public TrainerFallbackFactory(WorkloadDeadLetterStore deadLetterStore) {
+        this.deadLetterStore = deadLetterStore;
+    }
+
+    @Override
+    public TrainerWorkloadClient create(Throwable cause) {
+        return new TrainerFallbackClient(deadLetterStore, cause);
+    }
+}
@@ -1,5 +1,7 @@
 package com.epam.gymapp.client;
 
+import java.util.List;
+
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -7,10 +9,13 @@ import org.springframework.web.bind.annotation.RequestBody;
 
 import com.epam.gymapp.dto.TrainerWorkloadRequest;
 
-@FeignClient(value = "trainer-workload-service", fallback = TrainerFallbackClient.class)
+@FeignClient(value = "trainer-workload-service", fallbackFactory = TrainerFallbackFactory.class)
 public interface TrainerWorkloadClient {
 
     @PostMapping("/api/trainer-workload/update")
     ResponseEntity<String> updateTrainerWorkload(@RequestBody TrainerWorkloadRequest request);
 
+    @PostMapping("/api/trainer-workload/update/batch")
+    ResponseEntity<String> updateTrainerWorkloadBatch(@RequestBody List<TrainerWorkloadRequest> requests);
+
 }
\ No newline at end of file
@@ -0,0 +1,92 @@
+package com.epam.gymapp.config;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.apache.activemq.broker.BrokerService;
+import org.apache.activemq.broker.region.policy.IndividualDeadLetterStrategy;
+import org.apache.activemq.broker.region.policy.PolicyEntry;
+import org.apache.activemq.broker.region.policy.PolicyMap;
+import org.apache.activemq.store.kahadb.KahaDBPersistenceAdapter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Starts an ActiveMQ broker inside the application for the {@code embedded} profile.
+ * Clients reach it through the {@code vm://} transport, so messages never leave the JVM and
+ * no external broker is needed for development, tests or single-node deployments.
+ */
+@Configuration
+@Profile("embedded")
+public class EmbeddedBrokerConfig {
+
+    /** Persistence mode that keeps messages in memory only. */
+    public static final String PERSISTENCE_MEMORY = "memory";
+
+    /** Persistence mode that journals messages to KahaDB on local disk. */
+    public static final String PERSISTENCE_KAHADB = "kahadb";
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public BrokerService embeddedBroker(
+            @Value("${embedded-broker.name:gymapp-broker}") String brokerName,
+            @Value("${embedded-broker.persistence:memory}") String persistence,
+            @Value("${embedded-broker.data-directory:data/activemq}") String dataDirectory,
+            @Value("${embedded-broker.producer-flow-control:true}") boolean producerFlowControl,
+            @Value("${embedded-broker.memory-limit-mb:64}") long memoryLimitMb,
+            @Value("${embedded-broker.send-fail-timeout-ms:5000}") long sendFailTimeoutMs) throws IOException {
+        return createBroker(brokerName, persistence, new File(dataDirectory), producerFlowControl,
+                memoryLimitMb, sendFailTimeoutMs);
+    }
+
+    /**
+     * Builds a broker that is not yet started.
+     *
+     * @param brokerName name clients use in {@code vm://<name>}
+     * @param persistence {@value #PERSISTENCE_MEMORY} or {@value #PERSISTENCE_KAHADB}
+     * @param dataDirectory directory for KahaDB and temporary storage
+     * @param producerFlowControl whether producers are slowed down when destinations fill up
+     * @param memoryLimitMb memory available to the broker for pending messages
+     * @param sendFailTimeoutMs how long a blocked producer waits before its send fails
+     * @return the configured broker
+     * @throws IOException if the KahaDB store cannot be set up
+     */
+    public static BrokerService createBroker(String brokerName, String persistence, File dataDirectory,
+            boolean producerFlowControl, long memoryLimitMb, long sendFailTimeoutMs) throws IOException {
+        BrokerService broker = new BrokerService();
+        broker.setBrokerName(brokerName);
+        broker.setUseJmx(false);
+        broker.setUseShutdownHook(false);
+        broker.setAdvisorySupport(false);
+        broker.setDataDirectoryFile(dataDirectory);
+
+        if (PERSISTENCE_KAHADB.equalsIgnoreCase(persistence)) {
+            KahaDBPersistenceAdapter kahaDb = new KahaDBPersistenceAdapter();
+            kahaDb.setDirectory(new File(dataDirectory, "kahadb"));
+            broker.setPersistent(true);
+            broker.setPersistenceAdapter(kahaDb);
+        } else if (PERSISTENCE_MEMORY.equalsIgnoreCase(persistence)) {
+            broker.setPersistent(false);
+        } else {
+            throw new IllegalArgumentException("Unknown embedded broker persistence: " + persistence);
+        }
+
+        // Dead letters of queue X go to DLQ.X so the replay endpoint only sees workload events.
+        IndividualDeadLetterStrategy deadLetterStrategy = new IndividualDeadLetterStrategy();
+        deadLetterStrategy.setQueuePrefix("DLQ.");
+        deadLetterStrategy.setUseQueueForQueueMessages(true);
+
+        PolicyEntry policy = new PolicyEntry();
+        policy.setQueue(">");
+        policy.setProducerFlowControl(producerFlowControl);
+        policy.setDeadLetterStrategy(deadLetterStrategy);
+        PolicyMap policyMap = new PolicyMap();
+        policyMap.setDefaultEntry(policy);
+        broker.setDestinationPolicy(policyMap);
+
+        broker.getSystemUsage().getMemoryUsage().setLimit(memoryLimitMb * 1024 * 1024);
+        broker.getSystemUsage().setSendFailIfNoSpaceAfterTimeout(sendFailTimeoutMs);
+        return broker;
+    }
+}
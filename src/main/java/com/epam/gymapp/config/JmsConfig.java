@@ -0,0 +1,60 @@
+package com.epam.gymapp.config;
+
+import org.apache.activemq.RedeliveryPolicy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jms.activemq.ActiveMQConnectionFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jms.config.DefaultJmsListenerContainerFactory;
+import org.springframework.jms.support.converter.MessageConverter;
+
+import com.epam.gymapp.messaging.TrainerWorkloadMessageConverter;
+
+import jakarta.jms.ConnectionFactory;
+
+/**
+ * JMS setup shared by the publishers and listeners. The converter bean is picked up by the
+ * auto-configured {@code JmsTemplate} and listener container factory.
+ */
+@Configuration
+public class JmsConfig {
+
+    @Bean
+    public MessageConverter jmsMessageConverter() {
+        return new TrainerWorkloadMessageConverter();
+    }
+
+    /**
+     * Consumer-side redelivery with exponential backoff. Once the redeliveries are used up
+     * the broker moves the message to its dead-letter queue, from where it can be replayed.
+     */
+    @Bean
+    public ActiveMQConnectionFactoryCustomizer redeliveryPolicyCustomizer(
+            @Value("${workload.redelivery.initial-delay-ms:500}") long initialDelayMs,
+            @Value("${workload.redelivery.multiplier:2.0}") double multiplier,
+            @Value("${workload.redelivery.max-delay-ms:30000}") long maxDelayMs,
+            @Value("${workload.redelivery.max-redeliveries:6}") int maxRedeliveries) {
+        return factory -> {
+            RedeliveryPolicy policy = factory.getRedeliveryPolicy();
+            policy.setInitialRedeliveryDelay(initialDelayMs);
+            policy.setRedeliveryDelay(initialDelayMs);
+            policy.setUseExponentialBackOff(true);
+            policy.setBackOffMultiplier(multiplier);
+            policy.setMaximumRedeliveryDelay(maxDelayMs);
+            policy.setMaximumRedeliveries(maxRedeliveries);
+        };
+    }
+
+    /**
+     * Topic subscriptions for {@code CacheInvalidationBus}. Every node gets its own non-durable
+     * subscription, and a single consumer keeps each sender's messages in order.
+     */
+    @Bean
+    public DefaultJmsListenerContainerFactory cacheInvalidationListenerFactory(ConnectionFactory connectionFactory) {
+        DefaultJmsListenerContainerFactory factory = new DefaultJmsListenerContainerFactory();
+        factory.setConnectionFactory(connectionFactory);
+        factory.setPubSubDomain(true);
+        factory.setConcurrency("1");
+        return factory;
+    }
+}
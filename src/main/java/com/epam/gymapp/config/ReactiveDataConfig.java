@@ -0,0 +1,55 @@
+package com.epam.gymapp.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Non-blocking database access for the reactive read API, next to the JDBC DataSource used
+ * by JPA. The R2DBC pool is deliberately not a {@code ConnectionFactory} bean: Spring Boot
+ * backs off its JDBC DataSource when one exists, which is also why
+ * {@code R2dbcAutoConfiguration} is excluded in {@code application.properties}.
+ * Active when {@code reactive.r2dbc.url} is set.
+ */
+@Configuration
+@ConditionalOnProperty(name = "reactive.r2dbc.url")
+public class ReactiveDataConfig {
+
+    private ConnectionPool pool;
+
+    @Bean
+    public DatabaseClient reactiveDatabaseClient(
+            @Value("${reactive.r2dbc.url}") String url,
+            @Value("${reactive.r2dbc.username:}") String username,
+            @Value("${reactive.r2dbc.password:}") String password,
+            @Value("${reactive.r2dbc.pool.initial-size:2}") int initialSize,
+            @Value("${reactive.r2dbc.pool.max-size:10}") int maxSize,
+            @Value("${reactive.r2dbc.pool.max-idle-time:30m}") Duration maxIdleTime) {
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(url).mutate();
+        if (!username.isEmpty()) options.option(ConnectionFactoryOptions.USER, username);
+        if (!password.isEmpty()) options.option(ConnectionFactoryOptions.PASSWORD, password);
+
+        pool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options.build()))
+                .name("reactive-read")
+                .initialSize(initialSize)
+                .maxSize(maxSize)
+                .maxIdleTime(maxIdleTime)
+                .build());
+        return DatabaseClient.create(pool);
+    }
+
+    @PreDestroy
+    public void closePool() {
+        if (pool != null) pool.dispose();
+    }
+}
@@ -0,0 +1,101 @@
+package com.epam.gymapp.config;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+
+/**
+ * Hibernate second-level and query cache on an in-process Caffeine JCache provider. Every
+ * region is created here with a maximum size and time to live read from
+ * {@code cache.l2.<region>.max-entries} and {@code cache.l2.<region>.ttl}, 0 meaning no limit,
+ * and exported to Micrometer: hits, misses, puts and removals as the standard {@code cache_*} meters tagged
+ * with the region as {@code cache}, sizing as {@code gymapp_l2_cache_max_entries} and
+ * {@code gymapp_l2_cache_ttl_seconds}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.jpa.properties.hibernate.cache.use_second_level_cache", havingValue = "true")
+public class SecondLevelCacheConfig {
+
+    /**
+     * Regions with their default size and time to live. Update timestamps must outlive every
+     * cached query result: an evicted timestamp lets a stale query result pass as current, so
+     * that region never expires and is not size-bounded (a max of 0).
+     */
+    private static final Map<String, RegionSettings> DEFAULT_REGIONS = new LinkedHashMap<>();
+
+    static {
+        DEFAULT_REGIONS.put("training-types", new RegionSettings(100, Duration.ofHours(24)));
+        DEFAULT_REGIONS.put("users", new RegionSettings(10_000, Duration.ofMinutes(10)));
+        DEFAULT_REGIONS.put("users-by-username", new RegionSettings(10_000, Duration.ofMinutes(10)));
+        DEFAULT_REGIONS.put("default-query-results-region", new RegionSettings(1_000, Duration.ofMinutes(10)));
+        DEFAULT_REGIONS.put("default-update-timestamps-region", new RegionSettings(0, Duration.ZERO));
+    }
+
+    private record RegionSettings(long maxEntries, Duration ttl) {
+    }
+
+    private final Map<String, RegionSettings> regions = new LinkedHashMap<>();
+
+    public SecondLevelCacheConfig(Environment environment) {
+        DEFAULT_REGIONS.forEach((region, defaults) -> regions.put(region, new RegionSettings(
+                environment.getProperty("cache.l2." + region + ".max-entries", Long.class, defaults.maxEntries()),
+                environment.getProperty("cache.l2." + region + ".ttl", Duration.class, defaults.ttl()))));
+    }
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager() {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(provider.getDefaultURI(), getClass().getClassLoader());
+        regions.forEach((region, settings) -> {
+            if (cacheManager.getCache(region) != null) return;
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            if (settings.maxEntries() > 0) {
+                configuration.setMaximumSize(OptionalLong.of(settings.maxEntries()));
+            }
+            if (!settings.ttl().isZero()) {
+                configuration.setExpireAfterWrite(OptionalLong.of(settings.ttl().toNanos()));
+            }
+            configuration.setStatisticsEnabled(true);
+            cacheManager.createCache(region, configuration);
+        });
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheManagerCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    @Bean
+    public MeterBinder secondLevelCacheMetrics(CacheManager hibernateCacheManager) {
+        return registry -> regions.forEach((region, settings) -> {
+            JCacheMetrics.monitor(registry, hibernateCacheManager.getCache(region), Tags.empty());
+            Gauge.builder("gymapp_l2_cache_max_entries", settings, RegionSettings::maxEntries)
+                    .tag("region", region)
+                    .register(registry);
+            Gauge.builder("gymapp_l2_cache_ttl_seconds", settings, s -> s.ttl().toSeconds())
+                    .tag("region", region)
+                    .register(registry);
+        });
+    }
+}
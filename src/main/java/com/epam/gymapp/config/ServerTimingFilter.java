@@ -0,0 +1,196 @@
+package com.epam.gymapp.config;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.time.Duration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.spi.LoggingEventBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.WebUtils;
+
+import com.epam.gymapp.monitoring.RequestEndpoints;
+import com.epam.gymapp.monitoring.RequestTimings;
+import com.epam.gymapp.util.TransactionContext;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+/**
+ * Opt-in ({@code monitoring.server-timing.enabled=true}) per-request phase breakdown.
+ * Runs ahead of Spring Security so JWT checks and user lookups are included, and logs a
+ * structured line with every phase, serialization included, for requests slower than
+ * {@code monitoring.server-timing.log-threshold}.
+ *
+ * The {@code Server-Timing} header is only sent to authenticated callers: per-phase timings
+ * of login and password hashing would otherwise give anonymous clients a timing side channel.
+ * The body is never buffered. The header is written just before the response starts, when the
+ * body stream is first opened or the response is flushed, so it covers the phases up to that
+ * point; streaming responses (SSE, NDJSON) pass through untouched.
+ */
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER - 10)
+@ConditionalOnProperty(name = "monitoring.server-timing.enabled", havingValue = "true")
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Server-Timing";
+
+    private static final Logger logger = LoggerFactory.getLogger(ServerTimingFilter.class);
+    private static final String TIMINGS_ATTRIBUTE = ServerTimingFilter.class.getName() + ".timings";
+    private static final String START_ATTRIBUTE = ServerTimingFilter.class.getName() + ".start";
+
+    private final long logThresholdNanos;
+
+    public ServerTimingFilter(@Value("${monitoring.server-timing.log-threshold:500ms}") Duration logThreshold) {
+        this.logThresholdNanos = logThreshold.toNanos();
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        TimingResponse wrapper;
+        RequestTimings timings;
+        if (isAsyncDispatch(request)) {
+            wrapper = WebUtils.getNativeResponse(response, TimingResponse.class);
+            timings = (RequestTimings) request.getAttribute(TIMINGS_ATTRIBUTE);
+            if (wrapper == null || timings == null) {
+                filterChain.doFilter(request, response);
+                return;
+            }
+            RequestTimings.resume(timings);
+        } else {
+            long start = System.nanoTime();
+            timings = RequestTimings.start();
+            wrapper = new TimingResponse(response, timings, start);
+            request.setAttribute(TIMINGS_ATTRIBUTE, timings);
+            request.setAttribute(START_ATTRIBUTE, start);
+        }
+
+        try {
+            filterChain.doFilter(request, wrapper);
+        } finally {
+            RequestTimings.stop();
+        }
+        if (isAsyncStarted(request)) return;
+
+        // Responses without a body may never have been flushed.
+        wrapper.writeHeader();
+        long end = System.nanoTime();
+        long total = end - (Long) request.getAttribute(START_ATTRIBUTE);
+        timings.completeSerialization(end);
+        if (total >= logThresholdNanos) {
+            logSlowRequest(request, wrapper, timings, total);
+        }
+    }
+
+    /**
+     * Whether the caller on the current thread has been authenticated by the security chain.
+     */
+    static boolean isAuthenticated() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken);
+    }
+
+    private static void logSlowRequest(HttpServletRequest request, HttpServletResponse response,
+            RequestTimings timings, long total) {
+        // TransactionIdFilter runs inside this filter and has cleared the context by now.
+        LoggingEventBuilder event = logger.atWarn()
+                .addKeyValue("transactionId", response.getHeader(TransactionContext.HEADER))
+                .addKeyValue("endpoint", RequestEndpoints.of(request))
+                .addKeyValue("status", response.getStatus())
+                .addKeyValue("totalMs", total / 1_000_000);
+        for (RequestTimings.Phase phase : RequestTimings.Phase.values()) {
+            event = event.addKeyValue(phase.getMetricName() + "Ms", timings.getNanos(phase) / 1_000_000);
+        }
+        event.log("Slow request: {}", timings.toServerTiming(total));
+    }
+
+    /**
+     * Adds the header right before the response can be committed. Whether the caller is
+     * authenticated is checked at each of those points, while the security context is still
+     * set, and remembered for the end of the request, when it has been cleared.
+     */
+    static final class TimingResponse extends HttpServletResponseWrapper {
+
+        private final RequestTimings timings;
+        private final long start;
+        private boolean authenticated;
+        private boolean done;
+
+        TimingResponse(HttpServletResponse response, RequestTimings timings, long start) {
+            super(response);
+            this.timings = timings;
+            this.start = start;
+        }
+
+        void writeHeader() {
+            authenticated |= isAuthenticated();
+            if (done) return;
+            done = true;
+            if (authenticated && !isCommitted()) {
+                setHeader(HEADER, timings.toServerTiming(System.nanoTime() - start));
+            }
+        }
+
+        @Override
+        public void setStatus(int sc) {
+            authenticated |= isAuthenticated();
+            super.setStatus(sc);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeHeader();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeHeader();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeHeader();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeHeader();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeHeader();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            writeHeader();
+            super.sendRedirect(location);
+        }
+    }
+}
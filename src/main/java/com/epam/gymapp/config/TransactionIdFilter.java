@@ -4,6 +4,8 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -13,17 +15,18 @@ import java.io.IOException;
 import java.util.UUID;
 
 @Component
+@Order(Ordered.LOWEST_PRECEDENCE - 10)
 public class TransactionIdFilter extends OncePerRequestFilter {
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
-        String transactionId = request.getHeader("X-Transaction-ID"); 
+        String transactionId = request.getHeader(TransactionContext.HEADER); 
         if (transactionId == null || transactionId.isEmpty()) {
             transactionId = UUID.randomUUID().toString(); 
         }
         TransactionContext.setTransactionId(transactionId); 
-        response.setHeader("X-Transaction-ID", transactionId);
+        response.setHeader(TransactionContext.HEADER, transactionId);
 
         try {
             filterChain.doFilter(request, response);
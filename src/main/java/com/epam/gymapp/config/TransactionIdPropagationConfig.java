@@ -0,0 +1,71 @@
+package com.epam.gymapp.config;
+
+import org.springframework.boot.autoconfigure.jms.DefaultJmsListenerContainerFactoryConfigurer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.jms.config.DefaultJmsListenerContainerFactory;
+import org.springframework.jms.listener.DefaultMessageListenerContainer;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+
+import com.epam.gymapp.messaging.TransactionIdMessageListenerContainer;
+import com.epam.gymapp.util.TransactionContext;
+
+import feign.RequestInterceptor;
+import jakarta.jms.ConnectionFactory;
+
+/**
+ * Carries the transaction id set by {@link TransactionIdFilter} across thread and process
+ * boundaries: into tasks of the Spring-managed executors, into JMS listeners and onto
+ * outgoing Feign and WebClient calls.
+ */
+@Configuration
+public class TransactionIdPropagationConfig {
+
+    /**
+     * Picked up by the auto-configured {@code applicationTaskExecutor} used for {@code @Async}.
+     */
+    @Bean
+    public TaskDecorator transactionIdTaskDecorator() {
+        return TransactionContext::wrap;
+    }
+
+    @Bean
+    public RequestInterceptor transactionIdFeignInterceptor() {
+        return template -> {
+            String transactionId = TransactionContext.getTransactionId();
+            if (transactionId != null) {
+                template.header(TransactionContext.HEADER, transactionId);
+            }
+        };
+    }
+
+    @Bean
+    public ExchangeFilterFunction transactionIdExchangeFilter() {
+        return (request, next) -> {
+            String transactionId = TransactionContext.getTransactionId();
+            if (transactionId == null) return next.exchange(request);
+            return next.exchange(ClientRequest.from(request)
+                    .header(TransactionContext.HEADER, transactionId)
+                    .build());
+        };
+    }
+
+    /**
+     * Replaces the auto-configured listener container factory, keeping its settings, so that
+     * every {@code @JmsListener} runs under the transaction id of its message.
+     */
+    @Bean
+    public DefaultJmsListenerContainerFactory jmsListenerContainerFactory(
+            DefaultJmsListenerContainerFactoryConfigurer configurer, ConnectionFactory connectionFactory) {
+        DefaultJmsListenerContainerFactory factory = new DefaultJmsListenerContainerFactory() {
+            @Override
+            protected DefaultMessageListenerContainer createContainerInstance() {
+                return new TransactionIdMessageListenerContainer();
+            }
+        };
+        configurer.configure(factory, connectionFactory);
+        return factory;
+    }
+}
@@ -5,6 +5,7 @@ import java.util.Arrays;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.cloud.client.loadbalancer.LoadBalanced;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -22,6 +23,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
 import org.springframework.web.reactive.function.client.WebClient;
 
 @Configuration
@@ -49,6 +51,19 @@ public class WebSecurityConfig {
             .authorizeHttpRequests(auth -> auth
                 .requestMatchers("/api/v1/auth/login", "/api/v1/trainees", "/api/v1/trainers").permitAll()
                 .requestMatchers(HttpMethod.POST, "/api/v1/trainees", "/api/v1/trainers").authenticated()
+                // Operations on other users' accounts
+                .requestMatchers(HttpMethod.PATCH, "/api/v1/account/status").hasRole("ADMIN")
+                // Rewrites data of every trainer
+                .requestMatchers(HttpMethod.POST, "/api/v1/workload/monthly-summary/rebuild").hasRole("ADMIN")
+                // Re-sends stored events of every user
+                .requestMatchers(HttpMethod.POST, "/api/v1/workload/dead-letters/replay").hasRole("ADMIN")
+                // Re-sends the workload of every trainer
+                .requestMatchers(HttpMethod.POST, "/api/v1/workload/reconciliation").hasRole("ADMIN")
+                // Aggregates over every user's trainings, grouped or filtered by username
+                .requestMatchers(HttpMethod.GET, "/api/v1/analytics/trainings").hasRole("ADMIN")
+                .requestMatchers(HttpMethod.POST, "/api/v1/analytics/trainings/reload").hasRole("ADMIN")
+                // Operational endpoints that expose environment and credentials
+                .requestMatchers(EndpointRequest.to("jfr", "slowqueries")).hasRole("ADMIN")
                 .anyRequest().authenticated()
             )
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
@@ -80,7 +95,7 @@ public class WebSecurityConfig {
 
     @Bean
     @LoadBalanced 
-    public WebClient.Builder loadBalancedWebClientBuilder() {
-        return WebClient.builder();
+    public WebClient.Builder loadBalancedWebClientBuilder(ExchangeFilterFunction transactionIdExchangeFilter) {
+        return WebClient.builder().filter(transactionIdExchangeFilter);
     }
 }
\ No newline at end of file
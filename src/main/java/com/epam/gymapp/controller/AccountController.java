@@ -2,13 +2,17 @@ package com.epam.gymapp.controller;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.epam.gymapp.dto.BulkStatusRequest;
+import com.epam.gymapp.dto.BulkStatusResultDto;
 import com.epam.gymapp.dto.PasswordChangeRequest;
 import com.epam.gymapp.service.UserService;
+import com.epam.gymapp.service.UserStatusService;
 
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
@@ -18,11 +22,13 @@ import io.micrometer.core.instrument.MeterRegistry;
 public class AccountController {
 
     private final UserService userService;
+    private final UserStatusService userStatusService;
     private final Counter passwordChangeCounter;
 
     @Autowired
-    public AccountController(UserService userService, MeterRegistry meterRegistry) {
+    public AccountController(UserService userService, UserStatusService userStatusService, MeterRegistry meterRegistry) {
         this.userService = userService;
+        this.userStatusService = userStatusService;
         this.passwordChangeCounter = meterRegistry.counter("password_changes_total", "action", "change");
     }
 
@@ -32,5 +38,16 @@ public class AccountController {
         passwordChangeCounter.increment(); 
         return ResponseEntity.ok("Contraseña actualizada exitosamente");
     }
+
+    /**
+     * Activates or deactivates a list of users and returns counts, not the users.
+     */
+    @PatchMapping("/status")
+    public ResponseEntity<BulkStatusResultDto> changeStatus(@RequestBody BulkStatusRequest request) {
+        if (request.getUsernames() == null || request.getActive() == null) {
+            throw new IllegalArgumentException("usernames and active are required");
+        }
+        return ResponseEntity.ok(userStatusService.changeStatus(request.getUsernames(), request.getActive()));
+    }
 }
     
@@ -0,0 +1,67 @@
+package com.epam.gymapp.controller;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.epam.gymapp.dto.TrainerLeaderboardDto;
+import com.epam.gymapp.dto.TrainingAnalyticsDto;
+import com.epam.gymapp.service.TrainerLeaderboardService;
+import com.epam.gymapp.service.TrainingAnalyticsService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@RestController
+@RequestMapping("/api/v1/analytics")
+public class AnalyticsController {
+
+    private final TrainingAnalyticsService trainingAnalyticsService;
+    private final TrainerLeaderboardService trainerLeaderboardService;
+    private final Counter reloadCounter;
+
+    @Autowired
+    public AnalyticsController(TrainingAnalyticsService trainingAnalyticsService,
+            TrainerLeaderboardService trainerLeaderboardService, MeterRegistry meterRegistry) {
+        this.trainingAnalyticsService = trainingAnalyticsService;
+        this.trainerLeaderboardService = trainerLeaderboardService;
+        this.reloadCounter = meterRegistry.counter("training_analytics_reload_total", "action", "start");
+    }
+
+    @GetMapping("/trainings")
+    public ResponseEntity<TrainingAnalyticsDto> aggregateTrainings(
+            @RequestParam(defaultValue = "TYPE") String groupBy,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String trainingType,
+            @RequestParam(required = false) String trainer,
+            @RequestParam(required = false) String trainee) {
+        return ResponseEntity.ok(trainingAnalyticsService.aggregate(groupBy, from, to, trainingType, trainer, trainee));
+    }
+
+    @GetMapping("/trainers/leaderboard")
+    public ResponseEntity<TrainerLeaderboardDto> getTrainerLeaderboard(
+            @RequestParam(defaultValue = "MINUTES") String orderBy,
+            @RequestParam(required = false) String trainingType,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(trainerLeaderboardService.getLeaderboard(orderBy, trainingType, limit));
+    }
+
+    @PostMapping("/trainings/reload")
+    public ResponseEntity<Map<String, Boolean>> reloadTrainings() {
+        if (!trainingAnalyticsService.startReload()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("started", false));
+        }
+        reloadCounter.increment();
+        return ResponseEntity.accepted().body(Map.of("started", true));
+    }
+}
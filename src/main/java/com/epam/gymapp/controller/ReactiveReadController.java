@@ -0,0 +1,90 @@
+package com.epam.gymapp.controller;
+
+import java.sql.Date;
+import java.time.LocalDate;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.epam.gymapp.dto.TraineeProfileDto;
+import com.epam.gymapp.dto.TrainerDto;
+import com.epam.gymapp.dto.TrainerProfileDto;
+import com.epam.gymapp.dto.TrainingDto;
+import com.epam.gymapp.exception.NotFoundException;
+import com.epam.gymapp.repository.ReactiveReadRepository;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Read-only mirror of the training history, profile and trainer directory endpoints, served
+ * from {@link ReactiveReadRepository} without holding a request thread while the database
+ * works. Spring MVC subscribes to the returned publishers asynchronously; with
+ * {@code Accept: application/x-ndjson} list endpoints stream one JSON object per line as rows
+ * arrive, requesting at most {@code reactive.read.prefetch} rows ahead of the client.
+ */
+@RestController
+@RequestMapping("/api/v1/reactive")
+@ConditionalOnProperty(name = "reactive.r2dbc.url")
+public class ReactiveReadController {
+
+    private final ReactiveReadRepository reactiveReadRepository;
+    private final int prefetch;
+
+    public ReactiveReadController(ReactiveReadRepository reactiveReadRepository,
+            @Value("${reactive.read.prefetch:64}") int prefetch) {
+        this.reactiveReadRepository = reactiveReadRepository;
+        this.prefetch = prefetch;
+    }
+
+    @GetMapping(value = "/trainees/{username}/trainings",
+            produces = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE })
+    public Flux<TrainingDto> getTraineeTrainings(
+            @PathVariable String username,
+            @RequestParam(required = false) Date periodFrom,
+            @RequestParam(required = false) Date periodTo,
+            @RequestParam(required = false) String trainerName,
+            @RequestParam(required = false) String trainingType) {
+        return reactiveReadRepository.findTraineeTrainings(username, toLocalDate(periodFrom), toLocalDate(periodTo),
+                trainerName, trainingType).limitRate(prefetch);
+    }
+
+    @GetMapping(value = "/trainers/{username}/trainings",
+            produces = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE })
+    public Flux<TrainingDto> getTrainerTrainings(
+            @PathVariable String username,
+            @RequestParam(required = false) Date periodFrom,
+            @RequestParam(required = false) Date periodTo,
+            @RequestParam(required = false) String traineeName) {
+        return reactiveReadRepository.findTrainerTrainings(username, toLocalDate(periodFrom), toLocalDate(periodTo),
+                traineeName).limitRate(prefetch);
+    }
+
+    @GetMapping("/trainees/{username}")
+    public Mono<TraineeProfileDto> getTraineeProfile(@PathVariable String username) {
+        return reactiveReadRepository.findTraineeProfile(username)
+                .switchIfEmpty(Mono.error(() -> new NotFoundException("Trainee not found: " + username)));
+    }
+
+    @GetMapping("/trainers/{username}")
+    public Mono<TrainerProfileDto> getTrainerProfile(@PathVariable String username) {
+        return reactiveReadRepository.findTrainerProfile(username)
+                .switchIfEmpty(Mono.error(() -> new NotFoundException("Trainer not found: " + username)));
+    }
+
+    @GetMapping(value = "/trainers",
+            produces = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE })
+    public Flux<TrainerDto> getTrainers(@RequestParam(defaultValue = "false") boolean activeOnly) {
+        return reactiveReadRepository.findTrainers(activeOnly).limitRate(prefetch);
+    }
+
+    private static LocalDate toLocalDate(Date date) {
+        return date == null ? null : date.toLocalDate();
+    }
+}
@@ -88,6 +88,20 @@ public class TraineeController {
         return ResponseEntity.ok(updatedTrainers);
     }
 
+    @PostMapping("/{username}/trainers")
+    public ResponseEntity<List<TrainerDto>> addTraineeTrainers(
+            @PathVariable String username,
+            @RequestBody TrainerAssignmentRequest request) {
+        return ResponseEntity.ok(traineeService.addTraineeTrainers(username, request.getTrainers()));
+    }
+
+    @DeleteMapping("/{username}/trainers/{trainerUsername}")
+    public ResponseEntity<List<TrainerDto>> removeTraineeTrainer(
+            @PathVariable String username,
+            @PathVariable String trainerUsername) {
+        return ResponseEntity.ok(traineeService.removeTraineeTrainer(username, trainerUsername));
+    }
+
     @GetMapping("/{username}/trainings")
     public ResponseEntity<List<TrainingDto>> getTraineeTrainings(
             @PathVariable String username,
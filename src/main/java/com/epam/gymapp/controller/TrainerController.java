@@ -17,10 +17,12 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.epam.gymapp.dto.MonthlySummaryDto;
 import com.epam.gymapp.dto.RegistrationDto;
 import com.epam.gymapp.dto.TrainerDto;
 import com.epam.gymapp.dto.TrainerProfileDto;
 import com.epam.gymapp.dto.TrainingDto;
+import com.epam.gymapp.service.TrainerMonthlySummaryService;
 import com.epam.gymapp.service.TrainerService;
 import com.epam.gymapp.service.TrainingService;
 
@@ -37,12 +39,15 @@ public class TrainerController {
 
     private final TrainerService trainerService;
     private final TrainingService trainingService;
+    private final TrainerMonthlySummaryService monthlySummaryService;
     private final Counter registerTrainerCounter;
     private final Counter updateTrainerProfileCounter;
 
     @Autowired
-    public TrainerController(TrainerService trainerService, TrainingService trainingService, MeterRegistry meterRegistry) {
+    public TrainerController(TrainerService trainerService, TrainingService trainingService,
+            TrainerMonthlySummaryService monthlySummaryService, MeterRegistry meterRegistry) {
         this.trainingService = trainingService;
+        this.monthlySummaryService = monthlySummaryService;
         this.trainerService = trainerService;
         this.registerTrainerCounter = meterRegistry.counter("trainer_registration_total", "action", "register");
         this.updateTrainerProfileCounter = meterRegistry.counter("trainer_profile_update_total", "action", "update_profile");
@@ -86,6 +91,15 @@ public class TrainerController {
         return ResponseEntity.ok(trainings);
     }
 
+    @GetMapping("/{username}/monthly-summary")
+    public ResponseEntity<List<MonthlySummaryDto>> getMonthlySummary(
+        @PathVariable String username,
+        @RequestParam(required = false) Integer fromYear,
+        @RequestParam(required = false) Integer toYear) {
+
+        return ResponseEntity.ok(monthlySummaryService.getSummary(username, fromYear, toYear));
+    }
+
     @PatchMapping("/{username}/status")
     public ResponseEntity<?> updateTrainerStatus(
             @PathVariable String username,
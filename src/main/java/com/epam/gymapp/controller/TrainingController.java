@@ -1,16 +1,27 @@
 package com.epam.gymapp.controller;
 
+import java.net.URI;
+
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.epam.gymapp.dto.TrainingDto;
+import com.epam.gymapp.dto.TrainingSubmissionDto;
+import com.epam.gymapp.exception.ExceptionDto;
+import com.epam.gymapp.exception.NotFoundException;
 import com.epam.gymapp.service.TrainingService;
+import com.epam.gymapp.service.TrainingSubmissionService;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.validation.Valid;
@@ -19,25 +30,62 @@ import jakarta.validation.Valid;
 @RequestMapping("/api/v1/trainings")
 public class TrainingController {
 
+    static final String RESPOND_ASYNC = "respond-async";
+
     private final TrainingService trainingService;
+    private final TrainingSubmissionService trainingSubmissionService;
     private final Counter addTrainingCounter;
 
     @Autowired
-    public TrainingController(TrainingService trainingService, MeterRegistry meterRegistry) {
+    public TrainingController(TrainingService trainingService, TrainingSubmissionService trainingSubmissionService,
+            MeterRegistry meterRegistry) {
         this.trainingService = trainingService;
+        this.trainingSubmissionService = trainingSubmissionService;
         this.addTrainingCounter = meterRegistry.counter("training_add_total", "action", "addTraining");
     }
 
+    /**
+     * Creates a training. With {@code Prefer: respond-async} the training is only validated
+     * and queued: the response is 202 with the submission status and its URL in
+     * {@code Location}, or 503 with {@code Retry-After} when the queue is full.
+     */
     @PostMapping
-    public ResponseEntity<?> addTraining(@Valid @RequestBody TrainingDto trainingRequest) {
+    public ResponseEntity<?> addTraining(@Valid @RequestBody TrainingDto trainingRequest,
+            @RequestHeader(value = "Prefer", required = false) String prefer) {
         addTrainingCounter.increment();
+        if (prefer != null && prefer.toLowerCase().contains(RESPOND_ASYNC)) {
+            TrainingSubmissionDto submission = trainingSubmissionService.submit(trainingRequest);
+            if (submission == null) {
+                return ResponseEntity.status(503)
+                        .header(HttpHeaders.RETRY_AFTER, "1")
+                        .body(new ExceptionDto("Training submission queue is full"));
+            }
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/v1/trainings/submissions/" + submission.getId()))
+                    .header("Preference-Applied", RESPOND_ASYNC)
+                    .body(submission);
+        }
         trainingService.save(trainingRequest);
         return ResponseEntity.status(201).build();
     }
 
+    @GetMapping("/submissions/{id}")
+    public ResponseEntity<TrainingSubmissionDto> getSubmission(@PathVariable String id) {
+        TrainingSubmissionDto submission = trainingSubmissionService.getStatus(id);
+        if (submission == null) throw new NotFoundException("Training submission not found: " + id);
+        return ResponseEntity.ok(submission);
+    }
+
+    @GetMapping(value = "/submissions/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeToSubmission(@PathVariable String id) {
+        SseEmitter emitter = trainingSubmissionService.subscribe(id);
+        if (emitter == null) throw new NotFoundException("Training submission not found: " + id);
+        return emitter;
+    }
+
    @DeleteMapping("/{id}")
     public ResponseEntity<?> deleteTraining(@PathVariable Long id) {
         trainingService.delete(id);
         return ResponseEntity.noContent().build();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,82 @@
+package com.epam.gymapp.controller;
+
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.epam.gymapp.model.workload.ReconciliationCheckpoint;
+import com.epam.gymapp.service.TrainerMonthlySummaryService;
+import com.epam.gymapp.service.WorkloadReconciliationService;
+import com.epam.gymapp.service.WorkloadReplayService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@RestController
+@RequestMapping("/api/v1/workload")
+public class WorkloadController {
+
+    private final WorkloadReplayService workloadReplayService;
+    private final WorkloadReconciliationService workloadReconciliationService;
+    private final TrainerMonthlySummaryService monthlySummaryService;
+    private final Counter replayCounter;
+    private final Counter reconciliationCounter;
+    private final Counter summaryRebuildCounter;
+
+    @Autowired
+    public WorkloadController(WorkloadReplayService workloadReplayService,
+                              WorkloadReconciliationService workloadReconciliationService,
+                              TrainerMonthlySummaryService monthlySummaryService,
+                              MeterRegistry meterRegistry) {
+        this.workloadReplayService = workloadReplayService;
+        this.workloadReconciliationService = workloadReconciliationService;
+        this.monthlySummaryService = monthlySummaryService;
+        this.replayCounter = meterRegistry.counter("workload_dead_letter_replay_total", "action", "replay");
+        this.reconciliationCounter = meterRegistry.counter("workload_reconciliation_total", "action", "start");
+        this.summaryRebuildCounter = meterRegistry.counter("workload_monthly_summary_rebuild_total", "action", "start");
+    }
+
+    @GetMapping("/dead-letters")
+    public ResponseEntity<Map<String, Integer>> getDeadLetters() {
+        return ResponseEntity.ok(Map.of("parked", workloadReplayService.getParkedCount()));
+    }
+
+    @PostMapping("/dead-letters/replay")
+    public ResponseEntity<Map<String, Integer>> replayDeadLetters() {
+        replayCounter.increment();
+        return ResponseEntity.ok(workloadReplayService.replay());
+    }
+
+    @GetMapping("/reconciliation")
+    public ResponseEntity<ReconciliationCheckpoint> getReconciliation() {
+        return workloadReconciliationService.getCheckpoint()
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @PostMapping("/reconciliation")
+    public ResponseEntity<Map<String, Boolean>> startReconciliation(
+            @RequestParam(defaultValue = "true") boolean resume) {
+        if (!workloadReconciliationService.start(resume)) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("started", false));
+        }
+        reconciliationCounter.increment();
+        return ResponseEntity.accepted().body(Map.of("started", true));
+    }
+
+    @PostMapping("/monthly-summary/rebuild")
+    public ResponseEntity<Map<String, Boolean>> rebuildMonthlySummary() {
+        if (!monthlySummaryService.start()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("started", false));
+        }
+        summaryRebuildCounter.increment();
+        return ResponseEntity.accepted().body(Map.of("started", true));
+    }
+}
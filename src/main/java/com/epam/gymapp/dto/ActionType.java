@@ -1,6 +1,12 @@
 package com.epam.gymapp.dto;
 
+/**
+ * What a trainer workload event does to the trainer's monthly totals.
+ * The binary message codec writes the ordinal, so new values must be added at the end.
+ */
 public enum ActionType {
     ADD,
-    DELETE
-}
\ No newline at end of file
+    DELETE,
+    /** Replaces the total for the month of the training date (sent by reconciliation). */
+    SNAPSHOT
+}
@@ -0,0 +1,33 @@
+package com.epam.gymapp.dto;
+
+import java.util.List;
+
+public class BulkStatusRequest {
+
+    private List<String> usernames;
+    private Boolean active;
+
+    public BulkStatusRequest() {
+    }
+
+    public BulkStatusRequest(List<String> usernames, Boolean active) {
+        this.usernames = usernames;
+        this.active = active;
+    }
+
+    public List<String> getUsernames() {
+        return usernames;
+    }
+
+    public void setUsernames(List<String> usernames) {
+        this.usernames = usernames;
+    }
+
+    public Boolean getActive() {
+        return active;
+    }
+
+    public void setActive(Boolean active) {
+        this.active = active;
+    }
+}
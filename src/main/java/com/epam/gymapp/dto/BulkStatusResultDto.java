@@ -0,0 +1,55 @@
+package com.epam.gymapp.dto;
+
+/**
+ * Outcome of a bulk status change. {@code updated} users changed status, {@code unchanged}
+ * already had it and {@code notFound} usernames do not exist.
+ */
+public class BulkStatusResultDto {
+
+    private int requested;
+    private int updated;
+    private int unchanged;
+    private int notFound;
+
+    public BulkStatusResultDto() {
+    }
+
+    public BulkStatusResultDto(int requested, int updated, int unchanged, int notFound) {
+        this.requested = requested;
+        this.updated = updated;
+        this.unchanged = unchanged;
+        this.notFound = notFound;
+    }
+
+    public int getRequested() {
+        return requested;
+    }
+
+    public void setRequested(int requested) {
+        this.requested = requested;
+    }
+
+    public int getUpdated() {
+        return updated;
+    }
+
+    public void setUpdated(int updated) {
+        this.updated = updated;
+    }
+
+    public int getUnchanged() {
+        return unchanged;
+    }
+
+    public void setUnchanged(int unchanged) {
+        this.unchanged = unchanged;
+    }
+
+    public int getNotFound() {
+        return notFound;
+    }
+
+    public void setNotFound(int notFound) {
+        this.notFound = notFound;
+    }
+}
@@ -0,0 +1,54 @@
+package com.epam.gymapp.dto;
+
+/**
+ * One trainer's place on the leaderboard.
+ */
+public class LeaderboardEntryDto {
+
+    private int rank;
+    private String trainerUsername;
+    private long minutes;
+    private int sessions;
+
+    public LeaderboardEntryDto() {
+    }
+
+    public LeaderboardEntryDto(int rank, String trainerUsername, long minutes, int sessions) {
+        this.rank = rank;
+        this.trainerUsername = trainerUsername;
+        this.minutes = minutes;
+        this.sessions = sessions;
+    }
+
+    public int getRank() {
+        return rank;
+    }
+
+    public void setRank(int rank) {
+        this.rank = rank;
+    }
+
+    public String getTrainerUsername() {
+        return trainerUsername;
+    }
+
+    public void setTrainerUsername(String trainerUsername) {
+        this.trainerUsername = trainerUsername;
+    }
+
+    public long getMinutes() {
+        return minutes;
+    }
+
+    public void setMinutes(long minutes) {
+        this.minutes = minutes;
+    }
+
+    public int getSessions() {
+        return sessions;
+    }
+
+    public void setSessions(int sessions) {
+        this.sessions = sessions;
+    }
+}
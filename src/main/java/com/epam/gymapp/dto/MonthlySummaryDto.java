@@ -0,0 +1,54 @@
+package com.epam.gymapp.dto;
+
+/**
+ * Training minutes and sessions of a trainer in one month.
+ */
+public class MonthlySummaryDto {
+
+    private int year;
+    private int month;
+    private long minutes;
+    private int sessions;
+
+    public MonthlySummaryDto() {
+    }
+
+    public MonthlySummaryDto(int year, int month, long minutes, int sessions) {
+        this.year = year;
+        this.month = month;
+        this.minutes = minutes;
+        this.sessions = sessions;
+    }
+
+    public int getYear() {
+        return year;
+    }
+
+    public void setYear(int year) {
+        this.year = year;
+    }
+
+    public int getMonth() {
+        return month;
+    }
+
+    public void setMonth(int month) {
+        this.month = month;
+    }
+
+    public long getMinutes() {
+        return minutes;
+    }
+
+    public void setMinutes(long minutes) {
+        this.minutes = minutes;
+    }
+
+    public int getSessions() {
+        return sessions;
+    }
+
+    public void setSessions(int sessions) {
+        this.sessions = sessions;
+    }
+}
@@ -0,0 +1,15 @@
+package com.epam.gymapp.dto;
+
+/**
+ * Lifecycle of an asynchronously submitted training.
+ */
+public enum SubmissionStatus {
+    QUEUED,
+    PROCESSING,
+    COMPLETED,
+    FAILED;
+
+    public boolean isTerminal() {
+        return this == COMPLETED || this == FAILED;
+    }
+}
@@ -0,0 +1,57 @@
+package com.epam.gymapp.dto;
+
+import java.util.List;
+
+/**
+ * The most active trainers of a month, best first. {@code trainingType} is null when every
+ * type counts.
+ */
+public class TrainerLeaderboardDto {
+
+    private String month;
+    private String trainingType;
+    private String orderBy;
+    private List<LeaderboardEntryDto> entries;
+
+    public TrainerLeaderboardDto() {
+    }
+
+    public TrainerLeaderboardDto(String month, String trainingType, String orderBy, List<LeaderboardEntryDto> entries) {
+        this.month = month;
+        this.trainingType = trainingType;
+        this.orderBy = orderBy;
+        this.entries = entries;
+    }
+
+    public String getMonth() {
+        return month;
+    }
+
+    public void setMonth(String month) {
+        this.month = month;
+    }
+
+    public String getTrainingType() {
+        return trainingType;
+    }
+
+    public void setTrainingType(String trainingType) {
+        this.trainingType = trainingType;
+    }
+
+    public String getOrderBy() {
+        return orderBy;
+    }
+
+    public void setOrderBy(String orderBy) {
+        this.orderBy = orderBy;
+    }
+
+    public List<LeaderboardEntryDto> getEntries() {
+        return entries;
+    }
+
+    public void setEntries(List<LeaderboardEntryDto> entries) {
+        this.entries = entries;
+    }
+}
@@ -11,6 +11,7 @@ public class TrainerWorkloadRequest implements Serializable {
     private LocalDate trainingDate;
     private Integer trainingDuration;
     private ActionType actionType;
+    private String eventId;
 
     public TrainerWorkloadRequest(String username, String firstName, String lastName,
                                   Boolean isActive, LocalDate trainingDate,
@@ -85,6 +86,14 @@ public class TrainerWorkloadRequest implements Serializable {
         this.actionType = actionType;
     }
 
+    public String getEventId() {
+        return eventId;
+    }
+
+    public void setEventId(String eventId) {
+        this.eventId = eventId;
+    }
+
     @Override
     public String toString() {
         return "TrainerWorkloadRequest{" +
@@ -95,6 +104,7 @@ public class TrainerWorkloadRequest implements Serializable {
                ", trainingDate=" + trainingDate +
                ", trainingDuration=" + trainingDuration +
                ", actionType=" + actionType +
+               ", eventId='" + eventId + '\'' +
                '}';
     }
 }
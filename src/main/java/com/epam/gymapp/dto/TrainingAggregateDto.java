@@ -0,0 +1,44 @@
+package com.epam.gymapp.dto;
+
+/**
+ * Sessions and minutes of one group of trainings.
+ */
+public class TrainingAggregateDto {
+
+    private String key;
+    private long sessions;
+    private long minutes;
+
+    public TrainingAggregateDto() {
+    }
+
+    public TrainingAggregateDto(String key, long sessions, long minutes) {
+        this.key = key;
+        this.sessions = sessions;
+        this.minutes = minutes;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public void setKey(String key) {
+        this.key = key;
+    }
+
+    public long getSessions() {
+        return sessions;
+    }
+
+    public void setSessions(long sessions) {
+        this.sessions = sessions;
+    }
+
+    public long getMinutes() {
+        return minutes;
+    }
+
+    public void setMinutes(long minutes) {
+        this.minutes = minutes;
+    }
+}
@@ -0,0 +1,57 @@
+package com.epam.gymapp.dto;
+
+import java.util.List;
+
+/**
+ * Result of an aggregate query over the in-memory training store. {@code rows} is the number
+ * of trainings scanned and {@code elapsedMicros} the time the scan took.
+ */
+public class TrainingAnalyticsDto {
+
+    private String groupBy;
+    private int rows;
+    private long elapsedMicros;
+    private List<TrainingAggregateDto> groups;
+
+    public TrainingAnalyticsDto() {
+    }
+
+    public TrainingAnalyticsDto(String groupBy, int rows, long elapsedMicros, List<TrainingAggregateDto> groups) {
+        this.groupBy = groupBy;
+        this.rows = rows;
+        this.elapsedMicros = elapsedMicros;
+        this.groups = groups;
+    }
+
+    public String getGroupBy() {
+        return groupBy;
+    }
+
+    public void setGroupBy(String groupBy) {
+        this.groupBy = groupBy;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public void setRows(int rows) {
+        this.rows = rows;
+    }
+
+    public long getElapsedMicros() {
+        return elapsedMicros;
+    }
+
+    public void setElapsedMicros(long elapsedMicros) {
+        this.elapsedMicros = elapsedMicros;
+    }
+
+    public List<TrainingAggregateDto> getGroups() {
+        return groups;
+    }
+
+    public void setGroups(List<TrainingAggregateDto> groups) {
+        this.groups = groups;
+    }
+}
@@ -0,0 +1,66 @@
+package com.epam.gymapp.dto;
+
+import java.time.Instant;
+
+/**
+ * Status resource of a training accepted with {@code Prefer: respond-async}.
+ * {@code trainingId} is set once the training has been stored, {@code error} when it failed.
+ */
+public class TrainingSubmissionDto {
+
+    private String id;
+    private SubmissionStatus status;
+    private Instant submittedAt;
+    private Instant completedAt;
+    private Long trainingId;
+    private String error;
+
+    public TrainingSubmissionDto() {}
+
+    public TrainingSubmissionDto(String id, SubmissionStatus status, Instant submittedAt, Instant completedAt,
+            Long trainingId, String error) {
+        this.id = id;
+        this.status = status;
+        this.submittedAt = submittedAt;
+        this.completedAt = completedAt;
+        this.trainingId = trainingId;
+        this.error = error;
+    }
+
+    public String getId() {
+        return id;
+    }
+    public void setId(String id) {
+        this.id = id;
+    }
+    public SubmissionStatus getStatus() {
+        return status;
+    }
+    public void setStatus(SubmissionStatus status) {
+        this.status = status;
+    }
+    public Instant getSubmittedAt() {
+        return submittedAt;
+    }
+    public void setSubmittedAt(Instant submittedAt) {
+        this.submittedAt = submittedAt;
+    }
+    public Instant getCompletedAt() {
+        return completedAt;
+    }
+    public void setCompletedAt(Instant completedAt) {
+        this.completedAt = completedAt;
+    }
+    public Long getTrainingId() {
+        return trainingId;
+    }
+    public void setTrainingId(Long trainingId) {
+        this.trainingId = trainingId;
+    }
+    public String getError() {
+        return error;
+    }
+    public void setError(String error) {
+        this.error = error;
+    }
+}
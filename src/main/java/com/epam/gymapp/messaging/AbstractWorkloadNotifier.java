@@ -0,0 +1,131 @@
+package com.epam.gymapp.messaging;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import com.epam.gymapp.dto.TrainerWorkloadRequest;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Base class for {@link WorkloadNotifier} implementations. Every delivery goes through
+ * {@link #deliver(List)}, and the transport reports back through a {@link DeliveryListener}
+ * when the delivery actually ends, so all transports record the same meters:
+ * {@code workload_notify_seconds} (one sample per attempt, backoff not included, tagged with
+ * the outcome of that attempt) and {@code workload_notify_events_total} (one per event, tagged
+ * with the final outcome; events that were parked count as failure).
+ */
+public abstract class AbstractWorkloadNotifier implements WorkloadNotifier {
+
+    private final String transport;
+    private final Timer successTimer;
+    private final Timer failureTimer;
+    private final Counter successEvents;
+    private final Counter failureEvents;
+    private final DeliveryListener meters = new DeliveryListener() {
+        @Override
+        public void attempted(long nanos, boolean success) {
+            (success ? successTimer : failureTimer).record(nanos, TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public void finished(int events, boolean delivered) {
+            (delivered ? successEvents : failureEvents).increment(events);
+        }
+    };
+
+    protected AbstractWorkloadNotifier(String transport, MeterRegistry meterRegistry) {
+        this.transport = transport;
+        this.successTimer = timer(meterRegistry, transport, "success");
+        this.failureTimer = timer(meterRegistry, transport, "failure");
+        this.successEvents = meterRegistry.counter("workload_notify_events_total", "transport", transport, "outcome", "success");
+        this.failureEvents = meterRegistry.counter("workload_notify_events_total", "transport", transport, "outcome", "failure");
+    }
+
+    private static Timer timer(MeterRegistry meterRegistry, String transport, String outcome) {
+        return Timer.builder("workload_notify_seconds")
+                .description("Time of one attempt to hand workload events to the transport")
+                .tags("transport", transport, "outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void publish(TrainerWorkloadRequest request) {
+        stampEventId(request);
+        deliver(List.of(request));
+    }
+
+    @Override
+    public void publishBatch(List<TrainerWorkloadRequest> requests) {
+        if (requests.isEmpty()) return;
+        requests.forEach(AbstractWorkloadNotifier::stampEventId);
+        deliver(requests);
+    }
+
+    @Override
+    public boolean publishBatchNow(List<TrainerWorkloadRequest> requests) {
+        if (requests.isEmpty()) return true;
+        requests.forEach(AbstractWorkloadNotifier::stampEventId);
+        return sendNow(requests, meters);
+    }
+
+    @Override
+    public String transport() {
+        return transport;
+    }
+
+    /**
+     * Sends the events and records the delivery meters.
+     */
+    protected final void deliver(List<TrainerWorkloadRequest> requests) {
+        send(requests, meters);
+    }
+
+    /**
+     * Transport specific delivery of one or more events. The transport reports every attempt
+     * and the final outcome to the listener.
+     */
+    protected abstract void send(List<TrainerWorkloadRequest> requests, DeliveryListener listener);
+
+    /**
+     * Transport specific single synchronous attempt, reported to the listener like
+     * {@link #send}. Failures may be thrown after they have been reported.
+     *
+     * @return true if the events were delivered
+     */
+    protected abstract boolean sendNow(List<TrainerWorkloadRequest> requests, DeliveryListener listener);
+
+    /**
+     * Runs a single synchronous attempt and reports it as the whole delivery. Exceptions are
+     * rethrown after they have been reported.
+     *
+     * @param attempt sends the events; returns false if they were parked instead of delivered
+     * @return whether the events were delivered
+     */
+    protected static boolean sendOnce(List<TrainerWorkloadRequest> requests, DeliveryListener listener,
+            BooleanSupplier attempt) {
+        long start = System.nanoTime();
+        boolean delivered;
+        try {
+            delivered = attempt.getAsBoolean();
+        } catch (RuntimeException e) {
+            listener.attempted(System.nanoTime() - start, false);
+            listener.finished(requests.size(), false);
+            throw e;
+        }
+        listener.attempted(System.nanoTime() - start, delivered);
+        listener.finished(requests.size(), delivered);
+        return delivered;
+    }
+
+    protected static void stampEventId(TrainerWorkloadRequest request) {
+        if (request.getEventId() == null) {
+            request.setEventId(UUID.randomUUID().toString());
+        }
+    }
+}
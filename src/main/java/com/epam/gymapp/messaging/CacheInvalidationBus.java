@@ -0,0 +1,270 @@
+package com.epam.gymapp.messaging;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jms.annotation.JmsListener;
+import org.springframework.jms.core.JmsTemplate;
+import org.springframework.jms.support.JmsUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.epam.gymapp.service.CacheInvalidationEvent;
+import com.epam.gymapp.service.UserStatusChangedEvent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.jms.BytesMessage;
+import jakarta.jms.DeliveryMode;
+import jakarta.jms.JMSException;
+import jakarta.jms.MessageFormatException;
+import jakarta.jms.MessageProducer;
+
+/**
+ * Keeps the {@link LocalCache}s of every node in step through a broker topic. Committed
+ * {@link CacheInvalidationEvent}s and {@link UserStatusChangedEvent}s are collected for
+ * {@code cache.invalidation.coalesce-window-ms}, deduplicated and sent as one non-persistent
+ * message; other nodes drop the listed entries. A window with more than
+ * {@code cache.invalidation.max-keys} usernames is sent as a request to drop everything.
+ * The node that made the change is not notified, its caches were updated by the change itself.
+ *
+ * Each node numbers its messages and repeats its last number as a heartbeat every
+ * {@code cache.invalidation.heartbeat-interval-ms}. A receiver that sees a number skipped,
+ * because a message was lost or could not be sent, drops all its cached entries. The first
+ * message from a node only sets where its numbering starts.
+ *
+ * <pre>
+ * properties  origin (node id), sequence (long), kind (keys | all | heartbeat)
+ * int         entry count                      (kind = keys)
+ * byte, utf   type ordinal and username, per entry
+ * </pre>
+ */
+@Component
+@ConditionalOnProperty(name = "cache.invalidation.enabled", havingValue = "true", matchIfMissing = true)
+public class CacheInvalidationBus {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheInvalidationBus.class);
+
+    public static final String TOPIC = "gymapp.cache.invalidation";
+
+    static final String MESSAGE_TYPE = "CacheInvalidation";
+    static final String ORIGIN_PROPERTY = "origin";
+    static final String SEQUENCE_PROPERTY = "sequence";
+    static final String KIND_PROPERTY = "kind";
+    static final String KIND_KEYS = "keys";
+    static final String KIND_ALL = "all";
+    static final String KIND_HEARTBEAT = "heartbeat";
+
+    private static final CacheInvalidationEvent.Type[] TYPES = CacheInvalidationEvent.Type.values();
+
+    private final JmsTemplate jmsTemplate;
+    private final List<LocalCache> localCaches;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final long coalesceWindowMs;
+    private final long heartbeatIntervalMs;
+    private final int maxKeys;
+    private final ScheduledExecutorService scheduler;
+    private final Object lock = new Object();
+    private Map<CacheInvalidationEvent.Type, Set<String>> pending = new EnumMap<>(CacheInvalidationEvent.Type.class);
+    private int pendingKeys;
+    private boolean flushScheduled;
+    /** Only touched by the scheduler thread, which sends every message. */
+    private long sequence;
+    private final Map<String, Long> lastSequences = new ConcurrentHashMap<>();
+    private final Counter sentKeys;
+    private final Counter receivedKeys;
+    private final Counter sendFailures;
+    private final Counter gapFlushes;
+    private final Counter requestedFlushes;
+
+    public CacheInvalidationBus(JmsTemplate jmsTemplate, List<LocalCache> localCaches, MeterRegistry meterRegistry,
+            @Value("${cache.invalidation.coalesce-window-ms:50}") long coalesceWindowMs,
+            @Value("${cache.invalidation.heartbeat-interval-ms:30000}") long heartbeatIntervalMs,
+            @Value("${cache.invalidation.max-keys:1000}") int maxKeys) {
+        this.jmsTemplate = jmsTemplate;
+        this.localCaches = localCaches;
+        this.coalesceWindowMs = coalesceWindowMs;
+        this.heartbeatIntervalMs = heartbeatIntervalMs;
+        this.maxKeys = maxKeys;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cache-invalidation");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.sentKeys = meterRegistry.counter("gymapp_cache_invalidations_total", "direction", "sent");
+        this.receivedKeys = meterRegistry.counter("gymapp_cache_invalidations_total", "direction", "received");
+        this.sendFailures = meterRegistry.counter("gymapp_cache_invalidation_send_failures_total");
+        this.gapFlushes = meterRegistry.counter("gymapp_cache_invalidation_full_flushes_total", "reason", "gap");
+        this.requestedFlushes = meterRegistry.counter("gymapp_cache_invalidation_full_flushes_total", "reason", "requested");
+    }
+
+    @PostConstruct
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::heartbeat, heartbeatIntervalMs, heartbeatIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Sends what is still pending, then stops the scheduler.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        scheduler.execute(this::flush);
+        scheduler.shutdown();
+        scheduler.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCacheInvalidation(CacheInvalidationEvent event) {
+        enqueue(event.type(), event.usernames());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserStatusChanged(UserStatusChangedEvent event) {
+        enqueue(CacheInvalidationEvent.Type.USER, event.usernames());
+    }
+
+    @JmsListener(destination = TOPIC, containerFactory = "cacheInvalidationListenerFactory")
+    public void onMessage(BytesMessage message) throws JMSException {
+        String origin = message.getStringProperty(ORIGIN_PROPERTY);
+        if (origin == null || nodeId.equals(origin)) return;
+        long received = message.getLongProperty(SEQUENCE_PROPERTY);
+        String kind = message.getStringProperty(KIND_PROPERTY);
+
+        Long last = lastSequences.put(origin, received);
+        long expected = last == null ? received : KIND_HEARTBEAT.equals(kind) ? last : last + 1;
+        if (received != expected) {
+            logger.warn("Missed cache invalidations from node {} (expected {}, got {}), dropping all cached entries",
+                    origin, expected, received);
+            gapFlushes.increment();
+            invalidateAll();
+            return;
+        }
+        if (KIND_ALL.equals(kind)) {
+            requestedFlushes.increment();
+            invalidateAll();
+        } else if (KIND_KEYS.equals(kind)) {
+            Map<CacheInvalidationEvent.Type, List<String>> entries = decode(message);
+            entries.forEach((type, usernames) -> {
+                receivedKeys.increment(usernames.size());
+                localCaches.forEach(cache -> cache.invalidate(type, usernames));
+            });
+        }
+    }
+
+    String getNodeId() {
+        return nodeId;
+    }
+
+    private void enqueue(CacheInvalidationEvent.Type type, Collection<String> usernames) {
+        if (usernames.isEmpty()) return;
+        synchronized (lock) {
+            Set<String> keys = pending.computeIfAbsent(type, key -> new LinkedHashSet<>());
+            for (String username : usernames) {
+                if (keys.add(username)) pendingKeys++;
+            }
+            if (flushScheduled) return;
+            flushScheduled = true;
+        }
+        scheduler.schedule(this::flush, coalesceWindowMs, TimeUnit.MILLISECONDS);
+    }
+
+    private void flush() {
+        Map<CacheInvalidationEvent.Type, Set<String>> batch;
+        int keys;
+        synchronized (lock) {
+            batch = pending;
+            keys = pendingKeys;
+            pending = new EnumMap<>(CacheInvalidationEvent.Type.class);
+            pendingKeys = 0;
+            flushScheduled = false;
+        }
+        if (keys == 0) return;
+        long next = ++sequence;
+        String kind = keys > maxKeys ? KIND_ALL : KIND_KEYS;
+        try {
+            send(next, kind, KIND_KEYS.equals(kind) ? batch : Map.of());
+            sentKeys.increment(keys);
+        } catch (RuntimeException e) {
+            // The skipped sequence number makes the other nodes drop everything instead.
+            sendFailures.increment();
+            logger.warn("Could not send {} cache invalidations: {}", keys, e.getMessage());
+        }
+    }
+
+    private void heartbeat() {
+        try {
+            send(sequence, KIND_HEARTBEAT, Map.of());
+        } catch (RuntimeException e) {
+            logger.debug("Could not send cache invalidation heartbeat: {}", e.getMessage());
+        }
+    }
+
+    private void send(long number, String kind, Map<CacheInvalidationEvent.Type, Set<String>> entries) {
+        jmsTemplate.execute(session -> {
+            BytesMessage message = session.createBytesMessage();
+            message.setJMSType(MESSAGE_TYPE);
+            message.setStringProperty(ORIGIN_PROPERTY, nodeId);
+            message.setLongProperty(SEQUENCE_PROPERTY, number);
+            message.setStringProperty(KIND_PROPERTY, kind);
+            if (KIND_KEYS.equals(kind)) encode(entries, message);
+            MessageProducer producer = session.createProducer(session.createTopic(TOPIC));
+            try {
+                producer.setDeliveryMode(DeliveryMode.NON_PERSISTENT);
+                producer.send(message);
+            } finally {
+                JmsUtils.closeMessageProducer(producer);
+            }
+            JmsUtils.commitIfNecessary(session);
+            return null;
+        });
+    }
+
+    private void invalidateAll() {
+        localCaches.forEach(LocalCache::invalidateAll);
+    }
+
+    static void encode(Map<CacheInvalidationEvent.Type, ? extends Collection<String>> entries, BytesMessage message)
+            throws JMSException {
+        int count = 0;
+        for (Collection<String> usernames : entries.values()) {
+            count += usernames.size();
+        }
+        message.writeInt(count);
+        for (Map.Entry<CacheInvalidationEvent.Type, ? extends Collection<String>> entry : entries.entrySet()) {
+            for (String username : entry.getValue()) {
+                message.writeByte((byte) entry.getKey().ordinal());
+                message.writeUTF(username);
+            }
+        }
+    }
+
+    static Map<CacheInvalidationEvent.Type, List<String>> decode(BytesMessage message) throws JMSException {
+        Map<CacheInvalidationEvent.Type, List<String>> entries = new EnumMap<>(CacheInvalidationEvent.Type.class);
+        int count = message.readInt();
+        for (int i = 0; i < count; i++) {
+            int ordinal = message.readByte();
+            if (ordinal < 0 || ordinal >= TYPES.length) {
+                throw new MessageFormatException("Unknown cache invalidation type: " + ordinal);
+            }
+            entries.computeIfAbsent(TYPES[ordinal], type -> new ArrayList<>()).add(message.readUTF());
+        }
+        return entries;
+    }
+}
@@ -0,0 +1,30 @@
+package com.epam.gymapp.messaging;
+
+/**
+ * Receives what happened to a workload delivery: one call per attempt and one call when the
+ * delivery is over, which for retried transports can be on another thread and much later.
+ */
+public interface DeliveryListener {
+
+    DeliveryListener NONE = new DeliveryListener() {
+        @Override
+        public void attempted(long nanos, boolean success) {
+        }
+
+        @Override
+        public void finished(int events, boolean delivered) {
+        }
+    };
+
+    /**
+     * @param nanos duration of this attempt alone, without any backoff before it
+     * @param success whether the transport accepted the events on this attempt
+     */
+    void attempted(long nanos, boolean success);
+
+    /**
+     * @param events number of events in the delivery
+     * @param delivered true if the events reached the transport, false if they were parked or lost
+     */
+    void finished(int events, boolean delivered);
+}
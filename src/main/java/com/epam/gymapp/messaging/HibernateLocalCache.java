@@ -0,0 +1,51 @@
+package com.epam.gymapp.messaging;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.epam.gymapp.model.user.User;
+import com.epam.gymapp.repository.UserRepository;
+import com.epam.gymapp.service.CacheInvalidationEvent;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * The Hibernate second-level cache of this node. Trainee and trainer profiles read their
+ * names and status from the cached {@link User}, so every invalidation type evicts the
+ * users behind the given usernames. Usernames never change, so the natural id entries
+ * mapping them to user ids stay valid and are kept; an entry of a deleted user resolves to
+ * nothing once the user itself is gone from the cache.
+ */
+@Component
+@ConditionalOnProperty(name = "spring.jpa.properties.hibernate.cache.use_second_level_cache", havingValue = "true")
+public class HibernateLocalCache implements LocalCache {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final UserRepository userRepository;
+
+    public HibernateLocalCache(EntityManagerFactory entityManagerFactory, UserRepository userRepository) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.userRepository = userRepository;
+    }
+
+    @Override
+    public void invalidate(CacheInvalidationEvent.Type type, Collection<String> usernames) {
+        List<Long> userIds = userRepository.findIdsByUsernameIn(usernames);
+        if (userIds.size() < usernames.size()) {
+            // Deleted users can no longer be resolved to their ids.
+            entityManagerFactory.getCache().evict(User.class);
+            return;
+        }
+        for (Long userId : userIds) {
+            entityManagerFactory.getCache().evict(User.class, userId);
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        entityManagerFactory.getCache().evictAll();
+    }
+}
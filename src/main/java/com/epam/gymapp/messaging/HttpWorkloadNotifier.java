@@ -0,0 +1,184 @@
+package com.epam.gymapp.messaging;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import com.epam.gymapp.client.TrainerFallbackClient;
+import com.epam.gymapp.client.TrainerWorkloadClient;
+import com.epam.gymapp.dto.TrainerWorkloadRequest;
+import com.epam.gymapp.util.TransactionContext;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Delivers workload events over HTTP with the batch endpoint of the trainer workload service.
+ * Single events are queued and a background thread sends them in batches of up to
+ * {@code workload.notifier.http.batch-size} events, waiting at most
+ * {@code workload.notifier.http.linger-ms} for a batch to fill. Events that cannot be queued
+ * or sent are parked in the {@link WorkloadDeadLetterStore}. The delivery meters are recorded
+ * when a batch is sent, not when an event is queued; batches the Feign fallback parked or
+ * dropped count as failures.
+ *
+ * Queued events keep the transaction id of the request that published them. The flusher
+ * sends a batch under that id when all its events share it; a batch that mixes requests gets
+ * its own id, and the log line listing the request ids it carries ties them together.
+ */
+@Component
+@ConditionalOnProperty(name = "workload.notifier.transport", havingValue = "http")
+public class HttpWorkloadNotifier extends AbstractWorkloadNotifier {
+
+    private static final Logger logger = LoggerFactory.getLogger(HttpWorkloadNotifier.class);
+
+    private final TrainerWorkloadClient trainerWorkloadClient;
+    private final WorkloadDeadLetterStore deadLetterStore;
+    private record Pending(TrainerWorkloadRequest request, String transactionId) {
+    }
+
+    private final BlockingQueue<Pending> pending;
+    private final int batchSize;
+    private final long lingerNanos;
+    private final Thread flusher;
+    private volatile boolean running = true;
+
+    public HttpWorkloadNotifier(TrainerWorkloadClient trainerWorkloadClient, WorkloadDeadLetterStore deadLetterStore,
+            MeterRegistry meterRegistry,
+            @Value("${workload.notifier.http.batch-size:100}") int batchSize,
+            @Value("${workload.notifier.http.linger-ms:20}") long lingerMs,
+            @Value("${workload.notifier.http.queue-capacity:10000}") int queueCapacity) {
+        super("http", meterRegistry);
+        this.trainerWorkloadClient = trainerWorkloadClient;
+        this.deadLetterStore = deadLetterStore;
+        this.pending = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = Math.max(1, batchSize);
+        this.lingerNanos = TimeUnit.MILLISECONDS.toNanos(lingerMs);
+        this.flusher = new Thread(this::flushLoop, "workload-http-notifier");
+        this.flusher.setDaemon(true);
+    }
+
+    @PostConstruct
+    public void start() {
+        flusher.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        flusher.interrupt();
+        flusher.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    /**
+     * Queues the event for the next batch and returns immediately.
+     */
+    @Override
+    public void publish(TrainerWorkloadRequest request) {
+        stampEventId(request);
+        if (!pending.offer(new Pending(request, TransactionContext.getTransactionId()))) {
+            logger.warn("HTTP workload queue full, parking event {}", request.getEventId());
+            deadLetterStore.park(request);
+        }
+    }
+
+    /**
+     * Sends the events right away on the calling thread; the caller already batched them.
+     */
+    @Override
+    public void publishBatch(List<TrainerWorkloadRequest> requests) {
+        if (requests.isEmpty()) return;
+        requests.forEach(AbstractWorkloadNotifier::stampEventId);
+        sendOrPark(requests);
+    }
+
+    @Override
+    protected void send(List<TrainerWorkloadRequest> requests, DeliveryListener listener) {
+        sendNow(requests, listener);
+    }
+
+    /**
+     * Sends the batch on the calling thread. Batches the Feign fallback parked count as not
+     * delivered.
+     */
+    @Override
+    protected boolean sendNow(List<TrainerWorkloadRequest> requests, DeliveryListener listener) {
+        return sendOnce(requests, listener, () -> {
+            ResponseEntity<String> response = trainerWorkloadClient.updateTrainerWorkloadBatch(requests);
+            return response == null
+                    || (response.getStatusCode().is2xxSuccessful() && !TrainerFallbackClient.isParked(response));
+        });
+    }
+
+    private void flushLoop() {
+        List<Pending> batch = new ArrayList<>(batchSize);
+        while (running || !pending.isEmpty()) {
+            try {
+                Pending first = pending.poll(1, TimeUnit.SECONDS);
+                if (first == null) continue;
+                batch.add(first);
+                long deadline = System.nanoTime() + lingerNanos;
+                while (batch.size() < batchSize) {
+                    pending.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0) break;
+                    Pending next = pending.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) break;
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                // Shutting down: send what is left without lingering.
+                pending.drainTo(batch);
+                running = false;
+            }
+            if (!batch.isEmpty()) {
+                sendQueued(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+    }
+
+    private void sendQueued(List<Pending> batch) {
+        List<TrainerWorkloadRequest> requests = new ArrayList<>(batch.size());
+        Set<String> transactionIds = new LinkedHashSet<>();
+        for (Pending queued : batch) {
+            requests.add(queued.request());
+            transactionIds.add(queued.transactionId());
+        }
+        String batchTransactionId;
+        if (transactionIds.size() == 1) {
+            batchTransactionId = transactionIds.iterator().next();
+        } else {
+            batchTransactionId = UUID.randomUUID().toString();
+            logger.info("Sending {} queued workload events as {} for transactions {}", requests.size(),
+                    batchTransactionId, transactionIds);
+        }
+        TransactionContext.setTransactionId(batchTransactionId);
+        try {
+            sendOrPark(requests);
+        } finally {
+            TransactionContext.clearTransactionId();
+        }
+    }
+
+    private void sendOrPark(List<TrainerWorkloadRequest> batch) {
+        try {
+            deliver(batch);
+        } catch (RuntimeException e) {
+            logger.error("Failed to send {} workload events over HTTP, parking them: {}", batch.size(), e.getMessage(), e);
+            batch.forEach(deadLetterStore::park);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.epam.gymapp.messaging;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.epam.gymapp.dto.TrainerWorkloadRequest;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Applies workload events to monthly totals kept in this JVM, for single-node deployments
+ * and tests that run without the trainer workload service. ADD and DELETE adjust the month
+ * of the training date, SNAPSHOT replaces it.
+ */
+@Component
+@ConditionalOnProperty(name = "workload.notifier.transport", havingValue = "in-process")
+public class InProcessWorkloadNotifier extends AbstractWorkloadNotifier {
+
+    private final Map<String, Map<YearMonth, Long>> minutesByTrainer = new ConcurrentHashMap<>();
+
+    public InProcessWorkloadNotifier(MeterRegistry meterRegistry) {
+        super("in-process", meterRegistry);
+    }
+
+    /**
+     * Total minutes recorded for the trainer in the given month.
+     */
+    public long getMonthlyMinutes(String username, YearMonth month) {
+        Map<YearMonth, Long> months = minutesByTrainer.get(username);
+        if (months == null) return 0;
+        return months.getOrDefault(month, 0L);
+    }
+
+    @Override
+    protected void send(List<TrainerWorkloadRequest> requests, DeliveryListener listener) {
+        sendNow(requests, listener);
+    }
+
+    @Override
+    protected boolean sendNow(List<TrainerWorkloadRequest> requests, DeliveryListener listener) {
+        return sendOnce(requests, listener, () -> {
+            for (TrainerWorkloadRequest request : requests) {
+                apply(request);
+            }
+            return true;
+        });
+    }
+
+    private void apply(TrainerWorkloadRequest request) {
+        if (request.getUsername() == null || request.getTrainingDate() == null || request.getActionType() == null) {
+            throw new IllegalArgumentException("Incomplete workload event " + request.getEventId());
+        }
+        Map<YearMonth, Long> months = minutesByTrainer.computeIfAbsent(request.getUsername(),
+                username -> new ConcurrentHashMap<>());
+        YearMonth month = YearMonth.from(request.getTrainingDate());
+        long minutes = request.getTrainingDuration() == null ? 0 : request.getTrainingDuration();
+        switch (request.getActionType()) {
+            case ADD -> months.merge(month, minutes, Long::sum);
+            case DELETE -> months.merge(month, -minutes, (current, delta) -> Math.max(0, current + delta));
+            case SNAPSHOT -> months.put(month, minutes);
+        }
+    }
+}
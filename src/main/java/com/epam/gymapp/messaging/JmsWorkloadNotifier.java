@@ -0,0 +1,42 @@
+package com.epam.gymapp.messaging;
+
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.epam.gymapp.dto.TrainerWorkloadRequest;
+import com.epam.gymapp.service.TrainingPublisher;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Delivers workload events through the broker. Retries and parking of undeliverable events
+ * are handled by {@link TrainingPublisher}, which reports each attempt and the final outcome
+ * back, possibly from its retry scheduler after this call has returned.
+ */
+@Component
+@ConditionalOnProperty(name = "workload.notifier.transport", havingValue = "jms", matchIfMissing = true)
+public class JmsWorkloadNotifier extends AbstractWorkloadNotifier {
+
+    private final TrainingPublisher trainingPublisher;
+
+    public JmsWorkloadNotifier(TrainingPublisher trainingPublisher, MeterRegistry meterRegistry) {
+        super("jms", meterRegistry);
+        this.trainingPublisher = trainingPublisher;
+    }
+
+    @Override
+    protected void send(List<TrainerWorkloadRequest> requests, DeliveryListener listener) {
+        if (requests.size() == 1) {
+            trainingPublisher.sendTraining(requests.get(0), listener);
+        } else {
+            trainingPublisher.sendBatch(requests, listener);
+        }
+    }
+
+    @Override
+    protected boolean sendNow(List<TrainerWorkloadRequest> requests, DeliveryListener listener) {
+        return trainingPublisher.sendBatchNow(requests, listener);
+    }
+}
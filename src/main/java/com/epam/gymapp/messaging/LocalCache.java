@@ -0,0 +1,22 @@
+package com.epam.gymapp.messaging;
+
+import java.util.Collection;
+
+import com.epam.gymapp.service.CacheInvalidationEvent;
+
+/**
+ * A cache held in this node's memory that {@link CacheInvalidationBus} keeps in step with
+ * changes made on other nodes.
+ */
+public interface LocalCache {
+
+    /**
+     * Drops the entries of the given usernames.
+     */
+    void invalidate(CacheInvalidationEvent.Type type, Collection<String> usernames);
+
+    /**
+     * Drops everything, used when invalidations from another node may have been lost.
+     */
+    void invalidateAll();
+}
@@ -0,0 +1,128 @@
+package com.epam.gymapp.messaging;
+
+import java.time.LocalDate;
+
+import com.epam.gymapp.dto.ActionType;
+import com.epam.gymapp.dto.TrainerWorkloadRequest;
+
+import jakarta.jms.BytesMessage;
+import jakarta.jms.JMSException;
+import jakarta.jms.MessageFormatException;
+
+/**
+ * Compact binary encoding of {@link TrainerWorkloadRequest} written straight into a JMS
+ * {@link BytesMessage}. The same class is used by producers and consumers so both sides
+ * agree on the layout.
+ *
+ * <pre>
+ * byte    schema version
+ * byte    field mask   (bit 0..6 = field present, bit 7 = isActive value)
+ * utf     username     (if present)
+ * utf     firstName    (if present)
+ * utf     lastName     (if present)
+ * int     trainingDate as epoch day (if present)
+ * int     trainingDuration (if present)
+ * byte    actionType ordinal (if present)
+ * -- version 2 --
+ * byte    extension mask (bit 0 = eventId present)
+ * utf     eventId      (if present)
+ * </pre>
+ *
+ * Fields are only ever appended; a new field means a new schema version and the decoder
+ * keeps reading every older version.
+ */
+public final class TrainerWorkloadCodec {
+
+    /** JMS type set on every encoded message, used to pick the decoder. */
+    public static final String MESSAGE_TYPE = "TrainerWorkloadRequest";
+
+    /** Message property carrying the schema version, readable without touching the body. */
+    public static final String SCHEMA_VERSION_PROPERTY = "schemaVersion";
+
+    public static final byte SCHEMA_VERSION = 2;
+
+    private static final int USERNAME = 1;
+    private static final int FIRST_NAME = 1 << 1;
+    private static final int LAST_NAME = 1 << 2;
+    private static final int IS_ACTIVE = 1 << 3;
+    private static final int TRAINING_DATE = 1 << 4;
+    private static final int TRAINING_DURATION = 1 << 5;
+    private static final int ACTION_TYPE = 1 << 6;
+    private static final int ACTIVE_VALUE = 1 << 7;
+
+    private static final int EVENT_ID = 1;
+
+    private static final ActionType[] ACTION_TYPES = ActionType.values();
+
+    private TrainerWorkloadCodec() {
+    }
+
+    /**
+     * Writes the request into the body of the given message.
+     *
+     * @param request the request to encode
+     * @param message a message in write mode
+     * @throws JMSException if the message cannot be written
+     */
+    public static void encode(TrainerWorkloadRequest request, BytesMessage message) throws JMSException {
+        int mask = 0;
+        if (request.getUsername() != null) mask |= USERNAME;
+        if (request.getFirstName() != null) mask |= FIRST_NAME;
+        if (request.getLastName() != null) mask |= LAST_NAME;
+        if (request.getIsActive() != null) {
+            mask |= IS_ACTIVE;
+            if (request.getIsActive()) mask |= ACTIVE_VALUE;
+        }
+        if (request.getTrainingDate() != null) mask |= TRAINING_DATE;
+        if (request.getTrainingDuration() != null) mask |= TRAINING_DURATION;
+        if (request.getActionType() != null) mask |= ACTION_TYPE;
+
+        message.writeByte(SCHEMA_VERSION);
+        message.writeByte((byte) mask);
+        if ((mask & USERNAME) != 0) message.writeUTF(request.getUsername());
+        if ((mask & FIRST_NAME) != 0) message.writeUTF(request.getFirstName());
+        if ((mask & LAST_NAME) != 0) message.writeUTF(request.getLastName());
+        if ((mask & TRAINING_DATE) != 0) message.writeInt(Math.toIntExact(request.getTrainingDate().toEpochDay()));
+        if ((mask & TRAINING_DURATION) != 0) message.writeInt(request.getTrainingDuration());
+        if ((mask & ACTION_TYPE) != 0) message.writeByte((byte) request.getActionType().ordinal());
+
+        int extensionMask = request.getEventId() != null ? EVENT_ID : 0;
+        message.writeByte((byte) extensionMask);
+        if ((extensionMask & EVENT_ID) != 0) message.writeUTF(request.getEventId());
+    }
+
+    /**
+     * Reads a request from the body of the given message.
+     *
+     * @param message a message in read mode
+     * @return the decoded request
+     * @throws JMSException if the body is truncated or uses an unknown schema version
+     */
+    public static TrainerWorkloadRequest decode(BytesMessage message) throws JMSException {
+        byte version = message.readByte();
+        if (version < 1 || version > SCHEMA_VERSION) {
+            throw new MessageFormatException("Unsupported workload schema version: " + version);
+        }
+        int mask = message.readByte() & 0xFF;
+
+        TrainerWorkloadRequest request = new TrainerWorkloadRequest();
+        if ((mask & USERNAME) != 0) request.setUsername(message.readUTF());
+        if ((mask & FIRST_NAME) != 0) request.setFirstName(message.readUTF());
+        if ((mask & LAST_NAME) != 0) request.setLastName(message.readUTF());
+        if ((mask & IS_ACTIVE) != 0) request.setIsActive((mask & ACTIVE_VALUE) != 0);
+        if ((mask & TRAINING_DATE) != 0) request.setTrainingDate(LocalDate.ofEpochDay(message.readInt()));
+        if ((mask & TRAINING_DURATION) != 0) request.setTrainingDuration(message.readInt());
+        if ((mask & ACTION_TYPE) != 0) {
+            int ordinal = message.readByte();
+            if (ordinal < 0 || ordinal >= ACTION_TYPES.length) {
+                throw new MessageFormatException("Unknown action type ordinal: " + ordinal);
+            }
+            request.setActionType(ACTION_TYPES[ordinal]);
+        }
+        if (version >= 2) {
+            int extensionMask = message.readByte() & 0xFF;
+            if ((extensionMask & EVENT_ID) != 0) request.setEventId(message.readUTF());
+        }
+        return request;
+    }
+}
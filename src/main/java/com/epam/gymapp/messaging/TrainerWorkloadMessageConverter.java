@@ -0,0 +1,51 @@
+package com.epam.gymapp.messaging;
+
+import org.springframework.jms.support.converter.MessageConversionException;
+import org.springframework.jms.support.converter.MessageConverter;
+import org.springframework.jms.support.converter.SimpleMessageConverter;
+
+import com.epam.gymapp.dto.TrainerWorkloadRequest;
+
+import jakarta.jms.BytesMessage;
+import jakarta.jms.JMSException;
+import jakarta.jms.Message;
+import jakarta.jms.Session;
+
+/**
+ * Message converter that sends {@link TrainerWorkloadRequest} payloads as compact
+ * {@link BytesMessage}s (see {@link TrainerWorkloadCodec}) and leaves every other payload
+ * to the default {@link SimpleMessageConverter}.
+ */
+public class TrainerWorkloadMessageConverter implements MessageConverter {
+
+    private final MessageConverter delegate;
+
+    public TrainerWorkloadMessageConverter() {
+        this(new SimpleMessageConverter());
+    }
+
+    public TrainerWorkloadMessageConverter(MessageConverter delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Message toMessage(Object object, Session session) throws JMSException, MessageConversionException {
+        if (object instanceof TrainerWorkloadRequest request) {
+            BytesMessage message = session.createBytesMessage();
+            message.setJMSType(TrainerWorkloadCodec.MESSAGE_TYPE);
+            message.setByteProperty(TrainerWorkloadCodec.SCHEMA_VERSION_PROPERTY, TrainerWorkloadCodec.SCHEMA_VERSION);
+            TrainerWorkloadCodec.encode(request, message);
+            return message;
+        }
+        return delegate.toMessage(object, session);
+    }
+
+    @Override
+    public Object fromMessage(Message message) throws JMSException, MessageConversionException {
+        if (message instanceof BytesMessage bytesMessage
+                && TrainerWorkloadCodec.MESSAGE_TYPE.equals(message.getJMSType())) {
+            return TrainerWorkloadCodec.decode(bytesMessage);
+        }
+        return delegate.fromMessage(message);
+    }
+}
@@ -0,0 +1,33 @@
+package com.epam.gymapp.messaging;
+
+import org.springframework.jms.listener.DefaultMessageListenerContainer;
+
+import com.epam.gymapp.util.TransactionContext;
+
+import jakarta.jms.JMSException;
+import jakarta.jms.Message;
+import jakarta.jms.Session;
+
+/**
+ * Listener container that runs each listener invocation under the transaction id of the
+ * message being handled, taken from the {@code transactionId} property or, for messages from
+ * older producers, the JMS correlation id.
+ */
+public class TransactionIdMessageListenerContainer extends DefaultMessageListenerContainer {
+
+    @Override
+    protected void invokeListener(Session session, Message message) throws JMSException {
+        String previous = TransactionContext.getTransactionId();
+        TransactionContext.setTransactionId(transactionId(message));
+        try {
+            super.invokeListener(session, message);
+        } finally {
+            TransactionContext.setTransactionId(previous);
+        }
+    }
+
+    private static String transactionId(Message message) throws JMSException {
+        String transactionId = message.getStringProperty(WorkloadDestinations.TRANSACTION_ID_PROPERTY);
+        return transactionId != null ? transactionId : message.getJMSCorrelationID();
+    }
+}
@@ -0,0 +1,31 @@
+package com.epam.gymapp.messaging;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.epam.gymapp.service.WorkloadChangedEvent;
+
+/**
+ * Sends workload events only once the training or trainee write that produced them has
+ * committed, so a rolled back write never reaches the trainer workload service and no database
+ * connection is held while the event is sent.
+ */
+@Component
+public class WorkloadChangedListener {
+
+    private final WorkloadNotifier workloadNotifier;
+
+    public WorkloadChangedListener(WorkloadNotifier workloadNotifier) {
+        this.workloadNotifier = workloadNotifier;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onWorkloadChanged(WorkloadChangedEvent event) {
+        if (event.workloadDeltas().size() == 1) {
+            workloadNotifier.publish(event.workloadDeltas().get(0));
+        } else if (!event.workloadDeltas().isEmpty()) {
+            workloadNotifier.publishBatch(event.workloadDeltas());
+        }
+    }
+}
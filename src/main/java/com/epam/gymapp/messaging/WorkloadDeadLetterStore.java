@@ -0,0 +1,97 @@
+package com.epam.gymapp.messaging;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.epam.gymapp.dto.TrainerWorkloadRequest;
+import com.epam.gymapp.model.workload.WorkloadDeadLetter;
+import com.epam.gymapp.repository.WorkloadDeadLetterRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Holding area for workload events that could not be delivered, persisted in
+ * {@code workload_dead_letters} so they survive restarts and are shared by all nodes. Events
+ * keep their event id, so replaying them later never makes the consumer count the same
+ * minutes twice, even when two nodes replay the same rows.
+ *
+ * Every operation runs in its own transaction: events are often parked after the
+ * transaction that produced them has committed, or from inside one that is about to roll
+ * back, and must be kept either way. An event that cannot be written is logged in full and
+ * counted in {@code workload_dead_letter_dropped_total}.
+ */
+@Component
+public class WorkloadDeadLetterStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(WorkloadDeadLetterStore.class);
+
+    private final WorkloadDeadLetterRepository repository;
+    private final TransactionTemplate newTransaction;
+    private final int drainLimit;
+    private final Counter parkedCounter;
+    private final Counter droppedCounter;
+
+    public WorkloadDeadLetterStore(WorkloadDeadLetterRepository repository, PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry, @Value("${workload.dead-letter.drain-limit:10000}") int drainLimit) {
+        this.repository = repository;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.drainLimit = Math.max(1, drainLimit);
+        this.parkedCounter = meterRegistry.counter("workload_dead_letter_parked_total");
+        this.droppedCounter = meterRegistry.counter("workload_dead_letter_dropped_total");
+        Gauge.builder("workload_dead_letter_size", this, WorkloadDeadLetterStore::sizeOrNaN).register(meterRegistry);
+    }
+
+    /**
+     * Parks an event for a later replay.
+     *
+     * @param request the event that could not be published
+     */
+    public void park(TrainerWorkloadRequest request) {
+        try {
+            newTransaction.executeWithoutResult(status -> repository.save(new WorkloadDeadLetter(request)));
+            parkedCounter.increment();
+        } catch (RuntimeException e) {
+            droppedCounter.increment();
+            logger.error("Could not park workload event {} ({} {} min on {} for {}), it is lost: {}",
+                    request.getEventId(), request.getActionType(), request.getTrainingDuration(),
+                    request.getTrainingDate(), request.getUsername(), e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Removes and returns the oldest parked events, at most
+     * {@code workload.dead-letter.drain-limit} of them.
+     *
+     * @return the parked events, oldest first
+     */
+    public List<TrainerWorkloadRequest> drain() {
+        return newTransaction.execute(status -> {
+            List<WorkloadDeadLetter> parked = repository.findAllByOrderByIdAsc(PageRequest.of(0, drainLimit));
+            repository.deleteAllInBatch(parked);
+            return parked.stream().map(WorkloadDeadLetter::toRequest).toList();
+        });
+    }
+
+    public int size() {
+        return (int) repository.count();
+    }
+
+    private double sizeOrNaN() {
+        try {
+            return size();
+        } catch (RuntimeException e) {
+            return Double.NaN;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.epam.gymapp.messaging;
+
+/**
+ * Names of the JMS destinations and message properties used for trainer workload events.
+ */
+public final class WorkloadDestinations {
+
+    /** Queue consumed by the trainer workload service. */
+    public static final String TRAINING_QUEUE = "training.queue";
+
+    /** Message property holding the unique id of a workload event, used by consumers to drop duplicates. */
+    public static final String EVENT_ID_PROPERTY = "eventId";
+
+    /**
+     * Message property holding the transaction id of the request that produced the event.
+     * JMS property names must be Java identifiers, so the HTTP header name cannot be reused.
+     */
+    public static final String TRANSACTION_ID_PROPERTY = "transactionId";
+
+    private WorkloadDestinations() {
+    }
+}
@@ -0,0 +1,41 @@
+package com.epam.gymapp.messaging;
+
+import java.util.List;
+
+import com.epam.gymapp.dto.TrainerWorkloadRequest;
+
+/**
+ * Delivers trainer workload events to the trainer workload service. The transport is chosen
+ * per environment with {@code workload.notifier.transport}: {@code jms} (default),
+ * {@code http} or {@code in-process}.
+ */
+public interface WorkloadNotifier {
+
+    /**
+     * Delivers one event. Implementations stamp an event id if the event has none.
+     *
+     * @param request the event to deliver
+     */
+    void publish(TrainerWorkloadRequest request);
+
+    /**
+     * Delivers several events in one round trip where the transport allows it.
+     *
+     * @param requests the events to deliver, in order
+     */
+    void publishBatch(List<TrainerWorkloadRequest> requests);
+
+    /**
+     * Delivers several events with one synchronous attempt, without retries. The notifier
+     * does not park the events if the attempt fails; the caller decides what to do with them.
+     *
+     * @param requests the events to deliver, in order
+     * @return true if the transport accepted the events, false if they were not delivered
+     */
+    boolean publishBatchNow(List<TrainerWorkloadRequest> requests);
+
+    /**
+     * Name of the transport, used as metric tag.
+     */
+    String transport();
+}
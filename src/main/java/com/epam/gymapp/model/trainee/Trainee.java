@@ -84,6 +84,15 @@ public class Trainee {
         this.address = traineeDto.getAddress();    
     }
 
+    /**
+     * Gets the trainee ID.
+     *
+     * @return The trainee's unique identifier.
+     */
+    public Long getId() {
+        return id;
+    }
+
     /**
      * Gets the trainee's date of birth.
      *
@@ -81,6 +81,15 @@ public class Trainer{
         this.specialization = new TrainingType(TrainingTypeEnum.valueOf(trainerDto.getSpecialization().toUpperCase()));
     }
 
+    /**
+     * Gets the trainer ID.
+     *
+     * @return The trainer's unique identifier.
+     */
+    public Long getId() {
+        return id;
+    }
+
     /**
      * Gets the trainer's specialization.
      *
@@ -1,6 +1,10 @@
 package com.epam.gymapp.model.trainingType;
 
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -16,6 +20,8 @@ import jakarta.persistence.Table;
  */
 @Entity
 @Table(name = "training_types")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "training-types")
 public class TrainingType {
 
     @Id
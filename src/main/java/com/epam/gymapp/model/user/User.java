@@ -4,6 +4,12 @@ import java.security.SecureRandom;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
@@ -19,6 +25,9 @@ import jakarta.persistence.Table;
 
  @Entity
  @Table(name = "users")
+ @Cacheable
+ @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
+ @NaturalIdCache(region = "users-by-username")
 public class User {
 
     private static final Map<String, Integer> usernameCount = new ConcurrentHashMap<>();
@@ -35,6 +44,7 @@ public class User {
     @Column(nullable = false)
     private String lastName;    // The last name of the user
 
+    @NaturalId
     @Column(unique = true, nullable = false)
     private String username;    // The username of the user
 
@@ -169,7 +179,6 @@ public class User {
      * @throws IllegalArgumentException if the password is null or empty.
      */
     public void setPassword(String password) {
-        System.out.println("Setting password: " + password);
         if (password == null || password.trim().isEmpty()) {
             throw new IllegalArgumentException("Password is required.");
         }
@@ -0,0 +1,128 @@
+package com.epam.gymapp.model.workload;
+
+import java.util.Date;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Progress of a workload reconciliation run. The job scans trainings in trainer id order and
+ * records the last trainer whose snapshots were fully published, so an interrupted run can
+ * continue from there instead of starting over.
+ */
+@Entity
+@Table(name = "reconciliation_checkpoints")
+public class ReconciliationCheckpoint {
+
+    public static final String STATUS_RUNNING = "RUNNING";
+    public static final String STATUS_COMPLETED = "COMPLETED";
+    public static final String STATUS_FAILED = "FAILED";
+
+    @Id
+    @Column(name = "job_name", length = 100)
+    private String jobName;
+
+    @Column(name = "run_id", nullable = false)
+    private String runId;
+
+    @Column(name = "last_trainer_id", nullable = false)
+    private long lastTrainerId;
+
+    @Column(nullable = false, length = 20)
+    private String status;
+
+    @Column(name = "rows_scanned", nullable = false)
+    private long rowsScanned;
+
+    @Column(name = "snapshots_published", nullable = false)
+    private long snapshotsPublished;
+
+    @Column(name = "started_at", nullable = false)
+    private Date startedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private Date updatedAt;
+
+    public ReconciliationCheckpoint() {
+    }
+
+    /**
+     * Creates the checkpoint of a new run that has not processed any trainer yet.
+     *
+     * @param jobName name of the job the checkpoint belongs to.
+     * @param runId identifier of the run, used to build deterministic snapshot event ids.
+     */
+    public ReconciliationCheckpoint(String jobName, String runId) {
+        this.jobName = jobName;
+        this.runId = runId;
+        this.status = STATUS_RUNNING;
+        this.startedAt = new Date();
+        this.updatedAt = this.startedAt;
+    }
+
+    public String getJobName() {
+        return jobName;
+    }
+
+    public String getRunId() {
+        return runId;
+    }
+
+    public long getLastTrainerId() {
+        return lastTrainerId;
+    }
+
+    public void setLastTrainerId(long lastTrainerId) {
+        this.lastTrainerId = lastTrainerId;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public long getRowsScanned() {
+        return rowsScanned;
+    }
+
+    public void setRowsScanned(long rowsScanned) {
+        this.rowsScanned = rowsScanned;
+    }
+
+    public long getSnapshotsPublished() {
+        return snapshotsPublished;
+    }
+
+    public void setSnapshotsPublished(long snapshotsPublished) {
+        this.snapshotsPublished = snapshotsPublished;
+    }
+
+    public Date getStartedAt() {
+        return startedAt;
+    }
+
+    public Date getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Date updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "ReconciliationCheckpoint{" +
+                "jobName='" + jobName + '\'' +
+                ", runId='" + runId + '\'' +
+                ", lastTrainerId=" + lastTrainerId +
+                ", status='" + status + '\'' +
+                ", rowsScanned=" + rowsScanned +
+                ", snapshotsPublished=" + snapshotsPublished +
+                '}';
+    }
+}
@@ -0,0 +1,101 @@
+package com.epam.gymapp.model.workload;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+
+/**
+ * Training minutes and sessions of a trainer in one calendar month. Rows are kept up to date
+ * by atomic increments in the transaction that writes the training, so reading a trainer's
+ * summary never touches the trainings table.
+ */
+@Entity
+@Table(name = "trainer_monthly_summary")
+public class TrainerMonthlySummary {
+
+    @EmbeddedId
+    private Key id;
+
+    @Column(nullable = false)
+    private long minutes;
+
+    @Column(nullable = false)
+    private int sessions;
+
+    public TrainerMonthlySummary() {
+    }
+
+    public TrainerMonthlySummary(Key id, long minutes, int sessions) {
+        this.id = id;
+        this.minutes = minutes;
+        this.sessions = sessions;
+    }
+
+    public Key getId() {
+        return id;
+    }
+
+    public long getMinutes() {
+        return minutes;
+    }
+
+    public int getSessions() {
+        return sessions;
+    }
+
+    /**
+     * Trainer and month of a summary row. The columns are not called year and month because
+     * those are reserved words in some databases.
+     */
+    @Embeddable
+    public static class Key implements Serializable {
+
+        @Column(name = "trainer_id", nullable = false)
+        private Long trainerId;
+
+        @Column(name = "training_year", nullable = false)
+        private Integer trainingYear;
+
+        @Column(name = "training_month", nullable = false)
+        private Integer trainingMonth;
+
+        public Key() {
+        }
+
+        public Key(Long trainerId, Integer trainingYear, Integer trainingMonth) {
+            this.trainerId = trainerId;
+            this.trainingYear = trainingYear;
+            this.trainingMonth = trainingMonth;
+        }
+
+        public Long getTrainerId() {
+            return trainerId;
+        }
+
+        public Integer getTrainingYear() {
+            return trainingYear;
+        }
+
+        public Integer getTrainingMonth() {
+            return trainingMonth;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key other)) return false;
+            return Objects.equals(trainerId, other.trainerId) && Objects.equals(trainingYear, other.trainingYear)
+                    && Objects.equals(trainingMonth, other.trainingMonth);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(trainerId, trainingYear, trainingMonth);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.epam.gymapp.model.workload;
+
+import java.time.LocalDate;
+import java.util.Date;
+
+import com.epam.gymapp.dto.ActionType;
+import com.epam.gymapp.dto.TrainerWorkloadRequest;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * A workload event that could not be delivered to the trainer workload service, kept until
+ * the next replay. It stores every field of the {@link TrainerWorkloadRequest}, including its
+ * event id, so the replayed event is the one the consumer may already have seen.
+ */
+@Entity
+@Table(name = "workload_dead_letters")
+public class WorkloadDeadLetter {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "event_id", nullable = false, length = 64)
+    private String eventId;
+
+    @Column(length = 100)
+    private String username;
+
+    @Column(name = "first_name", length = 100)
+    private String firstName;
+
+    @Column(name = "last_name", length = 100)
+    private String lastName;
+
+    @Column(name = "is_active")
+    private Boolean isActive;
+
+    @Column(name = "training_date")
+    private LocalDate trainingDate;
+
+    @Column(name = "training_duration")
+    private Integer trainingDuration;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "action_type", length = 20)
+    private ActionType actionType;
+
+    @Column(name = "parked_at", nullable = false)
+    private Date parkedAt;
+
+    public WorkloadDeadLetter() {
+    }
+
+    /**
+     * Copies an event that is being parked.
+     *
+     * @param request the event, which must already have an event id.
+     */
+    public WorkloadDeadLetter(TrainerWorkloadRequest request) {
+        this.eventId = request.getEventId();
+        this.username = request.getUsername();
+        this.firstName = request.getFirstName();
+        this.lastName = request.getLastName();
+        this.isActive = request.getIsActive();
+        this.trainingDate = request.getTrainingDate();
+        this.trainingDuration = request.getTrainingDuration();
+        this.actionType = request.getActionType();
+        this.parkedAt = new Date();
+    }
+
+    /**
+     * The parked event as it was originally published.
+     */
+    public TrainerWorkloadRequest toRequest() {
+        TrainerWorkloadRequest request = new TrainerWorkloadRequest(username, firstName, lastName, isActive,
+                trainingDate, trainingDuration, actionType);
+        request.setEventId(eventId);
+        return request;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getEventId() {
+        return eventId;
+    }
+
+    public Date getParkedAt() {
+        return parkedAt;
+    }
+}
@@ -0,0 +1,108 @@
+package com.epam.gymapp.monitoring;
+
+import com.epam.gymapp.util.TransactionContext;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Java Flight Recorder events for the application's hot paths. They cost next to nothing
+ * while no recording is running, and show up under the "GymApp" category in JDK Mission
+ * Control with their duration and the request's transaction id.
+ */
+public final class GymappJfrEvents {
+
+    private GymappJfrEvents() {
+    }
+
+    /**
+     * Common fields. {@link #finish()} ends the event and, only if a recording wants it,
+     * fills in the transaction id and commits it.
+     */
+    @Category("GymApp")
+    @StackTrace(false)
+    public abstract static class BusinessEvent extends Event {
+
+        @Label("Transaction ID")
+        public String transactionId;
+
+        @Label("Outcome")
+        public String outcome;
+
+        public final void finish(String eventOutcome) {
+            end();
+            if (shouldCommit()) {
+                outcome = eventOutcome;
+                transactionId = TransactionContext.getTransactionId();
+                commit();
+            }
+        }
+    }
+
+    @Name("com.epam.gymapp.TrainingCreation")
+    @Label("Training Creation")
+    @Description("Creation of a training, including the workload notification")
+    public static class TrainingCreation extends BusinessEvent {
+
+        @Label("Trainer")
+        public String trainer;
+
+        @Label("Trainee")
+        public String trainee;
+    }
+
+    @Name("com.epam.gymapp.ProfileRead")
+    @Label("Profile Read")
+    @Description("Assembly of a trainee or trainer profile")
+    public static class ProfileRead extends BusinessEvent {
+
+        @Label("Role")
+        public String role;
+
+        @Label("Username")
+        public String username;
+    }
+
+    @Name("com.epam.gymapp.Login")
+    @Label("Login")
+    @Description("Credential check of a login, including the password hash comparison")
+    public static class Login extends BusinessEvent {
+
+        @Label("Username")
+        public String username;
+    }
+
+    @Name("com.epam.gymapp.PasswordHash")
+    @Label("Password Hash")
+    @Description("A password encode or match by the PasswordEncoder")
+    public static class PasswordHash extends BusinessEvent {
+
+        @Label("Operation")
+        public String operation;
+    }
+
+    @Name("com.epam.gymapp.JwtVerification")
+    @Label("JWT Verification")
+    @Description("Parsing and signature check of a JWT")
+    public static class JwtVerification extends BusinessEvent {
+
+        @Label("Operation")
+        public String operation;
+    }
+
+    @Name("com.epam.gymapp.WorkloadPublish")
+    @Label("Workload Publish")
+    @Description("Hand-off of workload events to the notifier transport")
+    public static class WorkloadPublish extends BusinessEvent {
+
+        @Label("Transport")
+        public String transport;
+
+        @Label("Events")
+        public int events;
+    }
+}
@@ -0,0 +1,93 @@
+package com.epam.gymapp.monitoring;
+
+import java.util.List;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.epam.gymapp.dto.TrainingDto;
+import com.epam.gymapp.messaging.WorkloadNotifier;
+import com.epam.gymapp.monitoring.GymappJfrEvents.BusinessEvent;
+
+/**
+ * Emits the {@link GymappJfrEvents} around the hot paths they describe. The outcome is
+ * {@code success} or the simple name of the exception thrown.
+ */
+@Aspect
+@Component
+@ConditionalOnProperty(name = "monitoring.jfr.enabled", havingValue = "true", matchIfMissing = true)
+public class JfrEventAspect {
+
+    private static final String SUCCESS = "success";
+
+    @Around("execution(* com.epam.gymapp.service.TrainingService.save(com.epam.gymapp.dto.TrainingDto)) && args(training)")
+    public Object trainingCreation(ProceedingJoinPoint joinPoint, TrainingDto training) throws Throwable {
+        GymappJfrEvents.TrainingCreation event = new GymappJfrEvents.TrainingCreation();
+        event.trainer = training.getTrainerUsername();
+        event.trainee = training.getTraineeUsername();
+        return record(event, joinPoint);
+    }
+
+    @Around("execution(* com.epam.gymapp.service.TraineeService.getProfileByUsername(String)) && args(username)")
+    public Object traineeProfileRead(ProceedingJoinPoint joinPoint, String username) throws Throwable {
+        return record(profileRead("trainee", username), joinPoint);
+    }
+
+    @Around("execution(* com.epam.gymapp.service.TrainerService.getTrainerProfileByUsername(String)) && args(username)")
+    public Object trainerProfileRead(ProceedingJoinPoint joinPoint, String username) throws Throwable {
+        return record(profileRead("trainer", username), joinPoint);
+    }
+
+    @Around("execution(* com.epam.gymapp.service.UserService.authenticate(String, String)) && args(username, ..)")
+    public Object login(ProceedingJoinPoint joinPoint, String username) throws Throwable {
+        GymappJfrEvents.Login event = new GymappJfrEvents.Login();
+        event.username = username;
+        return record(event, joinPoint);
+    }
+
+    @Around("execution(* org.springframework.security.crypto.password.PasswordEncoder.*(..))")
+    public Object passwordHash(ProceedingJoinPoint joinPoint) throws Throwable {
+        GymappJfrEvents.PasswordHash event = new GymappJfrEvents.PasswordHash();
+        event.operation = joinPoint.getSignature().getName();
+        return record(event, joinPoint);
+    }
+
+    @Around("execution(* com.epam.gymapp.config.JwtUtils.validateJwtToken(..)) "
+            + "|| execution(* com.epam.gymapp.config.JwtUtils.get*FromJwt(..))")
+    public Object jwtVerification(ProceedingJoinPoint joinPoint) throws Throwable {
+        GymappJfrEvents.JwtVerification event = new GymappJfrEvents.JwtVerification();
+        event.operation = joinPoint.getSignature().getName();
+        return record(event, joinPoint);
+    }
+
+    @Around("execution(* com.epam.gymapp.messaging.WorkloadNotifier.publish*(..)) && target(notifier)")
+    public Object workloadPublish(ProceedingJoinPoint joinPoint, WorkloadNotifier notifier) throws Throwable {
+        GymappJfrEvents.WorkloadPublish event = new GymappJfrEvents.WorkloadPublish();
+        event.transport = notifier.transport();
+        event.events = joinPoint.getArgs()[0] instanceof List<?> batch ? batch.size() : 1;
+        return record(event, joinPoint);
+    }
+
+    private static GymappJfrEvents.ProfileRead profileRead(String role, String username) {
+        GymappJfrEvents.ProfileRead event = new GymappJfrEvents.ProfileRead();
+        event.role = role;
+        event.username = username;
+        return event;
+    }
+
+    private static Object record(BusinessEvent event, ProceedingJoinPoint joinPoint) throws Throwable {
+        event.begin();
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable t) {
+            event.finish(t.getClass().getSimpleName());
+            throw t;
+        }
+        event.finish(SUCCESS);
+        return result;
+    }
+}
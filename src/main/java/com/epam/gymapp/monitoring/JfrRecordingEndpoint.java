@@ -0,0 +1,196 @@
+package com.epam.gymapp.monitoring;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+
+/**
+ * {@code /actuator/jfr}: controls one Flight Recorder recording at a time, so an incident
+ * can be profiled on the running instance.
+ * <ul>
+ *   <li>{@code GET} returns the state of the current or last recording</li>
+ *   <li>{@code POST} starts a recording with a JDK settings profile ({@code default} or
+ *   {@code profile}, the default) and optional {@code maxAgeSeconds} / {@code maxSizeMb} limits</li>
+ *   <li>{@code DELETE} stops it and keeps the dump for download</li>
+ *   <li>{@code GET /current} downloads a snapshot of the running recording,
+ *   {@code GET /last} the dump of the last stopped one</li>
+ * </ul>
+ * A recording holds the environment variables and system properties of the process, so the
+ * endpoint is not exposed by default and requires {@code ROLE_ADMIN} when it is.
+ */
+@Component
+@Endpoint(id = "jfr")
+public class JfrRecordingEndpoint {
+
+    private static final Logger logger = LoggerFactory.getLogger(JfrRecordingEndpoint.class);
+    private static final String DEFAULT_SETTINGS = "profile";
+
+    // A lock rather than synchronized: dumps do file I/O, which would pin a virtual thread.
+    private final ReentrantLock lock = new ReentrantLock();
+    private Recording recording;
+    private String settings;
+    private Path lastDump;
+    private Path lastSnapshot;
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        lock.lock();
+        try {
+            Map<String, Object> status = new LinkedHashMap<>();
+            if (recording == null) {
+                status.put("state", "NONE");
+            } else {
+                status.put("name", recording.getName());
+                status.put("state", recording.getState().name());
+                status.put("settings", settings);
+                status.put("startTime", recording.getStartTime());
+                status.put("stopTime", recording.getStopTime());
+                status.put("size", recording.getSize());
+            }
+            status.put("lastDumpAvailable", lastDump != null);
+            return status;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @WriteOperation
+    public WebEndpointResponse<Map<String, Object>> start(@Nullable String settings,
+            @Nullable Long maxAgeSeconds, @Nullable Long maxSizeMb) {
+        lock.lock();
+        try {
+            if (isRunning()) {
+                return new WebEndpointResponse<>(status(), HttpStatus.CONFLICT.value());
+            }
+            String profile = settings != null ? settings : DEFAULT_SETTINGS;
+            Configuration configuration;
+            try {
+                configuration = Configuration.getConfiguration(profile);
+            } catch (IOException | ParseException e) {
+                return new WebEndpointResponse<>(Map.<String, Object>of("error", "Unknown JFR settings: " + profile),
+                        WebEndpointResponse.STATUS_BAD_REQUEST);
+            }
+            closeRecording();
+            Recording newRecording = new Recording(configuration);
+            newRecording.setName("gymapp-" + Instant.now().getEpochSecond());
+            newRecording.setToDisk(true);
+            if (maxAgeSeconds != null) newRecording.setMaxAge(Duration.ofSeconds(maxAgeSeconds));
+            if (maxSizeMb != null) newRecording.setMaxSize(maxSizeMb * 1024 * 1024);
+            newRecording.start();
+            recording = newRecording;
+            this.settings = profile;
+            logger.info("Started JFR recording {} with settings '{}'", newRecording.getName(), profile);
+            return new WebEndpointResponse<>(status());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @DeleteOperation
+    public WebEndpointResponse<Map<String, Object>> stop() throws IOException {
+        lock.lock();
+        try {
+            if (!isRunning()) {
+                return new WebEndpointResponse<>(status(), WebEndpointResponse.STATUS_NOT_FOUND);
+            }
+            recording.stop();
+            Path dump = Files.createTempFile(recording.getName() + "-", ".jfr");
+            recording.dump(dump);
+            deleteLastDump();
+            lastDump = dump;
+            logger.info("Stopped JFR recording {}, {} bytes dumped to {}", recording.getName(), Files.size(dump), dump);
+            return new WebEndpointResponse<>(status());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @param which {@code current} for a snapshot of the running recording, {@code last} for
+     * the dump of the last stopped one
+     */
+    @ReadOperation(produces = "application/octet-stream")
+    public WebEndpointResponse<Resource> download(@Selector String which) throws IOException {
+        lock.lock();
+        try {
+            Path file;
+            if ("current".equals(which) && isRunning()) {
+                // A snapshot copy; the recording keeps running.
+                file = Files.createTempFile(recording.getName() + "-snapshot-", ".jfr");
+                recording.dump(file);
+                deleteQuietly(lastSnapshot);
+                lastSnapshot = file;
+            } else if ("last".equals(which) && lastDump != null) {
+                file = lastDump;
+            } else {
+                return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+            }
+            return new WebEndpointResponse<>(new FileSystemResource(file));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        lock.lock();
+        try {
+            closeRecording();
+            deleteLastDump();
+            deleteQuietly(lastSnapshot);
+            lastSnapshot = null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean isRunning() {
+        return recording != null && recording.getState() == RecordingState.RUNNING;
+    }
+
+    private void closeRecording() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    private void deleteLastDump() {
+        deleteQuietly(lastDump);
+        lastDump = null;
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) return;
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.warn("Could not delete JFR dump {}: {}", file, e.getMessage());
+        }
+    }
+}
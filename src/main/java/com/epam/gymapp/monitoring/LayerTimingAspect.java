@@ -0,0 +1,179 @@
+package com.epam.gymapp.monitoring;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Records a latency {@link Timer} for every controller, service and Spring Data repository
+ * method, one meter name per layer so each layer has its own p99:
+ * <ul>
+ *   <li>{@code gymapp_controller_seconds}: endpoint (HTTP method and URI template), outcome, exception</li>
+ *   <li>{@code gymapp_service_seconds}: class, method, outcome, exception</li>
+ *   <li>{@code gymapp_repository_seconds}: repository, method, outcome, exception</li>
+ * </ul>
+ * All tag values come from code, never from request data, so cardinality stays bounded.
+ * Repository calls are also published through {@link RepositoryCallContext}.
+ *
+ * Timers are built once per method (or endpoint), outcome and exception and then reused, so a
+ * call costs a map lookup. SLO buckets, client-side percentiles and the percentile histogram
+ * cost memory per timer; they are only published for the layers listed in
+ * {@code monitoring.timers.histogram-layers} ({@code controller}, {@code service},
+ * {@code repository}). Other layers get plain count, total and max.
+ */
+@Aspect
+@Component
+public class LayerTimingAspect {
+
+    static final String CONTROLLER_TIMER = "gymapp_controller_seconds";
+    static final String SERVICE_TIMER = "gymapp_service_seconds";
+    static final String REPOSITORY_TIMER = "gymapp_repository_seconds";
+
+    private static final String NONE = "none";
+
+    private record TimerKey(String timer, String owner, String method, String outcome, String exception) {
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final Duration[] serviceLevelObjectives;
+    private final double[] percentiles;
+    private final boolean percentileHistogram;
+    private final Set<String> histogramTimers;
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+    public LayerTimingAspect(MeterRegistry meterRegistry,
+            @Value("${monitoring.timers.slo:10ms,50ms,100ms,250ms,500ms,1s,2s}") Duration[] serviceLevelObjectives,
+            @Value("${monitoring.timers.percentiles:0.5,0.95,0.99}") double[] percentiles,
+            @Value("${monitoring.timers.percentile-histogram:false}") boolean percentileHistogram,
+            @Value("${monitoring.timers.histogram-layers:controller}") String[] histogramLayers) {
+        this.meterRegistry = meterRegistry;
+        this.serviceLevelObjectives = serviceLevelObjectives;
+        this.percentiles = percentiles;
+        this.percentileHistogram = percentileHistogram;
+        Set<String> layers = new HashSet<>();
+        for (String layer : histogramLayers) {
+            switch (layer.trim().toLowerCase()) {
+                case "controller" -> layers.add(CONTROLLER_TIMER);
+                case "service" -> layers.add(SERVICE_TIMER);
+                case "repository" -> layers.add(REPOSITORY_TIMER);
+                case "" -> { }
+                default -> throw new IllegalArgumentException("Unknown timer layer: " + layer);
+            }
+        }
+        this.histogramTimers = Set.copyOf(layers);
+    }
+
+    @Around("within(@org.springframework.web.bind.annotation.RestController *)")
+    public Object timeController(ProceedingJoinPoint joinPoint) throws Throwable {
+        long start = System.nanoTime();
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable e) {
+            recordEndpoint(start, "ERROR", e);
+            throw e;
+        }
+        recordEndpoint(start, outcome(result), null);
+        return result;
+    }
+
+    @Around("within(@org.springframework.stereotype.Service *)")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(SERVICE_TIMER, "class", joinPoint.getSignature().getDeclaringType().getSimpleName(), joinPoint);
+    }
+
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        String repository = repositoryName(joinPoint.getThis());
+        String previous = RepositoryCallContext.enter(repository + "." + joinPoint.getSignature().getName());
+        try {
+            return time(REPOSITORY_TIMER, "repository", repository, joinPoint);
+        } finally {
+            RepositoryCallContext.exit(previous);
+        }
+    }
+
+    private Object time(String timer, String ownerTag, String owner, ProceedingJoinPoint joinPoint) throws Throwable {
+        long start = System.nanoTime();
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable e) {
+            record(timer, start, ownerTag, owner, joinPoint.getSignature().getName(), "ERROR", e);
+            throw e;
+        }
+        record(timer, start, ownerTag, owner, joinPoint.getSignature().getName(), "SUCCESS", null);
+        return result;
+    }
+
+    private void record(String timer, long start, String ownerTag, String owner, String method,
+                        String outcome, Throwable error) {
+        long elapsed = System.nanoTime() - start;
+        String exception = error == null ? NONE : error.getClass().getSimpleName();
+        timers.computeIfAbsent(new TimerKey(timer, owner, method, outcome, exception),
+                        key -> builder(timer, outcome, exception).tags(ownerTag, owner, "method", method)
+                                .register(meterRegistry))
+                .record(elapsed, TimeUnit.NANOSECONDS);
+    }
+
+    private void recordEndpoint(long start, String outcome, Throwable error) {
+        long elapsed = System.nanoTime() - start;
+        String endpoint = endpoint();
+        String exception = error == null ? NONE : error.getClass().getSimpleName();
+        timers.computeIfAbsent(new TimerKey(CONTROLLER_TIMER, endpoint, null, outcome, exception),
+                        key -> builder(CONTROLLER_TIMER, outcome, exception).tag("endpoint", endpoint)
+                                .register(meterRegistry))
+                .record(elapsed, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer.Builder builder(String timer, String outcome, String exception) {
+        Timer.Builder builder = Timer.builder(timer).tags("outcome", outcome, "exception", exception);
+        if (histogramTimers.contains(timer)) {
+            builder.serviceLevelObjectives(serviceLevelObjectives)
+                    .publishPercentiles(percentiles)
+                    .publishPercentileHistogram(percentileHistogram);
+        }
+        return builder;
+    }
+
+    private static String endpoint() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes servletAttributes)) return RequestEndpoints.UNKNOWN;
+        return RequestEndpoints.of(servletAttributes.getRequest());
+    }
+
+    private static String outcome(Object result) {
+        if (!(result instanceof ResponseEntity<?> response)) return "SUCCESS";
+        int status = response.getStatusCode().value();
+        if (status >= 500) return "SERVER_ERROR";
+        if (status >= 400) return "CLIENT_ERROR";
+        if (status >= 300) return "REDIRECTION";
+        return "SUCCESS";
+    }
+
+    /**
+     * Spring Data repositories are proxies; their first application interface names them.
+     */
+    private static String repositoryName(Object proxy) {
+        for (Class<?> type : proxy.getClass().getInterfaces()) {
+            if (type.getName().startsWith("com.epam.gymapp.")) return type.getSimpleName();
+        }
+        return proxy.getClass().getSimpleName();
+    }
+}
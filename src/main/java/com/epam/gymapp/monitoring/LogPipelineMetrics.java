@@ -0,0 +1,74 @@
+package com.epam.gymapp.monitoring;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.Appender;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Publishes the state of the asynchronous logging pipeline configured in
+ * {@code logback-spring.xml}:
+ * <ul>
+ *   <li>{@code gymapp_log_queue_events} and {@code gymapp_log_queue_remaining}, per async appender</li>
+ *   <li>{@code gymapp_log_dropped_total}, per async appender and reason ({@code discarded} above
+ *   the discarding threshold, {@code overflow} on a full non-blocking queue)</li>
+ *   <li>{@code gymapp_log_sampled_total}, events denied by the {@link SamplingTurboFilter}</li>
+ * </ul>
+ */
+@Component
+public class LogPipelineMetrics implements MeterBinder {
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext context)) return;
+
+        for (MeteredAsyncAppender appender : asyncAppenders(context).values()) {
+            String name = appender.getName();
+            Gauge.builder("gymapp_log_queue_events", appender, MeteredAsyncAppender::getNumberOfElementsInQueue)
+                    .tag("appender", name)
+                    .register(registry);
+            Gauge.builder("gymapp_log_queue_remaining", appender, MeteredAsyncAppender::getRemainingCapacity)
+                    .tag("appender", name)
+                    .register(registry);
+            FunctionCounter.builder("gymapp_log_dropped_total", appender, MeteredAsyncAppender::getDiscardedCount)
+                    .tags("appender", name, "reason", "discarded")
+                    .register(registry);
+            FunctionCounter.builder("gymapp_log_dropped_total", appender, MeteredAsyncAppender::getOverflowCount)
+                    .tags("appender", name, "reason", "overflow")
+                    .register(registry);
+        }
+
+        for (TurboFilter filter : context.getTurboFilterList()) {
+            if (filter instanceof SamplingTurboFilter sampling) {
+                FunctionCounter.builder("gymapp_log_sampled_total", sampling, SamplingTurboFilter::getSampledCount)
+                        .tag("filter", String.valueOf(sampling.getName()))
+                        .register(registry);
+            }
+        }
+    }
+
+    private static Map<String, MeteredAsyncAppender> asyncAppenders(LoggerContext context) {
+        Map<String, MeteredAsyncAppender> appenders = new LinkedHashMap<>();
+        for (Logger logger : context.getLoggerList()) {
+            Iterator<Appender<ILoggingEvent>> it = logger.iteratorForAppenders();
+            while (it.hasNext()) {
+                if (it.next() instanceof MeteredAsyncAppender appender) {
+                    appenders.putIfAbsent(appender.getName(), appender);
+                }
+            }
+        }
+        return appenders;
+    }
+}
@@ -0,0 +1,45 @@
+package com.epam.gymapp.monitoring;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+/**
+ * Logback {@link AsyncAppender} that counts the events it throws away. The base class drops
+ * discardable events (INFO and below) once the queue is above its discarding threshold and,
+ * with {@code neverBlock}, any event when the queue is full, but does so silently.
+ * The counts are exposed by {@link LogPipelineMetrics}.
+ */
+public class MeteredAsyncAppender extends AsyncAppender {
+
+    private final LongAdder discarded = new LongAdder();
+    private final LongAdder overflowed = new LongAdder();
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        // Same checks as AsyncAppenderBase.append/put, so the counts are exact unless a
+        // slot frees up between the check and the enqueue.
+        int remaining = getRemainingCapacity();
+        if (remaining < getDiscardingThreshold() && isDiscardable(event)) {
+            discarded.increment();
+        } else if (remaining == 0 && isNeverBlock()) {
+            overflowed.increment();
+        }
+        super.append(event);
+    }
+
+    /**
+     * Events dropped because the queue was above the discarding threshold.
+     */
+    public long getDiscardedCount() {
+        return discarded.sum();
+    }
+
+    /**
+     * Events dropped because the queue was full and the appender must not block.
+     */
+    public long getOverflowCount() {
+        return overflowed.sum();
+    }
+}
@@ -0,0 +1,32 @@
+package com.epam.gymapp.monitoring;
+
+/**
+ * The Spring Data repository method running on the current thread, as
+ * {@code Repository.method}, so statements can be traced back to the finder that issued them.
+ * Maintained by {@link LayerTimingAspect}.
+ */
+public final class RepositoryCallContext {
+
+    private static final ThreadLocal<String> current = new ThreadLocal<>();
+
+    private RepositoryCallContext() {
+    }
+
+    public static String current() {
+        return current.get();
+    }
+
+    static String enter(String repositoryMethod) {
+        String previous = current.get();
+        current.set(repositoryMethod);
+        return previous;
+    }
+
+    static void exit(String previous) {
+        if (previous == null) {
+            current.remove();
+        } else {
+            current.set(previous);
+        }
+    }
+}
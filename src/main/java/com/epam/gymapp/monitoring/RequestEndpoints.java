@@ -0,0 +1,25 @@
+package com.epam.gymapp.monitoring;
+
+import org.springframework.web.servlet.HandlerMapping;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Bounded-cardinality name of the endpoint that served a request.
+ */
+public final class RequestEndpoints {
+
+    public static final String UNKNOWN = "UNKNOWN";
+
+    private RequestEndpoints() {
+    }
+
+    /**
+     * HTTP method and the matched URI template, e.g. {@code GET /api/v1/trainees/{username}}.
+     * Requests no handler matched are reported as {@value #UNKNOWN} so raw paths never become tags.
+     */
+    public static String of(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern == null ? UNKNOWN : pattern);
+    }
+}
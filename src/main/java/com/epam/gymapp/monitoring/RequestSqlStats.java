@@ -0,0 +1,72 @@
+package com.epam.gymapp.monitoring;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * SQL activity of one HTTP request: statements executed, rows read or written, time spent in
+ * the driver and how often each distinct statement ran. The same prepared statement running
+ * many times within one request is the signature of an N+1 query.
+ * Instances are confined to the request thread.
+ */
+public final class RequestSqlStats {
+
+    /** Distinct statements tracked per request; further ones are only counted. */
+    static final int MAX_DISTINCT_STATEMENTS = 128;
+
+    private final Map<String, Integer> executionsBySql = new HashMap<>();
+    private int statementCount;
+    private long rowCount;
+    private long dbTimeNanos;
+
+    void recordStatement(String sql, long elapsedNanos, long rows) {
+        statementCount++;
+        rowCount += rows;
+        dbTimeNanos += elapsedNanos;
+        if (sql != null && (executionsBySql.size() < MAX_DISTINCT_STATEMENTS || executionsBySql.containsKey(sql))) {
+            executionsBySql.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    void addRows(long rows) {
+        rowCount += rows;
+    }
+
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    public long getDbTimeNanos() {
+        return dbTimeNanos;
+    }
+
+    /**
+     * The statement that ran most often, or {@code null} if none ran.
+     */
+    public Map.Entry<String, Integer> getMostRepeatedStatement() {
+        Map.Entry<String, Integer> top = null;
+        for (Map.Entry<String, Integer> entry : executionsBySql.entrySet()) {
+            if (top == null || entry.getValue() > top.getValue()) top = entry;
+        }
+        return top == null ? null : Map.entry(top.getKey(), top.getValue());
+    }
+
+    public int getMaxRepeats() {
+        Map.Entry<String, Integer> top = getMostRepeatedStatement();
+        return top == null ? 0 : top.getValue();
+    }
+
+    @Override
+    public String toString() {
+        return "RequestSqlStats{" +
+                "statements=" + statementCount +
+                ", rows=" + rowCount +
+                ", dbTimeMs=" + dbTimeNanos / 1_000_000 +
+                ", maxRepeats=" + getMaxRepeats() +
+                '}';
+    }
+}
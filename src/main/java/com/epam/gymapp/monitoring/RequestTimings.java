@@ -0,0 +1,108 @@
+package com.epam.gymapp.monitoring;
+
+import java.util.Locale;
+
+/**
+ * Time a request spent in each {@link Phase}, accumulated on the request thread while a
+ * {@code ServerTimingFilter} is active. Phases may overlap: {@code auth} includes the user
+ * lookup that is also counted under {@code db}.
+ */
+public final class RequestTimings {
+
+    public enum Phase {
+        AUTH("auth", "JWT and user lookup"),
+        DB("db", "JDBC statements"),
+        HASH("hash", "Password hashing"),
+        SERIALIZATION("ser", "Response serialization"),
+        PUBLISH("publish", "Workload publishing");
+
+        private final String metricName;
+        private final String description;
+
+        Phase(String metricName, String description) {
+            this.metricName = metricName;
+            this.description = description;
+        }
+
+        public String getMetricName() {
+            return metricName;
+        }
+    }
+
+    private static final Phase[] PHASES = Phase.values();
+    private static final ThreadLocal<RequestTimings> current = new ThreadLocal<>();
+
+    private final long[] nanos = new long[PHASES.length];
+    private final int[] counts = new int[PHASES.length];
+    private long serializationStart;
+
+    public static RequestTimings start() {
+        RequestTimings timings = new RequestTimings();
+        current.set(timings);
+        return timings;
+    }
+
+    /**
+     * Makes existing timings current again, e.g. on an async dispatch of the same request.
+     */
+    public static void resume(RequestTimings timings) {
+        current.set(timings);
+    }
+
+    public static RequestTimings current() {
+        return current.get();
+    }
+
+    public static void stop() {
+        current.remove();
+    }
+
+    public void add(Phase phase, long elapsedNanos) {
+        nanos[phase.ordinal()] += elapsedNanos;
+        counts[phase.ordinal()]++;
+    }
+
+    /**
+     * Marks the point where the response body starts being written; the time until
+     * {@link #completeSerialization(long)} is counted as serialization.
+     */
+    public void markSerializationStart() {
+        serializationStart = System.nanoTime();
+    }
+
+    public void completeSerialization(long endNanos) {
+        if (serializationStart != 0) {
+            add(Phase.SERIALIZATION, endNanos - serializationStart);
+            serializationStart = 0;
+        }
+    }
+
+    public long getNanos(Phase phase) {
+        return nanos[phase.ordinal()];
+    }
+
+    public int getCount(Phase phase) {
+        return counts[phase.ordinal()];
+    }
+
+    /**
+     * Formats the phases that ran, plus the total, as a {@code Server-Timing} header value,
+     * e.g. {@code auth;dur=1.2;desc="JWT and user lookup", db;dur=3.4;desc="JDBC statements (5)", total;dur=9.8}.
+     */
+    public String toServerTiming(long totalNanos) {
+        StringBuilder header = new StringBuilder(160);
+        for (Phase phase : PHASES) {
+            int count = counts[phase.ordinal()];
+            if (count == 0) continue;
+            header.append(phase.metricName).append(";dur=").append(millis(nanos[phase.ordinal()]))
+                    .append(";desc=\"").append(phase.description);
+            if (count > 1) header.append(" (").append(count).append(')');
+            header.append("\", ");
+        }
+        return header.append("total;dur=").append(millis(totalNanos)).toString();
+    }
+
+    static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.1f", nanos / 1_000_000.0);
+    }
+}
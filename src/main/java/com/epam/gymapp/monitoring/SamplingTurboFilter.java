@@ -0,0 +1,88 @@
+package com.epam.gymapp.monitoring;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Marker;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+
+/**
+ * Rate limits hot log lines before any event object is built. Events at {@code level} or
+ * below from loggers under {@code loggerPrefix} are allowed {@code maxPerSecond} times per
+ * second per message template; the rest are denied and counted. Up to {@code cacheSize}
+ * templates are tracked, lines beyond that are never sampled.
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+    private final ConcurrentMap<String, Window> windows = new ConcurrentHashMap<>();
+    private final LongAdder sampled = new LongAdder();
+
+    private Level level = Level.INFO;
+    private String loggerPrefix = "";
+    private int maxPerSecond = 50;
+    private int cacheSize = 512;
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level eventLevel, String format,
+            Object[] params, Throwable t) {
+        // format is null for isXxxEnabled() checks, which must keep answering truthfully
+        if (!isStarted() || format == null || eventLevel == null || eventLevel.toInt() > level.toInt()
+                || !logger.getName().startsWith(loggerPrefix)) {
+            return FilterReply.NEUTRAL;
+        }
+        Window window = windows.get(format);
+        if (window == null) {
+            if (windows.size() >= cacheSize) return FilterReply.NEUTRAL;
+            window = windows.computeIfAbsent(format, key -> new Window());
+        }
+        if (window.tryAcquire(System.currentTimeMillis() / 1000, maxPerSecond)) {
+            return FilterReply.NEUTRAL;
+        }
+        sampled.increment();
+        return FilterReply.DENY;
+    }
+
+    /**
+     * Events denied since startup.
+     */
+    public long getSampledCount() {
+        return sampled.sum();
+    }
+
+    public void setLevel(String level) {
+        this.level = Level.toLevel(level, Level.INFO);
+    }
+
+    public void setLoggerPrefix(String loggerPrefix) {
+        this.loggerPrefix = loggerPrefix;
+    }
+
+    public void setMaxPerSecond(int maxPerSecond) {
+        this.maxPerSecond = maxPerSecond;
+    }
+
+    public void setCacheSize(int cacheSize) {
+        this.cacheSize = cacheSize;
+    }
+
+    private static final class Window {
+
+        private volatile long second;
+        private final AtomicInteger count = new AtomicInteger();
+
+        boolean tryAcquire(long now, int limit) {
+            if (second != now) {
+                // Racing resets can let a few extra events through at the second boundary.
+                second = now;
+                count.set(0);
+            }
+            return count.incrementAndGet() <= limit;
+        }
+    }
+}
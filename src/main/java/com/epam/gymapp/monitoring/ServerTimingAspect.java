@@ -0,0 +1,48 @@
+package com.epam.gymapp.monitoring;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.epam.gymapp.monitoring.RequestTimings.Phase;
+
+/**
+ * Adds the time spent in authentication, password hashing and workload publishing to the
+ * current request's {@link RequestTimings}. Database time is recorded by
+ * {@link SqlStatsDataSource}, serialization by {@link ServerTimingResponseAdvice}.
+ */
+@Aspect
+@Component
+@ConditionalOnProperty(name = "monitoring.server-timing.enabled", havingValue = "true")
+public class ServerTimingAspect {
+
+    @Around("execution(* com.epam.gymapp.config.JwtUtils.validateJwtToken(..)) "
+            + "|| execution(* com.epam.gymapp.config.JwtUtils.get*FromJwt(..)) "
+            + "|| execution(* org.springframework.security.core.userdetails.UserDetailsService.loadUserByUsername(..))")
+    public Object auth(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(Phase.AUTH, joinPoint);
+    }
+
+    @Around("execution(* org.springframework.security.crypto.password.PasswordEncoder.*(..))")
+    public Object hash(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(Phase.HASH, joinPoint);
+    }
+
+    @Around("execution(* com.epam.gymapp.messaging.WorkloadNotifier.publish*(..))")
+    public Object publish(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(Phase.PUBLISH, joinPoint);
+    }
+
+    private static Object time(Phase phase, ProceedingJoinPoint joinPoint) throws Throwable {
+        RequestTimings timings = RequestTimings.current();
+        if (timings == null) return joinPoint.proceed();
+        long start = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            timings.add(phase, System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package com.epam.gymapp.monitoring;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.epam.gymapp.util.TransactionContext;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Bounded ring buffer of the most recent statements slower than
+ * {@code monitoring.slow-query.threshold}, with their bind values, the repository method that
+ * issued them and the transaction id. The execution plan is captured afterwards on a
+ * background thread, on a separate connection of the unwrapped DataSource, with plain
+ * {@code EXPLAIN} inside a rolled back transaction. {@code EXPLAIN (ANALYZE, BUFFERS)} runs
+ * the statement again, so it is used for PostgreSQL reads only when
+ * {@code monitoring.slow-query.explain-analyze} is set. Plans are skipped when the explain
+ * queue is full.
+ * <p>
+ * Bind values hold usernames and password hashes, so they are only kept when
+ * {@code monitoring.slow-query.capture-binds} is set, and bcrypt hashes are masked even then.
+ * Without binds, parameterized statements are not explained. Exposed to admins through
+ * {@code /actuator/slowqueries}.
+ */
+@Component
+@ConditionalOnProperty(name = "monitoring.slow-query.enabled", havingValue = "true", matchIfMissing = true)
+public class SlowQueryLog {
+
+    /**
+     * One slow statement. {@code plan} stays null until the explain has run.
+     */
+    public record SlowQuery(long id, Instant timestamp, double elapsedMs, String sql, List<String> binds,
+            String repositoryMethod, String transactionId, String plan) {
+
+        SlowQuery withPlan(String capturedPlan) {
+            return new SlowQuery(id, timestamp, elapsedMs, sql, binds, repositoryMethod, transactionId, capturedPlan);
+        }
+    }
+
+    private static final Logger logger = LoggerFactory.getLogger(SlowQueryLog.class);
+    private static final int MAX_BIND_LENGTH = 100;
+    private static final Pattern BCRYPT_HASH = Pattern.compile("\\$2[abxy]?\\$\\d{2}\\$.{53}");
+
+    private final long thresholdNanos;
+    private final int capacity;
+    private final boolean captureBinds;
+    private final boolean explain;
+    private final boolean explainAnalyze;
+    private final Deque<SlowQuery> entries;
+    private final AtomicLong ids = new AtomicLong();
+    private final ThreadPoolExecutor explainExecutor;
+
+    public SlowQueryLog(@Value("${monitoring.slow-query.threshold:200ms}") Duration threshold,
+            @Value("${monitoring.slow-query.capacity:100}") int capacity,
+            @Value("${monitoring.slow-query.capture-binds:false}") boolean captureBinds,
+            @Value("${monitoring.slow-query.explain:true}") boolean explain,
+            @Value("${monitoring.slow-query.explain-analyze:false}") boolean explainAnalyze) {
+        this.thresholdNanos = threshold.toNanos();
+        this.capacity = capacity;
+        this.captureBinds = captureBinds;
+        this.explain = explain;
+        this.explainAnalyze = explainAnalyze;
+        this.entries = new ArrayDeque<>(capacity);
+        this.explainExecutor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(capacity), runnable -> {
+                    Thread thread = new Thread(runnable, "slow-query-explain");
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.DiscardPolicy());
+    }
+
+    public long getThresholdNanos() {
+        return thresholdNanos;
+    }
+
+    /**
+     * Whether statements should keep their bind values for this log.
+     */
+    public boolean isCaptureBinds() {
+        return captureBinds;
+    }
+
+    /**
+     * Records a slow statement and queues its explain.
+     *
+     * @param dataSource the unwrapped DataSource, so the explain itself is not recorded
+     * @param binds bind values by parameter position, empty unless {@link #isCaptureBinds()}
+     */
+    public void record(DataSource dataSource, String sql, Object[] binds, long elapsedNanos) {
+        if (sql == null) return;
+        SlowQuery query = new SlowQuery(ids.incrementAndGet(), Instant.now(), elapsedNanos / 1_000_000.0, sql,
+                formatBinds(binds), RepositoryCallContext.current(), TransactionContext.getTransactionId(), null);
+        synchronized (entries) {
+            if (entries.size() == capacity) entries.removeFirst();
+            entries.addLast(query);
+        }
+        logger.warn("Slow query ({} ms) from {}: {}", String.format(Locale.ROOT, "%.1f", query.elapsedMs()),
+                query.repositoryMethod(), sql);
+        if (explain) {
+            explainExecutor.execute(TransactionContext.wrap(() -> capturePlan(dataSource, query.id(), sql, binds)));
+        }
+    }
+
+    /**
+     * Recorded statements, oldest first.
+     */
+    public List<SlowQuery> getEntries() {
+        synchronized (entries) {
+            return new ArrayList<>(entries);
+        }
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        explainExecutor.shutdownNow();
+    }
+
+    private void capturePlan(DataSource dataSource, long id, String sql, Object[] binds) {
+        String plan;
+        try {
+            plan = explain(dataSource, sql, binds, explainAnalyze);
+        } catch (SQLException | RuntimeException e) {
+            plan = "EXPLAIN failed: " + e.getMessage();
+        }
+        String capturedPlan = plan;
+        synchronized (entries) {
+            List<SlowQuery> updated = new ArrayList<>(entries.size());
+            for (SlowQuery entry : entries) {
+                updated.add(entry.id() == id ? entry.withPlan(capturedPlan) : entry);
+            }
+            entries.clear();
+            entries.addAll(updated);
+        }
+    }
+
+    static String explain(DataSource dataSource, String sql, Object[] binds, boolean analyze) throws SQLException {
+        String statement = sql.stripLeading().toLowerCase(Locale.ROOT);
+        boolean query = statement.startsWith("select") || statement.startsWith("with");
+        boolean write = statement.startsWith("insert") || statement.startsWith("update")
+                || statement.startsWith("delete") || statement.startsWith("merge");
+        if (!query && !write) return "Not explained: not a query or DML statement";
+        if (binds.length == 0 && sql.indexOf('?') >= 0) return "Not explained: bind capture is disabled";
+
+        try (Connection connection = dataSource.getConnection()) {
+            String product = connection.getMetaData().getDatabaseProductName();
+            String prefix;
+            if ("PostgreSQL".equalsIgnoreCase(product)) {
+                // ANALYZE runs the statement again, so only for reads and only when asked for.
+                prefix = analyze && query ? "EXPLAIN (ANALYZE, BUFFERS) " : "EXPLAIN ";
+            } else if ("H2".equalsIgnoreCase(product)) {
+                prefix = "EXPLAIN ";
+            } else {
+                return "Not explained: unsupported database " + product;
+            }
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try (PreparedStatement explainStatement = connection.prepareStatement(prefix + sql)) {
+                for (int i = 0; i < binds.length; i++) {
+                    explainStatement.setObject(i + 1, binds[i]);
+                }
+                StringBuilder plan = new StringBuilder();
+                try (ResultSet rows = explainStatement.executeQuery()) {
+                    while (rows.next()) {
+                        if (plan.length() > 0) plan.append('\n');
+                        plan.append(rows.getString(1));
+                    }
+                }
+                return plan.toString();
+            } finally {
+                connection.rollback();
+                connection.setAutoCommit(autoCommit);
+            }
+        }
+    }
+
+    private List<String> formatBinds(Object[] binds) {
+        List<String> formatted = new ArrayList<>(binds.length);
+        for (Object bind : binds) {
+            if (bind == null) {
+                formatted.add("NULL");
+            } else if (bind instanceof byte[] bytes) {
+                formatted.add("<" + bytes.length + " bytes>");
+            } else if (bind instanceof CharSequence text && BCRYPT_HASH.matcher(text).matches()) {
+                formatted.add("'<hash>'");
+            } else {
+                String value = bind instanceof CharSequence ? "'" + bind + "'" : bind.toString();
+                formatted.add(value.length() > MAX_BIND_LENGTH ? value.substring(0, MAX_BIND_LENGTH) + "..." : value);
+            }
+        }
+        return formatted;
+    }
+}
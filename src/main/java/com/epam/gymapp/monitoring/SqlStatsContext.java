@@ -0,0 +1,29 @@
+package com.epam.gymapp.monitoring;
+
+/**
+ * Holds the {@link RequestSqlStats} of the request running on the current thread. Statements
+ * executed while no stats are active (background jobs, startup) are not recorded.
+ */
+public final class SqlStatsContext {
+
+    private static final ThreadLocal<RequestSqlStats> current = new ThreadLocal<>();
+
+    private SqlStatsContext() {
+    }
+
+    public static RequestSqlStats start() {
+        RequestSqlStats stats = new RequestSqlStats();
+        current.set(stats);
+        return stats;
+    }
+
+    public static RequestSqlStats current() {
+        return current.get();
+    }
+
+    public static RequestSqlStats stop() {
+        RequestSqlStats stats = current.get();
+        current.remove();
+        return stats;
+    }
+}
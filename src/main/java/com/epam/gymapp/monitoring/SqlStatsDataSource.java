@@ -0,0 +1,204 @@
+package com.epam.gymapp.monitoring;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * DataSource wrapper that records every statement executed through it into the
+ * {@link RequestSqlStats} of the current request, and its driver time into the request's
+ * {@link RequestTimings} when Server-Timing is on. Working at the JDBC level covers Hibernate
+ * as well as {@code JdbcTemplate} queries. Outside a request each call costs two thread-local
+ * lookups. With a {@link SlowQueryLog} every statement is timed and statements over the log's
+ * threshold are handed to it, in or outside a request. Bind values are only kept when the log
+ * captures them.
+ */
+public class SqlStatsDataSource extends DelegatingDataSource {
+
+    private static final ClassLoader CLASS_LOADER = SqlStatsDataSource.class.getClassLoader();
+
+    private final SlowQueryLog slowQueryLog;
+
+    public SqlStatsDataSource(DataSource targetDataSource) {
+        this(targetDataSource, null);
+    }
+
+    public SqlStatsDataSource(DataSource targetDataSource, SlowQueryLog slowQueryLog) {
+        super(targetDataSource);
+        this.slowQueryLog = slowQueryLog;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+
+    private Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(CLASS_LOADER, new Class<?>[] {Connection.class},
+                new ConnectionHandler(connection));
+    }
+
+    private static Object invokeTarget(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private static Object identityMethod(Object proxy, Method method, Object[] args) {
+        return switch (method.getName()) {
+            case "equals" -> proxy == args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            default -> null;
+        };
+    }
+
+    private final class ConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+
+        ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object identity = identityMethod(proxy, method, args);
+            if (identity != null) return identity;
+            Object result = invokeTarget(target, method, args);
+            return switch (method.getName()) {
+                case "prepareStatement" -> wrapStatement(result, PreparedStatement.class, (String) args[0]);
+                case "prepareCall" -> wrapStatement(result, CallableStatement.class, (String) args[0]);
+                case "createStatement" -> wrapStatement(result, Statement.class, null);
+                default -> result;
+            };
+        }
+
+        private Object wrapStatement(Object statement, Class<?> type, String sql) {
+            return Proxy.newProxyInstance(CLASS_LOADER, new Class<?>[] {type}, new StatementHandler(statement, sql));
+        }
+    }
+
+    private final class StatementHandler implements InvocationHandler {
+
+        private final Object target;
+        private final String preparedSql;
+        private Object[] binds;
+        private int bindCount;
+
+        StatementHandler(Object target, String preparedSql) {
+            this.target = target;
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object identity = identityMethod(proxy, method, args);
+            if (identity != null) return identity;
+            String name = method.getName();
+            RequestSqlStats stats = SqlStatsContext.current();
+            RequestTimings timings = RequestTimings.current();
+            if (stats == null && timings == null && slowQueryLog == null) return invokeTarget(target, method, args);
+
+            if (slowQueryLog != null && slowQueryLog.isCaptureBinds() && preparedSql != null) captureBind(name, args);
+            if (name.startsWith("execute")) {
+                long start = System.nanoTime();
+                Object result = invokeTarget(target, method, args);
+                long elapsed = System.nanoTime() - start;
+                if (stats != null) stats.recordStatement(sql(args), elapsed, affectedRows(result));
+                if (timings != null) timings.add(RequestTimings.Phase.DB, elapsed);
+                if (slowQueryLog != null && elapsed >= slowQueryLog.getThresholdNanos()) {
+                    slowQueryLog.record(getTargetDataSource(), sql(args),
+                            binds == null ? new Object[0] : Arrays.copyOf(binds, bindCount), elapsed);
+                }
+                return stats != null && result instanceof ResultSet resultSet ? wrapResultSet(resultSet) : result;
+            }
+            Object result = invokeTarget(target, method, args);
+            if (stats != null && "getResultSet".equals(name) && result instanceof ResultSet resultSet) {
+                return wrapResultSet(resultSet);
+            }
+            return result;
+        }
+
+        /**
+         * Keeps the values of {@code setXxx(index, value, ...)} calls, indexed like JDBC.
+         */
+        private void captureBind(String name, Object[] args) {
+            if ("clearParameters".equals(name)) {
+                binds = null;
+                bindCount = 0;
+            } else if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index
+                    && index > 0) {
+                if (binds == null || binds.length < index) {
+                    Object[] grown = new Object[Math.max(index, binds == null ? 4 : binds.length * 2)];
+                    if (binds != null) System.arraycopy(binds, 0, grown, 0, binds.length);
+                    binds = grown;
+                }
+                binds[index - 1] = name.equals("setNull") ? null : args[1];
+                bindCount = Math.max(bindCount, index);
+            }
+        }
+
+        private String sql(Object[] args) {
+            if (preparedSql != null) return preparedSql;
+            if (args != null && args.length > 0 && args[0] instanceof String sql) return sql;
+            return null;
+        }
+
+        private static long affectedRows(Object result) {
+            if (result instanceof Integer count) return Math.max(0, count);
+            if (result instanceof Long count) return Math.max(0, count);
+            long total = 0;
+            if (result instanceof int[] counts) {
+                for (int count : counts) total += Math.max(0, count);
+            } else if (result instanceof long[] counts) {
+                for (long count : counts) total += Math.max(0, count);
+            }
+            return total;
+        }
+
+        private static Object wrapResultSet(ResultSet resultSet) {
+            return Proxy.newProxyInstance(CLASS_LOADER, new Class<?>[] {ResultSet.class},
+                    new ResultSetHandler(resultSet));
+        }
+    }
+
+    private static final class ResultSetHandler implements InvocationHandler {
+
+        private final ResultSet target;
+
+        ResultSetHandler(ResultSet target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object identity = identityMethod(proxy, method, args);
+            if (identity != null) return identity;
+            Object result = invokeTarget(target, method, args);
+            if (Boolean.TRUE.equals(result) && "next".equals(method.getName())) {
+                RequestSqlStats stats = SqlStatsContext.current();
+                if (stats != null) stats.addRows(1);
+            }
+            return result;
+        }
+    }
+}
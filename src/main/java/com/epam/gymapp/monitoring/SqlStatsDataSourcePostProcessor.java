@@ -0,0 +1,32 @@
+package com.epam.gymapp.monitoring;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Wraps the application DataSource in a {@link SqlStatsDataSource}, feeding the
+ * {@link SlowQueryLog} when one is configured.
+ * Disable with {@code monitoring.sql.enabled=false}.
+ */
+@Component
+@ConditionalOnProperty(name = "monitoring.sql.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlStatsDataSourcePostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<SlowQueryLog> slowQueryLog;
+
+    public SqlStatsDataSourcePostProcessor(ObjectProvider<SlowQueryLog> slowQueryLog) {
+        this.slowQueryLog = slowQueryLog;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof SqlStatsDataSource)) {
+            return new SqlStatsDataSource(dataSource, slowQueryLog.getIfAvailable());
+        }
+        return bean;
+    }
+}
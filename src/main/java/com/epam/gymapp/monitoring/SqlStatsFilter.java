@@ -0,0 +1,116 @@
+package com.epam.gymapp.monitoring;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.epam.gymapp.util.TransactionContext;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Collects the SQL activity of each request and, once it completes:
+ * <ul>
+ *   <li>records per-endpoint distributions of statements ({@code gymapp_request_sql_statements}),
+ *   rows ({@code gymapp_request_sql_rows}) and driver time ({@code gymapp_request_sql_seconds})</li>
+ *   <li>logs requests above {@code monitoring.sql.log-threshold} statements, and requests that ran
+ *   the same statement {@code monitoring.sql.repeat-threshold} times or more (likely N+1)</li>
+ *   <li>stores the stats in the {@link SqlStatsRegistry} under the request's transaction id</li>
+ * </ul>
+ * Runs inside {@code TransactionIdFilter}, so the transaction id is already set. Meters are
+ * registered once per endpoint and kept, so a request costs a map lookup.
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+@ConditionalOnProperty(name = "monitoring.sql.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlStatsFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(SqlStatsFilter.class);
+
+    private record EndpointMeters(DistributionSummary statements, DistributionSummary rows, Timer dbTime) {
+    }
+
+    private final SqlStatsRegistry registry;
+    private final MeterRegistry meterRegistry;
+    private final int logThreshold;
+    private final int repeatThreshold;
+    private final Map<String, EndpointMeters> endpointMeters = new ConcurrentHashMap<>();
+    private final Map<String, Counter> repeatedCounters = new ConcurrentHashMap<>();
+
+    public SqlStatsFilter(SqlStatsRegistry registry, MeterRegistry meterRegistry,
+            @Value("${monitoring.sql.log-threshold:20}") int logThreshold,
+            @Value("${monitoring.sql.repeat-threshold:5}") int repeatThreshold) {
+        this.registry = registry;
+        this.meterRegistry = meterRegistry;
+        this.logThreshold = logThreshold;
+        this.repeatThreshold = repeatThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlStatsContext.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestSqlStats stats = SqlStatsContext.stop();
+            complete(RequestEndpoints.of(request), TransactionContext.getTransactionId(), stats);
+        }
+    }
+
+    private void complete(String endpoint, String transactionId, RequestSqlStats stats) {
+        EndpointMeters meters = endpointMeters.computeIfAbsent(endpoint, this::registerMeters);
+        meters.statements().record(stats.getStatementCount());
+        meters.rows().record(stats.getRowCount());
+        meters.dbTime().record(stats.getDbTimeNanos(), TimeUnit.NANOSECONDS);
+
+        Map.Entry<String, Integer> mostRepeated = stats.getMostRepeatedStatement();
+        boolean repeated = mostRepeated != null && mostRepeated.getValue() >= repeatThreshold;
+        if (repeated) {
+            repeatedCounters.computeIfAbsent(endpoint, key -> Counter.builder("gymapp_request_sql_repeated_total")
+                            .tag("endpoint", key)
+                            .register(meterRegistry))
+                    .increment();
+            logger.warn("Possible N+1 in {} [{}]: statement ran {} times: {}",
+                    endpoint, transactionId, mostRepeated.getValue(), mostRepeated.getKey());
+        }
+        if (stats.getStatementCount() > logThreshold) {
+            logger.warn("{} [{}] executed {}", endpoint, transactionId, stats);
+        }
+        if (transactionId != null) {
+            registry.record(transactionId, stats);
+        }
+    }
+
+    private EndpointMeters registerMeters(String endpoint) {
+        return new EndpointMeters(
+                DistributionSummary.builder("gymapp_request_sql_statements")
+                        .tag("endpoint", endpoint)
+                        .serviceLevelObjectives(1, 2, 5, 10, 20, 50)
+                        .publishPercentiles(0.5, 0.95, 0.99)
+                        .register(meterRegistry),
+                DistributionSummary.builder("gymapp_request_sql_rows")
+                        .tag("endpoint", endpoint)
+                        .register(meterRegistry),
+                Timer.builder("gymapp_request_sql_seconds")
+                        .tag("endpoint", endpoint)
+                        .register(meterRegistry));
+    }
+}
@@ -0,0 +1,35 @@
+package com.epam.gymapp.monitoring;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the SQL stats of the most recent requests by transaction id, so tests and operators
+ * can look up what a given request did.
+ */
+@Component
+public class SqlStatsRegistry {
+
+    private final Map<String, RequestSqlStats> recent;
+
+    public SqlStatsRegistry(@Value("${monitoring.sql.recent-requests:1000}") int capacity) {
+        this.recent = new LinkedHashMap<>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, RequestSqlStats> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    public synchronized void record(String transactionId, RequestSqlStats stats) {
+        recent.put(transactionId, stats);
+    }
+
+    public synchronized Optional<RequestSqlStats> find(String transactionId) {
+        return Optional.ofNullable(recent.get(transactionId));
+    }
+}
@@ -0,0 +1,194 @@
+package com.epam.gymapp.repository;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+
+import com.epam.gymapp.dto.TraineeDto;
+import com.epam.gymapp.dto.TraineeProfileDto;
+import com.epam.gymapp.dto.TrainerDto;
+import com.epam.gymapp.dto.TrainerProfileDto;
+import com.epam.gymapp.dto.TrainingDto;
+
+import io.r2dbc.spi.Readable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Read-only queries over R2DBC for the reactive API. Rows are mapped straight to the DTOs
+ * the MVC endpoints return, and {@link Flux} results are pulled from the driver as the
+ * subscriber requests them, so a slow client slows the query down instead of buffering.
+ */
+@Repository
+@ConditionalOnProperty(name = "reactive.r2dbc.url")
+public class ReactiveReadRepository {
+
+    private static final String TRAINING_COLUMNS =
+            "SELECT t.training_name, t.training_date, tt.name AS training_type, t.training_duration "
+            + "FROM trainings t "
+            + "JOIN trainees te ON te.trainee_id = t.trainee_id "
+            + "JOIN users eu ON eu.user_id = te.user_id "
+            + "JOIN trainers tr ON tr.trainer_id = t.trainer_id "
+            + "JOIN users ru ON ru.user_id = tr.user_id "
+            + "JOIN training_types tt ON tt.id = t.training_type_id ";
+
+    private final DatabaseClient databaseClient;
+
+    public ReactiveReadRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    /**
+     * Trainings of a trainee, oldest first, with the same optional filters as
+     * {@code GET /api/v1/trainees/{username}/trainings}.
+     */
+    public Flux<TrainingDto> findTraineeTrainings(String traineeUsername, LocalDate from, LocalDate to,
+            String trainerName, String trainingType) {
+        Map<String, Object> params = new LinkedHashMap<>();
+        StringBuilder sql = new StringBuilder(TRAINING_COLUMNS).append("WHERE eu.username = :username");
+        params.put("username", traineeUsername);
+        appendPeriod(sql, params, from, to);
+        appendContains(sql, params, "ru.username", "trainerName", trainerName);
+        appendContains(sql, params, "tt.name", "trainingType", trainingType);
+        return queryTrainings(sql, params);
+    }
+
+    /**
+     * Trainings of a trainer, oldest first, with the same optional filters as
+     * {@code GET /api/v1/trainers/{username}/trainings}.
+     */
+    public Flux<TrainingDto> findTrainerTrainings(String trainerUsername, LocalDate from, LocalDate to,
+            String traineeName) {
+        Map<String, Object> params = new LinkedHashMap<>();
+        StringBuilder sql = new StringBuilder(TRAINING_COLUMNS).append("WHERE ru.username = :username");
+        params.put("username", trainerUsername);
+        appendPeriod(sql, params, from, to);
+        appendContains(sql, params, "eu.username", "traineeName", traineeName);
+        return queryTrainings(sql, params);
+    }
+
+    public Mono<TraineeProfileDto> findTraineeProfile(String username) {
+        Mono<TraineeProfileDto> profile = databaseClient.sql(
+                "SELECT u.first_name, u.last_name, u.is_active, te.date_of_birth, te.address "
+                + "FROM trainees te JOIN users u ON u.user_id = te.user_id WHERE u.username = :username")
+                .bind("username", username)
+                .map(row -> {
+                    TraineeProfileDto dto = new TraineeProfileDto();
+                    dto.setFirstName(row.get("first_name", String.class));
+                    dto.setLastName(row.get("last_name", String.class));
+                    dto.setActive(Boolean.TRUE.equals(row.get("is_active", Boolean.class)));
+                    dto.setDateOfBirth(row.get("date_of_birth", LocalDate.class));
+                    dto.setAddress(row.get("address", String.class));
+                    return dto;
+                })
+                .one();
+        Flux<TrainerDto> trainers = databaseClient.sql(
+                "SELECT ru.username, ru.first_name, ru.last_name, tt.name AS specialization "
+                + "FROM trainee_trainer assignment "
+                + "JOIN trainees te ON te.trainee_id = assignment.trainee_id "
+                + "JOIN users eu ON eu.user_id = te.user_id "
+                + "JOIN trainers tr ON tr.trainer_id = assignment.trainer_id "
+                + "JOIN users ru ON ru.user_id = tr.user_id "
+                + "LEFT JOIN training_types tt ON tt.id = tr.specialization_id "
+                + "WHERE eu.username = :username ORDER BY ru.username")
+                .bind("username", username)
+                .map(ReactiveReadRepository::trainer)
+                .all();
+        return profile.zipWith(trainers.collectList(), (dto, list) -> {
+            dto.setTrainers(list);
+            return dto;
+        });
+    }
+
+    public Mono<TrainerProfileDto> findTrainerProfile(String username) {
+        Mono<TrainerProfileDto> profile = databaseClient.sql(
+                "SELECT u.username, u.first_name, u.last_name, u.is_active, tt.name AS specialization "
+                + "FROM trainers tr JOIN users u ON u.user_id = tr.user_id "
+                + "LEFT JOIN training_types tt ON tt.id = tr.specialization_id WHERE u.username = :username")
+                .bind("username", username)
+                .map(row -> {
+                    TrainerProfileDto dto = new TrainerProfileDto(row.get("username", String.class),
+                            row.get("first_name", String.class), row.get("last_name", String.class),
+                            row.get("specialization", String.class));
+                    dto.setIsActive(row.get("is_active", Boolean.class));
+                    return dto;
+                })
+                .one();
+        Flux<TraineeDto> trainees = databaseClient.sql(
+                "SELECT eu.username, eu.first_name, eu.last_name "
+                + "FROM trainee_trainer assignment "
+                + "JOIN trainers tr ON tr.trainer_id = assignment.trainer_id "
+                + "JOIN users ru ON ru.user_id = tr.user_id "
+                + "JOIN trainees te ON te.trainee_id = assignment.trainee_id "
+                + "JOIN users eu ON eu.user_id = te.user_id "
+                + "WHERE ru.username = :username ORDER BY eu.username")
+                .bind("username", username)
+                .map(row -> {
+                    TraineeDto dto = new TraineeDto();
+                    dto.setUsername(row.get("username", String.class));
+                    dto.setFirstName(row.get("first_name", String.class));
+                    dto.setLastName(row.get("last_name", String.class));
+                    return dto;
+                })
+                .all();
+        return profile.zipWith(trainees.collectList(), (dto, list) -> {
+            dto.setTrainees(list);
+            return dto;
+        });
+    }
+
+    /**
+     * Trainer directory ordered by username.
+     */
+    public Flux<TrainerDto> findTrainers(boolean activeOnly) {
+        String sql = "SELECT u.username, u.first_name, u.last_name, tt.name AS specialization "
+                + "FROM trainers tr JOIN users u ON u.user_id = tr.user_id "
+                + "LEFT JOIN training_types tt ON tt.id = tr.specialization_id "
+                + (activeOnly ? "WHERE u.is_active = TRUE " : "")
+                + "ORDER BY u.username";
+        return databaseClient.sql(sql).map(ReactiveReadRepository::trainer).all();
+    }
+
+    private Flux<TrainingDto> queryTrainings(StringBuilder sql, Map<String, Object> params) {
+        sql.append(" ORDER BY t.training_date, t.id");
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql.toString());
+        for (Map.Entry<String, Object> param : params.entrySet()) {
+            spec = spec.bind(param.getKey(), param.getValue());
+        }
+        return spec.map(ReactiveReadRepository::training).all();
+    }
+
+    private static void appendPeriod(StringBuilder sql, Map<String, Object> params, LocalDate from, LocalDate to) {
+        if (from != null) {
+            sql.append(" AND t.training_date >= :from");
+            params.put("from", from);
+        }
+        if (to != null) {
+            sql.append(" AND t.training_date <= :to");
+            params.put("to", to);
+        }
+    }
+
+    private static void appendContains(StringBuilder sql, Map<String, Object> params, String column, String name,
+            String value) {
+        if (value != null && !value.isEmpty()) {
+            sql.append(" AND ").append(column).append(" LIKE :").append(name);
+            params.put(name, "%" + value + "%");
+        }
+    }
+
+    private static TrainingDto training(Readable row) {
+        LocalDate date = row.get("training_date", LocalDate.class);
+        return new TrainingDto(row.get("training_name", String.class), date == null ? null : java.sql.Date.valueOf(date),
+                row.get("training_type", String.class), row.get("training_duration", Integer.class));
+    }
+
+    private static TrainerDto trainer(Readable row) {
+        return new TrainerDto(row.get("username", String.class), row.get("first_name", String.class),
+                row.get("last_name", String.class), row.get("specialization", String.class));
+    }
+}
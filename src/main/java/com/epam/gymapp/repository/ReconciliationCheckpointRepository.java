@@ -0,0 +1,13 @@
+package com.epam.gymapp.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.epam.gymapp.model.workload.ReconciliationCheckpoint;
+
+/**
+ * Repository for the checkpoints of the workload reconciliation job, keyed by job name.
+ */
+@Repository
+public interface ReconciliationCheckpointRepository extends JpaRepository<ReconciliationCheckpoint, String> {
+}
@@ -0,0 +1,11 @@
+package com.epam.gymapp.repository;
+
+/**
+ * A trainer or trainee id with the username of its user.
+ */
+public interface RoleUsername {
+
+    Long getId();
+
+    String getUsername();
+}
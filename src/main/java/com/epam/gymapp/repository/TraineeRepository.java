@@ -2,12 +2,21 @@ package com.epam.gymapp.repository;
 
 
 import java.lang.StackWalker.Option;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import com.epam.gymapp.model.trainee.Trainee;
 
+import jakarta.persistence.QueryHint;
+
 
 /**
  * Repository interface for managing Trainee entities.
@@ -26,6 +35,54 @@ public interface TraineeRepository extends JpaRepository<Trainee, Long> {
      * @return The Trainee object if found, or an empty Optional if not found.
      */
     Optional<Trainee> findByUserUsername(String username);
-    
+
+    @Query("SELECT t.id FROM Trainee t WHERE t.user.username = :username")
+    Optional<Long> findIdByUserUsername(@Param("username") String username);
+
+    @Query("SELECT t.id AS id, t.user.username AS username FROM Trainee t WHERE t.id IN :ids")
+    List<RoleUsername> findUsernamesByIds(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT t.user.id FROM Trainee t WHERE t.id = :traineeId")
+    Long findUserIdById(@Param("traineeId") Long traineeId);
+
+    /**
+     * Ids of the trainers currently assigned to a trainee, read from the join table.
+     */
+    @Query(value = "SELECT trainer_id FROM trainee_trainer WHERE trainee_id = :traineeId", nativeQuery = true)
+    List<Long> findTrainerIds(@Param("traineeId") Long traineeId);
+
+    /**
+     * Assigns trainers to a trainee in one statement, skipping pairs that already exist.
+     *
+     * @return the number of rows inserted
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "trainee_trainer"))
+    @Query(value = "INSERT INTO trainee_trainer (trainee_id, trainer_id) "
+            + "SELECT :traineeId, t.trainer_id FROM trainers t WHERE t.trainer_id IN (:trainerIds) "
+            + "AND NOT EXISTS (SELECT 1 FROM trainee_trainer tt "
+            + "WHERE tt.trainee_id = :traineeId AND tt.trainer_id = t.trainer_id)", nativeQuery = true)
+    int addTrainers(@Param("traineeId") Long traineeId, @Param("trainerIds") Collection<Long> trainerIds);
+
+    /**
+     * Unassigns trainers from a trainee in one statement.
+     *
+     * @return the number of rows deleted
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "trainee_trainer"))
+    @Query(value = "DELETE FROM trainee_trainer WHERE trainee_id = :traineeId AND trainer_id IN (:trainerIds)",
+            nativeQuery = true)
+    int removeTrainers(@Param("traineeId") Long traineeId, @Param("trainerIds") Collection<Long> trainerIds);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "trainee_trainer"))
+    @Query(value = "DELETE FROM trainee_trainer WHERE trainee_id = :traineeId", nativeQuery = true)
+    int removeAllTrainers(@Param("traineeId") Long traineeId);
+
+    @Modifying
+    @Query("DELETE FROM Trainee t WHERE t.id = :traineeId")
+    int deleteTraineeById(@Param("traineeId") Long traineeId);
+
 }
 
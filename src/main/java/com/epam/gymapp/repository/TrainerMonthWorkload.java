@@ -0,0 +1,25 @@
+package com.epam.gymapp.repository;
+
+/**
+ * Minutes and sessions of training per trainer and month, aggregated in the database.
+ */
+public interface TrainerMonthWorkload {
+
+    Long getTrainerId();
+
+    String getUsername();
+
+    String getFirstName();
+
+    String getLastName();
+
+    Boolean getActive();
+
+    Integer getTrainingYear();
+
+    Integer getTrainingMonth();
+
+    Long getMinutes();
+
+    Long getSessions();
+}
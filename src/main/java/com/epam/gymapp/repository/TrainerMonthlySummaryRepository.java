@@ -0,0 +1,27 @@
+package com.epam.gymapp.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.epam.gymapp.model.workload.TrainerMonthlySummary;
+
+/**
+ * Repository for the per trainer and month training totals.
+ */
+@Repository
+public interface TrainerMonthlySummaryRepository
+        extends JpaRepository<TrainerMonthlySummary, TrainerMonthlySummary.Key>, TrainerMonthlySummaryWriter {
+
+    /**
+     * Months of a trainer within a range of years, oldest first. Reads one row per month.
+     */
+    @Query("SELECT s FROM TrainerMonthlySummary s WHERE s.id.trainerId = :trainerId "
+            + "AND s.id.trainingYear BETWEEN :fromYear AND :toYear "
+            + "ORDER BY s.id.trainingYear, s.id.trainingMonth")
+    List<TrainerMonthlySummary> findByTrainerAndYears(@Param("trainerId") Long trainerId,
+            @Param("fromYear") int fromYear, @Param("toYear") int toYear);
+}
@@ -0,0 +1,24 @@
+package com.epam.gymapp.repository;
+
+/**
+ * Atomic increments and range rebuilds of the monthly trainer summary, written with the upsert
+ * statement of the database in use so concurrent writers never lose an update or collide on
+ * the first row of a month.
+ */
+public interface TrainerMonthlySummaryWriter {
+
+    /**
+     * Adds the deltas to the trainer's month, creating the row if it does not exist. A row
+     * left without sessions is removed.
+     */
+    void addToMonth(long trainerId, int year, int month, long minutes, int sessions);
+
+    /**
+     * Recomputes the months of a range of trainers from their trainings. Months are
+     * overwritten with an upsert, so a delta written by a training in the meantime cannot
+     * collide with the recomputed row, and months left without trainings are removed.
+     *
+     * @return the number of months written
+     */
+    int rebuildRange(long fromTrainerId, long toTrainerId);
+}
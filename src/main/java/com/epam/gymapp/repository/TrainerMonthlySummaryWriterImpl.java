@@ -0,0 +1,128 @@
+package com.epam.gymapp.repository;
+
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.NativeQuery;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+class TrainerMonthlySummaryWriterImpl implements TrainerMonthlySummaryWriter {
+
+    static final String TABLE = "trainer_monthly_summary";
+
+    private static final String POSTGRES_UPSERT_SQL =
+            "INSERT INTO trainer_monthly_summary (trainer_id, training_year, training_month, minutes, sessions) "
+            + "VALUES (:trainerId, :year, :month, :minutes, :sessions) "
+            + "ON CONFLICT (trainer_id, training_year, training_month) DO UPDATE SET "
+            + "minutes = trainer_monthly_summary.minutes + EXCLUDED.minutes, "
+            + "sessions = trainer_monthly_summary.sessions + EXCLUDED.sessions";
+
+    private static final String MERGE_SQL =
+            "MERGE INTO trainer_monthly_summary s USING (SELECT CAST(:trainerId AS BIGINT) AS trainer_id, "
+            + "CAST(:year AS INT) AS training_year, CAST(:month AS INT) AS training_month, "
+            + "CAST(:minutes AS BIGINT) AS minutes, CAST(:sessions AS INT) AS sessions) d "
+            + "ON s.trainer_id = d.trainer_id AND s.training_year = d.training_year "
+            + "AND s.training_month = d.training_month "
+            + "WHEN MATCHED THEN UPDATE SET minutes = s.minutes + d.minutes, sessions = s.sessions + d.sessions "
+            + "WHEN NOT MATCHED THEN INSERT (trainer_id, training_year, training_month, minutes, sessions) "
+            + "VALUES (d.trainer_id, d.training_year, d.training_month, d.minutes, d.sessions)";
+
+    private static final String MONTHS_FROM_TRAININGS_SQL =
+            "SELECT t.trainer_id, CAST(EXTRACT(YEAR FROM t.training_date) AS INT) AS training_year, "
+            + "CAST(EXTRACT(MONTH FROM t.training_date) AS INT) AS training_month, "
+            + "SUM(t.training_duration) AS minutes, COUNT(*) AS sessions FROM trainings t "
+            + "WHERE t.trainer_id BETWEEN :fromTrainerId AND :toTrainerId AND t.training_date IS NOT NULL "
+            + "GROUP BY t.trainer_id, EXTRACT(YEAR FROM t.training_date), EXTRACT(MONTH FROM t.training_date)";
+
+    private static final String POSTGRES_REBUILD_SQL =
+            "INSERT INTO trainer_monthly_summary (trainer_id, training_year, training_month, minutes, sessions) "
+            + MONTHS_FROM_TRAININGS_SQL + " "
+            + "ON CONFLICT (trainer_id, training_year, training_month) DO UPDATE SET "
+            + "minutes = EXCLUDED.minutes, sessions = EXCLUDED.sessions";
+
+    private static final String MERGE_REBUILD_SQL =
+            "MERGE INTO trainer_monthly_summary s USING (" + MONTHS_FROM_TRAININGS_SQL + ") d "
+            + "ON s.trainer_id = d.trainer_id AND s.training_year = d.training_year "
+            + "AND s.training_month = d.training_month "
+            + "WHEN MATCHED THEN UPDATE SET minutes = d.minutes, sessions = d.sessions "
+            + "WHEN NOT MATCHED THEN INSERT (trainer_id, training_year, training_month, minutes, sessions) "
+            + "VALUES (d.trainer_id, d.training_year, d.training_month, d.minutes, d.sessions)";
+
+    private static final String DELETE_STALE_SQL =
+            "DELETE FROM trainer_monthly_summary s WHERE s.trainer_id BETWEEN :fromTrainerId AND :toTrainerId "
+            + "AND NOT EXISTS (SELECT 1 FROM trainings t WHERE t.trainer_id = s.trainer_id "
+            + "AND t.training_date IS NOT NULL "
+            + "AND EXTRACT(YEAR FROM t.training_date) = s.training_year "
+            + "AND EXTRACT(MONTH FROM t.training_date) = s.training_month)";
+
+    private static final String DELETE_EMPTY_SQL =
+            "DELETE FROM trainer_monthly_summary WHERE trainer_id = :trainerId AND training_year = :year "
+            + "AND training_month = :month AND sessions <= 0";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private volatile Boolean postgres;
+
+    @Override
+    public void addToMonth(long trainerId, int year, int month, long minutes, int sessions) {
+        nativeUpdate(upsertSql())
+                .setParameter("trainerId", trainerId)
+                .setParameter("year", year)
+                .setParameter("month", month)
+                .setParameter("minutes", minutes)
+                .setParameter("sessions", sessions)
+                .executeUpdate();
+        if (sessions < 0) {
+            nativeUpdate(DELETE_EMPTY_SQL)
+                    .setParameter("trainerId", trainerId)
+                    .setParameter("year", year)
+                    .setParameter("month", month)
+                    .executeUpdate();
+        }
+    }
+
+    @Override
+    public int rebuildRange(long fromTrainerId, long toTrainerId) {
+        int rows = nativeUpdate(isPostgres() ? POSTGRES_REBUILD_SQL : MERGE_REBUILD_SQL)
+                .setParameter("fromTrainerId", fromTrainerId)
+                .setParameter("toTrainerId", toTrainerId)
+                .executeUpdate();
+        nativeUpdate(DELETE_STALE_SQL)
+                .setParameter("fromTrainerId", fromTrainerId)
+                .setParameter("toTrainerId", toTrainerId)
+                .executeUpdate();
+        return rows;
+    }
+
+    /**
+     * Native statement that only invalidates cached data of the summary table.
+     */
+    private Query nativeUpdate(String sql) {
+        Query query = entityManager.createNativeQuery(sql);
+        query.unwrap(NativeQuery.class).addSynchronizedQuerySpace(TABLE);
+        return query;
+    }
+
+    /**
+     * {@code INSERT ... ON CONFLICT} on PostgreSQL, where {@code MERGE} can fail when two
+     * transactions insert the same month; standard {@code MERGE} elsewhere.
+     */
+    private String upsertSql() {
+        return isPostgres() ? POSTGRES_UPSERT_SQL : MERGE_SQL;
+    }
+
+    private boolean isPostgres() {
+        Boolean result = postgres;
+        if (result == null) {
+            Dialect dialect = entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                    .getJdbcServices().getDialect();
+            result = dialect instanceof PostgreSQLDialect;
+            postgres = result;
+        }
+        return result;
+    }
+}
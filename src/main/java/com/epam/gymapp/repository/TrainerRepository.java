@@ -1,6 +1,7 @@
 package com.epam.gymapp.repository;
 
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -37,5 +38,32 @@ public interface TrainerRepository extends JpaRepository<Trainer, Long> {
 
     List<Trainer> findByUserUsernameIn(List<String> usernames);
 
+    /**
+     * Ids and display fields of the trainers with the given usernames.
+     */
+    @Query("SELECT t.id AS id, u.username AS username, u.firstName AS firstName, u.lastName AS lastName, "
+            + "s.name AS specialization FROM Trainer t JOIN t.user u LEFT JOIN t.specialization s "
+            + "WHERE u.username IN :usernames")
+    List<TrainerSummary> findSummariesByUsernameIn(@Param("usernames") Collection<String> usernames);
+
+    /**
+     * Ids and display fields of the trainers assigned to a trainee, ordered by username.
+     */
+    @Query("SELECT t.id AS id, u.username AS username, u.firstName AS firstName, u.lastName AS lastName, "
+            + "s.name AS specialization FROM Trainee te JOIN te.trainers t JOIN t.user u "
+            + "LEFT JOIN t.specialization s WHERE te.id = :traineeId ORDER BY u.username")
+    List<TrainerSummary> findSummariesByTraineeId(@Param("traineeId") Long traineeId);
+
+    @Query("SELECT t.id FROM Trainer t WHERE t.user.username = :username")
+    Optional<Long> findIdByUserUsername(@Param("username") String username);
+
+    @Query("SELECT t.id FROM Trainer t ORDER BY t.id")
+    List<Long> findAllIds();
+
+    @Query("SELECT t.user.username FROM Trainer t WHERE t.id = :id")
+    Optional<String> findUsernameById(@Param("id") Long id);
+
+    @Query("SELECT t.id AS id, t.user.username AS username FROM Trainer t WHERE t.id IN :ids")
+    List<RoleUsername> findUsernamesByIds(@Param("ids") Collection<Long> ids);
 
 }
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.epam.gymapp.repository;
+
+import com.epam.gymapp.model.trainingType.TrainingTypeEnum;
+
+/**
+ * Projection with the trainer fields shown in assignment lists, read without loading the
+ * Trainer and User entities.
+ */
+public interface TrainerSummary {
+
+    Long getId();
+
+    String getUsername();
+
+    String getFirstName();
+
+    String getLastName();
+
+    TrainingTypeEnum getSpecialization();
+}
@@ -5,6 +5,9 @@ import java.util.Date;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import com.epam.gymapp.model.training.Training;
 
@@ -26,4 +29,20 @@ public interface TrainingRepository extends JpaRepository<Training, Long> {
     List<Training> findByTrainerUserUsernameAndTrainingDateBetweenAndTraineeUserUsernameContaining(
         String trainerUsername, Date fromDate, Date toDate, String traineeName
     );
+
+    /**
+     * Training minutes and sessions of a trainee grouped by trainer and month.
+     */
+    @Query("SELECT tr.id AS trainerId, u.username AS username, u.firstName AS firstName, u.lastName AS lastName, "
+            + "u.isActive AS active, "
+            + "EXTRACT(YEAR FROM t.trainingDate) AS trainingYear, EXTRACT(MONTH FROM t.trainingDate) AS trainingMonth, "
+            + "SUM(t.trainingDuration) AS minutes, COUNT(t) AS sessions "
+            + "FROM Training t JOIN t.trainer tr JOIN tr.user u WHERE t.trainee.id = :traineeId "
+            + "GROUP BY tr.id, u.username, u.firstName, u.lastName, u.isActive, "
+            + "EXTRACT(YEAR FROM t.trainingDate), EXTRACT(MONTH FROM t.trainingDate)")
+    List<TrainerMonthWorkload> sumWorkloadByTrainerAndMonth(@Param("traineeId") Long traineeId);
+
+    @Modifying
+    @Query("DELETE FROM Training t WHERE t.trainee.id = :traineeId")
+    int deleteByTraineeId(@Param("traineeId") Long traineeId);
 }
\ No newline at end of file
@@ -1,12 +1,17 @@
 package com.epam.gymapp.repository;
 
+import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import com.epam.gymapp.model.trainingType.TrainingType;
 import com.epam.gymapp.model.trainingType.TrainingTypeEnum;
 
+import jakarta.persistence.QueryHint;
+
 
 /**
  * Repository interface for managing rainingType entities.
@@ -17,6 +22,12 @@ import com.epam.gymapp.model.trainingType.TrainingTypeEnum;
  */
 @Repository
 public interface TrainingTypeRepository extends JpaRepository<TrainingType, Long> {
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<TrainingType> findByName(TrainingTypeEnum name);
 
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<TrainingType> findAll();
+
 }
\ No newline at end of file
@@ -0,0 +1,14 @@
+package com.epam.gymapp.repository;
+
+import java.util.Optional;
+
+import com.epam.gymapp.model.user.User;
+
+/**
+ * Lookups by the {@code username} natural id, which go through Hibernate's natural id cache
+ * instead of running a query.
+ */
+public interface UserNaturalIdRepository {
+
+    Optional<User> findByNaturalUsername(String username);
+}
@@ -1,15 +1,38 @@
 package com.epam.gymapp.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.epam.gymapp.model.user.User;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserNaturalIdRepository {
     
     // Finds a user by their username and returns an Optional
     Optional<User> findByUsername(String username);
+
+    long countByUsernameIn(Collection<String> usernames);
+
+    @Query("SELECT u.id FROM User u WHERE u.username IN :usernames")
+    List<Long> findIdsByUsernameIn(@Param("usernames") Collection<String> usernames);
+
+    /**
+     * Sets the status of the given users in one statement, skipping those that already have it.
+     *
+     * @return the number of users whose status changed
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE User u SET u.isActive = :active WHERE u.username IN :usernames AND u.isActive <> :active")
+    int updateActiveByUsernameIn(@Param("usernames") Collection<String> usernames, @Param("active") boolean active);
+
+    @Modifying
+    @Query("DELETE FROM User u WHERE u.id = :userId")
+    int deleteUserById(@Param("userId") Long userId);
 }
\ No newline at end of file
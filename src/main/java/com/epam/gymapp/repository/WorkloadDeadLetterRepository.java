@@ -0,0 +1,21 @@
+package com.epam.gymapp.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.epam.gymapp.model.workload.WorkloadDeadLetter;
+
+/**
+ * Repository for workload events parked by {@code WorkloadDeadLetterStore}.
+ */
+@Repository
+public interface WorkloadDeadLetterRepository extends JpaRepository<WorkloadDeadLetter, Long> {
+
+    /**
+     * The oldest parked events, in the order they were parked.
+     */
+    List<WorkloadDeadLetter> findAllByOrderByIdAsc(Pageable pageable);
+}
@@ -0,0 +1,25 @@
+package com.epam.gymapp.service;
+
+import java.util.List;
+
+/**
+ * Published when committed changes make cached copies of users, trainees or trainers stale,
+ * so that every node can drop them. Status changes are announced with
+ * {@link UserStatusChangedEvent} instead.
+ *
+ * @param type what changed
+ * @param usernames the usernames of the changed entries
+ */
+public record CacheInvalidationEvent(Type type, List<String> usernames) {
+
+    public enum Type {
+        /** Credentials or account data shared by trainees and trainers. */
+        USER,
+        TRAINEE,
+        TRAINER
+    }
+
+    public static CacheInvalidationEvent of(Type type, String username) {
+        return new CacheInvalidationEvent(type, List.of(username));
+    }
+}
@@ -1,7 +1,9 @@
 package com.epam.gymapp.service;
 
 
+import java.time.LocalDate;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -9,18 +11,25 @@ import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import com.epam.gymapp.dto.ActionType;
 import com.epam.gymapp.dto.TraineeDto;
 import com.epam.gymapp.dto.TraineeProfileDto;
 import com.epam.gymapp.dto.TrainerDto;
+import com.epam.gymapp.dto.TrainerWorkloadRequest;
 import com.epam.gymapp.exception.NotFoundException;
 import com.epam.gymapp.dto.RegistrationDto;
 import com.epam.gymapp.model.trainee.Trainee;
 import com.epam.gymapp.model.trainer.Trainer;
 import com.epam.gymapp.model.user.User;
 import com.epam.gymapp.repository.TraineeRepository;
+import com.epam.gymapp.repository.TrainerMonthWorkload;
 import com.epam.gymapp.repository.TrainerRepository;
+import com.epam.gymapp.repository.TrainerSummary;
+import com.epam.gymapp.repository.TrainingRepository;
 import com.epam.gymapp.repository.TrainingTypeRepository;
 import com.epam.gymapp.repository.UserRepository;
 
@@ -41,10 +50,20 @@ public class TraineeService {
     private TraineeRepository traineeRepository;
     private UserRepository userRepository;
     private TrainerRepository trainerRepository;
+    private TrainingRepository trainingRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UsernameDirectory usernameDirectory;
+    private final TrainerMonthlySummaryService monthlySummaryService;
 
-    public TraineeService(TraineeRepository traineeRepository, UserRepository userRepository, TrainerRepository trainerRepository, PasswordEncoder passwordEncoder) {
+    public TraineeService(TraineeRepository traineeRepository, UserRepository userRepository, TrainerRepository trainerRepository,
+            TrainingRepository trainingRepository, PasswordEncoder passwordEncoder, ApplicationEventPublisher eventPublisher,
+            UsernameDirectory usernameDirectory, TrainerMonthlySummaryService monthlySummaryService) {
+        this.usernameDirectory = usernameDirectory;
+        this.monthlySummaryService = monthlySummaryService;
         this.trainerRepository = trainerRepository;
+        this.trainingRepository = trainingRepository;
+        this.eventPublisher = eventPublisher;
         this.traineeRepository = traineeRepository;
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
@@ -56,7 +75,7 @@ public class TraineeService {
      * @return a list of all trainees
      */
     public List<Trainee> getAll() {
-        logger.info("Fetching all trainees...");
+        logger.debug("Fetching all trainees...");
         return traineeRepository.findAll();
     }
 
@@ -67,7 +86,7 @@ public class TraineeService {
      * @return the Trainee object with the given ID, or null if not found
      */
     public Trainee getById(Long id) {
-        logger.info("Fetching trainee with ID: {}", id);
+        logger.debug("Fetching trainee with ID: {}", id);
         return traineeRepository.findById(id).orElse(null);
     }
 
@@ -84,8 +103,9 @@ public class TraineeService {
         String generatedPassword = user.getPassword();
         user.setPassword(passwordEncoder.encode(user.getPassword()));
         userRepository.save(trainee.getUser()); 
-        logger.info("Saving new trainee: {}", trainee);
+        logger.info("Saving new trainee: {}", user.getUsername());
         trainee = traineeRepository.save(trainee);
+        usernameDirectory.registerTrainee(trainee);
         return new RegistrationDto(user.getUsername(), generatedPassword);
     }
 
@@ -134,10 +154,10 @@ public class TraineeService {
      * @return The Trainee object if found, or an empty Optional if not found.
      */
     public Optional<Trainee> findByUsername(String username) {
-        logger.info("Searching for trainee with username: {}", username);
+        logger.debug("Searching for trainee with username: {}", username);
         Optional<Trainee> trainee = traineeRepository.findByUserUsername(username);
         if (trainee.isPresent()) {
-            logger.info("Trainee with username '{}' found.", username);
+            logger.debug("Trainee with username '{}' found.", username);
         } else {
             logger.warn("Trainee with username '{}' not found.", username);
         }
@@ -152,40 +172,104 @@ public class TraineeService {
      */
     public void updateTraineeTrainers(String traineeUsername, Set<Trainer> trainers) {
         logger.info("Updating trainers for trainee: {}", traineeUsername);
-        Trainee trainee = traineeRepository.findByUserUsername(traineeUsername)
+        Trainee trainee = findTrainee(traineeUsername)
                 .orElseThrow(() -> new RuntimeException("Trainee not found"));
         trainee.setTrainers(trainers);
         traineeRepository.save(trainee);
     }
 
     /**
-     * Updates the list of trainers for a trainee.
+     * Updates the list of trainers for a trainee. Only the difference with the current
+     * assignment is written: one delete for the trainers that are no longer listed and one
+     * insert for the new ones.
      *
      * @param traineeUsername The username of the trainee.
      * @param trainerUsernames The list of trainer usernames to assign.
      * @return A list of TrainerDto objects representing the updated trainers.
      */
+    @Transactional
     public List<TrainerDto> updateTraineeTrainers(String traineeUsername, List<String> trainerUsernames) {
-        Trainee trainee = traineeRepository.findByUserUsername(traineeUsername)
+        Long traineeId = findTraineeId(traineeUsername);
+        List<TrainerSummary> trainers = findTrainers(trainerUsernames);
+
+        Set<Long> wanted = trainers.stream().map(TrainerSummary::getId).collect(Collectors.toSet());
+        Set<Long> current = new HashSet<>(traineeRepository.findTrainerIds(traineeId));
+        Set<Long> toRemove = new HashSet<>(current);
+        toRemove.removeAll(wanted);
+        Set<Long> toAdd = new HashSet<>(wanted);
+        toAdd.removeAll(current);
+
+        if (!toRemove.isEmpty()) traineeRepository.removeTrainers(traineeId, toRemove);
+        if (!toAdd.isEmpty()) traineeRepository.addTrainers(traineeId, toAdd);
+        logger.info("Updated trainers for trainee {}: {} added, {} removed", traineeUsername, toAdd.size(), toRemove.size());
+        return toTrainerDtos(trainers);
+    }
+
+    /**
+     * Assigns trainers to a trainee, keeping the existing assignments.
+     *
+     * @param traineeUsername The username of the trainee.
+     * @param trainerUsernames The trainer usernames to add.
+     * @return All trainers assigned to the trainee afterwards.
+     */
+    @Transactional
+    public List<TrainerDto> addTraineeTrainers(String traineeUsername, List<String> trainerUsernames) {
+        Long traineeId = findTraineeId(traineeUsername);
+        List<TrainerSummary> trainers = findTrainers(trainerUsernames);
+        if (!trainers.isEmpty()) {
+            int added = traineeRepository.addTrainers(traineeId,
+                    trainers.stream().map(TrainerSummary::getId).collect(Collectors.toSet()));
+            logger.info("Assigned {} trainers to trainee {}", added, traineeUsername);
+        }
+        return toTrainerDtos(trainerRepository.findSummariesByTraineeId(traineeId));
+    }
+
+    /**
+     * Unassigns one trainer from a trainee.
+     *
+     * @param traineeUsername The username of the trainee.
+     * @param trainerUsername The username of the trainer to remove.
+     * @return All trainers assigned to the trainee afterwards.
+     */
+    @Transactional
+    public List<TrainerDto> removeTraineeTrainer(String traineeUsername, String trainerUsername) {
+        Long traineeId = findTraineeId(traineeUsername);
+        List<TrainerSummary> trainers = findTrainers(List.of(trainerUsername));
+        int removed = traineeRepository.removeTrainers(traineeId, List.of(trainers.get(0).getId()));
+        logger.info("Unassigned {} trainer(s) from trainee {}", removed, traineeUsername);
+        return toTrainerDtos(trainerRepository.findSummariesByTraineeId(traineeId));
+    }
+
+    private Long findTraineeId(String traineeUsername) {
+        return usernameDirectory.findTraineeId(traineeUsername)
+                .or(() -> traineeRepository.findIdByUserUsername(traineeUsername))
                 .orElseThrow(() -> new NotFoundException("Trainee not found with username: " + traineeUsername));
-        List<Trainer> trainers = trainerRepository.findByUserUsernameIn(trainerUsernames);
-        if (trainers.size() != trainerUsernames.size()) {
+    }
+
+    /**
+     * Loads the trainee by primary key when the directory knows the username, otherwise, or
+     * if the directory is stale, through the username join.
+     */
+    private Optional<Trainee> findTrainee(String username) {
+        return usernameDirectory.findTraineeId(username)
+                .flatMap(traineeRepository::findById)
+                .or(() -> traineeRepository.findByUserUsername(username));
+    }
+
+    private List<TrainerSummary> findTrainers(List<String> trainerUsernames) {
+        Set<String> usernames = new LinkedHashSet<>(trainerUsernames);
+        if (usernames.isEmpty()) return List.of();
+        List<TrainerSummary> trainers = trainerRepository.findSummariesByUsernameIn(usernames);
+        if (trainers.size() != usernames.size()) {
             throw new NotFoundException("One or more trainers not found.");
         }
-        trainee.setTrainers(new HashSet<>(trainers));
-        traineeRepository.save(trainee);
+        return trainers;
+    }
+
+    private static List<TrainerDto> toTrainerDtos(List<TrainerSummary> trainers) {
         return trainers.stream()
-                .map(trainer -> {
-                        TrainerDto trainerDto =  new TrainerDto();
-                        trainerDto.setUsername(trainer.getUser().getUsername());
-                        trainerDto.setFirstName(trainer.getUser().getFirstName());
-                        trainerDto.setLastName(trainer.getUser().getLastName());
-                        trainerDto.setSpecialization(
-                            trainer.getSpecialization() != null && trainer.getSpecialization().getName() != null
-                                ? trainer.getSpecialization().getName().toString()
-                                : null
-                        );  
-                        return trainerDto;})
+                .map(trainer -> new TrainerDto(trainer.getUsername(), trainer.getFirstName(), trainer.getLastName(),
+                        trainer.getSpecialization() != null ? trainer.getSpecialization().toString() : null))
                 .collect(Collectors.toList());
     }
 
@@ -197,7 +281,7 @@ public class TraineeService {
      * @throws NotFoundException if the trainee is not found.
      */
     public TraineeProfileDto getProfileByUsername(String username) {
-        Trainee trainee = traineeRepository.findByUserUsername(username)
+        Trainee trainee = findTrainee(username)
             .orElseThrow(() -> new NotFoundException("Trainee not found with username: " + username));
         
         User user = trainee.getUser();
@@ -241,7 +325,7 @@ public class TraineeService {
      * @throws NotFoundException if the trainee is not found.
      */
     public TraineeProfileDto updateProfile(String username, TraineeProfileDto request) {
-        Optional<Trainee> traineeOptional = traineeRepository.findByUserUsername(username);
+        Optional<Trainee> traineeOptional = findTrainee(username);
         if (traineeOptional.isEmpty()) {
             throw new NotFoundException("Trainee not found with username: " + username);
         }
@@ -252,6 +336,7 @@ public class TraineeService {
         trainee.setAddress(request.getAddress());
         user.setIsActive(request.isActive());
         traineeRepository.save(trainee);
+        eventPublisher.publishEvent(CacheInvalidationEvent.of(CacheInvalidationEvent.Type.TRAINEE, username));
         List<TrainerDto> trainers = trainee.getTrainers().stream().map(trainer -> {
             TrainerDto dto = new TrainerDto();
             User trainerUser = trainer.getUser();
@@ -266,20 +351,52 @@ public class TraineeService {
     }
 
     /**
-     * Deletes a trainee by their username.
+     * Deletes a trainee by their username, together with their trainings and trainer
+     * assignments, using a fixed number of set-based statements however long the trainee's
+     * history is. The minutes removed from each trainer's months are summed in the database
+     * and published as one batch of DELETE workload events after the transaction commits,
+     * through the same {@link WorkloadChangedEvent} as training writes; the same sums are taken
+     * out of the monthly trainer summary. A trainee id from a stale directory entry is looked up
+     * again by username, and a delete that removes no trainee fails and rolls back.
      *
      * @param username The username of the trainee to delete.
      * @throws NotFoundException if the trainee is not found.
      */
+    @Transactional
     public void deleteTraineeByUsername(String username) {
         logger.info("Deleting trainee with username: {}", username);
-        Optional<Trainee> traineeOptional = traineeRepository.findByUserUsername(username);
-        if (traineeOptional.isEmpty()) {
+        Long traineeId = findTraineeId(username);
+        Long userId = traineeRepository.findUserIdById(traineeId);
+        if (userId == null) {
+            // The directory still had a trainee that is gone; its id would match no rows.
+            traineeId = traineeRepository.findIdByUserUsername(username)
+                    .orElseThrow(() -> new NotFoundException("Trainee not found with username: " + username));
+            userId = traineeRepository.findUserIdById(traineeId);
+        }
+
+        List<TrainerMonthWorkload> workloads = trainingRepository.sumWorkloadByTrainerAndMonth(traineeId);
+        List<TrainerWorkloadRequest> workloadDeltas = workloads.stream()
+                .map(workload -> new TrainerWorkloadRequest(workload.getUsername(), workload.getFirstName(),
+                        workload.getLastName(), Boolean.TRUE.equals(workload.getActive()),
+                        LocalDate.of(workload.getTrainingYear(), workload.getTrainingMonth(), 1),
+                        (int) Math.min(workload.getMinutes(), Integer.MAX_VALUE), ActionType.DELETE))
+                .collect(Collectors.toList());
+
+        int trainings = trainingRepository.deleteByTraineeId(traineeId);
+        monthlySummaryService.removeAll(workloads);
+        traineeRepository.removeAllTrainers(traineeId);
+        if (traineeRepository.deleteTraineeById(traineeId) == 0) {
             throw new NotFoundException("Trainee not found with username: " + username);
         }
-        Trainee trainee = traineeOptional.get();
-        traineeRepository.delete(trainee);
-        logger.info("Trainee with username {} deleted successfully.", username);
+        userRepository.deleteUserById(userId);
+        eventPublisher.publishEvent(CacheInvalidationEvent.of(CacheInvalidationEvent.Type.TRAINEE, username));
+        if (!workloadDeltas.isEmpty()) {
+            eventPublisher.publishEvent(new WorkloadChangedEvent(workloadDeltas));
+        }
+        if (trainings > 0) {
+            eventPublisher.publishEvent(TrainingChangedEvent.traineeDeleted(traineeId));
+        }
+        logger.info("Trainee with username {} deleted successfully with {} trainings.", username, trainings);
     }
 
     /**
@@ -289,10 +406,11 @@ public class TraineeService {
      * @param isActive The new status to set (true for active, false for inactive).
      */
     public void updateStatus(String username, boolean isActive) {
-        Trainee trainee = traineeRepository.findByUserUsername(username)
+        Trainee trainee = findTrainee(username)
             .orElseThrow(() -> new EntityNotFoundException("Aprendiz no encontrado con username: " + username));
         trainee.getUser().setActive(isActive);
         traineeRepository.save(trainee);
+        eventPublisher.publishEvent(new UserStatusChangedEvent(List.of(username), isActive));
     }
     
 }
@@ -0,0 +1,444 @@
+package com.epam.gymapp.service;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.epam.gymapp.dto.LeaderboardEntryDto;
+import com.epam.gymapp.dto.TrainerLeaderboardDto;
+import com.epam.gymapp.model.trainingType.TrainingTypeEnum;
+import com.epam.gymapp.repository.TrainerRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * The most active trainers of the current month, by minutes or sessions, over all training
+ * types or one type, served from memory.
+ *
+ * Every training dated in the current month is kept with its trainer, trainee, type and
+ * minutes, and every trainer with those trainings has a tally of minutes and sessions per type
+ * and in total. Committed {@link TrainingChangedEvent}s of this node move a training's minutes
+ * between tallies, so an update or delete takes back exactly what the training added. A board
+ * is cut from the tallies with a min-heap bounded to {@code leaderboard.trainers.max-size}
+ * entries and kept until the next change, so page views do not touch the database.
+ *
+ * The month is read again from {@code trainings} (a range scan of one month, no grouping in the
+ * database) once the application is ready, every {@code leaderboard.trainers.refresh-interval-ms}
+ * on the application {@link TaskScheduler}, and when the month changes. That brings in writes
+ * made on other nodes; how many trainers it corrected is counted in
+ * {@code gymapp_trainer_leaderboard_corrections_total}. At a month change the refresh runs on
+ * the application executor and requests keep getting the previous month's board until it is
+ * done, so no request waits on the scan.
+ *
+ * Locks are {@link ReentrantLock}s rather than monitors, so a virtual thread waiting for the
+ * refresh scan does not pin its carrier.
+ */
+@Service
+public class TrainerLeaderboardService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TrainerLeaderboardService.class);
+
+    private static final String TRAININGS_SQL =
+            "SELECT t.id, t.trainer_id, t.trainee_id, t.training_duration, tt.name, u.username "
+            + "FROM trainings t LEFT JOIN training_types tt ON tt.id = t.training_type_id "
+            + "JOIN trainers tr ON tr.trainer_id = t.trainer_id JOIN users u ON u.user_id = tr.user_id "
+            + "WHERE t.training_date >= ? AND t.training_date < ?";
+
+    private static final TrainingTypeEnum[] TYPES = TrainingTypeEnum.values();
+    /** Tally slot counting every type, untyped trainings included. */
+    private static final int ALL = TYPES.length;
+
+    private static final Comparator<Ranked> BY_MINUTES = Comparator.comparingLong(Ranked::minutes).reversed()
+            .thenComparing(Comparator.comparingInt(Ranked::sessions).reversed())
+            .thenComparingLong(Ranked::trainerId);
+    private static final Comparator<Ranked> BY_SESSIONS = Comparator.comparingInt(Ranked::sessions).reversed()
+            .thenComparing(Comparator.comparingLong(Ranked::minutes).reversed())
+            .thenComparingLong(Ranked::trainerId);
+
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TrainerRepository trainerRepository;
+    private final int maxSize;
+    private final long refreshIntervalMs;
+    private final TaskExecutor taskExecutor;
+    private final TaskScheduler taskScheduler;
+    private volatile ScheduledFuture<?> periodicRefresh;
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    /** Serializes refreshes. */
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private final ReentrantLock lock = new ReentrantLock();
+    /** Guarded by {@link #lock}, as are the fields below it. */
+    private Board board = new Board(YearMonth.now());
+    /** Changes applied while a refresh runs, applied again to the refreshed board. */
+    private List<TrainingChangedEvent> changedDuringRefresh;
+    /** Boards cut since the last change, by tally slot and order. */
+    private final Map<String, List<Ranked>> rankings = new HashMap<>();
+    private final Map<Long, String> usernames = new ConcurrentHashMap<>();
+    private final Counter corrections;
+    private final Timer refreshTimer;
+
+    public TrainerLeaderboardService(DataSource dataSource, PlatformTransactionManager transactionManager,
+            TrainerRepository trainerRepository, MeterRegistry meterRegistry,
+            @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor, TaskScheduler taskScheduler,
+            @Value("${leaderboard.trainers.max-size:100}") int maxSize,
+            @Value("${leaderboard.trainers.refresh-interval-ms:600000}") long refreshIntervalMs,
+            @Value("${leaderboard.trainers.fetch-size:1000}") int fetchSize) {
+        // Same streaming setup as WorkloadReconciliationService: PostgreSQL only honours the
+        // fetch size inside a transaction.
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(fetchSize);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.trainerRepository = trainerRepository;
+        this.maxSize = Math.max(1, maxSize);
+        this.refreshIntervalMs = refreshIntervalMs;
+        this.taskExecutor = taskExecutor;
+        this.taskScheduler = taskScheduler;
+        this.corrections = meterRegistry.counter("gymapp_trainer_leaderboard_corrections_total");
+        this.refreshTimer = meterRegistry.timer("gymapp_trainer_leaderboard_refresh_seconds");
+        Gauge.builder("gymapp_trainer_leaderboard_trainers", this, TrainerLeaderboardService::trainers)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (refreshIntervalMs > 0) {
+            periodicRefresh = taskScheduler.scheduleWithFixedDelay(this::refreshQuietly,
+                    Instant.now().plusMillis(refreshIntervalMs), Duration.ofMillis(refreshIntervalMs));
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        ScheduledFuture<?> refresh = periodicRefresh;
+        if (refresh != null) refresh.cancel(false);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        refreshQuietly();
+    }
+
+    /**
+     * Reads the current month's trainings into a new board and swaps it in. Changes committed
+     * while it reads are applied again afterwards. Concurrent calls run one after the other.
+     */
+    public void refresh() {
+        refreshLock.lock();
+        try {
+            refreshBoard();
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private void refreshBoard() {
+        long start = System.nanoTime();
+        Board loaded = new Board(YearMonth.now());
+        lock.lock();
+        try {
+            changedDuringRefresh = new ArrayList<>();
+        } finally {
+            lock.unlock();
+        }
+        Map<Long, String> loadedUsernames = new HashMap<>();
+        boolean complete = false;
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> streamingJdbcTemplate.query(TRAININGS_SQL,
+                    (RowCallbackHandler) row -> put(loaded, loadedUsernames, row),
+                    Date.valueOf(loaded.month.atDay(1)), Date.valueOf(loaded.month.plusMonths(1).atDay(1))));
+            complete = true;
+        } finally {
+            lock.lock();
+            try {
+                List<TrainingChangedEvent> changed = changedDuringRefresh;
+                changedDuringRefresh = null;
+                if (complete) {
+                    changed.forEach(loaded::apply);
+                    if (loaded.month.equals(board.month)) {
+                        corrections.increment(board.differences(loaded));
+                    }
+                    board = loaded;
+                    rankings.clear();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        usernames.putAll(loadedUsernames);
+        long elapsed = System.nanoTime() - start;
+        refreshTimer.record(elapsed, TimeUnit.NANOSECONDS);
+        logger.debug("Refreshed the trainer leaderboard for {} with {} trainings in {} ms", loaded.month,
+                loaded.trainings.size(), elapsed / 1_000_000);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTrainingChanged(TrainingChangedEvent event) {
+        if (event.id() == null) return;
+        lock.lock();
+        try {
+            board.apply(event);
+            if (changedDuringRefresh != null) changedDuringRefresh.add(event);
+            rankings.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The current month's most active trainers, best first. Ties are broken by the other
+     * measure, then by trainer id. Right after a month change this is still the previous
+     * month's board, named in the result, until the background refresh has read the new one.
+     *
+     * @param orderBy MINUTES or SESSIONS
+     * @param trainingType only count trainings of this type; every type when null
+     * @param limit how many trainers to return, at most {@code leaderboard.trainers.max-size}
+     * @throws IllegalArgumentException for an unknown order, training type or a limit below 1
+     */
+    public TrainerLeaderboardDto getLeaderboard(String orderBy, String trainingType, int limit) {
+        boolean byMinutes = switch (orderBy.toUpperCase(Locale.ROOT)) {
+            case "MINUTES" -> true;
+            case "SESSIONS" -> false;
+            default -> throw new IllegalArgumentException("Unknown leaderboard order: " + orderBy);
+        };
+        TrainingTypeEnum type = trainingType != null ? TrainingTypeEnum.valueOf(trainingType.toUpperCase(Locale.ROOT)) : null;
+        if (limit < 1) throw new IllegalArgumentException("Leaderboard limit must be positive: " + limit);
+        if (!YearMonth.now().equals(month())) startMonthRefresh();
+
+        int slot = type != null ? type.ordinal() : ALL;
+        YearMonth month;
+        List<Ranked> ranked;
+        lock.lock();
+        try {
+            month = board.month;
+            ranked = rankings.computeIfAbsent(slot + (byMinutes ? ":minutes" : ":sessions"),
+                    key -> board.top(slot, maxSize, byMinutes ? BY_MINUTES : BY_SESSIONS));
+        } finally {
+            lock.unlock();
+        }
+        List<LeaderboardEntryDto> entries = new ArrayList<>(Math.min(limit, ranked.size()));
+        for (Ranked trainer : ranked.subList(0, Math.min(limit, ranked.size()))) {
+            entries.add(new LeaderboardEntryDto(entries.size() + 1, username(trainer.trainerId()), trainer.minutes(),
+                    trainer.sessions()));
+        }
+        return new TrainerLeaderboardDto(month.toString(), type != null ? type.name() : null,
+                byMinutes ? "MINUTES" : "SESSIONS", entries);
+    }
+
+    public int trainers() {
+        lock.lock();
+        try {
+            return board.tallies.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private YearMonth month() {
+        lock.lock();
+        try {
+            return board.month;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Reads the new month in the background, once however many requests notice the change.
+     * The month is checked again under the refresh lock, so a refresh that already swapped in
+     * the new month is not repeated.
+     */
+    private void startMonthRefresh() {
+        if (!refreshing.compareAndSet(false, true)) return;
+        try {
+            taskExecutor.execute(() -> {
+                refreshLock.lock();
+                try {
+                    if (!YearMonth.now().equals(month())) refreshBoard();
+                } catch (RuntimeException e) {
+                    logger.warn("Could not refresh the trainer leaderboard: {}", e.getMessage());
+                } finally {
+                    refreshLock.unlock();
+                    refreshing.set(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            refreshing.set(false);
+            logger.warn("Could not start the trainer leaderboard refresh: {}", e.getMessage());
+        }
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            // The board keeps following this node's changes until the next refresh.
+            logger.warn("Could not refresh the trainer leaderboard: {}", e.getMessage());
+        }
+    }
+
+    private String username(long trainerId) {
+        String username = usernames.get(trainerId);
+        if (username == null) {
+            username = trainerRepository.findUsernameById(trainerId).orElse(null);
+            if (username != null) usernames.put(trainerId, username);
+        }
+        return username;
+    }
+
+    private static void put(Board target, Map<Long, String> usernames, ResultSet row) throws SQLException {
+        String type = row.getString(5);
+        long trainerId = row.getLong(2);
+        target.add(row.getLong(1), new Contribution(trainerId, row.getLong(3),
+                type != null ? TrainingTypeEnum.valueOf(type).ordinal() : -1, row.getInt(4)));
+        usernames.putIfAbsent(trainerId, row.getString(6));
+    }
+
+    /** What one training adds to its trainer's tally; {@code type} is -1 for an untyped training. */
+    private record Contribution(long trainerId, long traineeId, int type, int duration) {
+    }
+
+    private record Ranked(long trainerId, long minutes, int sessions) {
+    }
+
+    private static final class Tally {
+
+        final long[] minutes = new long[ALL + 1];
+        final int[] sessions = new int[ALL + 1];
+
+        boolean sameTotals(Tally other) {
+            return other != null && minutes[ALL] == other.minutes[ALL] && sessions[ALL] == other.sessions[ALL];
+        }
+    }
+
+    /**
+     * One month's trainings and the tallies they add up to.
+     */
+    private static final class Board {
+
+        final YearMonth month;
+        final Map<Long, Contribution> trainings = new HashMap<>();
+        final Map<Long, Tally> tallies = new HashMap<>();
+
+        Board(YearMonth month) {
+            this.month = month;
+        }
+
+        void apply(TrainingChangedEvent event) {
+            switch (event.change()) {
+                case SAVED -> {
+                    remove(event.id());
+                    if (event.trainerId() != null && event.trainingDate() != null
+                            && YearMonth.from(event.trainingDate()).equals(month)) {
+                        add(event.id(), new Contribution(event.trainerId(),
+                                event.traineeId() != null ? event.traineeId() : 0,
+                                event.trainingType() != null ? event.trainingType().ordinal() : -1, event.duration()));
+                    }
+                }
+                case DELETED -> remove(event.id());
+                case TRAINEE_DELETED -> trainings.entrySet().stream()
+                        .filter(entry -> entry.getValue().traineeId() == event.id())
+                        .map(Map.Entry::getKey)
+                        .toList()
+                        .forEach(this::remove);
+            }
+        }
+
+        void add(long trainingId, Contribution contribution) {
+            Contribution previous = trainings.put(trainingId, contribution);
+            if (previous != null) count(previous, -1);
+            count(contribution, 1);
+        }
+
+        void remove(long trainingId) {
+            Contribution previous = trainings.remove(trainingId);
+            if (previous != null) count(previous, -1);
+        }
+
+        private void count(Contribution contribution, int sign) {
+            Tally tally = tallies.computeIfAbsent(contribution.trainerId(), key -> new Tally());
+            tally.minutes[ALL] += sign * contribution.duration();
+            tally.sessions[ALL] += sign;
+            if (contribution.type() >= 0) {
+                tally.minutes[contribution.type()] += sign * contribution.duration();
+                tally.sessions[contribution.type()] += sign;
+            }
+            if (tally.sessions[ALL] == 0) tallies.remove(contribution.trainerId());
+        }
+
+        /**
+         * The best {@code size} trainers with sessions in the slot. The heap keeps the worst of
+         * the best so far on top, so each trainer costs at most one O(log size) replacement.
+         */
+        List<Ranked> top(int slot, int size, Comparator<Ranked> order) {
+            PriorityQueue<Ranked> heap = new PriorityQueue<>(size + 1, order.reversed());
+            tallies.forEach((trainerId, tally) -> {
+                if (tally.sessions[slot] == 0) return;
+                Ranked ranked = new Ranked(trainerId, tally.minutes[slot], tally.sessions[slot]);
+                if (heap.size() < size) {
+                    heap.add(ranked);
+                } else if (order.compare(ranked, heap.peek()) < 0) {
+                    heap.poll();
+                    heap.add(ranked);
+                }
+            });
+            List<Ranked> result = new ArrayList<>(heap);
+            result.sort(order);
+            return List.copyOf(result);
+        }
+
+        /**
+         * Trainers whose total minutes or sessions differ between this board and another.
+         */
+        int differences(Board other) {
+            Set<Long> trainerIds = new HashSet<>(tallies.keySet());
+            trainerIds.addAll(other.tallies.keySet());
+            int differences = 0;
+            for (Long trainerId : trainerIds) {
+                Tally tally = tallies.get(trainerId);
+                if (tally == null || !tally.sameTotals(other.tallies.get(trainerId))) differences++;
+            }
+            return differences;
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package com.epam.gymapp.service;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.epam.gymapp.dto.MonthlySummaryDto;
+import com.epam.gymapp.exception.NotFoundException;
+import com.epam.gymapp.repository.TrainerMonthWorkload;
+import com.epam.gymapp.repository.TrainerMonthlySummaryRepository;
+import com.epam.gymapp.repository.TrainerRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Maintains the trainer_monthly_summary table: one row of minutes and sessions per trainer
+ * and month. Training writes add their deltas in their own transaction, so the summary
+ * commits or rolls back with the training, and a trainer's summary is read in one query per
+ * request, proportional to the months shown rather than the trainings recorded.
+ *
+ * A rebuild recomputes the table from trainings when it has drifted, for example after a
+ * direct database import. Trainers are split into id ranges that are rewritten on the
+ * application {@link TaskExecutor}, at most {@code workload.summary.rebuild.parallelism} at a
+ * time, each range in its own transaction. Months are upserted rather than deleted and
+ * inserted again, so training writes running at the same time never hit a duplicate key.
+ */
+@Service
+public class TrainerMonthlySummaryService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TrainerMonthlySummaryService.class);
+
+    private final TrainerMonthlySummaryRepository summaryRepository;
+    private final TrainerRepository trainerRepository;
+    private final UsernameDirectory usernameDirectory;
+    private final TransactionTemplate chunkTransaction;
+    private final TaskExecutor taskExecutor;
+    private final int chunkSize;
+    private final int parallelism;
+    private final Timer rebuildTimer;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public TrainerMonthlySummaryService(TrainerMonthlySummaryRepository summaryRepository,
+            TrainerRepository trainerRepository, UsernameDirectory usernameDirectory,
+            PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+            @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor,
+            @Value("${workload.summary.rebuild.chunk-size:200}") int chunkSize,
+            @Value("${workload.summary.rebuild.parallelism:4}") int parallelism) {
+        this.summaryRepository = summaryRepository;
+        this.trainerRepository = trainerRepository;
+        this.usernameDirectory = usernameDirectory;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.taskExecutor = taskExecutor;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.parallelism = Math.max(1, parallelism);
+        this.rebuildTimer = meterRegistry.timer("gymapp_monthly_summary_rebuild_seconds");
+    }
+
+    /**
+     * Adds a training to its trainer's month.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(Long trainerId, Date trainingDate, Integer duration) {
+        apply(trainerId, trainingDate, duration, 1);
+    }
+
+    /**
+     * Takes a training out of its trainer's month.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void remove(Long trainerId, Date trainingDate, Integer duration) {
+        apply(trainerId, trainingDate, duration, -1);
+    }
+
+    /**
+     * Takes trainings already summed per trainer and month out of the summary, for deletes
+     * that remove many trainings in one statement.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void removeAll(List<TrainerMonthWorkload> workloads) {
+        for (TrainerMonthWorkload workload : workloads) {
+            summaryRepository.addToMonth(workload.getTrainerId(), workload.getTrainingYear(),
+                    workload.getTrainingMonth(), -workload.getMinutes(),
+                    (int) -Math.min(workload.getSessions(), Integer.MAX_VALUE));
+        }
+    }
+
+    /**
+     * Months of a trainer between two years, oldest first.
+     *
+     * @param fromYear first year to include, or null for no lower bound
+     * @param toYear last year to include, or null for no upper bound
+     * @throws NotFoundException if the trainer does not exist
+     */
+    @Transactional(readOnly = true)
+    public List<MonthlySummaryDto> getSummary(String username, Integer fromYear, Integer toYear) {
+        Long trainerId = usernameDirectory.findTrainerId(username)
+                .or(() -> trainerRepository.findIdByUserUsername(username))
+                .orElseThrow(() -> new NotFoundException("Trainer not found with username: " + username));
+        return summaryRepository.findByTrainerAndYears(trainerId,
+                        fromYear != null ? fromYear : 0, toYear != null ? toYear : Integer.MAX_VALUE).stream()
+                .map(row -> new MonthlySummaryDto(row.getId().getTrainingYear(), row.getId().getTrainingMonth(),
+                        row.getMinutes(), row.getSessions()))
+                .toList();
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    /**
+     * Starts a rebuild in the background.
+     *
+     * @return false if a rebuild is already in progress
+     */
+    public boolean start() {
+        if (!running.compareAndSet(false, true)) return false;
+        try {
+            taskExecutor.execute(() -> {
+                try {
+                    rebuild();
+                } catch (RuntimeException e) {
+                    logger.error("Monthly summary rebuild failed: {}", e.getMessage(), e);
+                } finally {
+                    running.set(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            running.set(false);
+            throw e;
+        }
+        return true;
+    }
+
+    /**
+     * Recomputes the whole table from trainings, waiting for every range to finish. The first
+     * range starts at 0 and the last one is open-ended, so rows of trainers that no longer
+     * exist are removed too.
+     *
+     * @return the number of summary rows written
+     * @throws IllegalStateException if any range failed; the other ranges are still rewritten
+     */
+    public int rebuild() {
+        return rebuildTimer.record(() -> {
+            List<long[]> ranges = ranges(trainerRepository.findAllIds());
+            logger.info("Rebuilding monthly trainer summaries in {} ranges", ranges.size());
+            // Each lane rewrites every n-th range, which keeps at most n ranges in flight.
+            int lanes = Math.min(parallelism, ranges.size());
+            List<CompletableFuture<int[]>> results = new ArrayList<>();
+            for (int lane = 0; lane < lanes; lane++) {
+                List<long[]> laneRanges = new ArrayList<>();
+                for (int i = lane; i < ranges.size(); i += lanes) {
+                    laneRanges.add(ranges.get(i));
+                }
+                results.add(CompletableFuture.supplyAsync(() -> rebuildRanges(laneRanges), taskExecutor));
+            }
+            int rows = 0;
+            int failed = 0;
+            for (CompletableFuture<int[]> result : results) {
+                int[] laneResult = result.join();
+                rows += laneResult[0];
+                failed += laneResult[1];
+            }
+            if (failed > 0) {
+                throw new IllegalStateException(failed + " of " + ranges.size() + " summary ranges failed");
+            }
+            logger.info("Monthly trainer summaries rebuilt: {} rows", rows);
+            return rows;
+        });
+    }
+
+    /**
+     * Rewrites ranges one after the other.
+     *
+     * @return the rows written and the number of ranges that failed
+     */
+    private int[] rebuildRanges(List<long[]> ranges) {
+        int rows = 0;
+        int failed = 0;
+        for (long[] range : ranges) {
+            try {
+                rows += chunkTransaction.execute(status -> summaryRepository.rebuildRange(range[0], range[1]));
+            } catch (RuntimeException e) {
+                failed++;
+                logger.error("Monthly summary range failed: {}", e.getMessage(), e);
+            }
+        }
+        return new int[] {rows, failed};
+    }
+
+    /**
+     * Splits ordered trainer ids into contiguous inclusive ranges of at most chunk-size trainers.
+     */
+    List<long[]> ranges(List<Long> trainerIds) {
+        List<long[]> ranges = new ArrayList<>();
+        long from = 0;
+        for (int end = chunkSize; end < trainerIds.size(); end += chunkSize) {
+            long to = trainerIds.get(end - 1);
+            ranges.add(new long[] {from, to});
+            from = to + 1;
+        }
+        ranges.add(new long[] {from, Long.MAX_VALUE});
+        return ranges;
+    }
+
+    private void apply(Long trainerId, Date trainingDate, Integer duration, int sign) {
+        if (trainerId == null || trainingDate == null) return;
+        // getTime instead of toInstant, which java.sql.Date loaded from the database does not support.
+        LocalDate date = Instant.ofEpochMilli(trainingDate.getTime()).atZone(ZoneId.systemDefault()).toLocalDate();
+        long minutes = duration != null ? duration : 0;
+        summaryRepository.addToMonth(trainerId, date.getYear(), date.getMonthValue(), sign * minutes, sign);
+    }
+}
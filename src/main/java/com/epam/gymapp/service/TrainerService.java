@@ -3,6 +3,7 @@ package com.epam.gymapp.service;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
@@ -44,12 +45,17 @@ public class TrainerService {
     private final UserRepository userRepository; // Field-Based Injection
     private final TrainingTypeRepository trainingTypeRepository; // Field-Based Injection
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UsernameDirectory usernameDirectory;
 
-    public TrainerService(TrainerRepository trainerRepository, UserRepository userRepository, TrainingTypeRepository trainingTypeRepository, PasswordEncoder passwordEncoder) {
+    public TrainerService(TrainerRepository trainerRepository, UserRepository userRepository, TrainingTypeRepository trainingTypeRepository,
+            PasswordEncoder passwordEncoder, ApplicationEventPublisher eventPublisher, UsernameDirectory usernameDirectory) {
+        this.usernameDirectory = usernameDirectory;
         this.trainingTypeRepository = trainingTypeRepository;
         this.userRepository = userRepository;
         this.trainerRepository = trainerRepository;
         this.passwordEncoder = passwordEncoder;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -58,7 +64,7 @@ public class TrainerService {
      * @return a list of all trainers
      */
     public List<Trainer> getAll() {
-        logger.info("Fetching all trainers...");
+        logger.debug("Fetching all trainers...");
         return trainerRepository.findAll();
     }
 
@@ -69,7 +75,7 @@ public class TrainerService {
      * @return the Trainer object with the given ID, or null if not found
      */
     public Trainer getById(Long id) {
-        logger.info("Fetching trainer with ID: {}", id);
+        logger.debug("Fetching trainer with ID: {}", id);
         return trainerRepository.findById(id).orElse(null);
     }
 
@@ -88,9 +94,10 @@ public class TrainerService {
         String generatedPassword = user.getPassword();
         user.setPassword(passwordEncoder.encode(user.getPassword()));
         userRepository.save(user);
-        logger.info("Saving new trainer: {}", trainer);
+        logger.info("Saving new trainer: {}", user.getUsername());
         trainer.setSpecialization(trainingType);
         trainer = trainerRepository.save(trainer);
+        usernameDirectory.registerTrainer(trainer);
         return new RegistrationDto(user.getUsername(), generatedPassword);
     }
 
@@ -139,10 +146,10 @@ public class TrainerService {
     * @return The Trainer object if found, or an empty Optional if not found.
     */
    public Optional<Trainer> findByUsername(String username) {
-       logger.info("Searching for trainer with username: {}", username);
-       Optional<Trainer> trainer = trainerRepository.findByUserUsername(username);
+       logger.debug("Searching for trainer with username: {}", username);
+       Optional<Trainer> trainer = findTrainer(username);
        if (trainer.isPresent()) {
-           logger.info("Trainer with username '{}' found.", username);
+           logger.debug("Trainer with username '{}' found.", username);
        } else {
            logger.warn("Trainer with username '{}' not found.", username);
        }
@@ -153,7 +160,7 @@ public class TrainerService {
      * Get trainers that are NOT assigned to a specific trainee.
      */
     public List<TrainerDto> getUnassignedTrainers(String traineeUsername) {
-        logger.info("Fetching unassigned trainers for trainee: {}", traineeUsername);
+        logger.debug("Fetching unassigned trainers for trainee: {}", traineeUsername);
         List<Trainer> allTrainers = new ArrayList<>(trainerRepository.findAll()); // Copia mutable
         List<Trainer> assignedTrainers = trainerRepository.findAssignedTrainersByTraineeUsername(traineeUsername);
         allTrainers.removeAll(assignedTrainers); 
@@ -179,7 +186,7 @@ public class TrainerService {
      * @return the TrainerProfileDto object containing the trainer's profile information
      */
     public TrainerProfileDto getTrainerProfileByUsername(String username) {
-        Optional<Trainer> trainerOptional = trainerRepository.findByUserUsername(username);
+        Optional<Trainer> trainerOptional = findTrainer(username);
         if (trainerOptional.isEmpty()) {
             throw new NotFoundException("Trainer not found with username: " + username);
         }
@@ -216,7 +223,7 @@ public class TrainerService {
      * @return the updated TrainerProfileDto object
      */
     public TrainerProfileDto updateTrainerProfile(String username, TrainerProfileDto requestDto) {
-        Trainer trainer = trainerRepository.findByUserUsername(username)
+        Trainer trainer = findTrainer(username)
             .orElseThrow(() -> new NotFoundException("Trainer not found with username: " + username));
 
         trainer.getUser().setFirstName(requestDto.getFirstName());
@@ -224,7 +231,7 @@ public class TrainerService {
         trainer.getUser().setIsActive(requestDto.getIsActive());
 
         trainerRepository.save(trainer);
-
+        eventPublisher.publishEvent(CacheInvalidationEvent.of(CacheInvalidationEvent.Type.TRAINER, username));
 
         TrainerProfileDto dto = new TrainerProfileDto();
         dto.setUsername(trainer.getUser().getUsername());
@@ -258,9 +265,20 @@ public class TrainerService {
      * @param isActive the new status (true for active, false for inactive)
      */
     public void updateStatus(String username, boolean isActive) {
-        Trainer trainer = trainerRepository.findByUserUsername(username)
+        Trainer trainer = findTrainer(username)
             .orElseThrow(() -> new EntityNotFoundException("Aprendiz no encontrado con username: " + username));
         trainer.getUser().setActive(isActive);
         trainerRepository.save(trainer);
+        eventPublisher.publishEvent(new UserStatusChangedEvent(List.of(username), isActive));
+    }
+
+    /**
+     * Loads the trainer by primary key when the directory knows the username, otherwise, or
+     * if the directory is stale, through the username join.
+     */
+    private Optional<Trainer> findTrainer(String username) {
+        return usernameDirectory.findTrainerId(username)
+                .flatMap(trainerRepository::findById)
+                .or(() -> trainerRepository.findByUserUsername(username));
     }
-}
\ No newline at end of file
+}
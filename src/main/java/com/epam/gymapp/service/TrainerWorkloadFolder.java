@@ -0,0 +1,181 @@
+package com.epam.gymapp.service;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.epam.gymapp.dto.ActionType;
+import com.epam.gymapp.dto.TrainerWorkloadRequest;
+
+/**
+ * Folds training rows, read in (trainer, date) order, into one SNAPSHOT event per trainer and
+ * month. Because the input is sorted only the current trainer and month are kept, as plain
+ * primitives, so memory does not grow with the number of rows. Snapshots are handed to the
+ * sink in batches that always end at a trainer boundary, which makes the last trainer of a
+ * batch a safe restart point.
+ *
+ * The workload service may hold months the trainings table no longer has, for example after
+ * a lost DELETE event. Months without trainings therefore get a zero snapshot too: every month
+ * between a trainer's first and last training, and every month of the zero-fill window. A row
+ * with a null training date stands for a trainer without trainings, who gets zeros for the
+ * whole window.
+ */
+final class TrainerWorkloadFolder {
+
+    /**
+     * Receives completed batches of snapshots.
+     */
+    interface SnapshotSink {
+
+        /**
+         * @param snapshots the snapshots of one or more complete trainers
+         * @param lastTrainerId id of the last trainer included in the batch
+         * @param rowsScanned rows folded so far, up to and including that trainer
+         */
+        void accept(List<TrainerWorkloadRequest> snapshots, long lastTrainerId, long rowsScanned);
+    }
+
+    private static final int NO_MONTH = -1;
+
+    private final String runId;
+    private final int batchSize;
+    private final SnapshotSink sink;
+    private final int windowStartKey;
+    private final int windowEndKey;
+
+    private List<TrainerWorkloadRequest> buffer;
+    private boolean hasTrainer;
+    private long trainerId;
+    private String username;
+    private String firstName;
+    private String lastName;
+    private boolean active;
+    private int monthKey = NO_MONTH;
+    private int nextMonthKey = NO_MONTH;
+    private long monthMinutes;
+
+    private long rowsScanned;
+    private long snapshotsPublished;
+
+    TrainerWorkloadFolder(String runId, int batchSize, SnapshotSink sink) {
+        this(runId, batchSize, null, null, sink);
+    }
+
+    /**
+     * @param zeroFillFrom first month every trainer gets a snapshot for, or null for no window
+     * @param zeroFillTo last month every trainer gets a snapshot for, or null for no window
+     */
+    TrainerWorkloadFolder(String runId, int batchSize, YearMonth zeroFillFrom, YearMonth zeroFillTo,
+            SnapshotSink sink) {
+        this.runId = runId;
+        this.batchSize = Math.max(1, batchSize);
+        this.sink = sink;
+        this.buffer = new ArrayList<>(this.batchSize);
+        boolean window = zeroFillFrom != null && zeroFillTo != null && !zeroFillFrom.isAfter(zeroFillTo);
+        this.windowStartKey = window ? key(zeroFillFrom.getYear(), zeroFillFrom.getMonthValue()) : NO_MONTH;
+        this.windowEndKey = window ? key(zeroFillTo.getYear(), zeroFillTo.getMonthValue()) : NO_MONTH;
+    }
+
+    void accept(long rowTrainerId, String rowUsername, String rowFirstName, String rowLastName,
+                boolean rowActive, LocalDate trainingDate, int duration) {
+        if (!hasTrainer || rowTrainerId != trainerId) {
+            if (hasTrainer) {
+                if (rowTrainerId < trainerId) {
+                    throw new IllegalStateException("Training rows are not ordered by trainer id");
+                }
+                closeTrainer();
+            }
+            hasTrainer = true;
+            trainerId = rowTrainerId;
+            username = rowUsername;
+            firstName = rowFirstName;
+            lastName = rowLastName;
+            active = rowActive;
+            nextMonthKey = windowStartKey;
+        }
+        rowsScanned++;
+        if (trainingDate == null) return;
+        int rowMonthKey = key(trainingDate.getYear(), trainingDate.getMonthValue());
+        if (rowMonthKey != monthKey) {
+            closeMonth();
+            zeroFillBefore(rowMonthKey);
+            monthKey = rowMonthKey;
+        }
+        monthMinutes += duration;
+    }
+
+    /**
+     * Emits the snapshots still buffered. Call once after the last row.
+     */
+    void finish() {
+        if (hasTrainer) {
+            closeMonth();
+            zeroFillBefore(windowEndKey + 1);
+            flush();
+        }
+    }
+
+    long getRowsScanned() {
+        return rowsScanned;
+    }
+
+    long getSnapshotsPublished() {
+        return snapshotsPublished;
+    }
+
+    private void closeTrainer() {
+        closeMonth();
+        zeroFillBefore(windowEndKey + 1);
+        if (buffer.size() >= batchSize) {
+            flush();
+        }
+    }
+
+    private void closeMonth() {
+        if (monthKey == NO_MONTH) return;
+        emit(monthKey, monthMinutes);
+        nextMonthKey = monthKey + 1;
+        monthKey = NO_MONTH;
+        monthMinutes = 0;
+    }
+
+    /**
+     * Emits zero snapshots for the months still owed to the current trainer before the given one.
+     */
+    private void zeroFillBefore(int endKey) {
+        if (nextMonthKey == NO_MONTH) return;
+        for (int key = nextMonthKey; key < endKey; key++) {
+            emit(key, 0);
+        }
+        nextMonthKey = Math.max(nextMonthKey, endKey);
+    }
+
+    private void emit(int key, long minutes) {
+        int year = key / 12;
+        int month = key % 12 + 1;
+        TrainerWorkloadRequest snapshot = new TrainerWorkloadRequest(username, firstName, lastName, active,
+                LocalDate.of(year, month, 1), (int) Math.min(minutes, Integer.MAX_VALUE), ActionType.SNAPSHOT);
+        snapshot.setEventId(runId + ":" + trainerId + ":" + year + "-" + month);
+        buffer.add(snapshot);
+    }
+
+    /**
+     * Whether the snapshot was emitted by the given run, judging by its event id.
+     */
+    static boolean isFromRun(TrainerWorkloadRequest snapshot, String runId) {
+        return snapshot.getEventId() != null && snapshot.getEventId().startsWith(runId + ":");
+    }
+
+    private static int key(int year, int month) {
+        return year * 12 + month - 1;
+    }
+
+    private void flush() {
+        if (buffer.isEmpty()) return;
+        List<TrainerWorkloadRequest> batch = buffer;
+        buffer = new ArrayList<>(batchSize);
+        snapshotsPublished += batch.size();
+        sink.accept(batch, trainerId, rowsScanned);
+    }
+}
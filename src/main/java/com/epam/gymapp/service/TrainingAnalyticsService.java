@@ -0,0 +1,365 @@
+package com.epam.gymapp.service;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.StampedLock;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.epam.gymapp.dto.TrainingAggregateDto;
+import com.epam.gymapp.dto.TrainingAnalyticsDto;
+import com.epam.gymapp.exception.NotFoundException;
+import com.epam.gymapp.model.trainingType.TrainingTypeEnum;
+import com.epam.gymapp.repository.RoleUsername;
+import com.epam.gymapp.repository.TraineeRepository;
+import com.epam.gymapp.repository.TrainerRepository;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Gym-wide reporting over an in-memory, columnar copy of the trainings table: sessions and
+ * minutes grouped by training type, trainer, trainee, week or month, filtered by date range,
+ * type, trainer and trainee, answered by parallel scans of primitive arrays without a query
+ * to the database (apart from resolving a username the {@link UsernameDirectory} does not
+ * know).
+ *
+ * The copy is loaded by streaming the trainings table once the application is ready and is
+ * kept current by the {@link TrainingChangedEvent}s of committed training writes on this node.
+ * Trainings written on other nodes or directly in the database appear after the next
+ * {@link #load()}, run every {@code analytics.trainings.reload-interval} on the application
+ * executor or on demand through {@link #startReload()}. Trainer and trainee groups are
+ * labelled with usernames, read in one query per aggregation.
+ */
+@Service
+public class TrainingAnalyticsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TrainingAnalyticsService.class);
+
+    /** Ids per username query, below every database's bind parameter limit. */
+    private static final int USERNAME_BATCH = 1000;
+
+    private static final String TRAININGS_SQL =
+            "SELECT t.id, t.training_date, t.training_duration, tt.name, t.trainer_id, t.trainee_id "
+            + "FROM trainings t LEFT JOIN training_types tt ON tt.id = t.training_type_id "
+            + "ORDER BY t.id";
+
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final UsernameDirectory usernameDirectory;
+    private final TraineeRepository traineeRepository;
+    private final TrainerRepository trainerRepository;
+    private final TaskExecutor taskExecutor;
+    private final TaskScheduler taskScheduler;
+    private final Duration reloadInterval;
+    private final Map<TrainingColumns.GroupBy, Timer> queryTimers = new EnumMap<>(TrainingColumns.GroupBy.class);
+    private final int initialCapacity;
+    private final int leafRows;
+    private final ForkJoinPool scanPool;
+    private final StampedLock lock = new StampedLock();
+    /** Serializes full loads without pinning a virtual thread to its carrier during the scan. */
+    private final ReentrantLock loadLock = new ReentrantLock();
+    private TrainingColumns columns;
+    /** Changes applied while a full load runs, applied again to the loaded columns. Guarded by the write lock. */
+    private List<TrainingChangedEvent> changedDuringLoad;
+    private final AtomicBoolean reloading = new AtomicBoolean();
+    private volatile ScheduledFuture<?> periodicReload;
+
+    public TrainingAnalyticsService(DataSource dataSource, PlatformTransactionManager transactionManager,
+            UsernameDirectory usernameDirectory, TraineeRepository traineeRepository,
+            TrainerRepository trainerRepository, MeterRegistry meterRegistry,
+            @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor, TaskScheduler taskScheduler,
+            @Value("${analytics.trainings.reload-interval:15m}") Duration reloadInterval,
+            @Value("${analytics.trainings.initial-capacity:1024}") int initialCapacity,
+            @Value("${analytics.trainings.fetch-size:1000}") int fetchSize,
+            @Value("${analytics.trainings.parallelism:0}") int parallelism,
+            @Value("${analytics.trainings.leaf-rows:65536}") int leafRows) {
+        // Same streaming setup as WorkloadReconciliationService: PostgreSQL only honours the
+        // fetch size inside a transaction.
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(fetchSize);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.usernameDirectory = usernameDirectory;
+        this.traineeRepository = traineeRepository;
+        this.trainerRepository = trainerRepository;
+        this.taskExecutor = taskExecutor;
+        this.taskScheduler = taskScheduler;
+        this.reloadInterval = reloadInterval;
+        for (TrainingColumns.GroupBy grouping : TrainingColumns.GroupBy.values()) {
+            queryTimers.put(grouping, Timer.builder("gymapp_training_analytics_query_seconds")
+                    .tag("group_by", grouping.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry));
+        }
+        this.initialCapacity = initialCapacity;
+        this.leafRows = leafRows;
+        // Own pool, so long scans do not occupy the common pool used by parallel streams.
+        this.scanPool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        this.columns = new TrainingColumns(initialCapacity);
+        Gauge.builder("gymapp_training_analytics_rows", this, TrainingAnalyticsService::size).register(meterRegistry);
+        Gauge.builder("gymapp_training_analytics_bytes", this, TrainingAnalyticsService::memoryBytes).register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        try {
+            load();
+        } catch (RuntimeException e) {
+            // Queries see only the trainings written since startup until the next full load.
+            logger.warn("Could not load trainings for analytics: {}", e.getMessage());
+        }
+        if (!reloadInterval.isZero() && !reloadInterval.isNegative()) {
+            periodicReload = taskScheduler.scheduleWithFixedDelay(this::startReload,
+                    Instant.now().plus(reloadInterval), reloadInterval);
+        }
+    }
+
+    /**
+     * Starts a full load in the background.
+     *
+     * @return false if a load is already in progress
+     */
+    public boolean startReload() {
+        if (!reloading.compareAndSet(false, true)) return false;
+        try {
+            taskExecutor.execute(() -> {
+                try {
+                    load();
+                } catch (RuntimeException e) {
+                    logger.error("Training analytics reload failed: {}", e.getMessage(), e);
+                } finally {
+                    reloading.set(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            reloading.set(false);
+            throw e;
+        }
+        return true;
+    }
+
+    /**
+     * Streams every training into new columns and swaps them in. Changes committed while it
+     * loads are applied again afterwards. Concurrent calls run one after the other.
+     */
+    public void load() {
+        loadLock.lock();
+        try {
+            loadColumns();
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    private void loadColumns() {
+        long start = System.nanoTime();
+        TrainingColumns loaded = new TrainingColumns(initialCapacity);
+        long stamp = lock.writeLock();
+        try {
+            changedDuringLoad = new ArrayList<>();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        List<TrainingChangedEvent> changed;
+        boolean complete = false;
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> streamingJdbcTemplate.query(TRAININGS_SQL,
+                    (RowCallbackHandler) row -> put(loaded, row)));
+            complete = true;
+        } finally {
+            stamp = lock.writeLock();
+            try {
+                changed = changedDuringLoad;
+                changedDuringLoad = null;
+                if (complete) {
+                    changed.forEach(event -> apply(loaded, event));
+                    columns = loaded;
+                }
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+        logger.info("Loaded {} trainings for analytics in {} ms", loaded.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTrainingChanged(TrainingChangedEvent event) {
+        if (event.id() == null) return;
+        long stamp = lock.writeLock();
+        try {
+            apply(columns, event);
+            if (changedDuringLoad != null) changedDuringLoad.add(event);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Sessions and minutes of the trainings that match the filters, per group. Every filter is
+     * optional.
+     *
+     * @param groupBy NONE, TYPE, TRAINER, TRAINEE, WEEK or MONTH
+     * @param from first training date to include
+     * @param to last training date to include
+     * @param trainingType training type name
+     * @param trainerUsername only trainings of this trainer
+     * @param traineeUsername only trainings of this trainee
+     * @throws IllegalArgumentException for an unknown grouping or training type
+     * @throws NotFoundException if the trainer or trainee does not exist
+     */
+    public TrainingAnalyticsDto aggregate(String groupBy, LocalDate from, LocalDate to, String trainingType,
+            String trainerUsername, String traineeUsername) {
+        TrainingColumns.GroupBy grouping = TrainingColumns.GroupBy.valueOf(groupBy.toUpperCase(Locale.ROOT));
+        TrainingColumns.Filter filter = new TrainingColumns.Filter(
+                from != null ? (int) from.toEpochDay() : Integer.MIN_VALUE,
+                to != null ? (int) to.toEpochDay() : Integer.MAX_VALUE,
+                trainingType != null ? typeCode(TrainingTypeEnum.valueOf(trainingType.toUpperCase(Locale.ROOT))) : -1,
+                trainerUsername != null ? columnId(usernameDirectory.findTrainerId(trainerUsername)
+                        .or(() -> trainerRepository.findIdByUserUsername(trainerUsername)), "Trainer", trainerUsername) : 0,
+                traineeUsername != null ? columnId(usernameDirectory.findTraineeId(traineeUsername)
+                        .or(() -> traineeRepository.findIdByUserUsername(traineeUsername)), "Trainee", traineeUsername) : 0);
+
+        long start = System.nanoTime();
+        TrainingColumns.GroupTable groups;
+        int rows;
+        long stamp = lock.readLock();
+        try {
+            rows = columns.size();
+            groups = columns.aggregate(scanPool, filter, grouping, leafRows);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+        long elapsed = System.nanoTime() - start;
+        queryTimers.get(grouping).record(elapsed, TimeUnit.NANOSECONDS);
+
+        Map<Long, String> usernames = usernames(grouping, groups);
+        List<TrainingAggregateDto> result = new ArrayList<>(groups.size());
+        groups.forEachSorted((key, sessions, minutes) ->
+                result.add(new TrainingAggregateDto(label(grouping, key, usernames), sessions, minutes)));
+        return new TrainingAnalyticsDto(grouping.name(), rows, elapsed / 1_000, result);
+    }
+
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return columns.size();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public long memoryBytes() {
+        long stamp = lock.readLock();
+        try {
+            return columns.memoryBytes();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ScheduledFuture<?> reload = periodicReload;
+        if (reload != null) reload.cancel(false);
+        scanPool.shutdownNow();
+    }
+
+    private static void apply(TrainingColumns target, TrainingChangedEvent event) {
+        switch (event.change()) {
+            case SAVED -> {
+                if (event.trainingDate() == null) {
+                    target.remove(event.id());
+                } else {
+                    target.upsert(event.id(), (int) event.trainingDate().toEpochDay(), event.duration(),
+                            typeCode(event.trainingType()), intId(event.trainerId()), intId(event.traineeId()));
+                }
+            }
+            case DELETED -> target.remove(event.id());
+            case TRAINEE_DELETED -> target.removeTrainee(intId(event.id()));
+        }
+    }
+
+    private static void put(TrainingColumns target, ResultSet row) throws SQLException {
+        String type = row.getString(4);
+        target.upsert(row.getLong(1), (int) row.getDate(2).toLocalDate().toEpochDay(), row.getInt(3),
+                type != null ? typeCode(TrainingTypeEnum.valueOf(type)) : TrainingColumns.UNTYPED,
+                Math.toIntExact(row.getLong(5)), Math.toIntExact(row.getLong(6)));
+    }
+
+    private static byte typeCode(TrainingTypeEnum type) {
+        return type != null ? (byte) type.ordinal() : TrainingColumns.UNTYPED;
+    }
+
+    private static int intId(Long id) {
+        return id != null ? Math.toIntExact(id) : 0;
+    }
+
+    private static int columnId(Optional<Long> id, String role, String username) {
+        return intId(id.orElseThrow(() -> new NotFoundException(role + " not found with username: " + username)));
+    }
+
+    /**
+     * Usernames of the trainers or trainees in the groups. Ids whose user is gone keep their
+     * numeric label.
+     */
+    private Map<Long, String> usernames(TrainingColumns.GroupBy grouping, TrainingColumns.GroupTable groups) {
+        if (grouping != TrainingColumns.GroupBy.TRAINER && grouping != TrainingColumns.GroupBy.TRAINEE) return Map.of();
+        List<Long> ids = new ArrayList<>(groups.size());
+        groups.forEachSorted((key, sessions, minutes) -> {
+            if (key != 0) ids.add(key);
+        });
+        Map<Long, String> usernames = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += USERNAME_BATCH) {
+            List<Long> batch = ids.subList(from, Math.min(ids.size(), from + USERNAME_BATCH));
+            List<RoleUsername> rows = grouping == TrainingColumns.GroupBy.TRAINER
+                    ? trainerRepository.findUsernamesByIds(batch)
+                    : traineeRepository.findUsernamesByIds(batch);
+            rows.forEach(row -> usernames.put(row.getId(), row.getUsername()));
+        }
+        return usernames;
+    }
+
+    private static String label(TrainingColumns.GroupBy grouping, long key, Map<Long, String> usernames) {
+        return switch (grouping) {
+            case NONE -> "ALL";
+            case TYPE -> key >= 0 ? TrainingTypeEnum.values()[(int) key].name() : "NONE";
+            case TRAINER, TRAINEE -> key == 0 ? "NONE" : usernames.getOrDefault(key, Long.toString(key));
+            case WEEK -> LocalDate.ofEpochDay(key * 7 - 3).toString();
+            case MONTH -> YearMonth.of((int) Math.floorDiv(key, 12), (int) Math.floorMod(key, 12) + 1).toString();
+        };
+    }
+}
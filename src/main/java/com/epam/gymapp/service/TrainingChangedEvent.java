@@ -0,0 +1,53 @@
+package com.epam.gymapp.service;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+import com.epam.gymapp.model.training.Training;
+import com.epam.gymapp.model.trainingType.TrainingTypeEnum;
+
+/**
+ * Published when trainings are created, updated or deleted, with the fields in-memory views of
+ * the trainings table need to follow the change.
+ *
+ * @param change what happened
+ * @param id the training id, or the trainee id for {@link Change#TRAINEE_DELETED}; null for a
+ *        training that was never saved
+ * @param trainerId the training's trainer, if saved
+ * @param traineeId the training's trainee, if saved
+ * @param trainingDate the training's date, if saved
+ * @param duration the training's minutes, if saved
+ * @param trainingType the training's type, if saved and typed
+ */
+public record TrainingChangedEvent(Change change, Long id, Long trainerId, Long traineeId, LocalDate trainingDate,
+        int duration, TrainingTypeEnum trainingType) {
+
+    public enum Change {
+        /** A training was created or updated. */
+        SAVED,
+        /** A training was deleted. */
+        DELETED,
+        /** Every training of a trainee was deleted. */
+        TRAINEE_DELETED
+    }
+
+    public static TrainingChangedEvent saved(Training training) {
+        // getTime instead of toInstant, which java.sql.Date loaded from the database does not support.
+        LocalDate date = training.getTrainingDate() == null ? null
+                : Instant.ofEpochMilli(training.getTrainingDate().getTime()).atZone(ZoneId.systemDefault()).toLocalDate();
+        return new TrainingChangedEvent(Change.SAVED, training.getId(),
+                training.getTrainer() != null ? training.getTrainer().getId() : null,
+                training.getTrainee() != null ? training.getTrainee().getId() : null,
+                date, training.getTrainingDuration(),
+                training.getTrainingType() != null ? training.getTrainingType().getName() : null);
+    }
+
+    public static TrainingChangedEvent deleted(long trainingId) {
+        return new TrainingChangedEvent(Change.DELETED, trainingId, null, null, null, 0, null);
+    }
+
+    public static TrainingChangedEvent traineeDeleted(long traineeId) {
+        return new TrainingChangedEvent(Change.TRAINEE_DELETED, traineeId, null, null, null, 0, null);
+    }
+}
@@ -0,0 +1,482 @@
+package com.epam.gymapp.service;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Trainings stored column by column in primitive arrays, ordered by training id, with
+ * filtered group-by scans that split the rows across a fork-join pool. Not thread-safe;
+ * {@link TrainingAnalyticsService} guards it.
+ *
+ * A row takes 8 (id) + 4 (epoch day) + 4 (minutes) + 1 (type) + 4 (trainer) + 4 (trainee) =
+ * 25 bytes, so ten million trainings fit in about 250 MB where the same trainings as
+ * entities would need several times that. Trainer and trainee ids are stored as ints, 0 when
+ * absent. Deleted rows are marked in the type column and dropped when the arrays grow or
+ * when more than a quarter of the rows are deleted.
+ */
+final class TrainingColumns {
+
+    /** Type code of a deleted row. */
+    static final byte DELETED = -1;
+    /** Type code of a training without type. */
+    static final byte UNTYPED = -2;
+
+    /**
+     * What a scan groups by. The group key of each row is a long: type code, trainer or trainee
+     * id, Monday-based week number since the epoch, or year * 12 + month - 1.
+     */
+    enum GroupBy {
+        NONE, TYPE, TRAINER, TRAINEE, WEEK, MONTH
+    }
+
+    /**
+     * Row filter of a scan. Days are inclusive epoch days; a type below 0 and ids of 0 match
+     * every row.
+     */
+    record Filter(int fromDay, int toDay, byte type, int trainerId, int traineeId) {
+
+        static final Filter ALL = new Filter(Integer.MIN_VALUE, Integer.MAX_VALUE, (byte) -1, 0, 0);
+    }
+
+    private long[] ids;
+    private int[] days;
+    private int[] durations;
+    private byte[] types;
+    private int[] trainers;
+    private int[] trainees;
+    private int size;
+    private int deleted;
+    /** Bounds of the stored days and ids, widened by every write; they size the group slots of a scan. */
+    private int minDay = Integer.MAX_VALUE;
+    private int maxDay = Integer.MIN_VALUE;
+    private int maxTrainerId;
+    private int maxTraineeId;
+
+    TrainingColumns(int capacity) {
+        allocate(Math.max(16, capacity));
+    }
+
+    int size() {
+        return size - deleted;
+    }
+
+    long memoryBytes() {
+        return (long) ids.length * (8 + 4 + 4 + 1 + 4 + 4);
+    }
+
+    /**
+     * Adds a training, or overwrites its row if the id is already stored. Ids normally arrive in
+     * increasing order and are appended; an older id is inserted in place.
+     */
+    void upsert(long id, int day, int duration, byte type, int trainerId, int traineeId) {
+        // Grown first: growing compacts, which moves rows.
+        if (size == ids.length) grow();
+        int row = size > 0 && id > ids[size - 1] ? -size - 1 : Arrays.binarySearch(ids, 0, size, id);
+        if (row >= 0) {
+            if (types[row] == DELETED) deleted--;
+        } else {
+            row = -row - 1;
+            if (row < size) shift(row);
+            size++;
+            ids[row] = id;
+        }
+        minDay = Math.min(minDay, day);
+        maxDay = Math.max(maxDay, day);
+        maxTrainerId = Math.max(maxTrainerId, trainerId);
+        maxTraineeId = Math.max(maxTraineeId, traineeId);
+        days[row] = day;
+        durations[row] = duration;
+        types[row] = type;
+        trainers[row] = trainerId;
+        trainees[row] = traineeId;
+    }
+
+    boolean remove(long id) {
+        int row = Arrays.binarySearch(ids, 0, size, id);
+        if (row < 0 || types[row] == DELETED) return false;
+        markDeleted(row);
+        compactIfSparse();
+        return true;
+    }
+
+    /**
+     * Removes every training of a trainee.
+     *
+     * @return the number of rows removed
+     */
+    int removeTrainee(int traineeId) {
+        int removed = 0;
+        for (int row = 0; row < size; row++) {
+            if (trainees[row] == traineeId && types[row] != DELETED) {
+                markDeleted(row);
+                removed++;
+            }
+        }
+        compactIfSparse();
+        return removed;
+    }
+
+    /**
+     * Sessions and minutes per group of the rows that match the filter.
+     *
+     * @param leafRows rows a single task scans before the range is split no further; raised so
+     *        there are at most four tasks per pool thread, which keeps the partial results few
+     */
+    GroupTable aggregate(ForkJoinPool pool, Filter filter, GroupBy groupBy, int leafRows) {
+        int fromDay = Math.max(filter.fromDay(), minDay);
+        int toDay = Math.min(filter.toDay(), maxDay);
+        if (fromDay > toDay) return new GroupTable();
+        Plan plan = Plan.of(groupBy, fromDay, toDay, maxTrainerId, maxTraineeId);
+        int leaf = Math.max(Math.max(1, leafRows), size / (pool.getParallelism() * 4) + 1);
+        Filter bounded = new Filter(fromDay, toDay, filter.type(), filter.trainerId(), filter.traineeId());
+        return pool.invoke(new ScanTask(bounded, plan, leaf, 0, size)).toGroups(plan);
+    }
+
+    private void markDeleted(int row) {
+        types[row] = DELETED;
+        deleted++;
+    }
+
+    private void compactIfSparse() {
+        if (deleted > size / 4 && size > 1024) compact(ids.length);
+    }
+
+    private void grow() {
+        compact(deleted > size / 4 ? ids.length : ids.length + (ids.length >> 1));
+    }
+
+    /**
+     * Copies the live rows into arrays of the given capacity.
+     */
+    private void compact(int capacity) {
+        long[] oldIds = ids;
+        int[] oldDays = days;
+        int[] oldDurations = durations;
+        byte[] oldTypes = types;
+        int[] oldTrainers = trainers;
+        int[] oldTrainees = trainees;
+        int oldSize = size;
+        allocate(capacity);
+        int live = 0;
+        for (int row = 0; row < oldSize; row++) {
+            if (oldTypes[row] == DELETED) continue;
+            ids[live] = oldIds[row];
+            days[live] = oldDays[row];
+            durations[live] = oldDurations[row];
+            types[live] = oldTypes[row];
+            trainers[live] = oldTrainers[row];
+            trainees[live] = oldTrainees[row];
+            live++;
+        }
+        size = live;
+        deleted = 0;
+    }
+
+    private void allocate(int capacity) {
+        ids = new long[capacity];
+        days = new int[capacity];
+        durations = new int[capacity];
+        types = new byte[capacity];
+        trainers = new int[capacity];
+        trainees = new int[capacity];
+    }
+
+    private void shift(int row) {
+        int length = size - row;
+        System.arraycopy(ids, row, ids, row + 1, length);
+        System.arraycopy(days, row, days, row + 1, length);
+        System.arraycopy(durations, row, durations, row + 1, length);
+        System.arraycopy(types, row, types, row + 1, length);
+        System.arraycopy(trainers, row, trainers, row + 1, length);
+        System.arraycopy(trainees, row, trainees, row + 1, length);
+    }
+
+    /**
+     * Year * 12 + month - 1 of an epoch day, using integer arithmetic only (the civil-from-days
+     * algorithm by Howard Hinnant) so month grouping costs no allocation per row.
+     */
+    static int monthKey(int epochDay) {
+        int z = epochDay + 719_468;
+        int era = Math.floorDiv(z, 146_097);
+        int dayOfEra = z - era * 146_097;
+        int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+        int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        int shiftedMonth = (5 * dayOfYear + 2) / 153;
+        int month = shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9;
+        int year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+        return year * 12 + month - 1;
+    }
+
+    /**
+     * Monday-based week number: week 0 starts on Monday 1969-12-29, three days before the epoch.
+     */
+    static int weekKey(int epochDay) {
+        return Math.floorDiv(epochDay + 3, 7);
+    }
+
+    /**
+     * How the rows of a scan map to group slots. Small key ranges are counted in arrays indexed
+     * by slot: one slot for NONE, one per type code, one per trainer or trainee id up to
+     * {@link #MAX_SLOTS}, and for weeks and months one per period between the first and last
+     * day scanned, looked up through a day-to-slot table. Larger id ranges are counted in a
+     * {@link GroupTable} by key.
+     */
+    private record Plan(GroupBy groupBy, int slots, int firstDay, int[] slotOfDay, long firstKey) {
+
+        static final int MAX_SLOTS = 1 << 16;
+
+        static Plan of(GroupBy groupBy, int fromDay, int toDay, int maxTrainerId, int maxTraineeId) {
+            return switch (groupBy) {
+                case NONE -> new Plan(groupBy, 1, 0, null, 0);
+                case TYPE -> new Plan(groupBy, Byte.MAX_VALUE - UNTYPED + 1, 0, null, UNTYPED);
+                case TRAINER -> new Plan(groupBy, maxTrainerId < MAX_SLOTS ? maxTrainerId + 1 : 0, 0, null, 0);
+                case TRAINEE -> new Plan(groupBy, maxTraineeId < MAX_SLOTS ? maxTraineeId + 1 : 0, 0, null, 0);
+                case WEEK, MONTH -> {
+                    long span = (long) toDay - fromDay + 1;
+                    if (span > MAX_SLOTS * 31L) yield new Plan(groupBy, 0, 0, null, 0);
+                    int firstKey = periodKey(groupBy, fromDay);
+                    int[] slotOfDay = new int[(int) span];
+                    for (int day = 0; day < span; day++) {
+                        slotOfDay[day] = periodKey(groupBy, fromDay + day) - firstKey;
+                    }
+                    yield new Plan(groupBy, slotOfDay[slotOfDay.length - 1] + 1, fromDay, slotOfDay, firstKey);
+                }
+            };
+        }
+
+        boolean dense() {
+            return slots > 0;
+        }
+
+        long key(int slot) {
+            return firstKey + slot;
+        }
+
+        static int periodKey(GroupBy groupBy, int day) {
+            return groupBy == GroupBy.WEEK ? weekKey(day) : monthKey(day);
+        }
+    }
+
+    /**
+     * Sessions and minutes counted by one scan task, in slot arrays or by key.
+     */
+    private static final class Partial {
+
+        final long[] sessions;
+        final long[] minutes;
+        final GroupTable groups;
+
+        Partial(Plan plan) {
+            sessions = plan.dense() ? new long[plan.slots()] : null;
+            minutes = plan.dense() ? new long[plan.slots()] : null;
+            groups = plan.dense() ? null : new GroupTable();
+        }
+
+        Partial merge(Partial other) {
+            if (groups != null) {
+                return new Partial(groups.merge(other.groups));
+            }
+            for (int slot = 0; slot < sessions.length; slot++) {
+                sessions[slot] += other.sessions[slot];
+                minutes[slot] += other.minutes[slot];
+            }
+            return this;
+        }
+
+        private Partial(GroupTable groups) {
+            this.sessions = null;
+            this.minutes = null;
+            this.groups = groups;
+        }
+
+        GroupTable toGroups(Plan plan) {
+            if (groups != null) return groups;
+            GroupTable result = new GroupTable();
+            for (int slot = 0; slot < sessions.length; slot++) {
+                if (sessions[slot] > 0) result.add(plan.key(slot), sessions[slot], minutes[slot]);
+            }
+            return result;
+        }
+    }
+
+    private final class ScanTask extends RecursiveTask<Partial> {
+
+        private final Filter filter;
+        private final Plan plan;
+        private final int leafRows;
+        private final int from;
+        private final int to;
+
+        ScanTask(Filter filter, Plan plan, int leafRows, int from, int to) {
+            this.filter = filter;
+            this.plan = plan;
+            this.leafRows = leafRows;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Partial compute() {
+            if (to - from <= leafRows) return scan();
+            int middle = (from + to) >>> 1;
+            ScanTask left = new ScanTask(filter, plan, leafRows, from, middle);
+            left.fork();
+            Partial right = new ScanTask(filter, plan, leafRows, middle, to).compute();
+            return left.join().merge(right);
+        }
+
+        /**
+         * One pass over the task's rows with every array and filter in a local, so the loop
+         * works on registers and the grouping switch is the same branch for every row.
+         */
+        private Partial scan() {
+            Partial partial = new Partial(plan);
+            byte[] typeColumn = types;
+            int[] dayColumn = days;
+            int[] durationColumn = durations;
+            int[] trainerColumn = trainers;
+            int[] traineeColumn = trainees;
+            long[] sessions = partial.sessions;
+            long[] minutes = partial.minutes;
+            GroupTable groups = partial.groups;
+            int fromDay = filter.fromDay();
+            int toDay = filter.toDay();
+            byte typeFilter = filter.type();
+            int trainerFilter = filter.trainerId();
+            int traineeFilter = filter.traineeId();
+            GroupBy groupBy = plan.groupBy();
+            int[] slotOfDay = plan.slotOfDay();
+            for (int row = from; row < to; row++) {
+                byte type = typeColumn[row];
+                if (type == DELETED || (typeFilter >= 0 && type != typeFilter)) continue;
+                int day = dayColumn[row];
+                if (day < fromDay || day > toDay) continue;
+                if (trainerFilter != 0 && trainerColumn[row] != trainerFilter) continue;
+                if (traineeFilter != 0 && traineeColumn[row] != traineeFilter) continue;
+                int duration = durationColumn[row];
+                if (groups != null) {
+                    long key = switch (groupBy) {
+                        case TRAINER -> trainerColumn[row];
+                        case TRAINEE -> traineeColumn[row];
+                        case WEEK -> weekKey(day);
+                        case MONTH -> monthKey(day);
+                        default -> 0;
+                    };
+                    groups.add(key, duration);
+                    continue;
+                }
+                int slot = switch (groupBy) {
+                    case NONE -> 0;
+                    case TYPE -> type - UNTYPED;
+                    case TRAINER -> trainerColumn[row];
+                    case TRAINEE -> traineeColumn[row];
+                    case WEEK, MONTH -> slotOfDay[day - fromDay];
+                };
+                sessions[slot]++;
+                minutes[slot] += duration;
+            }
+            return partial;
+        }
+    }
+
+    /**
+     * Sessions and minutes per long key in an open-addressing table with linear probing kept
+     * at most half full.
+     */
+    static final class GroupTable {
+
+        private static final long EMPTY = Long.MIN_VALUE;
+
+        private long[] keys = emptyKeys(16);
+        private long[] sessions = new long[16];
+        private long[] minutes = new long[16];
+        private int count;
+
+        void add(long key, long duration) {
+            add(key, 1, duration);
+        }
+
+        int size() {
+            return count;
+        }
+
+        /**
+         * Calls the consumer once per group, in ascending key order.
+         */
+        void forEachSorted(GroupConsumer consumer) {
+            long[] sorted = new long[count];
+            int next = 0;
+            for (long key : keys) {
+                if (key != EMPTY) sorted[next++] = key;
+            }
+            Arrays.sort(sorted);
+            for (long key : sorted) {
+                int slot = slotOf(key);
+                consumer.accept(key, sessions[slot], minutes[slot]);
+            }
+        }
+
+        GroupTable merge(GroupTable other) {
+            GroupTable target = count >= other.count ? this : other;
+            GroupTable source = target == this ? other : this;
+            for (int slot = 0; slot < source.keys.length; slot++) {
+                if (source.keys[slot] != EMPTY) {
+                    target.add(source.keys[slot], source.sessions[slot], source.minutes[slot]);
+                }
+            }
+            return target;
+        }
+
+        void add(long key, long sessionDelta, long minuteDelta) {
+            int slot = slotOf(key);
+            if (keys[slot] == EMPTY) {
+                if ((count + 1) * 2 > keys.length) {
+                    rehash();
+                    slot = slotOf(key);
+                }
+                keys[slot] = key;
+                count++;
+            }
+            sessions[slot] += sessionDelta;
+            minutes[slot] += minuteDelta;
+        }
+
+        private int slotOf(long key) {
+            int mask = keys.length - 1;
+            int slot = Long.hashCode(key * 0x9E3779B97F4A7C15L) & mask;
+            while (keys[slot] != EMPTY && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        private void rehash() {
+            long[] oldKeys = keys;
+            long[] oldSessions = sessions;
+            long[] oldMinutes = minutes;
+            keys = emptyKeys(oldKeys.length * 2);
+            sessions = new long[oldKeys.length * 2];
+            minutes = new long[oldKeys.length * 2];
+            for (int slot = 0; slot < oldKeys.length; slot++) {
+                if (oldKeys[slot] == EMPTY) continue;
+                int target = slotOf(oldKeys[slot]);
+                keys[target] = oldKeys[slot];
+                sessions[target] = oldSessions[slot];
+                minutes[target] = oldMinutes[slot];
+            }
+        }
+
+        private static long[] emptyKeys(int length) {
+            long[] keys = new long[length];
+            Arrays.fill(keys, EMPTY);
+            return keys;
+        }
+    }
+
+    @FunctionalInterface
+    interface GroupConsumer {
+
+        void accept(long key, long sessions, long minutes);
+    }
+}
@@ -1,28 +1,199 @@
 package com.epam.gymapp.service;
 
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.jms.core.JmsTemplate;
+import org.springframework.jms.support.JmsUtils;
+import org.springframework.jms.support.converter.MessageConverter;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.stereotype.Service;
 import com.epam.gymapp.dto.TrainerWorkloadRequest;
+import com.epam.gymapp.messaging.DeliveryListener;
+import com.epam.gymapp.messaging.WorkloadDeadLetterStore;
+import com.epam.gymapp.messaging.WorkloadDestinations;
+import com.epam.gymapp.util.TransactionContext;
+
+import jakarta.jms.Message;
 
+/**
+ * Publishes trainer workload events to the broker.
+ * Every event gets a unique event id and carries the current transaction id as JMS
+ * correlation id and as the {@code transactionId} property. The first send happens on the
+ * calling thread; if it fails, the retries are scheduled on the application
+ * {@link TaskScheduler} with exponential backoff, so the caller never sleeps. Events that
+ * still cannot be sent are parked in the {@link WorkloadDeadLetterStore} for a later replay.
+ * An optional {@link DeliveryListener} hears about every attempt and the final outcome.
+ */
 @Service
 public class TrainingPublisher{
 
     private final JmsTemplate jmsTemplate;
+    private final WorkloadDeadLetterStore deadLetterStore;
+    private final TaskScheduler retryScheduler;
+    private final int maxAttempts;
+    private final long initialBackoffMs;
+    private final double backoffMultiplier;
+    private final long maxBackoffMs;
      private static final Logger operationLogger = LoggerFactory.getLogger("listenerLogger");
 
 
-    public TrainingPublisher(JmsTemplate jmsTemplate) {
+    public TrainingPublisher(JmsTemplate jmsTemplate, WorkloadDeadLetterStore deadLetterStore,
+            TaskScheduler retryScheduler,
+            @Value("${workload.publish.max-attempts:3}") int maxAttempts,
+            @Value("${workload.publish.initial-backoff-ms:100}") long initialBackoffMs,
+            @Value("${workload.publish.backoff-multiplier:2.0}") double backoffMultiplier,
+            @Value("${workload.publish.max-backoff-ms:2000}") long maxBackoffMs) {
         this.jmsTemplate = jmsTemplate;
+        this.deadLetterStore = deadLetterStore;
+        this.retryScheduler = retryScheduler;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.initialBackoffMs = initialBackoffMs;
+        this.backoffMultiplier = backoffMultiplier;
+        this.maxBackoffMs = maxBackoffMs;
     }
 
     public void sendTraining(TrainerWorkloadRequest dto) {
+        sendTraining(dto, DeliveryListener.NONE);
+    }
+
+    public void sendTraining(TrainerWorkloadRequest dto, DeliveryListener listener) {
+        stampEventId(dto);
+        String correlationId = TransactionContext.getTransactionId();
+        deliver(List.of(dto), () -> send(dto, correlationId), listener);
+    }
+
+    /**
+     * Publishes several events through one session and producer. The batch is retried as a
+     * whole; events that were already delivered before a failure are dropped by the consumer
+     * thanks to their event id. If all attempts fail every event of the batch is parked.
+     *
+     * @param events the events to publish, in order
+     */
+    public void sendBatch(List<TrainerWorkloadRequest> events) {
+        sendBatch(events, DeliveryListener.NONE);
+    }
+
+    public void sendBatch(List<TrainerWorkloadRequest> events, DeliveryListener listener) {
+        if (events.isEmpty()) return;
+        events.forEach(TrainingPublisher::stampEventId);
+        String correlationId = TransactionContext.getTransactionId();
+        deliver(events, () -> sendAll(events, correlationId), listener);
+    }
+
+    /**
+     * Publishes several events through one session and producer with a single attempt on the
+     * calling thread. Nothing is retried or parked, so the caller can stop and send the batch
+     * again later.
+     *
+     * @param events the events to publish, in order
+     * @return true if the broker accepted the batch
+     */
+    public boolean sendBatchNow(List<TrainerWorkloadRequest> events, DeliveryListener listener) {
+        if (events.isEmpty()) return true;
+        events.forEach(TrainingPublisher::stampEventId);
+        String correlationId = TransactionContext.getTransactionId();
+        long start = System.nanoTime();
         try {
-            jmsTemplate.convertAndSend("training.queue", dto);
-            operationLogger.info("Sent workload update for trainer: {}", dto.getUsername());
-        } catch (Exception e) {
-            operationLogger.error("Failed to send workload update: {}", e.getMessage(), e);
+            sendAll(events, correlationId);
+        } catch (RuntimeException e) {
+            listener.attempted(System.nanoTime() - start, false);
+            listener.finished(events.size(), false);
+            operationLogger.warn("Failed to send workload update batch of {} starting at {}: {}",
+                    events.size(), events.get(0).getEventId(), e.getMessage());
+            return false;
         }
+        listener.attempted(System.nanoTime() - start, true);
+        listener.finished(events.size(), true);
+        operationLogger.info("Sent workload update batch of {} starting at {}", events.size(), events.get(0).getEventId());
+        return true;
+    }
+
+    private void deliver(List<TrainerWorkloadRequest> events, Runnable send, DeliveryListener listener) {
+        String description = events.size() == 1
+                ? events.get(0).getEventId()
+                : "batch of " + events.size() + " starting at " + events.get(0).getEventId();
+        attempt(events, send, listener, description, 1, initialBackoffMs);
+    }
+
+    private void attempt(List<TrainerWorkloadRequest> events, Runnable send, DeliveryListener listener,
+            String description, int attempt, long backoff) {
+        long start = System.nanoTime();
+        try {
+            send.run();
+            listener.attempted(System.nanoTime() - start, true);
+            listener.finished(events.size(), true);
+            if (events.size() == 1) {
+                operationLogger.info("Sent workload update {} for trainer: {}", description, events.get(0).getUsername());
+            } else {
+                operationLogger.info("Sent workload update {}", description);
+            }
+            return;
+        } catch (RuntimeException e) {
+            listener.attempted(System.nanoTime() - start, false);
+            if (attempt >= maxAttempts) {
+                operationLogger.error("Failed to send workload update {} after {} attempts, parking it: {}",
+                        description, attempt, e.getMessage(), e);
+                park(events, listener);
+                return;
+            }
+            operationLogger.warn("Attempt {} to send workload update {} failed, retrying in {} ms: {}",
+                    attempt, description, backoff, e.getMessage());
+        }
+        long nextBackoff = Math.min((long) (backoff * backoffMultiplier), maxBackoffMs);
+        try {
+            retryScheduler.schedule(
+                    TransactionContext.wrap(
+                            () -> attempt(events, send, listener, description, attempt + 1, nextBackoff)),
+                    Instant.now().plusMillis(backoff));
+        } catch (TaskRejectedException e) {
+            operationLogger.error("Could not schedule a retry of workload update {}, parking it: {}",
+                    description, e.getMessage());
+            park(events, listener);
+        }
+    }
+
+    private void park(List<TrainerWorkloadRequest> events, DeliveryListener listener) {
+        events.forEach(deadLetterStore::park);
+        listener.finished(events.size(), false);
+    }
+
+    private static void stampEventId(TrainerWorkloadRequest dto) {
+        if (dto.getEventId() == null) {
+            dto.setEventId(UUID.randomUUID().toString());
+        }
+    }
+
+    private void send(TrainerWorkloadRequest dto, String correlationId) {
+        jmsTemplate.convertAndSend(WorkloadDestinations.TRAINING_QUEUE, dto, message -> {
+            message.setStringProperty(WorkloadDestinations.EVENT_ID_PROPERTY, dto.getEventId());
+            if (correlationId != null) {
+                message.setJMSCorrelationID(correlationId);
+                message.setStringProperty(WorkloadDestinations.TRANSACTION_ID_PROPERTY, correlationId);
+            }
+            return message;
+        });
+    }
+
+    private void sendAll(List<TrainerWorkloadRequest> events, String correlationId) {
+        MessageConverter converter = jmsTemplate.getMessageConverter();
+        jmsTemplate.execute(WorkloadDestinations.TRAINING_QUEUE, (session, producer) -> {
+            for (TrainerWorkloadRequest dto : events) {
+                Message message = converter.toMessage(dto, session);
+                message.setStringProperty(WorkloadDestinations.EVENT_ID_PROPERTY, dto.getEventId());
+                if (correlationId != null) {
+                    message.setJMSCorrelationID(correlationId);
+                    message.setStringProperty(WorkloadDestinations.TRANSACTION_ID_PROPERTY, correlationId);
+                }
+                producer.send(message);
+            }
+            JmsUtils.commitIfNecessary(session);
+            return null;
+        });
     }
-}
\ No newline at end of file
+}
@@ -3,7 +3,9 @@ package com.epam.gymapp.service;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 
 import java.time.LocalDate;
@@ -11,7 +13,6 @@ import java.time.ZoneId;
 import java.util.Date;
 import java.util.List;
 
-import com.epam.gymapp.client.TrainerWorkloadClient;
 import com.epam.gymapp.dto.ActionType;
 import com.epam.gymapp.dto.TrainerWorkloadRequest;
 import com.epam.gymapp.dto.TrainingDto;
@@ -43,15 +44,21 @@ public class TrainingService {
     private TrainerRepository trainerRepository; 
     private TraineeRepository traineeRepository;
     private TrainingTypeRepository trainingTypeRepository; 
-    private TrainingPublisher trainingPublisher;
+    private UsernameDirectory usernameDirectory;
+    private TrainerMonthlySummaryService monthlySummaryService;
+    private ApplicationEventPublisher eventPublisher;
 
     public TrainingService(TrainingRepository trainingRepository, TrainerRepository trainerRepository,
-            TraineeRepository traineeRepository, TrainingTypeRepository trainingTypeRepository, TrainingPublisher trainingPublisher) {
+            TraineeRepository traineeRepository, TrainingTypeRepository trainingTypeRepository,
+            UsernameDirectory usernameDirectory, TrainerMonthlySummaryService monthlySummaryService,
+            ApplicationEventPublisher eventPublisher) {
+        this.usernameDirectory = usernameDirectory;
+        this.monthlySummaryService = monthlySummaryService;
+        this.eventPublisher = eventPublisher;
         this.trainingTypeRepository = trainingTypeRepository;
         this.trainingRepository = trainingRepository;
         this.trainerRepository = trainerRepository;
         this.traineeRepository = traineeRepository;
-        this.trainingPublisher = trainingPublisher;
     }
 
     /**
@@ -60,7 +67,7 @@ public class TrainingService {
      * @return a list of all trainings
      */
     public List<Training> getAll() {
-        logger.info("Fetching all trainings");
+        logger.debug("Fetching all trainings");
         return trainingRepository.findAll();
     }
 
@@ -71,7 +78,7 @@ public class TrainingService {
      * @return the Training object with the given ID, or null if not found
      */
     public Training getById(Long id) {
-        logger.info("Fetching training with ID: {}", id);
+        logger.debug("Fetching training with ID: {}", id);
         return trainingRepository.findById(id).orElse(null);
     }
 
@@ -82,21 +89,34 @@ public class TrainingService {
      * @return the saved Training object
      */
     public Training save(Training training) {
-        logger.info("Saving new training: {}", training);
+        logger.debug("Saving training: {}", training.getTrainingName());
         return trainingRepository.save(training);
     }
 
+    /**
+     * Saves a new training and adds it to its trainer's monthly summary in the same
+     * transaction. The workload service is notified once the transaction has committed.
+     *
+     * @param trainingDto the training to create
+     * @return the saved Training object
+     */
+    @Transactional
     public Training save(TrainingDto trainingDto) {
-        logger.info("Saving new training: {}", trainingDto);
+        logger.info("Saving new training {} for trainer {}", trainingDto.getTrainingName(), trainingDto.getTrainerUsername());
         Training training = new Training();
 
         TrainingTypeEnum typeEnum = TrainingTypeEnum.valueOf(trainingDto.getTrainingTypeName().toUpperCase());
         TrainingType trainingType = trainingTypeRepository.findByName(typeEnum)
                                   .orElseThrow(() -> new RuntimeException("Tipo de entrenamiento no encontrado"));
 
-        Trainer trainer = trainerRepository.findByUserUsername(trainingDto.getTrainerUsername())
+        // Primary-key loads when the directory knows both usernames.
+        Trainer trainer = usernameDirectory.findTrainerId(trainingDto.getTrainerUsername())
+                .flatMap(trainerRepository::findById)
+                .or(() -> trainerRepository.findByUserUsername(trainingDto.getTrainerUsername()))
                 .orElseThrow(() -> new EntityNotFoundException("Trainer not found with username: " + trainingDto.getTrainerUsername()));
-        Trainee trainee = traineeRepository.findByUserUsername(trainingDto.getTraineeUsername())
+        Trainee trainee = usernameDirectory.findTraineeId(trainingDto.getTraineeUsername())
+                .flatMap(traineeRepository::findById)
+                .or(() -> traineeRepository.findByUserUsername(trainingDto.getTraineeUsername()))
                 .orElseThrow(() -> new EntityNotFoundException("Trainee not found with username: " + trainingDto.getTraineeUsername()));
         
         training.setTrainingType(trainingType);
@@ -106,6 +126,8 @@ public class TrainingService {
         training.setTrainingDate(trainingDto.getTrainingDate());
         training.setTrainingDuration(trainingDto.getTrainingDuration());
         Training saved = trainingRepository.save(training);
+        monthlySummaryService.record(trainer.getId(), training.getTrainingDate(), training.getTrainingDuration());
+        eventPublisher.publishEvent(TrainingChangedEvent.saved(training));
 
         LocalDate localDate = null;
         if (trainingDto.getTrainingDate() != null) {
@@ -120,32 +142,37 @@ public class TrainingService {
         apiRequest.setTrainingDate(localDate);
         apiRequest.setTrainingDuration(trainingDto.getTrainingDuration());
         apiRequest.setActionType(ActionType.ADD);
-        logger.info("Notifying the secondary microservice: {}", apiRequest.toString());
-
-
-        trainingPublisher.sendTraining(apiRequest);
-        
+        logger.debug("Notifying the secondary microservice after commit: {}", apiRequest);
+        eventPublisher.publishEvent(WorkloadChangedEvent.of(apiRequest));
 
         return saved;
     }
 
     /**
-     * Updates an existing training's information.
+     * Updates an existing training's information. The training is moved out of its old
+     * month in the trainer's summary and into its new one.
      * 
      * @param id the ID of the training to update
      * @param updatedTraining the updated Training object with new values
      * @return the updated Training object
      */
+    @Transactional
     public Training update(Long id, Training updatedTraining) {
         logger.info("Updating training with ID: {}", id);
 
         return trainingRepository.findById(id)
                 .map(existingTraining -> {
+                    Long trainerId = existingTraining.getTrainer() != null ? existingTraining.getTrainer().getId() : null;
+                    monthlySummaryService.remove(trainerId, existingTraining.getTrainingDate(),
+                            existingTraining.getTrainingDuration());
                     existingTraining.setTrainingName(updatedTraining.getTrainingName());
                     existingTraining.setTrainingDuration(updatedTraining.getTrainingDuration());
                     existingTraining.setTrainingDate(updatedTraining.getTrainingDate());
                     existingTraining.setTrainingType(updatedTraining.getTrainingType());
                     Training savedTraining = trainingRepository.save(existingTraining);
+                    monthlySummaryService.record(trainerId, existingTraining.getTrainingDate(),
+                            existingTraining.getTrainingDuration());
+                    eventPublisher.publishEvent(TrainingChangedEvent.saved(existingTraining));
                     logger.info("Training with ID: {} successfully updated", id);
                     return savedTraining;
                 })
@@ -156,15 +183,20 @@ public class TrainingService {
     }
     
     /**
-     * Deletes a training from the database.
+     * Deletes a training from the database and from its trainer's monthly summary. The
+     * workload service is notified once the transaction has committed.
      * 
      * @param training the Training object to delete
      */
+    @Transactional
     public void delete(Long id) {
         trainingRepository.findById(id).ifPresent(training -> {
              logger.info("Deleting training: {}", id);
             trainingRepository.deleteById(id);
+            eventPublisher.publishEvent(TrainingChangedEvent.deleted(id));
             if (training.getTrainer() != null) {
+                monthlySummaryService.remove(training.getTrainer().getId(), training.getTrainingDate(),
+                        training.getTrainingDuration());
                 sendTrainingUpdateToTrainer(training, ActionType.DELETE);
             }
         });
@@ -182,9 +214,8 @@ public class TrainingService {
         request.setTrainingDuration(training.getTrainingDuration());
         request.setActionType(actionType);
         
-        logger.info("Notifying the secondary microservice: {}", request.toString());
-
-        trainingPublisher.sendTraining(request);
+        logger.debug("Notifying the secondary microservice after commit: {}", request);
+        eventPublisher.publishEvent(WorkloadChangedEvent.of(request));
     }
 
     /**
@@ -192,7 +223,7 @@ public class TrainingService {
      */
     public List<TrainingDto> getTraineeTrainings(String traineeUsername, Date fromDate, Date toDate, 
                                               String trainerName, String trainingType) {
-        logger.info("Fetching trainings for trainee: {}, from: {}, to: {}, trainer: {}, type: {}",
+        logger.debug("Fetching trainings for trainee: {}, from: {}, to: {}, trainer: {}, type: {}",
                 traineeUsername, fromDate, toDate, trainerName, trainingType);
         
         List<Training> trainings = trainingRepository.findByTraineeUserUsernameAndTrainingDateBetweenAndTrainerUserUsernameContainingAndTrainingTypeNameContaining(
@@ -213,7 +244,7 @@ public class TrainingService {
      */
     public List<TrainingDto> getTrainerTrainings(String trainerUsername, Date fromDate, Date toDate, 
                                               String traineeName) {
-        logger.info("Fetching trainings for trainer: {}, from: {}, to: {}, trainee: {}",
+        logger.debug("Fetching trainings for trainer: {}, from: {}, to: {}, trainee: {}",
                 trainerUsername, fromDate, toDate, traineeName);
         
         List<Training> trainings = trainingRepository.findByTrainerUserUsernameAndTrainingDateBetweenAndTraineeUserUsernameContaining(
@@ -0,0 +1,274 @@
+package com.epam.gymapp.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.epam.gymapp.dto.SubmissionStatus;
+import com.epam.gymapp.dto.TrainingDto;
+import com.epam.gymapp.dto.TrainingSubmissionDto;
+import com.epam.gymapp.model.training.Training;
+import com.epam.gymapp.model.trainingType.TrainingTypeEnum;
+import com.epam.gymapp.util.TransactionContext;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Accepts training creations without waiting for them. A submission is validated without
+ * touching the database, put on a bounded queue and stored later on the application
+ * {@link TaskExecutor} through {@link TrainingService#save(TrainingDto)}, under the transaction
+ * id and security context of the request that submitted it. At most
+ * {@code training.async.workers} submissions are stored at once, which caps the write
+ * concurrency the database sees, whatever the request rate.
+ *
+ * Statuses of the last {@code training.async.retained} submissions can be polled or followed
+ * as server-sent events.
+ */
+@Service
+public class TrainingSubmissionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TrainingSubmissionService.class);
+
+    private final TrainingService trainingService;
+    private final TaskExecutor taskExecutor;
+    private final BlockingQueue<Runnable> queue;
+    private final int workerCount;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Map<String, Submission> submissions = new ConcurrentHashMap<>();
+    private final Queue<String> submissionOrder = new ConcurrentLinkedQueue<>();
+    private final Map<String, List<SseEmitter>> subscribers = new ConcurrentHashMap<>();
+    private final int retained;
+    private final long emitterTimeoutMs;
+    private final Counter accepted;
+    private final Counter rejected;
+    private final Counter completed;
+    private final Counter failed;
+    private final Timer queueWait;
+
+    public TrainingSubmissionService(TrainingService trainingService, MeterRegistry meterRegistry,
+            @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor,
+            @Value("${training.async.queue-capacity:1000}") int queueCapacity,
+            @Value("${training.async.workers:4}") int workerCount,
+            @Value("${training.async.retained:10000}") int retained,
+            @Value("${training.async.subscription-timeout:30s}") Duration subscriptionTimeout) {
+        this.trainingService = trainingService;
+        this.taskExecutor = taskExecutor;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.workerCount = Math.max(1, workerCount);
+        this.retained = Math.max(queueCapacity, retained);
+        this.emitterTimeoutMs = subscriptionTimeout.toMillis();
+        meterRegistry.gauge("gymapp_training_submission_queue_size", queue, BlockingQueue::size);
+        this.accepted = meterRegistry.counter("gymapp_training_submissions_total", "outcome", "accepted");
+        this.rejected = meterRegistry.counter("gymapp_training_submissions_total", "outcome", "rejected");
+        this.completed = meterRegistry.counter("gymapp_training_submissions_total", "outcome", "completed");
+        this.failed = meterRegistry.counter("gymapp_training_submissions_total", "outcome", "failed");
+        this.queueWait = meterRegistry.timer("gymapp_training_submission_queue_wait");
+    }
+
+    /**
+     * Lets queued submissions finish for a few seconds before the executor goes away.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while ((!queue.isEmpty() || inFlight.get() > 0) && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        if (!queue.isEmpty()) logger.warn("{} training submissions were not stored before shutdown", queue.size());
+    }
+
+    /**
+     * Validates and queues a training.
+     *
+     * @return the new submission, or null if the queue is full
+     * @throws IllegalArgumentException if the request is incomplete or names an unknown type
+     */
+    public TrainingSubmissionDto submit(TrainingDto request) {
+        validate(request);
+        Submission submission = new Submission(UUID.randomUUID().toString());
+        Runnable command = TransactionContext.wrap(
+                new DelegatingSecurityContextRunnable(() -> process(submission, request)));
+        submissions.put(submission.id, submission);
+        if (!queue.offer(command)) {
+            submissions.remove(submission.id);
+            rejected.increment();
+            return null;
+        }
+        accepted.increment();
+        submissionOrder.add(submission.id);
+        evictOldest();
+        dispatch();
+        return submission.toDto();
+    }
+
+    public TrainingSubmissionDto getStatus(String id) {
+        Submission submission = submissions.get(id);
+        return submission == null ? null : submission.toDto();
+    }
+
+    /**
+     * Streams {@code status} events for the submission until it completes or fails.
+     *
+     * @return the emitter, or null if the submission is unknown
+     */
+    public SseEmitter subscribe(String id) {
+        Submission submission = submissions.get(id);
+        if (submission == null) return null;
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        List<SseEmitter> emitters = subscribers.computeIfAbsent(id, key -> new CopyOnWriteArrayList<>());
+        emitters.add(emitter);
+        Runnable remove = () -> emitters.remove(emitter);
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(error -> remove.run());
+        // Registered first, so a change between here and the send below is not missed.
+        send(emitter, submission.toDto());
+        return emitter;
+    }
+
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    static void validate(TrainingDto request) {
+        if (isBlank(request.getTraineeUsername()) || isBlank(request.getTrainerUsername())) {
+            throw new IllegalArgumentException("traineeUsername and trainerUsername are required");
+        }
+        if (isBlank(request.getTrainingName()) || request.getTrainingDate() == null) {
+            throw new IllegalArgumentException("trainingName and trainingDate are required");
+        }
+        if (request.getTrainingDuration() == null || request.getTrainingDuration() <= 0) {
+            throw new IllegalArgumentException("trainingDuration must be positive");
+        }
+        try {
+            TrainingTypeEnum.valueOf(String.valueOf(request.getTrainingTypeName()).toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown training type: " + request.getTrainingTypeName());
+        }
+    }
+
+    /**
+     * Hands queued submissions to the executor while fewer than {@code workerCount} are running.
+     * Called after every submit and after every finished submission, so nothing stays queued
+     * while a slot is free.
+     */
+    private void dispatch() {
+        while (!queue.isEmpty()) {
+            int running = inFlight.get();
+            if (running >= workerCount) return;
+            if (!inFlight.compareAndSet(running, running + 1)) continue;
+            try {
+                taskExecutor.execute(this::runNext);
+            } catch (TaskRejectedException e) {
+                inFlight.decrementAndGet();
+                logger.warn("Training submissions stay queued, executor rejected the task: {}", e.getMessage());
+                return;
+            }
+        }
+    }
+
+    private void runNext() {
+        try {
+            Runnable command = queue.poll();
+            if (command != null) command.run();
+        } finally {
+            inFlight.decrementAndGet();
+            dispatch();
+        }
+    }
+
+    private void process(Submission submission, TrainingDto request) {
+        queueWait.record(Duration.between(submission.submittedAt, Instant.now()));
+        submission.status = SubmissionStatus.PROCESSING;
+        publish(submission);
+        try {
+            Training saved = trainingService.save(request);
+            submission.trainingId = saved.getId();
+            submission.status = SubmissionStatus.COMPLETED;
+            completed.increment();
+        } catch (RuntimeException e) {
+            logger.warn("Training submission {} failed: {}", submission.id, e.getMessage());
+            submission.error = e.getMessage();
+            submission.status = SubmissionStatus.FAILED;
+            failed.increment();
+        }
+        submission.completedAt = Instant.now();
+        publish(submission);
+    }
+
+    private void publish(Submission submission) {
+        List<SseEmitter> emitters = subscribers.get(submission.id);
+        if (emitters == null) return;
+        TrainingSubmissionDto status = submission.toDto();
+        for (SseEmitter emitter : emitters) {
+            send(emitter, status);
+        }
+        if (status.getStatus().isTerminal()) subscribers.remove(submission.id);
+    }
+
+    private static void send(SseEmitter emitter, TrainingSubmissionDto status) {
+        try {
+            emitter.send(SseEmitter.event().name("status").data(status));
+            if (status.getStatus().isTerminal()) emitter.complete();
+        } catch (IOException | IllegalStateException e) {
+            // Client went away or the emitter already completed.
+            emitter.completeWithError(e);
+        }
+    }
+
+    private void evictOldest() {
+        while (submissions.size() > retained) {
+            String oldest = submissionOrder.poll();
+            if (oldest == null) return;
+            submissions.remove(oldest);
+            subscribers.remove(oldest);
+        }
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private static final class Submission {
+
+        private final String id;
+        private final Instant submittedAt = Instant.now();
+        private volatile SubmissionStatus status = SubmissionStatus.QUEUED;
+        private volatile Instant completedAt;
+        private volatile Long trainingId;
+        private volatile String error;
+
+        private Submission(String id) {
+            this.id = id;
+        }
+
+        private TrainingSubmissionDto toDto() {
+            return new TrainingSubmissionDto(id, status, submittedAt, completedAt, trainingId, error);
+        }
+    }
+}
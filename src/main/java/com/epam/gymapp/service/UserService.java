@@ -1,11 +1,16 @@
 package com.epam.gymapp.service;
 
-import java.util.Collections;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -31,12 +36,21 @@ public class UserService implements UserDetailsService{
     private LoginAttemptService loginAttemptService;
     private UserRepository userRepository;
     private PasswordEncoder passwordEncoder;
+    private ApplicationEventPublisher eventPublisher;
+    /** Usernames granted ROLE_ADMIN on top of ROLE_USER, from {@code security.admin-usernames}. */
+    private Set<String> adminUsernames;
 
     @Autowired
-    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder, LoginAttemptService loginAttemptService) {
+    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder, LoginAttemptService loginAttemptService,
+            ApplicationEventPublisher eventPublisher, @Value("${security.admin-usernames:}") String adminUsernames) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.loginAttemptService = loginAttemptService;
+        this.eventPublisher = eventPublisher;
+        this.adminUsernames = adminUsernames == null ? Set.of() : Arrays.stream(adminUsernames.split(","))
+                .map(String::trim)
+                .filter(username -> !username.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
     }
 
     private static final Logger logger = LoggerFactory.getLogger(UserService.class);
@@ -51,7 +65,6 @@ public class UserService implements UserDetailsService{
     public User save(User user) {
         logger.info("Attempting to save a new user with username: {}", user.getUsername());
         Optional<User> existingUser = userRepository.findByUsername(user.getUsername());
-        System.out.println("existingUser: " + existingUser);
         if (existingUser.isPresent()) {
             logger.error("Username '{}' already exists in the database.", user.getUsername());
             throw new IllegalArgumentException("Username already exists.");
@@ -69,10 +82,10 @@ public class UserService implements UserDetailsService{
      * @return The User object if found, or an empty Optional if not found.
      */
     public Optional<User> findByUsername(String username) {
-        logger.info("Searching for user with username: {}", username);
+        logger.debug("Searching for user with username: {}", username);
         Optional<User> user = userRepository.findByUsername(username);
         if (user.isPresent()) {
-            logger.info("User with username '{}' found.", username);
+            logger.debug("User with username '{}' found.", username);
         } else {
             logger.warn("User with username '{}' not found.", username);
         }
@@ -88,7 +101,7 @@ public class UserService implements UserDetailsService{
      * @throws RuntimeException If the credentials are incorrect.
      */
     public User authenticate(String username, String password) {
-        logger.info("Attempting to authenticate user with username: {}", username);
+        logger.debug("Attempting to authenticate user with username: {}", username);
 
         if (loginAttemptService.isBlocked(username)) {
             long secondsLeft = loginAttemptService.getRemainingBlockTime(username);
@@ -134,6 +147,7 @@ public class UserService implements UserDetailsService{
         }
         user.setPassword(newPassword);
         userRepository.save(user);
+        eventPublisher.publishEvent(CacheInvalidationEvent.of(CacheInvalidationEvent.Type.USER, username));
         logger.info("Password changed successfully for user: {}", username);
     }
 
@@ -153,17 +167,21 @@ public class UserService implements UserDetailsService{
         User user = optionalUser.get();
         user.setIsActive(isActive);
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserStatusChangedEvent(List.of(username), isActive));
         logger.info("User {} is now {}", username, isActive ? "ACTIVE" : "INACTIVE");
     }
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        User user = userRepository.findByUsername(username)
+        // Runs on every authenticated request; the natural id lookup is served from the cache.
+        User user = userRepository.findByNaturalUsername(username)
             .orElseThrow(() -> new UsernameNotFoundException("User not found"));
         return new org.springframework.security.core.userdetails.User(
             user.getUsername(),
             user.getPassword(),
-            Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"))
+            adminUsernames.contains(user.getUsername())
+                    ? List.of(new SimpleGrantedAuthority("ROLE_USER"), new SimpleGrantedAuthority("ROLE_ADMIN"))
+                    : List.of(new SimpleGrantedAuthority("ROLE_USER"))
         );
     }
 
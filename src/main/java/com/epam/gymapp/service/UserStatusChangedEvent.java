@@ -0,0 +1,13 @@
+package com.epam.gymapp.service;
+
+import java.util.List;
+
+/**
+ * Published after a committed status change, so that anything caching users, principals or
+ * profiles can drop the affected entries in one go.
+ *
+ * @param usernames the users whose status may have changed
+ * @param active their new status
+ */
+public record UserStatusChangedEvent(List<String> usernames, boolean active) {
+}
@@ -0,0 +1,72 @@
+package com.epam.gymapp.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.epam.gymapp.dto.BulkStatusResultDto;
+import com.epam.gymapp.repository.UserRepository;
+
+/**
+ * Activates or deactivates many users at once. Usernames are processed in chunks of
+ * {@code users.bulk-status.chunk-size}, each chunk in its own transaction with one
+ * {@code UPDATE users SET is_active} that only touches rows whose status differs, so a
+ * nightly run over thousands of users neither loads entities nor holds one long transaction.
+ * A {@link UserStatusChangedEvent} with the chunk's usernames is published for each
+ * committed chunk that changed something.
+ */
+@Service
+public class UserStatusService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserStatusService.class);
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+
+    public UserStatusService(UserRepository userRepository, PlatformTransactionManager transactionManager,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${users.bulk-status.chunk-size:500}") int chunkSize) {
+        this.userRepository = userRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    /**
+     * Sets the status of all given users. Unknown usernames are counted, not rejected.
+     *
+     * @param usernames the users to change, duplicates are ignored
+     * @param active the new status
+     * @return how many users were updated, already had the status or were not found
+     */
+    public BulkStatusResultDto changeStatus(List<String> usernames, boolean active) {
+        List<String> distinct = new ArrayList<>(new LinkedHashSet<>(usernames));
+        int updated = 0;
+        int existing = 0;
+        for (int from = 0; from < distinct.size(); from += chunkSize) {
+            List<String> chunk = List.copyOf(distinct.subList(from, Math.min(from + chunkSize, distinct.size())));
+            int[] counts = transactionTemplate.execute(status -> new int[] {
+                    userRepository.updateActiveByUsernameIn(chunk, active),
+                    (int) userRepository.countByUsernameIn(chunk) });
+            updated += counts[0];
+            existing += counts[1];
+            if (counts[0] > 0) eventPublisher.publishEvent(new UserStatusChangedEvent(chunk, active));
+        }
+        BulkStatusResultDto result = new BulkStatusResultDto(distinct.size(), updated, existing - updated,
+                distinct.size() - existing);
+        logger.info("Bulk status change to {}: {} requested, {} updated, {} unchanged, {} not found",
+                active ? "ACTIVE" : "INACTIVE", result.getRequested(), result.getUpdated(), result.getUnchanged(),
+                result.getNotFound());
+        return result;
+    }
+}
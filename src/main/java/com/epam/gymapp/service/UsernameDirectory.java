@@ -0,0 +1,474 @@
+package com.epam.gymapp.service;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.StampedLock;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.epam.gymapp.messaging.LocalCache;
+import com.epam.gymapp.model.trainee.Trainee;
+import com.epam.gymapp.model.trainer.Trainer;
+import com.epam.gymapp.model.user.User;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * In-memory map from username to user id, trainee or trainer id and active flag, so services
+ * can load trainees and trainers by primary key instead of joining to {@code users} on the
+ * username. Loaded once the application is ready, kept current by registrations, status
+ * changes, profile updates and deletes on this node and, as a {@link LocalCache}, by
+ * invalidations from other nodes. A username that is not in the directory is not proof that
+ * the user does not exist: callers fall back to the database.
+ *
+ * Entries live in parallel primitive arrays, with all usernames packed into one char array
+ * and found through an open-addressing table with linear probing kept at most half full.
+ * Per entry that is 4 (hash) + 4 (name offset) + 2 (name length) + 8 (user id) + 8 (trainee
+ * or trainer id) + 1 (flags) + 8 (two probe slots) bytes plus 2 per username char: 59 bytes
+ * for a 12-char username, against roughly 120 for a {@code HashMap<String, Long>} entry
+ * (node, String, its byte array and a boxed Long) holding a single id. Arrays grow by
+ * doubling, so up to half of the allocated capacity can be unused; see
+ * {@code gymapp_username_directory_bytes}.
+ *
+ * Lookups are optimistic reads of a {@link StampedLock} and never block unless a write
+ * happens at the same time. Full loads are serialized by a {@link ReentrantLock} rather than
+ * a monitor, so a virtual thread waiting on the database scan does not pin its carrier.
+ */
+@Service
+public class UsernameDirectory implements LocalCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(UsernameDirectory.class);
+
+    private static final String ENTRIES_SQL =
+            "SELECT u.username, u.user_id, u.is_active, te.trainee_id, tr.trainer_id "
+            + "FROM users u "
+            + "LEFT JOIN trainees te ON te.user_id = u.user_id "
+            + "LEFT JOIN trainers tr ON tr.user_id = u.user_id";
+
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int initialCapacity;
+    private final StampedLock lock = new StampedLock();
+    private final ReentrantLock loadLock = new ReentrantLock();
+    private Table table;
+    /** Usernames written while a full load runs, reloaded once it is swapped in. Guarded by the write lock. */
+    private Set<String> changedDuringLoad;
+    private final Counter hits;
+    private final Counter misses;
+
+    /**
+     * A directory entry.
+     *
+     * @param userId the user's id
+     * @param traineeId the trainee id, or null if the user is not a trainee
+     * @param trainerId the trainer id, or null if the user is not a trainer
+     * @param active whether the user is active
+     */
+    public record Entry(long userId, Long traineeId, Long trainerId, boolean active) {
+    }
+
+    public UsernameDirectory(DataSource dataSource, PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${users.directory.initial-capacity:1024}") int initialCapacity,
+            @Value("${users.directory.fetch-size:1000}") int fetchSize) {
+        // Same streaming setup as WorkloadReconciliationService: PostgreSQL only honours the
+        // fetch size inside a transaction.
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(fetchSize);
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.initialCapacity = Math.max(16, initialCapacity);
+        this.table = new Table(this.initialCapacity);
+        this.hits = meterRegistry.counter("gymapp_username_directory_lookups_total", "result", "hit");
+        this.misses = meterRegistry.counter("gymapp_username_directory_lookups_total", "result", "miss");
+        Gauge.builder("gymapp_username_directory_entries", this, UsernameDirectory::size).register(meterRegistry);
+        Gauge.builder("gymapp_username_directory_bytes", this, UsernameDirectory::memoryBytes).register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        try {
+            load();
+        } catch (RuntimeException e) {
+            // Lookups fall back to the database until the next full load.
+            logger.warn("Could not load the username directory: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Reads every user into a new table and swaps it in. Changes made while it loads are
+     * read again afterwards. Concurrent calls run one after the other.
+     */
+    public void load() {
+        loadLock.lock();
+        try {
+            loadTable();
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    private void loadTable() {
+        long start = System.nanoTime();
+        Table loaded = new Table(initialCapacity);
+        long stamp = lock.writeLock();
+        try {
+            changedDuringLoad = new HashSet<>();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        Set<String> changed;
+        boolean complete = false;
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> streamingJdbcTemplate.query(ENTRIES_SQL,
+                    (RowCallbackHandler) row -> put(loaded, row)));
+            complete = true;
+        } finally {
+            stamp = lock.writeLock();
+            try {
+                changed = changedDuringLoad;
+                changedDuringLoad = null;
+                if (complete) table = loaded;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+        reload(changed);
+        logger.info("Loaded {} usernames into the directory in {} ms", loaded.live, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    public Optional<Entry> find(String username) {
+        if (username == null) return Optional.empty();
+        long stamp = lock.tryOptimisticRead();
+        Entry entry;
+        try {
+            entry = table.get(username);
+        } catch (RuntimeException e) {
+            // Torn read of arrays being resized; validate fails and the read is repeated.
+            entry = null;
+        }
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                entry = table.get(username);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        (entry == null ? misses : hits).increment();
+        return Optional.ofNullable(entry);
+    }
+
+    public Optional<Long> findTraineeId(String username) {
+        return find(username).map(Entry::traineeId);
+    }
+
+    public Optional<Long> findTrainerId(String username) {
+        return find(username).map(Entry::trainerId);
+    }
+
+    /**
+     * Adds a newly saved trainee. Entities without ids are ignored.
+     */
+    public void registerTrainee(Trainee trainee) {
+        if (trainee == null || trainee.getId() == null) return;
+        register(trainee.getUser(), trainee.getId(), null);
+    }
+
+    /**
+     * Adds a newly saved trainer. Entities without ids are ignored.
+     */
+    public void registerTrainer(Trainer trainer) {
+        if (trainer == null || trainer.getId() == null) return;
+        register(trainer.getUser(), null, trainer.getId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserStatusChanged(UserStatusChangedEvent event) {
+        long stamp = lock.writeLock();
+        try {
+            for (String username : event.usernames()) {
+                table.setActive(username, event.active());
+                if (changedDuringLoad != null) changedDuringLoad.add(username);
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Profile updates may change the active flag and deletes remove the user, so the
+     * affected usernames are read again.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCacheInvalidation(CacheInvalidationEvent event) {
+        reload(event.usernames());
+    }
+
+    @Override
+    public void invalidate(CacheInvalidationEvent.Type type, Collection<String> usernames) {
+        reload(usernames);
+    }
+
+    @Override
+    public void invalidateAll() {
+        load();
+    }
+
+    /**
+     * Reads the given usernames from the database, dropping those that no longer exist.
+     */
+    public void reload(Collection<String> usernames) {
+        if (usernames.isEmpty()) return;
+        Set<String> missing = new HashSet<>(usernames);
+        Table fresh = new Table(Math.max(16, usernames.size()));
+        namedJdbcTemplate.query(ENTRIES_SQL + " WHERE u.username IN (:usernames)",
+                Map.of("usernames", List.copyOf(missing)), (RowCallbackHandler) row -> put(fresh, row));
+        long stamp = lock.writeLock();
+        try {
+            for (String username : missing) {
+                Entry entry = fresh.get(username);
+                if (entry == null) {
+                    table.remove(username);
+                } else {
+                    table.put(username, entry);
+                }
+                if (changedDuringLoad != null) changedDuringLoad.add(username);
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return table.live;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public long memoryBytes() {
+        long stamp = lock.readLock();
+        try {
+            return table.memoryBytes();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    void put(String username, Entry entry) {
+        long stamp = lock.writeLock();
+        try {
+            table.put(username, entry);
+            if (changedDuringLoad != null) changedDuringLoad.add(username);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    private void register(User user, Long traineeId, Long trainerId) {
+        if (user == null || user.getId() == null || user.getUsername() == null) return;
+        put(user.getUsername(), new Entry(user.getId(), traineeId, trainerId, Boolean.TRUE.equals(user.getIsActive())));
+    }
+
+    private static void put(Table target, ResultSet row) throws SQLException {
+        long traineeId = row.getLong("trainee_id");
+        Long trainee = row.wasNull() ? null : traineeId;
+        long trainerId = row.getLong("trainer_id");
+        Long trainer = row.wasNull() ? null : trainerId;
+        target.put(row.getString("username"),
+                new Entry(row.getLong("user_id"), trainee, trainer, row.getBoolean("is_active")));
+    }
+
+    /**
+     * The arrays behind the directory. Not thread-safe; {@link UsernameDirectory} guards it.
+     * A user is either a trainee or a trainer, so one id column holds whichever applies; the
+     * rare user with both rows keeps the trainee id and trainer lookups fall back to the
+     * database.
+     */
+    static final class Table {
+
+        private static final byte ACTIVE = 1;
+        private static final byte TRAINEE = 1 << 1;
+        private static final byte TRAINER = 1 << 2;
+        private static final byte REMOVED = 1 << 3;
+
+        private char[] chars;
+        private int charCount;
+        private int[] hashes;
+        private int[] nameOffsets;
+        private short[] nameLengths;
+        private long[] userIds;
+        private long[] roleIds;
+        private byte[] flags;
+        /** Entry index + 1 per slot, 0 when empty. */
+        private int[] slots;
+        private int count;
+        private int live;
+
+        Table(int capacity) {
+            chars = new char[capacity * 12];
+            hashes = new int[capacity];
+            nameOffsets = new int[capacity];
+            nameLengths = new short[capacity];
+            userIds = new long[capacity];
+            roleIds = new long[capacity];
+            flags = new byte[capacity];
+            slots = new int[Integer.highestOneBit(capacity * 2 - 1) << 1];
+        }
+
+        Entry get(String username) {
+            int index = indexOf(username, hash(username));
+            if (index < 0 || (flags[index] & REMOVED) != 0) return null;
+            byte entryFlags = flags[index];
+            Long roleId = roleIds[index];
+            return new Entry(userIds[index],
+                    (entryFlags & TRAINEE) != 0 ? roleId : null,
+                    (entryFlags & TRAINER) != 0 ? roleId : null,
+                    (entryFlags & ACTIVE) != 0);
+        }
+
+        void put(String username, Entry entry) {
+            if (username.length() > Short.MAX_VALUE) {
+                throw new IllegalArgumentException("Username too long for the directory: " + username.length());
+            }
+            int hash = hash(username);
+            int index = indexOf(username, hash);
+            if (index < 0) {
+                index = append(username, hash);
+            } else if ((flags[index] & REMOVED) == 0) {
+                live--;
+            }
+            live++;
+            userIds[index] = entry.userId();
+            byte entryFlags = entry.active() ? ACTIVE : 0;
+            if (entry.traineeId() != null) {
+                roleIds[index] = entry.traineeId();
+                entryFlags |= TRAINEE;
+            } else if (entry.trainerId() != null) {
+                roleIds[index] = entry.trainerId();
+                entryFlags |= TRAINER;
+            } else {
+                roleIds[index] = 0;
+            }
+            flags[index] = entryFlags;
+        }
+
+        void setActive(String username, boolean active) {
+            int index = indexOf(username, hash(username));
+            if (index < 0 || (flags[index] & REMOVED) != 0) return;
+            flags[index] = (byte) (active ? flags[index] | ACTIVE : flags[index] & ~ACTIVE);
+        }
+
+        /**
+         * Marks the entry removed. Its slot and name stay, so probing and a later
+         * registration of the same username reuse them.
+         */
+        void remove(String username) {
+            int index = indexOf(username, hash(username));
+            if (index < 0 || (flags[index] & REMOVED) != 0) return;
+            flags[index] = REMOVED;
+            live--;
+        }
+
+        long memoryBytes() {
+            return 2L * chars.length + 4L * slots.length
+                    + (long) hashes.length * (4 + 4 + 2 + 8 + 8 + 1);
+        }
+
+        private int indexOf(String username, int hash) {
+            int mask = slots.length - 1;
+            for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+                int index = slots[slot] - 1;
+                if (index < 0) return -1;
+                if (hashes[index] == hash && nameEquals(index, username)) return index;
+            }
+        }
+
+        private boolean nameEquals(int index, String username) {
+            int length = nameLengths[index];
+            if (length != username.length()) return false;
+            int offset = nameOffsets[index];
+            for (int i = 0; i < length; i++) {
+                if (chars[offset + i] != username.charAt(i)) return false;
+            }
+            return true;
+        }
+
+        private int append(String username, int hash) {
+            if (count == hashes.length) growEntries();
+            if ((count + 1) * 2 > slots.length) growSlots();
+            if (charCount + username.length() > chars.length) {
+                chars = Arrays.copyOf(chars, Math.max(chars.length * 2, charCount + username.length()));
+            }
+            int index = count++;
+            username.getChars(0, username.length(), chars, charCount);
+            nameOffsets[index] = charCount;
+            nameLengths[index] = (short) username.length();
+            charCount += username.length();
+            hashes[index] = hash;
+            flags[index] = REMOVED;
+            insertSlot(index);
+            return index;
+        }
+
+        private void growEntries() {
+            int capacity = hashes.length * 2;
+            hashes = Arrays.copyOf(hashes, capacity);
+            nameOffsets = Arrays.copyOf(nameOffsets, capacity);
+            nameLengths = Arrays.copyOf(nameLengths, capacity);
+            userIds = Arrays.copyOf(userIds, capacity);
+            roleIds = Arrays.copyOf(roleIds, capacity);
+            flags = Arrays.copyOf(flags, capacity);
+        }
+
+        private void growSlots() {
+            slots = new int[slots.length * 2];
+            for (int index = 0; index < count; index++) {
+                insertSlot(index);
+            }
+        }
+
+        private void insertSlot(int index) {
+            int mask = slots.length - 1;
+            int slot = hashes[index] & mask;
+            while (slots[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = index + 1;
+        }
+
+        private static int hash(String username) {
+            int hash = username.hashCode();
+            return hash ^ (hash >>> 16);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.epam.gymapp.service;
+
+import java.util.List;
+
+import com.epam.gymapp.dto.TrainerWorkloadRequest;
+
+/**
+ * Published when a write changes trainer workloads, with the events the trainer workload
+ * service has to receive once the write has committed.
+ *
+ * @param workloadDeltas one ADD or DELETE event per training, or per trainer and month for
+ *        deletes that remove many trainings at once
+ */
+public record WorkloadChangedEvent(List<TrainerWorkloadRequest> workloadDeltas) {
+
+    public static WorkloadChangedEvent of(TrainerWorkloadRequest workloadDelta) {
+        return new WorkloadChangedEvent(List.of(workloadDelta));
+    }
+}
@@ -0,0 +1,191 @@
+package com.epam.gymapp.service;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.epam.gymapp.messaging.WorkloadNotifier;
+import com.epam.gymapp.model.workload.ReconciliationCheckpoint;
+import com.epam.gymapp.repository.ReconciliationCheckpointRepository;
+
+/**
+ * Rebuilds the trainer workload service's state from the trainings table.
+ * Trainings are streamed in (trainer, date) order through a forward-only cursor, folded into
+ * per trainer and month totals by {@link TrainerWorkloadFolder} and published as SNAPSHOT
+ * events in batches. Each batch is sent with one synchronous attempt, and the last trainer
+ * of the batch is saved as checkpoint only once the transport accepted it. A batch that is
+ * not delivered fails the run without moving the checkpoint, so resuming it sends that batch
+ * again with the same run id.
+ *
+ * Every trainer is read, including trainers without trainings, and months without trainings
+ * are sent as zero snapshots: the gaps between a trainer's trainings and the last
+ * {@code workload.reconciliation.zero-fill-months} months. That clears months the workload
+ * service still holds after a lost DELETE event. Background runs use the application task
+ * executor, which carries the transaction id of the request that started them.
+ */
+@Service
+public class WorkloadReconciliationService {
+
+    public static final String JOB_NAME = "trainer-workload";
+
+    private static final Logger logger = LoggerFactory.getLogger(WorkloadReconciliationService.class);
+
+    private static final String TRAININGS_BY_TRAINER_SQL =
+            "SELECT tr.trainer_id, u.username, u.first_name, u.last_name, u.is_active, "
+            + "t.training_date, t.training_duration "
+            + "FROM trainers tr "
+            + "JOIN users u ON u.user_id = tr.user_id "
+            + "LEFT JOIN trainings t ON t.trainer_id = tr.trainer_id "
+            + "WHERE tr.trainer_id > ? "
+            + "ORDER BY tr.trainer_id, t.training_date";
+
+    private final ReconciliationCheckpointRepository checkpointRepository;
+    private final WorkloadNotifier workloadNotifier;
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TransactionTemplate checkpointTransaction;
+    private final TaskExecutor taskExecutor;
+    private final int batchSize;
+    private final int zeroFillMonths;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public WorkloadReconciliationService(DataSource dataSource, PlatformTransactionManager transactionManager,
+            ReconciliationCheckpointRepository checkpointRepository, WorkloadNotifier workloadNotifier,
+            @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor,
+            @Value("${workload.reconciliation.fetch-size:1000}") int fetchSize,
+            @Value("${workload.reconciliation.batch-size:500}") int batchSize,
+            @Value("${workload.reconciliation.zero-fill-months:24}") int zeroFillMonths) {
+        this.checkpointRepository = checkpointRepository;
+        this.workloadNotifier = workloadNotifier;
+        this.taskExecutor = taskExecutor;
+        this.batchSize = batchSize;
+        this.zeroFillMonths = Math.max(0, zeroFillMonths);
+        // Own template so the fetch size does not leak into other queries. PostgreSQL only
+        // streams with a fetch size inside a transaction, hence the read-only template below.
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(fetchSize);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.checkpointTransaction = new TransactionTemplate(transactionManager);
+        this.checkpointTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Checkpoint of the latest run, if the job has ever run.
+     */
+    public Optional<ReconciliationCheckpoint> getCheckpoint() {
+        return checkpointRepository.findById(JOB_NAME);
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    /**
+     * Starts a run in the background.
+     *
+     * @param resume continue an unfinished run from its checkpoint instead of starting over
+     * @return false if a run is already in progress
+     */
+    public boolean start(boolean resume) {
+        if (!running.compareAndSet(false, true)) return false;
+        try {
+            taskExecutor.execute(() -> {
+                try {
+                    reconcile(resume);
+                } catch (RuntimeException e) {
+                    logger.error("Workload reconciliation failed: {}", e.getMessage(), e);
+                } finally {
+                    running.set(false);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            running.set(false);
+            throw e;
+        }
+        return true;
+    }
+
+    /**
+     * Runs the reconciliation on the calling thread.
+     *
+     * @param resume continue an unfinished run from its checkpoint instead of starting over
+     * @return the final checkpoint
+     */
+    public ReconciliationCheckpoint reconcile(boolean resume) {
+        ReconciliationCheckpoint checkpoint = resume
+                ? checkpointRepository.findById(JOB_NAME)
+                        .filter(existing -> !ReconciliationCheckpoint.STATUS_COMPLETED.equals(existing.getStatus()))
+                        .orElse(null)
+                : null;
+        if (checkpoint == null) {
+            checkpoint = new ReconciliationCheckpoint(JOB_NAME, UUID.randomUUID().toString());
+        }
+        checkpoint.setStatus(ReconciliationCheckpoint.STATUS_RUNNING);
+        saveCheckpoint(checkpoint);
+
+        long startTrainerId = checkpoint.getLastTrainerId();
+        long rowsBefore = checkpoint.getRowsScanned();
+        logger.info("Starting workload reconciliation run {} after trainer {}", checkpoint.getRunId(), startTrainerId);
+
+        ReconciliationCheckpoint progress = checkpoint;
+        YearMonth currentMonth = YearMonth.now();
+        YearMonth zeroFillFrom = zeroFillMonths > 0 ? currentMonth.minusMonths(zeroFillMonths - 1L) : null;
+        TrainerWorkloadFolder folder = new TrainerWorkloadFolder(checkpoint.getRunId(), batchSize,
+                zeroFillFrom, currentMonth, (snapshots, lastTrainerId, rowsScanned) -> {
+                    if (!workloadNotifier.publishBatchNow(snapshots)) {
+                        throw new IllegalStateException("Could not deliver " + snapshots.size()
+                                + " workload snapshots up to trainer " + lastTrainerId);
+                    }
+                    progress.setLastTrainerId(lastTrainerId);
+                    progress.setRowsScanned(rowsBefore + rowsScanned);
+                    progress.setSnapshotsPublished(progress.getSnapshotsPublished() + snapshots.size());
+                    saveCheckpoint(progress);
+                });
+
+        RowCallbackHandler rowHandler = rs -> {
+            java.sql.Date trainingDate = rs.getDate(6);
+            LocalDate date = trainingDate != null ? trainingDate.toLocalDate() : null;
+            folder.accept(rs.getLong(1), rs.getString(2), rs.getString(3), rs.getString(4), rs.getBoolean(5),
+                    date, rs.getInt(7));
+        };
+        try {
+            readOnlyTransaction.executeWithoutResult(status ->
+                    streamingJdbcTemplate.query(TRAININGS_BY_TRAINER_SQL, rowHandler, startTrainerId));
+            folder.finish();
+        } catch (RuntimeException e) {
+            checkpoint.setStatus(ReconciliationCheckpoint.STATUS_FAILED);
+            saveCheckpoint(checkpoint);
+            throw e;
+        }
+
+        checkpoint.setStatus(ReconciliationCheckpoint.STATUS_COMPLETED);
+        saveCheckpoint(checkpoint);
+        logger.info("Workload reconciliation run {} finished: {} rows, {} snapshots",
+                checkpoint.getRunId(), checkpoint.getRowsScanned(), checkpoint.getSnapshotsPublished());
+        return checkpoint;
+    }
+
+    private void saveCheckpoint(ReconciliationCheckpoint checkpoint) {
+        checkpoint.setUpdatedAt(new Date());
+        checkpointTransaction.executeWithoutResult(status -> checkpointRepository.save(checkpoint));
+    }
+}
@@ -0,0 +1,120 @@
+package com.epam.gymapp.service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jms.core.JmsTemplate;
+import org.springframework.jms.support.converter.MessageConverter;
+import org.springframework.stereotype.Service;
+
+import com.epam.gymapp.dto.ActionType;
+import com.epam.gymapp.dto.TrainerWorkloadRequest;
+import com.epam.gymapp.messaging.HttpWorkloadNotifier;
+import com.epam.gymapp.messaging.TrainerWorkloadCodec;
+import com.epam.gymapp.messaging.WorkloadDeadLetterStore;
+import com.epam.gymapp.messaging.WorkloadNotifier;
+import com.epam.gymapp.model.workload.ReconciliationCheckpoint;
+import com.epam.gymapp.repository.ReconciliationCheckpointRepository;
+
+import jakarta.jms.ConnectionFactory;
+
+/**
+ * Replays workload events that never reached the trainer workload service: events parked
+ * locally by {@link TrainingPublisher} or {@link HttpWorkloadNotifier} and events the broker
+ * moved to its dead-letter queue after the consumer exhausted its redeliveries. Events keep
+ * their original event id, so the consumer can safely drop any it has already applied.
+ *
+ * SNAPSHOT events replace a whole month, so one left over from an earlier reconciliation run
+ * would undo every change applied since the latest run. Those are dropped instead of replayed.
+ */
+@Service
+public class WorkloadReplayService {
+
+    private static final Logger logger = LoggerFactory.getLogger(WorkloadReplayService.class);
+    private static final String WORKLOAD_SELECTOR = "JMSType = '" + TrainerWorkloadCodec.MESSAGE_TYPE + "'";
+
+    private final WorkloadNotifier workloadNotifier;
+    private final WorkloadDeadLetterStore deadLetterStore;
+    private final ReconciliationCheckpointRepository checkpointRepository;
+    private final JmsTemplate dlqTemplate;
+    private final String deadLetterQueue;
+    private final int maxBrokerMessages;
+
+    public WorkloadReplayService(WorkloadNotifier workloadNotifier, WorkloadDeadLetterStore deadLetterStore,
+            ReconciliationCheckpointRepository checkpointRepository, ConnectionFactory connectionFactory, MessageConverter messageConverter,
+            @Value("${workload.dead-letter.queue:ActiveMQ.DLQ}") String deadLetterQueue,
+            @Value("${workload.dead-letter.receive-timeout-ms:500}") long receiveTimeoutMs,
+            @Value("${workload.dead-letter.max-replay:10000}") int maxBrokerMessages) {
+        this.workloadNotifier = workloadNotifier;
+        this.deadLetterStore = deadLetterStore;
+        this.checkpointRepository = checkpointRepository;
+        this.deadLetterQueue = deadLetterQueue;
+        this.maxBrokerMessages = maxBrokerMessages;
+        // Transacted session: JmsTemplate commits each receive, and a failed resend is parked locally.
+        this.dlqTemplate = new JmsTemplate(connectionFactory);
+        this.dlqTemplate.setMessageConverter(messageConverter);
+        this.dlqTemplate.setSessionTransacted(true);
+        this.dlqTemplate.setReceiveTimeout(receiveTimeoutMs);
+    }
+
+    /**
+     * Number of events waiting in the local dead-letter store.
+     */
+    public int getParkedCount() {
+        return deadLetterStore.size();
+    }
+
+    /**
+     * Re-publishes parked events and the workload events found on the broker dead-letter queue.
+     *
+     * @return how many events were taken from each source
+     */
+    public Map<String, Integer> replay() {
+        Optional<String> latestRunId = checkpointRepository.findById(WorkloadReconciliationService.JOB_NAME)
+                .map(ReconciliationCheckpoint::getRunId);
+        List<TrainerWorkloadRequest> drained = deadLetterStore.drain();
+        List<TrainerWorkloadRequest> parked = drained.stream()
+                .filter(event -> !isStaleSnapshot(event, latestRunId))
+                .toList();
+        int stale = drained.size() - parked.size();
+        workloadNotifier.publishBatch(parked);
+
+        int fromBroker = 0;
+        int received = 0;
+        try {
+            Object payload;
+            while (received < maxBrokerMessages
+                    && (payload = dlqTemplate.receiveSelectedAndConvert(deadLetterQueue, WORKLOAD_SELECTOR)) != null) {
+                received++;
+                TrainerWorkloadRequest event = (TrainerWorkloadRequest) payload;
+                if (isStaleSnapshot(event, latestRunId)) {
+                    stale++;
+                    continue;
+                }
+                workloadNotifier.publish(event);
+                fromBroker++;
+            }
+        } catch (RuntimeException e) {
+            logger.error("Could not read dead-letter queue {}: {}", deadLetterQueue, e.getMessage(), e);
+        }
+
+        logger.info("Replayed {} parked and {} broker dead-lettered workload events, dropped {} stale snapshots",
+                parked.size(), fromBroker, stale);
+        Map<String, Integer> result = new LinkedHashMap<>();
+        result.put("replayedParked", parked.size());
+        result.put("replayedFromBroker", fromBroker);
+        result.put("droppedStaleSnapshots", stale);
+        result.put("stillParked", deadLetterStore.size());
+        return result;
+    }
+
+    private static boolean isStaleSnapshot(TrainerWorkloadRequest event, Optional<String> latestRunId) {
+        return event.getActionType() == ActionType.SNAPSHOT
+                && latestRunId.filter(runId -> !TrainerWorkloadFolder.isFromRun(event, runId)).isPresent();
+    }
+}
@@ -1,10 +1,34 @@
 package com.epam.gymapp.util;
 
+import java.util.concurrent.Callable;
+
+import org.slf4j.MDC;
+
+/**
+ * Transaction id of the work running on the current thread, mirrored into the logging MDC
+ * under {@value #MDC_KEY}. The id does not follow work to other threads by itself: executors
+ * use {@link #wrap(Runnable)} (through the task decorator), JMS listeners restore it from the
+ * message and outgoing HTTP calls forward it as {@value #HEADER}.
+ * Plain (not inheritable) thread locals with restore-on-exit keep this correct on pooled
+ * and virtual threads alike.
+ */
 public class TransactionContext {
+
+    /** HTTP header carrying the transaction id between services. */
+    public static final String HEADER = "X-Transaction-ID";
+
+    /** MDC key used by the log patterns. */
+    public static final String MDC_KEY = "transactionId";
+
     private static final ThreadLocal<String> transactionId = new ThreadLocal<>();
 
     public static void setTransactionId(String id) {
+        if (id == null) {
+            clearTransactionId();
+            return;
+        }
         transactionId.set(id);
+        MDC.put(MDC_KEY, id);
     }
 
     public static String getTransactionId() {
@@ -13,5 +37,39 @@ public class TransactionContext {
 
     public static void clearTransactionId() {
         transactionId.remove();
+        MDC.remove(MDC_KEY);
+    }
+
+    /**
+     * Returns a task that runs with the transaction id of the calling thread and afterwards
+     * puts back whatever id the executing thread had before.
+     */
+    public static Runnable wrap(Runnable task) {
+        String captured = getTransactionId();
+        return () -> {
+            String previous = getTransactionId();
+            setTransactionId(captured);
+            try {
+                task.run();
+            } finally {
+                setTransactionId(previous);
+            }
+        };
+    }
+
+    /**
+     * {@link Callable} variant of {@link #wrap(Runnable)}.
+     */
+    public static <T> Callable<T> wrap(Callable<T> task) {
+        String captured = getTransactionId();
+        return () -> {
+            String previous = getTransactionId();
+            setTransactionId(captured);
+            try {
+                return task.call();
+            } finally {
+                setTransactionId(previous);
+            }
+        };
     }
-}
\ No newline at end of file
+}
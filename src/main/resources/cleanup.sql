@@ -1,3 +1,6 @@
+DELETE FROM reconciliation_checkpoints;
+DELETE FROM workload_dead_letters;
+DELETE FROM trainer_monthly_summary;
 DELETE FROM trainings;
 DELETE FROM trainee_trainer;
 DELETE FROM trainers;
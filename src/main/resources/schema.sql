@@ -49,6 +49,42 @@ CREATE TABLE trainings (
     CONSTRAINT fk_training_type FOREIGN KEY (training_type_id) REFERENCES training_types(id)
 );
 
+CREATE INDEX idx_trainings_trainer_date ON trainings (trainer_id, training_date);
+CREATE INDEX idx_trainings_date ON trainings (training_date);
+
+CREATE TABLE reconciliation_checkpoints (
+    job_name VARCHAR(100) PRIMARY KEY,
+    run_id VARCHAR(255) NOT NULL,
+    last_trainer_id BIGINT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    rows_scanned BIGINT NOT NULL,
+    snapshots_published BIGINT NOT NULL,
+    started_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL
+);
+
+CREATE TABLE workload_dead_letters (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    event_id VARCHAR(64) NOT NULL,
+    username VARCHAR(100),
+    first_name VARCHAR(100),
+    last_name VARCHAR(100),
+    is_active BOOLEAN,
+    training_date DATE,
+    training_duration INT,
+    action_type VARCHAR(20),
+    parked_at TIMESTAMP NOT NULL
+);
+
+CREATE TABLE trainer_monthly_summary (
+    trainer_id BIGINT NOT NULL,
+    training_year INT NOT NULL,
+    training_month INT NOT NULL,
+    minutes BIGINT NOT NULL,
+    sessions INT NOT NULL,
+    PRIMARY KEY (trainer_id, training_year, training_month)
+);
+
 -- Tipos de entrenamiento
 INSERT INTO training_types (id, name) VALUES
 (1, 'FITNESS'),
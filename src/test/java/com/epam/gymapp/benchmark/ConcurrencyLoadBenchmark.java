@@ -0,0 +1,95 @@
+package com.epam.gymapp.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Closed-loop load against a running instance: each simulated client sends a request as
+ * soon as its previous one completes. Clients are asynchronous, so 10k of them need neither
+ * 10k threads nor a virtual-thread JVM on the client side; they do need a raised open files
+ * limit ({@code ulimit -n}) on both ends.
+ *
+ * Compare the two execution modes on a Java 21 runtime by starting the app once with
+ * {@code mvn -Pjava21 spring-boot:run -Dspring-boot.run.profiles=local} (platform threads)
+ * and once with {@code -Dspring-boot.run.profiles=local,virtual}, each time running:
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.epam.gymapp.benchmark.ConcurrencyLoadBenchmark \
+ *     -Dexec.args="http://localhost:8080/api/v1/trainers/Mike.Trainer 1000,5000,10000 30"
+ * </pre>
+ * Arguments: URL, comma separated client counts, seconds per level. A bearer token for
+ * authenticated endpoints can be passed in the {@code LOAD_TOKEN} environment variable.
+ */
+public class ConcurrencyLoadBenchmark {
+
+    public static void main(String[] args) throws InterruptedException {
+        URI target = URI.create(args.length > 0 ? args[0] : "http://localhost:8080/api/v1/trainers/Mike.Trainer");
+        String[] levels = (args.length > 1 ? args[1] : "1000,5000,10000").split(",");
+        Duration duration = Duration.ofSeconds(args.length > 2 ? Long.parseLong(args[2]) : 30);
+        String token = System.getenv("LOAD_TOKEN");
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        HttpRequest.Builder builder = HttpRequest.newBuilder(target).timeout(Duration.ofSeconds(30)).GET();
+        if (token != null) builder.header("Authorization", "Bearer " + token);
+        HttpRequest request = builder.build();
+
+        System.out.printf("%8s %12s %10s %10s %10s %8s%n", "clients", "requests/s", "p50 ms", "p99 ms", "max ms", "errors");
+        for (String level : levels) {
+            run(client, request, Integer.parseInt(level.trim()), duration);
+        }
+    }
+
+    private static void run(HttpClient client, HttpRequest request, int clients, Duration duration)
+            throws InterruptedException {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        Timer latency = Timer.builder("load.latency").publishPercentiles(0.5, 0.99).register(registry);
+        LongAdder errors = new LongAdder();
+        long deadline = System.nanoTime() + duration.toNanos();
+        CountDownLatch finished = new CountDownLatch(clients);
+
+        for (int i = 0; i < clients; i++) {
+            new Client(client, request, deadline, latency, errors, finished).next();
+        }
+        finished.await(duration.toSeconds() + 60, TimeUnit.SECONDS);
+
+        double seconds = duration.toNanos() / 1e9;
+        double p50 = 0;
+        double p99 = 0;
+        for (ValueAtPercentile percentile : latency.takeSnapshot().percentileValues()) {
+            if (percentile.percentile() == 0.5) p50 = percentile.value(TimeUnit.MILLISECONDS);
+            if (percentile.percentile() == 0.99) p99 = percentile.value(TimeUnit.MILLISECONDS);
+        }
+        System.out.printf("%8d %12.0f %10.1f %10.1f %10.1f %8d%n", clients, latency.count() / seconds, p50, p99,
+                latency.max(TimeUnit.MILLISECONDS), errors.sum());
+    }
+
+    private record Client(HttpClient client, HttpRequest request, long deadline, Timer latency, LongAdder errors,
+            CountDownLatch finished) {
+
+        void next() {
+            if (System.nanoTime() >= deadline) {
+                finished.countDown();
+                return;
+            }
+            long start = System.nanoTime();
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, failure) -> {
+                latency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                if (failure != null || response.statusCode() >= 500) errors.increment();
+                next();
+            });
+        }
+    }
+}
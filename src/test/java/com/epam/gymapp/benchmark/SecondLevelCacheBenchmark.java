@@ -0,0 +1,78 @@
+package com.epam.gymapp.benchmark;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.epam.gymapp.GymappApplication;
+import com.epam.gymapp.monitoring.RequestSqlStats;
+import com.epam.gymapp.service.TraineeService;
+import com.epam.gymapp.service.TrainerService;
+import com.epam.gymapp.service.TrainingService;
+import com.epam.gymapp.service.UserService;
+import com.epam.gymapp.utils.SqlBudget;
+
+/**
+ * Statements per call on the profile, training history and authentication paths, with the
+ * Hibernate second-level cache off and on. Both runs use the same mappings on the seeded H2
+ * database; each call runs in its own read-only transaction, like a request with the session
+ * held open for the view, after a warm-up call that fills the caches.
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.epam.gymapp.benchmark.SecondLevelCacheBenchmark \
+ *     -Dexec.args="100"
+ * </pre>
+ * Argument: measured calls per operation.
+ */
+public class SecondLevelCacheBenchmark {
+
+    public static void main(String[] args) {
+        int calls = args.length > 0 ? Integer.parseInt(args[0]) : 100;
+        Map<String, Double> withoutCache = run(false, calls);
+        Map<String, Double> withCache = run(true, calls);
+
+        System.out.printf("%-24s %14s %14s%n", "operation", "no L2 stmts", "L2 stmts");
+        withoutCache.forEach((operation, statements) -> System.out.printf("%-24s %14.2f %14.2f%n",
+                operation, statements, withCache.get(operation)));
+    }
+
+    private static Map<String, Double> run(boolean secondLevelCache, int calls) {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(GymappApplication.class)
+                .profiles("test", "embedded")
+                .properties("spring.jpa.properties.hibernate.cache.use_second_level_cache=" + secondLevelCache,
+                        "spring.jpa.properties.hibernate.cache.use_query_cache=" + secondLevelCache,
+                        "spring.main.banner-mode=off")
+                .run()) {
+            TraineeService traineeService = context.getBean(TraineeService.class);
+            TrainerService trainerService = context.getBean(TrainerService.class);
+            TrainingService trainingService = context.getBean(TrainingService.class);
+            UserService userService = context.getBean(UserService.class);
+            TransactionTemplate transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+            transaction.setReadOnly(true);
+
+            Map<String, Runnable> operations = new LinkedHashMap<>();
+            operations.put("trainee profile", () -> traineeService.getProfileByUsername("John.Doe"));
+            operations.put("trainer profile", () -> trainerService.getTrainerProfileByUsername("Mike.Trainer"));
+            operations.put("training history", () -> trainingService.getTraineeTrainings("John.Doe", null, null,
+                    null, null));
+            operations.put("load user by username", () -> userService.loadUserByUsername("John.Doe"));
+
+            Map<String, Double> statementsPerCall = new LinkedHashMap<>();
+            operations.forEach((name, operation) -> {
+                Runnable call = () -> transaction.executeWithoutResult(status -> operation.run());
+                call.run();
+                long statements = 0;
+                for (int i = 0; i < calls; i++) {
+                    RequestSqlStats stats = SqlBudget.measure(call);
+                    statements += stats.getStatementCount();
+                }
+                statementsPerCall.put(name, (double) statements / calls);
+            });
+            return statementsPerCall;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.epam.gymapp.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.activemq.command.ActiveMQBytesMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.epam.gymapp.dto.ActionType;
+import com.epam.gymapp.dto.TrainerWorkloadRequest;
+import com.epam.gymapp.messaging.TrainerWorkloadCodec;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+/**
+ * Compares the binary workload codec with JSON (Jackson) and Java serialization, the two
+ * formats the workload message could otherwise be sent in.
+ *
+ * Run with:
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.epam.gymapp.benchmark.WorkloadCodecBenchmark
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WorkloadCodecBenchmark {
+
+    private TrainerWorkloadRequest request;
+    private ObjectMapper objectMapper;
+    private ActiveMQBytesMessage binaryMessage;
+    private byte[] json;
+    private byte[] serialized;
+
+    @Setup
+    public void setUp() throws Exception {
+        request = new TrainerWorkloadRequest("Mike.Trainer", "Mike", "Trainer",
+                true, LocalDate.of(2023, 10, 1), 60, ActionType.ADD);
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        binaryMessage = new ActiveMQBytesMessage();
+        TrainerWorkloadCodec.encode(request, binaryMessage);
+        binaryMessage.reset();
+        json = objectMapper.writeValueAsBytes(request);
+        serialized = javaSerialize(request);
+    }
+
+    @Benchmark
+    public ActiveMQBytesMessage encodeBinary() throws Exception {
+        ActiveMQBytesMessage message = new ActiveMQBytesMessage();
+        TrainerWorkloadCodec.encode(request, message);
+        message.reset();
+        return message;
+    }
+
+    @Benchmark
+    public byte[] encodeJson() throws Exception {
+        return objectMapper.writeValueAsBytes(request);
+    }
+
+    @Benchmark
+    public byte[] encodeJavaSerialization() throws IOException {
+        return javaSerialize(request);
+    }
+
+    @Benchmark
+    public TrainerWorkloadRequest decodeBinary() throws Exception {
+        binaryMessage.reset();
+        return TrainerWorkloadCodec.decode(binaryMessage);
+    }
+
+    @Benchmark
+    public TrainerWorkloadRequest decodeJson() throws Exception {
+        return objectMapper.readValue(json, TrainerWorkloadRequest.class);
+    }
+
+    @Benchmark
+    public Object decodeJavaSerialization() throws Exception {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(serialized))) {
+            return in.readObject();
+        }
+    }
+
+    private static byte[] javaSerialize(Object value) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        }
+        return bytes.toByteArray();
+    }
+
+    public static void main(String[] args) throws Exception {
+        WorkloadCodecBenchmark sizes = new WorkloadCodecBenchmark();
+        sizes.setUp();
+        System.out.printf("Payload size: binary=%d bytes, json=%d bytes, java serialization=%d bytes%n",
+                sizes.binaryMessage.getBodyLength(), sizes.json.length, sizes.serialized.length);
+
+        runBenchmarks(WorkloadCodecBenchmark.class);
+    }
+
+    static void runBenchmarks(Class<?> benchmarkClass) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(benchmarkClass.getSimpleName())
+                .build())
+            .run();
+    }
+}
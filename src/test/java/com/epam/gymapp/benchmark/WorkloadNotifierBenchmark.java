@@ -0,0 +1,212 @@
+package com.epam.gymapp.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.activemq.ActiveMQConnectionFactory;
+import org.apache.activemq.broker.BrokerService;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jms.connection.CachingConnectionFactory;
+import org.springframework.jms.core.JmsTemplate;
+import org.springframework.scheduling.concurrent.SimpleAsyncTaskScheduler;
+
+import com.epam.gymapp.client.TrainerWorkloadClient;
+import com.epam.gymapp.config.EmbeddedBrokerConfig;
+import com.epam.gymapp.dto.ActionType;
+import com.epam.gymapp.dto.TrainerWorkloadRequest;
+import com.epam.gymapp.messaging.HttpWorkloadNotifier;
+import com.epam.gymapp.messaging.InProcessWorkloadNotifier;
+import com.epam.gymapp.messaging.JmsWorkloadNotifier;
+import com.epam.gymapp.messaging.TrainerWorkloadMessageConverter;
+import com.epam.gymapp.messaging.WorkloadDeadLetterStore;
+import com.epam.gymapp.messaging.WorkloadDestinations;
+import com.epam.gymapp.messaging.WorkloadNotifier;
+import com.epam.gymapp.service.TrainingPublisher;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.sun.net.httpserver.HttpServer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.jms.Connection;
+import jakarta.jms.Session;
+
+/**
+ * Latency and throughput of the {@link WorkloadNotifier} transports against local stand-ins:
+ * an embedded in-memory broker over {@code vm://} for JMS, a JDK HTTP server that accepts
+ * every request for HTTP, and the in-process notifier itself. {@code publishOne} on the HTTP
+ * transport only measures queueing, since sending happens on the flusher thread;
+ * {@code publishBatch} is synchronous for every transport.
+ *
+ * Run with:
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.epam.gymapp.benchmark.WorkloadNotifierBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WorkloadNotifierBenchmark {
+
+    private static final int BATCH_SIZE = 100;
+
+    @Param({"jms", "http", "in-process"})
+    public String transport;
+
+    private WorkloadNotifier notifier;
+    private BrokerService broker;
+    private CachingConnectionFactory connectionFactory;
+    private Connection drainConnection;
+    private HttpServer httpServer;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        WorkloadDeadLetterStore deadLetterStore = Mockito.mock(WorkloadDeadLetterStore.class);
+        switch (transport) {
+            case "jms" -> notifier = new JmsWorkloadNotifier(startBroker(deadLetterStore), meterRegistry);
+            case "http" -> {
+                HttpWorkloadNotifier http = new HttpWorkloadNotifier(startHttpServer(), deadLetterStore,
+                        meterRegistry, BATCH_SIZE, 5, 100_000);
+                http.start();
+                notifier = http;
+            }
+            case "in-process" -> notifier = new InProcessWorkloadNotifier(meterRegistry);
+            default -> throw new IllegalArgumentException(transport);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        if (notifier instanceof HttpWorkloadNotifier http) {
+            http.stop();
+        }
+        if (httpServer != null) {
+            httpServer.stop(0);
+        }
+        if (broker != null) {
+            drainConnection.close();
+            connectionFactory.destroy();
+            broker.stop();
+            broker.waitUntilStopped();
+        }
+    }
+
+    @Benchmark
+    public void publishOne() {
+        notifier.publish(event());
+    }
+
+    @Benchmark
+    public void publishBatch() {
+        List<TrainerWorkloadRequest> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            batch.add(event());
+        }
+        notifier.publishBatch(batch);
+    }
+
+    private static TrainerWorkloadRequest event() {
+        return new TrainerWorkloadRequest("Mike.Trainer", "Mike", "Trainer",
+                true, LocalDate.of(2023, 10, 1), 60, ActionType.ADD);
+    }
+
+    private TrainingPublisher startBroker(WorkloadDeadLetterStore deadLetterStore) throws Exception {
+        broker = EmbeddedBrokerConfig.createBroker("notifier-benchmark", EmbeddedBrokerConfig.PERSISTENCE_MEMORY,
+                Files.createTempDirectory("notifier-benchmark").toFile(), true, 64, 30_000);
+        broker.start();
+        broker.waitUntilStarted();
+        connectionFactory = new CachingConnectionFactory(
+                new ActiveMQConnectionFactory("vm://notifier-benchmark?create=false"));
+
+        drainConnection = connectionFactory.createConnection();
+        Session session = drainConnection.createSession(false, Session.AUTO_ACKNOWLEDGE);
+        session.createConsumer(session.createQueue(WorkloadDestinations.TRAINING_QUEUE)).setMessageListener(message -> { });
+        drainConnection.start();
+
+        JmsTemplate jmsTemplate = new JmsTemplate(connectionFactory);
+        jmsTemplate.setMessageConverter(new TrainerWorkloadMessageConverter());
+        return new TrainingPublisher(jmsTemplate, deadLetterStore, new SimpleAsyncTaskScheduler(), 1, 0, 1.0, 0);
+    }
+
+    /**
+     * Starts a server that accepts any workload update and returns a client for it that
+     * serializes like the Feign client does.
+     */
+    private TrainerWorkloadClient startHttpServer() throws IOException {
+        httpServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        httpServer.createContext("/api/trainer-workload/", exchange -> {
+            try (InputStream body = exchange.getRequestBody()) {
+                body.transferTo(OutputStream.nullOutputStream());
+            }
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        httpServer.setExecutor(Executors.newFixedThreadPool(4));
+        httpServer.start();
+
+        String baseUrl = "http://localhost:" + httpServer.getAddress().getPort() + "/api/trainer-workload/update";
+        HttpClient httpClient = HttpClient.newHttpClient();
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        return new TrainerWorkloadClient() {
+            @Override
+            public ResponseEntity<String> updateTrainerWorkload(TrainerWorkloadRequest request) {
+                return post(baseUrl, request);
+            }
+
+            @Override
+            public ResponseEntity<String> updateTrainerWorkloadBatch(List<TrainerWorkloadRequest> requests) {
+                return post(baseUrl + "/batch", requests);
+            }
+
+            private ResponseEntity<String> post(String url, Object body) {
+                try {
+                    HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                            .build();
+                    HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                    return ResponseEntity.status(response.statusCode()).build();
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException(e);
+                }
+            }
+        };
+    }
+
+    public static void main(String[] args) throws Exception {
+        WorkloadCodecBenchmark.runBenchmarks(WorkloadNotifierBenchmark.class);
+    }
+}
@@ -0,0 +1,117 @@
+package com.epam.gymapp.benchmark;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.activemq.ActiveMQConnectionFactory;
+import org.apache.activemq.broker.BrokerService;
+import org.apache.activemq.broker.TransportConnector;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jms.connection.CachingConnectionFactory;
+import org.springframework.jms.core.JmsTemplate;
+import org.springframework.scheduling.concurrent.SimpleAsyncTaskScheduler;
+
+import com.epam.gymapp.config.EmbeddedBrokerConfig;
+import com.epam.gymapp.dto.ActionType;
+import com.epam.gymapp.dto.TrainerWorkloadRequest;
+import com.epam.gymapp.messaging.TrainerWorkloadMessageConverter;
+import com.epam.gymapp.messaging.WorkloadDeadLetterStore;
+import com.epam.gymapp.messaging.WorkloadDestinations;
+import com.epam.gymapp.service.TrainingPublisher;
+
+import jakarta.jms.Connection;
+import jakarta.jms.MessageConsumer;
+import jakarta.jms.Session;
+
+/**
+ * Throughput of {@link TrainingPublisher#sendTraining} against an embedded broker, comparing
+ * the in-VM transport with a local TCP connector and in-memory with KahaDB persistence.
+ * A consumer drains the queue so producer flow control reflects steady state.
+ *
+ * Run with:
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.epam.gymapp.benchmark.WorkloadPublishBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class WorkloadPublishBenchmark {
+
+    @Param({"vm", "tcp"})
+    public String transport;
+
+    @Param({EmbeddedBrokerConfig.PERSISTENCE_MEMORY, EmbeddedBrokerConfig.PERSISTENCE_KAHADB})
+    public String persistence;
+
+    private BrokerService broker;
+    private CachingConnectionFactory connectionFactory;
+    private Connection drainConnection;
+    private TrainingPublisher publisher;
+    private File dataDirectory;
+
+    @Setup(Level.Trial)
+    public void startBroker() throws Exception {
+        dataDirectory = Files.createTempDirectory("publish-benchmark").toFile();
+        broker = EmbeddedBrokerConfig.createBroker("benchmark-broker", persistence, dataDirectory, true, 64, 30_000);
+        TransportConnector tcpConnector = broker.addConnector("tcp://localhost:0");
+        broker.start();
+        broker.waitUntilStarted();
+
+        String brokerUrl = "vm".equals(transport)
+                ? "vm://benchmark-broker?create=false"
+                : tcpConnector.getPublishableConnectString();
+        connectionFactory = new CachingConnectionFactory(new ActiveMQConnectionFactory(brokerUrl));
+        connectionFactory.setSessionCacheSize(8);
+
+        drainConnection = connectionFactory.createConnection();
+        Session session = drainConnection.createSession(false, Session.AUTO_ACKNOWLEDGE);
+        MessageConsumer consumer = session.createConsumer(session.createQueue(WorkloadDestinations.TRAINING_QUEUE));
+        consumer.setMessageListener(message -> { });
+        drainConnection.start();
+
+        JmsTemplate jmsTemplate = new JmsTemplate(connectionFactory);
+        jmsTemplate.setMessageConverter(new TrainerWorkloadMessageConverter());
+        publisher = new TrainingPublisher(jmsTemplate, Mockito.mock(WorkloadDeadLetterStore.class),
+                new SimpleAsyncTaskScheduler(), 1, 0, 1.0, 0);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopBroker() throws Exception {
+        drainConnection.close();
+        connectionFactory.destroy();
+        broker.stop();
+        broker.waitUntilStopped();
+    }
+
+    @Benchmark
+    public void publish() {
+        publisher.sendTraining(new TrainerWorkloadRequest("Mike.Trainer", "Mike", "Trainer",
+                true, LocalDate.of(2023, 10, 1), 60, ActionType.ADD));
+    }
+
+    public static void main(String[] args) throws Exception {
+        WorkloadCodecBenchmark.runBenchmarks(WorkloadPublishBenchmark.class);
+    }
+}
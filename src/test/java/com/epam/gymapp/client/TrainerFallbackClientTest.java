@@ -0,0 +1,90 @@
+package com.epam.gymapp.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.net.ConnectException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.epam.gymapp.dto.TrainerWorkloadRequest;
+import com.epam.gymapp.messaging.WorkloadDeadLetterStore;
+
+import feign.FeignException;
+import feign.Request;
+import feign.RetryableException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+
+class TrainerFallbackClientTest {
+
+    private WorkloadDeadLetterStore deadLetterStore;
+    private TrainerFallbackFactory fallbackFactory;
+
+    @BeforeEach
+    void setUp() {
+        deadLetterStore = mock(WorkloadDeadLetterStore.class);
+        fallbackFactory = new TrainerFallbackFactory(deadLetterStore);
+    }
+
+    private static Request request() {
+        return Request.create(Request.HttpMethod.POST, "/api/trainer-workload/update", Map.of(), null,
+                StandardCharsets.UTF_8, null);
+    }
+
+    @Test
+    void testUpdateTrainerWorkload_QueuesRequestWhenBreakerIsOpen() {
+        TrainerWorkloadRequest request = new TrainerWorkloadRequest();
+        CallNotPermittedException open =
+                CallNotPermittedException.createCallNotPermittedException(CircuitBreaker.ofDefaults("workload"));
+
+        ResponseEntity<String> response = fallbackFactory.create(open).updateTrainerWorkload(request);
+
+        assertEquals(HttpStatus.ACCEPTED, response.getStatusCode());
+        assertTrue(TrainerFallbackClient.isParked(response));
+        verify(deadLetterStore).park(request);
+    }
+
+    @Test
+    void testUpdateTrainerWorkloadBatch_QueuesEveryRequestOnTimeout() {
+        ResponseEntity<String> response = fallbackFactory.create(new TimeoutException("slow"))
+                .updateTrainerWorkloadBatch(List.of(new TrainerWorkloadRequest(), new TrainerWorkloadRequest()));
+
+        assertEquals(HttpStatus.ACCEPTED, response.getStatusCode());
+        verify(deadLetterStore, times(2)).park(any(TrainerWorkloadRequest.class));
+    }
+
+    @Test
+    void testQueuesOnServerErrorsAndIoErrors() {
+        FeignException serverError = new FeignException.ServiceUnavailable("down", request(), null, Map.of());
+        RetryableException refused = new RetryableException(-1, "refused", Request.HttpMethod.POST,
+                new ConnectException("refused"), (Long) null, request());
+
+        assertTrue(TrainerFallbackClient.isParked(
+                fallbackFactory.create(serverError).updateTrainerWorkload(new TrainerWorkloadRequest())));
+        assertTrue(TrainerFallbackClient.isParked(
+                fallbackFactory.create(refused).updateTrainerWorkload(new TrainerWorkloadRequest())));
+        verify(deadLetterStore, times(2)).park(any(TrainerWorkloadRequest.class));
+    }
+
+    @Test
+    void testDropsRequestsTheServiceRejected() {
+        FeignException badRequest = new FeignException.BadRequest("invalid", request(),
+                "missing username".getBytes(StandardCharsets.UTF_8), Map.of());
+
+        ResponseEntity<String> response = fallbackFactory.create(badRequest)
+                .updateTrainerWorkload(new TrainerWorkloadRequest());
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertFalse(TrainerFallbackClient.isParked(response));
+        verifyNoInteractions(deadLetterStore);
+    }
+}
@@ -0,0 +1,99 @@
+package com.epam.gymapp.config;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Endpoints that act on other users' accounts or on the service itself are refused to
+ * ordinary users.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles({"test", "embedded"})
+class AdminEndpointSecurityTest {
+
+    private static final String BULK_STATUS = "{\"usernames\":[\"Nobody.Here\"],\"active\":false}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void testBulkStatusForbiddenForUsers() throws Exception {
+        mockMvc.perform(patch("/api/v1/account/status").contentType(MediaType.APPLICATION_JSON).content(BULK_STATUS))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithMockUser(roles = {"USER", "ADMIN"})
+    void testBulkStatusAllowedForAdmins() throws Exception {
+        mockMvc.perform(patch("/api/v1/account/status").contentType(MediaType.APPLICATION_JSON).content(BULK_STATUS))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void testSummaryRebuildForbiddenForUsers() throws Exception {
+        mockMvc.perform(post("/api/v1/workload/monthly-summary/rebuild")).andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void testDeadLetterReplayForbiddenForUsers() throws Exception {
+        mockMvc.perform(post("/api/v1/workload/dead-letters/replay")).andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void testReconciliationForbiddenForUsers() throws Exception {
+        mockMvc.perform(post("/api/v1/workload/reconciliation")).andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void testTrainingAnalyticsForbiddenForUsers() throws Exception {
+        mockMvc.perform(get("/api/v1/analytics/trainings").param("groupBy", "TRAINEE"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void testTrainingAnalyticsReloadForbiddenForUsers() throws Exception {
+        mockMvc.perform(post("/api/v1/analytics/trainings/reload")).andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void testJfrForbiddenForUsers() throws Exception {
+        mockMvc.perform(get("/actuator/jfr")).andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithMockUser(roles = {"USER", "ADMIN"})
+    void testJfrAllowedForAdmins() throws Exception {
+        mockMvc.perform(get("/actuator/jfr")).andExpect(status().isOk());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void testSlowQueriesForbiddenForUsers() throws Exception {
+        mockMvc.perform(get("/actuator/slowqueries")).andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithMockUser(roles = {"USER", "ADMIN"})
+    void testSlowQueriesAllowedForAdmins() throws Exception {
+        mockMvc.perform(get("/actuator/slowqueries")).andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,104 @@
+package com.epam.gymapp.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.epam.gymapp.monitoring.RequestTimings;
+import com.epam.gymapp.monitoring.RequestTimings.Phase;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+class ServerTimingFilterTest {
+
+    private final ServerTimingFilter filter = new ServerTimingFilter(Duration.ofSeconds(10));
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    /**
+     * Stands in for the controller behind Spring Security: authenticates the caller, records
+     * some phases and writes the body.
+     */
+    private static HttpServlet servlet(boolean authenticate, String body) {
+        return new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                if (authenticate) {
+                    SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                            "John.Doe", null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+                }
+                RequestTimings timings = RequestTimings.current();
+                timings.add(Phase.AUTH, 2_000_000);
+                timings.add(Phase.DB, 1_000_000);
+                timings.add(Phase.DB, 500_000);
+                timings.markSerializationStart();
+                resp.getWriter().write(body);
+                SecurityContextHolder.clearContext();
+            }
+        };
+    }
+
+    @Test
+    void testAddsPhasesToHeaderForAuthenticatedCallers() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/trainees/John.Doe");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, new MockFilterChain(servlet(true, "{\"firstName\":\"John\"}")));
+
+        String header = response.getHeader(ServerTimingFilter.HEADER);
+        assertNotNull(header);
+        assertTrue(header.startsWith("auth;dur=2.0;desc=\"JWT and user lookup\", db;dur=1.5;desc=\"JDBC statements (2)\", "),
+                header);
+        assertTrue(header.contains("total;dur="), header);
+        assertFalse(header.contains("hash"), header);
+        assertEquals("{\"firstName\":\"John\"}", response.getContentAsString());
+        assertNull(RequestTimings.current());
+    }
+
+    @Test
+    void testNoHeaderForAnonymousCallers() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/auth/login");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, new MockFilterChain(servlet(false, "{\"token\":\"x\"}")));
+
+        assertNull(response.getHeader(ServerTimingFilter.HEADER));
+        assertEquals("{\"token\":\"x\"}", response.getContentAsString());
+    }
+
+    @Test
+    void testDoesNotBufferStreamingResponses() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/trainings/submissions/1/events");
+        request.addHeader("Accept", "text/event-stream");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        String[] seenBeforeReturn = new String[1];
+
+        filter.doFilter(request, response, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                resp.getWriter().write("event:status\n\n");
+                resp.flushBuffer();
+                seenBeforeReturn[0] = response.getContentAsString();
+            }
+        }));
+
+        assertEquals("event:status\n\n", seenBeforeReturn[0]);
+        assertTrue(response.isCommitted());
+    }
+}
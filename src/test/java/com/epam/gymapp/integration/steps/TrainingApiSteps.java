@@ -7,8 +7,12 @@ import org.junit.jupiter.api.BeforeEach;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import com.epam.gymapp.config.JwtUtils;
+import com.epam.gymapp.dto.ActionType;
 import com.epam.gymapp.dto.TrainerWorkloadRequest;
 import com.epam.gymapp.dto.TrainingDto;
+import com.epam.gymapp.messaging.WorkloadDestinations;
+import com.epam.gymapp.monitoring.SqlStatsRegistry;
+import com.epam.gymapp.utils.SqlBudget;
 import com.epam.gymapp.utils.WorkloadSpyListener;
 
 import io.cucumber.java.en.Given;
@@ -16,6 +20,7 @@ import io.cucumber.java.en.Then;
 import io.cucumber.java.en.When;
 import io.cucumber.spring.CucumberContextConfiguration;
 
+import org.springframework.jms.core.JmsTemplate;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -30,7 +35,7 @@ import java.util.UUID;
 
 @CucumberContextConfiguration
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
-@ActiveProfiles("test")
+@ActiveProfiles({"test", "embedded"})
 public class TrainingApiSteps {
 
     @LocalServerPort
@@ -45,6 +50,12 @@ public class TrainingApiSteps {
     @Autowired
     private JwtUtils jwtService;
 
+    @Autowired
+    private SqlStatsRegistry sqlStatsRegistry;
+
+    @Autowired
+    private JmsTemplate jmsTemplate;
+
     @BeforeEach
     public void clearWorkloadSpy() {
         WorkloadSpyListener.clear();
@@ -103,6 +114,7 @@ public class TrainingApiSteps {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
         headers.setBearerAuth(authToken);
+        headers.set("X-Transaction-ID", transactionId);
         HttpEntity<TrainingDto> entity = new HttpEntity<>(request, headers);
 
         try {
@@ -112,12 +124,66 @@ public class TrainingApiSteps {
         }
     }
 
+    @When("the same workload event for trainer {string} is delivered twice")
+    public void deliverWorkloadEventTwice(String trainer) {
+        TrainerWorkloadRequest event = new TrainerWorkloadRequest(trainer, "Mike", "Trainer", true,
+                LocalDate.of(2023, 10, 1), 60, ActionType.ADD);
+        event.setEventId(UUID.randomUUID().toString());
+        for (int i = 0; i < 2; i++) {
+            jmsTemplate.convertAndSend(WorkloadDestinations.TRAINING_QUEUE, event, message -> {
+                message.setStringProperty(WorkloadDestinations.EVENT_ID_PROPERTY, event.getEventId());
+                return message;
+            });
+        }
+    }
+
+    @When("the profile of trainee {string} is requested")
+    public void requestTraineeProfile(String trainee) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(authToken);
+        headers.set("X-Transaction-ID", transactionId);
+
+        try {
+            lastResponse = restTemplate.exchange(baseUrl + "/api/v1/trainees/" + trainee, HttpMethod.GET,
+                    new HttpEntity<>(headers), String.class);
+        } catch (HttpClientErrorException e) {
+            lastResponse = ResponseEntity.status(e.getStatusCode()).body(e.getResponseBodyAsString());
+        }
+    }
+
+    @Then("the request should run at most {int} SQL statements")
+    public void verifySqlStatementBudget(int maxStatements) {
+        SqlBudget.assertWithin(SqlBudget.forRequest(sqlStatsRegistry, transactionId), maxStatements, Integer.MAX_VALUE);
+    }
+
+    @Then("no SQL statement should run more than {int} times")
+    public void verifyNoRepeatedStatements(int maxRepeats) {
+        SqlBudget.assertWithin(SqlBudget.forRequest(sqlStatsRegistry, transactionId), Integer.MAX_VALUE, maxRepeats);
+    }
+
     @Then("the trainer workload should be updated in the receiving service")
     public void verifyWorkloadWasUpdated() throws InterruptedException {
         waitForMessage();
         assertNotNull(lastReceivedWorkload, "Expected a TrainerWorkloadRequest to be received.");
     }
 
+    @Then("the workload update should carry the request's transaction id")
+    public void verifyTransactionIdPropagated() throws InterruptedException {
+        waitForMessage();
+        assertEquals(transactionId, WorkloadSpyListener.getLastTransactionId());
+    }
+
+    @Then("the receiving service should ignore {int} duplicate workload update")
+    public void verifyDuplicatesIgnored(int expected) throws InterruptedException {
+        waitForMessage();
+        await()
+            .atMost(5, SECONDS)
+            .pollInterval(200, java.util.concurrent.TimeUnit.MILLISECONDS)
+            .until(() -> WorkloadSpyListener.getDuplicates() >= expected);
+        Thread.sleep(500);
+        assertEquals(expected, WorkloadSpyListener.getDuplicates());
+    }
+
     @Then("no workload update should be received")
     public void verifyNoWorkloadUpdate() throws InterruptedException {
         Thread.sleep(2000);
@@ -0,0 +1,109 @@
+package com.epam.gymapp.messaging;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.activemq.command.ActiveMQBytesMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jms.core.JmsTemplate;
+
+import com.epam.gymapp.service.CacheInvalidationEvent;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.jms.JMSException;
+
+class CacheInvalidationBusTest {
+
+    private final LocalCache localCache = mock(LocalCache.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private CacheInvalidationBus bus;
+
+    @BeforeEach
+    void setUp() {
+        bus = new CacheInvalidationBus(mock(JmsTemplate.class), List.of(localCache), meterRegistry, 50, 30_000, 1000);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        bus.stop();
+    }
+
+    @Test
+    void testCodecRoundTrip() throws JMSException {
+        Map<CacheInvalidationEvent.Type, List<String>> entries = new LinkedHashMap<>();
+        entries.put(CacheInvalidationEvent.Type.USER, List.of("John.Doe"));
+        entries.put(CacheInvalidationEvent.Type.TRAINER, List.of("Mike.Trainer", "Laura.Trainer"));
+
+        ActiveMQBytesMessage message = new ActiveMQBytesMessage();
+        CacheInvalidationBus.encode(entries, message);
+        message.reset();
+
+        assertEquals(entries, CacheInvalidationBus.decode(message));
+    }
+
+    @Test
+    void testAppliesInvalidationsFromOtherNodes() throws JMSException {
+        bus.onMessage(message("node-a", 1, CacheInvalidationBus.KIND_KEYS, "John.Doe"));
+        bus.onMessage(message("node-a", 2, CacheInvalidationBus.KIND_KEYS, "Mike.Trainer"));
+
+        verify(localCache).invalidate(CacheInvalidationEvent.Type.USER, List.of("John.Doe"));
+        verify(localCache).invalidate(CacheInvalidationEvent.Type.USER, List.of("Mike.Trainer"));
+        verify(localCache, never()).invalidateAll();
+        assertEquals(2.0, meterRegistry.counter("gymapp_cache_invalidations_total", "direction", "received").count());
+    }
+
+    @Test
+    void testIgnoresOwnMessages() throws JMSException {
+        bus.onMessage(message(bus.getNodeId(), 1, CacheInvalidationBus.KIND_KEYS, "John.Doe"));
+
+        verifyNoInteractions(localCache);
+    }
+
+    @Test
+    void testSkippedSequenceFlushesEverything() throws JMSException {
+        bus.onMessage(message("node-a", 1, CacheInvalidationBus.KIND_KEYS, "John.Doe"));
+        bus.onMessage(message("node-a", 3, CacheInvalidationBus.KIND_KEYS, "Mike.Trainer"));
+
+        verify(localCache).invalidateAll();
+        verify(localCache, never()).invalidate(CacheInvalidationEvent.Type.USER, List.of("Mike.Trainer"));
+        assertEquals(1.0, meterRegistry.counter("gymapp_cache_invalidation_full_flushes_total", "reason", "gap").count());
+    }
+
+    @Test
+    void testHeartbeatRevealsLostMessage() throws JMSException {
+        bus.onMessage(message("node-a", 4, CacheInvalidationBus.KIND_HEARTBEAT));
+        bus.onMessage(message("node-a", 4, CacheInvalidationBus.KIND_HEARTBEAT));
+        verify(localCache, never()).invalidateAll();
+
+        bus.onMessage(message("node-a", 5, CacheInvalidationBus.KIND_HEARTBEAT));
+
+        verify(localCache).invalidateAll();
+    }
+
+    @Test
+    void testFlushRequestDropsEverything() throws JMSException {
+        bus.onMessage(message("node-a", 1, CacheInvalidationBus.KIND_ALL));
+
+        verify(localCache).invalidateAll();
+        assertEquals(1.0, meterRegistry.counter("gymapp_cache_invalidation_full_flushes_total", "reason", "requested").count());
+    }
+
+    private static ActiveMQBytesMessage message(String origin, long sequence, String kind, String... usernames)
+            throws JMSException {
+        ActiveMQBytesMessage message = new ActiveMQBytesMessage();
+        message.setStringProperty(CacheInvalidationBus.ORIGIN_PROPERTY, origin);
+        message.setLongProperty(CacheInvalidationBus.SEQUENCE_PROPERTY, sequence);
+        message.setStringProperty(CacheInvalidationBus.KIND_PROPERTY, kind);
+        if (CacheInvalidationBus.KIND_KEYS.equals(kind)) {
+            CacheInvalidationBus.encode(Map.of(CacheInvalidationEvent.Type.USER, List.of(usernames)), message);
+        }
+        message.reset();
+        return message;
+    }
+}
@@ -0,0 +1,118 @@
+package com.epam.gymapp.messaging;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+
+import org.apache.activemq.command.ActiveMQBytesMessage;
+import org.apache.activemq.command.ActiveMQTextMessage;
+import org.junit.jupiter.api.Test;
+
+import com.epam.gymapp.dto.ActionType;
+import com.epam.gymapp.dto.TrainerWorkloadRequest;
+
+import jakarta.jms.JMSException;
+import jakarta.jms.MessageFormatException;
+
+class TrainerWorkloadCodecTest {
+
+    @Test
+    void testRoundTrip() throws JMSException {
+        TrainerWorkloadRequest request = new TrainerWorkloadRequest("Mike.Trainer", "Mike", "Trainer",
+                true, LocalDate.of(2023, 10, 1), 60, ActionType.ADD);
+
+        ActiveMQBytesMessage message = new ActiveMQBytesMessage();
+        TrainerWorkloadCodec.encode(request, message);
+        message.reset();
+
+        TrainerWorkloadRequest decoded = TrainerWorkloadCodec.decode(message);
+
+        assertEquals("Mike.Trainer", decoded.getUsername());
+        assertEquals("Mike", decoded.getFirstName());
+        assertEquals("Trainer", decoded.getLastName());
+        assertTrue(decoded.getIsActive());
+        assertEquals(LocalDate.of(2023, 10, 1), decoded.getTrainingDate());
+        assertEquals(60, decoded.getTrainingDuration());
+        assertEquals(ActionType.ADD, decoded.getActionType());
+    }
+
+    @Test
+    void testRoundTripKeepsEventId() throws JMSException {
+        TrainerWorkloadRequest request = new TrainerWorkloadRequest("Mike.Trainer", "Mike", "Trainer",
+                true, LocalDate.of(2023, 10, 1), 60, ActionType.ADD);
+        request.setEventId("4f1c2a7e-0d7b-4c8e-9a51-3f2d7d1b9c10");
+
+        ActiveMQBytesMessage message = new ActiveMQBytesMessage();
+        TrainerWorkloadCodec.encode(request, message);
+        message.reset();
+
+        assertEquals("4f1c2a7e-0d7b-4c8e-9a51-3f2d7d1b9c10", TrainerWorkloadCodec.decode(message).getEventId());
+    }
+
+    @Test
+    void testDecodesVersionOneMessages() throws JMSException {
+        ActiveMQBytesMessage message = new ActiveMQBytesMessage();
+        message.writeByte((byte) 1);
+        message.writeByte((byte) 1);
+        message.writeUTF("Mike.Trainer");
+        message.reset();
+
+        TrainerWorkloadRequest decoded = TrainerWorkloadCodec.decode(message);
+
+        assertEquals("Mike.Trainer", decoded.getUsername());
+        assertNull(decoded.getEventId());
+    }
+
+    @Test
+    void testRoundTripKeepsNullFields() throws JMSException {
+        TrainerWorkloadRequest request = new TrainerWorkloadRequest();
+        request.setUsername("Laura.Trainer");
+        request.setIsActive(false);
+        request.setActionType(ActionType.DELETE);
+
+        ActiveMQBytesMessage message = new ActiveMQBytesMessage();
+        TrainerWorkloadCodec.encode(request, message);
+        message.reset();
+
+        TrainerWorkloadRequest decoded = TrainerWorkloadCodec.decode(message);
+
+        assertEquals("Laura.Trainer", decoded.getUsername());
+        assertNull(decoded.getFirstName());
+        assertNull(decoded.getTrainingDate());
+        assertNull(decoded.getTrainingDuration());
+        assertFalse(decoded.getIsActive());
+        assertEquals(ActionType.DELETE, decoded.getActionType());
+    }
+
+    @Test
+    void testEncodedSizeIsCompact() throws JMSException {
+        TrainerWorkloadRequest request = new TrainerWorkloadRequest("Mike.Trainer", "Mike", "Trainer",
+                true, LocalDate.of(2023, 10, 1), 60, ActionType.ADD);
+
+        ActiveMQBytesMessage message = new ActiveMQBytesMessage();
+        TrainerWorkloadCodec.encode(request, message);
+        message.reset();
+
+        assertTrue(message.getBodyLength() < 48, "Encoded size was " + message.getBodyLength());
+    }
+
+    @Test
+    void testUnknownSchemaVersionIsRejected() throws JMSException {
+        ActiveMQBytesMessage message = new ActiveMQBytesMessage();
+        message.writeByte((byte) 99);
+        message.writeByte((byte) 0);
+        message.reset();
+
+        assertThrows(MessageFormatException.class, () -> TrainerWorkloadCodec.decode(message));
+    }
+
+    @Test
+    void testConverterDelegatesOtherMessages() throws JMSException {
+        ActiveMQTextMessage message = new ActiveMQTextMessage();
+        message.setText("hello");
+
+        Object result = new TrainerWorkloadMessageConverter().fromMessage(message);
+
+        assertEquals("hello", result);
+    }
+}
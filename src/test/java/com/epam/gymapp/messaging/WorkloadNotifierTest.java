@@ -0,0 +1,210 @@
+package com.epam.gymapp.messaging;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jms.UncategorizedJmsException;
+import org.springframework.jms.core.JmsTemplate;
+import org.springframework.jms.core.MessagePostProcessor;
+import org.springframework.jms.core.ProducerCallback;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import com.epam.gymapp.client.TrainerFallbackClient;
+import com.epam.gymapp.client.TrainerWorkloadClient;
+import com.epam.gymapp.dto.ActionType;
+import com.epam.gymapp.dto.TrainerWorkloadRequest;
+import com.epam.gymapp.service.TrainingPublisher;
+import com.epam.gymapp.util.TransactionContext;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class WorkloadNotifierTest {
+
+    @Mock
+    private TrainerWorkloadClient trainerWorkloadClient;
+
+    @Mock
+    private WorkloadDeadLetterStore deadLetterStore;
+
+    private SimpleMeterRegistry meterRegistry;
+    private HttpWorkloadNotifier httpNotifier;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (httpNotifier != null) {
+            httpNotifier.stop();
+        }
+    }
+
+    private static TrainerWorkloadRequest event(LocalDate date, int minutes, ActionType actionType) {
+        return new TrainerWorkloadRequest("Mike.Trainer", "Mike", "Trainer", true, date, minutes, actionType);
+    }
+
+    @Test
+    void testInProcess_AppliesEventsAndRecordsMetrics() {
+        InProcessWorkloadNotifier notifier = new InProcessWorkloadNotifier(meterRegistry);
+        LocalDate october = LocalDate.of(2023, 10, 1);
+
+        notifier.publish(event(october, 60, ActionType.ADD));
+        notifier.publishBatch(List.of(event(october, 30, ActionType.ADD), event(october, 20, ActionType.DELETE)));
+
+        assertEquals(70, notifier.getMonthlyMinutes("Mike.Trainer", YearMonth.of(2023, 10)));
+        assertEquals(3, meterRegistry.get("workload_notify_events_total")
+                .tags("transport", "in-process", "outcome", "success").counter().count());
+        assertEquals(2, meterRegistry.get("workload_notify_seconds")
+                .tags("transport", "in-process", "outcome", "success").timer().count());
+
+        notifier.publish(event(october, 15, ActionType.SNAPSHOT));
+        assertEquals(15, notifier.getMonthlyMinutes("Mike.Trainer", YearMonth.of(2023, 10)));
+    }
+
+    @Test
+    void testInProcess_CountsFailures() {
+        InProcessWorkloadNotifier notifier = new InProcessWorkloadNotifier(meterRegistry);
+
+        assertThrows(IllegalArgumentException.class, () -> notifier.publish(new TrainerWorkloadRequest()));
+
+        assertEquals(1, meterRegistry.get("workload_notify_events_total")
+                .tags("transport", "in-process", "outcome", "failure").counter().count());
+    }
+
+    @Test
+    void testHttp_CoalescesSingleEventsIntoBatches() {
+        httpNotifier = new HttpWorkloadNotifier(trainerWorkloadClient, deadLetterStore, meterRegistry, 10, 200, 100);
+        httpNotifier.start();
+
+        for (int i = 0; i < 3; i++) {
+            httpNotifier.publish(event(LocalDate.of(2023, 10, 1), 10, ActionType.ADD));
+        }
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<TrainerWorkloadRequest>> batch = ArgumentCaptor.forClass(List.class);
+        verify(trainerWorkloadClient, timeout(2000)).updateTrainerWorkloadBatch(batch.capture());
+        assertEquals(3, batch.getValue().size());
+        assertTrue(batch.getValue().stream().allMatch(request -> request.getEventId() != null));
+    }
+
+    @Test
+    void testHttp_FlusherSendsUnderThePublishersTransactionId() {
+        AtomicReference<String> sentUnder = new AtomicReference<>();
+        when(trainerWorkloadClient.updateTrainerWorkloadBatch(anyList())).thenAnswer(invocation -> {
+            sentUnder.set(TransactionContext.getTransactionId());
+            return ResponseEntity.ok().build();
+        });
+        httpNotifier = new HttpWorkloadNotifier(trainerWorkloadClient, deadLetterStore, meterRegistry, 10, 0, 100);
+        httpNotifier.start();
+
+        TransactionContext.setTransactionId("tx-1");
+        try {
+            httpNotifier.publish(event(LocalDate.of(2023, 10, 1), 10, ActionType.ADD));
+        } finally {
+            TransactionContext.clearTransactionId();
+        }
+
+        verify(trainerWorkloadClient, timeout(2000)).updateTrainerWorkloadBatch(anyList());
+        assertEquals("tx-1", sentUnder.get());
+    }
+
+    @Test
+    void testHttp_ParksBatchWhenServiceFails() {
+        when(trainerWorkloadClient.updateTrainerWorkloadBatch(anyList())).thenThrow(new RuntimeException("down"));
+        httpNotifier = new HttpWorkloadNotifier(trainerWorkloadClient, deadLetterStore, meterRegistry, 10, 0, 100);
+
+        httpNotifier.publishBatch(List.of(event(LocalDate.of(2023, 10, 1), 10, ActionType.ADD),
+                event(LocalDate.of(2023, 10, 2), 10, ActionType.ADD)));
+
+        verify(deadLetterStore, times(2)).park(any(TrainerWorkloadRequest.class));
+        assertEquals(2, meterRegistry.get("workload_notify_events_total")
+                .tags("transport", "http", "outcome", "failure").counter().count());
+    }
+
+    @Test
+    void testHttp_CountsBatchParkedByFallbackAsFailure() {
+        when(trainerWorkloadClient.updateTrainerWorkloadBatch(anyList())).thenAnswer(invocation ->
+                new TrainerFallbackClient(deadLetterStore, new RuntimeException(new IOException("refused")))
+                        .updateTrainerWorkloadBatch(invocation.getArgument(0)));
+        httpNotifier = new HttpWorkloadNotifier(trainerWorkloadClient, deadLetterStore, meterRegistry, 10, 0, 100);
+
+        httpNotifier.publishBatch(List.of(event(LocalDate.of(2023, 10, 1), 10, ActionType.ADD)));
+
+        verify(deadLetterStore, times(1)).park(any(TrainerWorkloadRequest.class));
+        assertEquals(1, meterRegistry.get("workload_notify_events_total")
+                .tags("transport", "http", "outcome", "failure").counter().count());
+        assertEquals(0, meterRegistry.get("workload_notify_events_total")
+                .tags("transport", "http", "outcome", "success").counter().count());
+    }
+
+    @Test
+    void testHttp_ParkedResponseIsRecognised() {
+        assertTrue(TrainerFallbackClient.isParked(
+                new TrainerFallbackClient(deadLetterStore, null).updateTrainerWorkload(new TrainerWorkloadRequest())));
+        assertFalse(TrainerFallbackClient.isParked(ResponseEntity.accepted().build()));
+    }
+
+    @Test
+    void testJms_PublishBatchNowReportsFailureWithoutRetryOrParking() {
+        JmsTemplate jmsTemplate = mock(JmsTemplate.class);
+        TaskScheduler scheduler = mock(TaskScheduler.class);
+        when(jmsTemplate.execute(anyString(), any(ProducerCallback.class)))
+                .thenThrow(new UncategorizedJmsException("broker down"));
+        JmsWorkloadNotifier notifier = new JmsWorkloadNotifier(
+                new TrainingPublisher(jmsTemplate, deadLetterStore, scheduler, 3, 1, 1.0, 1), meterRegistry);
+
+        assertFalse(notifier.publishBatchNow(List.of(event(LocalDate.of(2023, 10, 1), 10, ActionType.SNAPSHOT),
+                event(LocalDate.of(2023, 11, 1), 10, ActionType.SNAPSHOT))));
+
+        verifyNoInteractions(scheduler, deadLetterStore);
+        assertEquals(2, meterRegistry.get("workload_notify_events_total")
+                .tags("transport", "jms", "outcome", "failure").counter().count());
+    }
+
+    @Test
+    void testJms_RecordsEveryAttemptAndTheParkedOutcome() {
+        JmsTemplate jmsTemplate = mock(JmsTemplate.class);
+        doThrow(new UncategorizedJmsException("broker down")).when(jmsTemplate)
+                .convertAndSend(anyString(), any(Object.class), any(MessagePostProcessor.class));
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.initialize();
+        try {
+            JmsWorkloadNotifier notifier = new JmsWorkloadNotifier(
+                    new TrainingPublisher(jmsTemplate, deadLetterStore, scheduler, 3, 1, 1.0, 1), meterRegistry);
+
+            notifier.publish(event(LocalDate.of(2023, 10, 1), 10, ActionType.ADD));
+
+            await().atMost(2, TimeUnit.SECONDS).until(() -> meterRegistry.get("workload_notify_events_total")
+                    .tags("transport", "jms", "outcome", "failure").counter().count() == 1);
+            assertEquals(3, meterRegistry.get("workload_notify_seconds")
+                    .tags("transport", "jms", "outcome", "failure").timer().count());
+            assertEquals(0, meterRegistry.get("workload_notify_events_total")
+                    .tags("transport", "jms", "outcome", "success").counter().count());
+            verify(deadLetterStore).park(any(TrainerWorkloadRequest.class));
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.epam.gymapp.monitoring;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.Resource;
+
+import com.epam.gymapp.util.TransactionContext;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+class JfrRecordingEndpointTest {
+
+    private final JfrRecordingEndpoint endpoint = new JfrRecordingEndpoint();
+
+    @AfterEach
+    void tearDown() {
+        endpoint.shutdown();
+        TransactionContext.clearTransactionId();
+    }
+
+    @Test
+    void testRecordsBusinessEventsWithTransactionId() throws IOException {
+        assertEquals(WebEndpointResponse.STATUS_OK, endpoint.start("default", null, null).getStatus());
+        assertEquals(409, endpoint.start("default", null, null).getStatus());
+
+        TransactionContext.setTransactionId("tx-jfr");
+        GymappJfrEvents.Login event = new GymappJfrEvents.Login();
+        event.username = "John.Doe";
+        event.begin();
+        event.finish("success");
+
+        assertEquals(WebEndpointResponse.STATUS_OK, endpoint.stop().getStatus());
+        WebEndpointResponse<Resource> download = endpoint.download("last");
+        assertEquals(WebEndpointResponse.STATUS_OK, download.getStatus());
+
+        List<RecordedEvent> logins = RecordingFile.readAllEvents(download.getBody().getFile().toPath()).stream()
+                .filter(recorded -> recorded.getEventType().getName().equals("com.epam.gymapp.Login"))
+                .toList();
+        assertEquals(1, logins.size());
+        assertEquals("tx-jfr", logins.get(0).getString("transactionId"));
+        assertEquals("John.Doe", logins.get(0).getString("username"));
+        assertEquals("success", logins.get(0).getString("outcome"));
+    }
+
+    @Test
+    void testRejectsUnknownSettingsAndMissingRecordings() throws IOException {
+        assertEquals(WebEndpointResponse.STATUS_BAD_REQUEST, endpoint.start("no-such-profile", null, null).getStatus());
+        assertEquals(WebEndpointResponse.STATUS_NOT_FOUND, endpoint.stop().getStatus());
+        assertEquals(WebEndpointResponse.STATUS_NOT_FOUND, endpoint.download("last").getStatus());
+        assertEquals("NONE", endpoint.status().get("state"));
+    }
+}
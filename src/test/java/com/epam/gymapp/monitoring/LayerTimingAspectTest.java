@@ -0,0 +1,143 @@
+package com.epam.gymapp.monitoring;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.data.repository.Repository;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class LayerTimingAspectTest {
+
+    @Service
+    static class SampleService {
+        public String greet(String name) {
+            return "Hello " + name;
+        }
+
+        public void fail() {
+            throw new IllegalStateException("boom");
+        }
+    }
+
+    @RestController
+    static class SampleController {
+        public ResponseEntity<String> find(String name) {
+            return "missing".equals(name) ? ResponseEntity.notFound().build() : ResponseEntity.ok(name);
+        }
+    }
+
+    interface SampleRepository extends Repository<Object, Long> {
+        Optional<Object> findByName(String name);
+    }
+
+    static class SampleRepositoryImpl implements SampleRepository {
+        @Override
+        public Optional<Object> findByName(String name) {
+            return Optional.empty();
+        }
+    }
+
+    private SimpleMeterRegistry meterRegistry;
+    private LayerTimingAspect aspect;
+    private SampleService service;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        aspect = new LayerTimingAspect(meterRegistry,
+                new Duration[] {Duration.ofMillis(10), Duration.ofMillis(100)}, new double[] {0.99}, false,
+                new String[] {"controller"});
+        service = proxy(new SampleService(), true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    private <T> T proxy(Object target, boolean targetClass) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(targetClass);
+        factory.addAspect(aspect);
+        return factory.getProxy();
+    }
+
+    @Test
+    void testServiceMethod_RecordsSuccess() {
+        assertEquals("Hello Ana", service.greet("Ana"));
+
+        Timer timer = meterRegistry.get(LayerTimingAspect.SERVICE_TIMER)
+                .tags("class", "SampleService", "method", "greet", "outcome", "SUCCESS", "exception", "none")
+                .timer();
+        assertEquals(1, timer.count());
+    }
+
+    @Test
+    void testServiceMethod_RecordsExceptionClass() {
+        assertThrows(IllegalStateException.class, service::fail);
+
+        Timer timer = meterRegistry.get(LayerTimingAspect.SERVICE_TIMER)
+                .tags("method", "fail", "outcome", "ERROR", "exception", "IllegalStateException")
+                .timer();
+        assertEquals(1, timer.count());
+    }
+
+    @Test
+    void testServiceMethod_ReusesTimerWithoutHistogram() {
+        service.greet("Ana");
+        service.greet("Bob");
+
+        assertEquals(1, meterRegistry.get(LayerTimingAspect.SERVICE_TIMER).timers().size());
+        Timer timer = meterRegistry.get(LayerTimingAspect.SERVICE_TIMER).timer();
+        assertEquals(2, timer.count());
+        assertEquals(0, timer.takeSnapshot().percentileValues().length);
+        assertEquals(0, timer.takeSnapshot().histogramCounts().length);
+    }
+
+    @Test
+    void testControllerMethod_RecordsEndpointOutcomeAndHistogram() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/samples/missing");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/samples/{name}");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        SampleController controller = proxy(new SampleController(), true);
+
+        controller.find("missing");
+        controller.find("Ana");
+
+        Timer notFound = meterRegistry.get(LayerTimingAspect.CONTROLLER_TIMER)
+                .tags("endpoint", "GET /api/v1/samples/{name}", "outcome", "CLIENT_ERROR", "exception", "none")
+                .timer();
+        assertEquals(1, notFound.count());
+        assertEquals(1, notFound.takeSnapshot().percentileValues().length);
+        assertEquals(2, notFound.takeSnapshot().histogramCounts().length);
+        assertEquals(1, meterRegistry.get(LayerTimingAspect.CONTROLLER_TIMER).tags("outcome", "SUCCESS")
+                .timer().count());
+    }
+
+    @Test
+    void testRepositoryMethod_RecordsRepositoryAndMethod() {
+        SampleRepository repository = proxy(new SampleRepositoryImpl(), false);
+
+        repository.findByName("Ana");
+
+        Timer timer = meterRegistry.get(LayerTimingAspect.REPOSITORY_TIMER)
+                .tags("repository", "SampleRepository", "method", "findByName", "outcome", "SUCCESS")
+                .timer();
+        assertEquals(1, timer.count());
+    }
+}
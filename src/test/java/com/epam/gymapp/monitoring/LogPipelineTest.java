@@ -0,0 +1,112 @@
+package com.epam.gymapp.monitoring;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+import ch.qos.logback.core.spi.FilterReply;
+
+class LogPipelineTest {
+
+    private final LoggerContext context = new LoggerContext();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private MeteredAsyncAppender appender;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (appender != null) appender.stop();
+        context.stop();
+    }
+
+    @Test
+    void testSamplingDeniesLinesAboveTheRate() {
+        SamplingTurboFilter filter = new SamplingTurboFilter();
+        filter.setLoggerPrefix("com.epam.gymapp");
+        filter.setMaxPerSecond(3);
+        filter.start();
+        Logger hot = context.getLogger("com.epam.gymapp.service.TraineeService");
+
+        int allowed = 0;
+        for (int i = 0; i < 10; i++) {
+            if (filter.decide(null, hot, Level.INFO, "Fetching trainee with ID: {}", null, null) == FilterReply.NEUTRAL) {
+                allowed++;
+            }
+        }
+
+        // Ten calls can straddle a second boundary, which opens a fresh window.
+        assertTrue(allowed >= 3 && allowed <= 6, "allowed " + allowed);
+        assertEquals(10 - allowed, filter.getSampledCount());
+    }
+
+    @Test
+    void testSamplingLeavesWarningsAndOtherLoggersAlone() {
+        SamplingTurboFilter filter = new SamplingTurboFilter();
+        filter.setLoggerPrefix("com.epam.gymapp");
+        filter.setMaxPerSecond(0);
+        filter.start();
+
+        assertEquals(FilterReply.NEUTRAL, filter.decide(null, context.getLogger("com.epam.gymapp.service.UserService"),
+                Level.WARN, "Login failed for {}", null, null));
+        assertEquals(FilterReply.NEUTRAL, filter.decide(null, context.getLogger("transactionLogger"),
+                Level.INFO, "Request {} completed", null, null));
+        assertEquals(FilterReply.NEUTRAL, filter.decide(null, context.getLogger("com.epam.gymapp.service.UserService"),
+                Level.INFO, null, null, null));
+        assertEquals(0, filter.getSampledCount());
+    }
+
+    @Test
+    void testAsyncAppenderCountsDiscardedAndOverflowingEvents() throws InterruptedException {
+        CountDownLatch blocked = new CountDownLatch(1);
+        AppenderBase<ILoggingEvent> slow = new AppenderBase<>() {
+            @Override
+            protected void append(ILoggingEvent event) {
+                blocked.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        slow.setContext(context);
+        slow.start();
+
+        appender = new MeteredAsyncAppender();
+        appender.setContext(context);
+        appender.setQueueSize(4);
+        appender.setDiscardingThreshold(2);
+        appender.setNeverBlock(true);
+        appender.addAppender(slow);
+        appender.start();
+
+        appender.doAppend(event(Level.INFO));
+        assertTrue(blocked.await(5, TimeUnit.SECONDS));
+        // The worker is stuck on the first event; fill the queue past the threshold.
+        for (int i = 0; i < 4; i++) {
+            appender.doAppend(event(Level.INFO));
+        }
+        for (int i = 0; i < 4; i++) {
+            appender.doAppend(event(Level.ERROR));
+        }
+
+        assertEquals(1, appender.getDiscardedCount());
+        assertEquals(3, appender.getOverflowCount());
+        assertEquals(0, appender.getRemainingCapacity());
+    }
+
+    private ILoggingEvent event(Level level) {
+        Logger logger = context.getLogger("com.epam.gymapp.test");
+        return new LoggingEvent(Logger.class.getName(), logger, level, "message", null, null);
+    }
+}
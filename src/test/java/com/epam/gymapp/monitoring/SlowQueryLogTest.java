@@ -0,0 +1,97 @@
+package com.epam.gymapp.monitoring;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.epam.gymapp.util.TransactionContext;
+
+class SlowQueryLogTest {
+
+    private SlowQueryLog slowQueryLog;
+    private JdbcTemplate jdbcTemplate;
+    private JdbcDataSource h2;
+
+    @BeforeEach
+    void setUp() {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:slowquery;DB_CLOSE_DELAY=-1");
+        JdbcTemplate setup = new JdbcTemplate(h2);
+        setup.execute("DROP TABLE IF EXISTS items");
+        setup.execute("CREATE TABLE items (id INT PRIMARY KEY, name VARCHAR(20))");
+        setup.update("INSERT INTO items VALUES (1, 'a'), (2, 'b')");
+
+        // Zero threshold: every statement counts as slow.
+        this.h2 = h2;
+        slowQueryLog = new SlowQueryLog(Duration.ZERO, 2, true, true, false);
+        jdbcTemplate = new JdbcTemplate(new SqlStatsDataSource(h2, slowQueryLog));
+    }
+
+    @AfterEach
+    void tearDown() {
+        slowQueryLog.shutdown();
+        TransactionContext.clearTransactionId();
+    }
+
+    @Test
+    void testRecordsBindsTransactionAndPlan() throws InterruptedException {
+        TransactionContext.setTransactionId("tx-slow");
+        jdbcTemplate.queryForObject("SELECT name FROM items WHERE id = ?", String.class, 2);
+
+        SlowQueryLog.SlowQuery query = awaitPlan();
+        assertEquals("SELECT name FROM items WHERE id = ?", query.sql());
+        assertEquals(List.of("2"), query.binds());
+        assertEquals("tx-slow", query.transactionId());
+        assertFalse(query.plan().startsWith("EXPLAIN failed"), query.plan());
+        assertTrue(query.plan().toUpperCase().contains("ITEMS"), query.plan());
+    }
+
+    @Test
+    void testKeepsOnlyTheMostRecentEntries() {
+        for (int id = 1; id <= 3; id++) {
+            jdbcTemplate.queryForList("SELECT name FROM items WHERE id = ?", String.class, id);
+        }
+
+        List<SlowQueryLog.SlowQuery> entries = slowQueryLog.getEntries();
+        assertEquals(2, entries.size());
+        assertEquals(List.of("2"), entries.get(0).binds());
+        assertEquals(List.of("3"), entries.get(1).binds());
+    }
+
+    @Test
+    void testMasksPasswordHashes() {
+        jdbcTemplate.queryForList("SELECT name FROM items WHERE name = ?", String.class,
+                "$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z7y9g1sKzr0ycFzUq6CwZ3y6");
+
+        assertEquals(List.of("'<hash>'"), slowQueryLog.getEntries().get(0).binds());
+    }
+
+    @Test
+    void testKeepsNoBindsUnlessCaptureIsEnabled() throws InterruptedException {
+        slowQueryLog.shutdown();
+        slowQueryLog = new SlowQueryLog(Duration.ZERO, 2, false, true, false);
+        jdbcTemplate = new JdbcTemplate(new SqlStatsDataSource(h2, slowQueryLog));
+
+        jdbcTemplate.queryForObject("SELECT name FROM items WHERE id = ?", String.class, 2);
+
+        SlowQueryLog.SlowQuery query = awaitPlan();
+        assertTrue(query.binds().isEmpty());
+        assertEquals("Not explained: bind capture is disabled", query.plan());
+    }
+
+    private SlowQueryLog.SlowQuery awaitPlan() throws InterruptedException {
+        for (int i = 0; i < 50; i++) {
+            SlowQueryLog.SlowQuery query = slowQueryLog.getEntries().get(0);
+            if (query.plan() != null) return query;
+            Thread.sleep(100);
+        }
+        return fail("No plan captured");
+    }
+}
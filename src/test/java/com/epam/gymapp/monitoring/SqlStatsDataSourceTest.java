@@ -0,0 +1,57 @@
+package com.epam.gymapp.monitoring;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.epam.gymapp.utils.SqlBudget;
+
+class SqlStatsDataSourceTest {
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:sqlstats;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(new SqlStatsDataSource(h2));
+        jdbcTemplate.execute("DROP TABLE IF EXISTS items");
+        jdbcTemplate.execute("CREATE TABLE items (id INT PRIMARY KEY, name VARCHAR(20))");
+        jdbcTemplate.update("INSERT INTO items VALUES (1, 'a'), (2, 'b'), (3, 'c')");
+    }
+
+    @Test
+    void testCountsStatementsAndRows() {
+        RequestSqlStats stats = SqlBudget.measure(() -> {
+            jdbcTemplate.queryForList("SELECT name FROM items");
+            jdbcTemplate.update("UPDATE items SET name = 'z' WHERE id > ?", 1);
+        });
+
+        assertEquals(2, stats.getStatementCount());
+        assertEquals(5, stats.getRowCount());
+        assertTrue(stats.getDbTimeNanos() > 0);
+    }
+
+    @Test
+    void testDetectsRepeatedStatements() {
+        RequestSqlStats stats = SqlBudget.measure(() -> {
+            for (int id = 1; id <= 3; id++) {
+                jdbcTemplate.queryForObject("SELECT name FROM items WHERE id = ?", String.class, id);
+            }
+        });
+
+        assertEquals(3, stats.getMaxRepeats());
+        assertEquals("SELECT name FROM items WHERE id = ?", stats.getMostRepeatedStatement().getKey());
+        assertThrows(AssertionError.class, () -> SqlBudget.assertWithin(stats, 10, 2));
+    }
+
+    @Test
+    void testIgnoresStatementsOutsideRequests() {
+        jdbcTemplate.queryForList("SELECT name FROM items");
+
+        assertNull(SqlStatsContext.current());
+    }
+}
@@ -0,0 +1,99 @@
+package com.epam.gymapp.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import com.epam.gymapp.dto.TraineeProfileDto;
+import com.epam.gymapp.dto.TrainerDto;
+import com.epam.gymapp.dto.TrainerProfileDto;
+import com.epam.gymapp.dto.TrainingDto;
+
+import io.r2dbc.spi.ConnectionFactories;
+
+class ReactiveReadRepositoryTest {
+
+    private ReactiveReadRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:reactiveread;DB_CLOSE_DELAY=-1");
+        JdbcTemplate setup = new JdbcTemplate(h2);
+        setup.execute("DROP ALL OBJECTS");
+        setup.execute("CREATE TABLE users (user_id BIGINT PRIMARY KEY, first_name VARCHAR(50), last_name VARCHAR(50), "
+                + "username VARCHAR(100), is_active BOOLEAN)");
+        setup.execute("CREATE TABLE training_types (id BIGINT PRIMARY KEY, name VARCHAR(50))");
+        setup.execute("CREATE TABLE trainees (trainee_id BIGINT PRIMARY KEY, user_id BIGINT, date_of_birth DATE, "
+                + "address VARCHAR(100))");
+        setup.execute("CREATE TABLE trainers (trainer_id BIGINT PRIMARY KEY, user_id BIGINT, specialization_id BIGINT)");
+        setup.execute("CREATE TABLE trainee_trainer (trainee_id BIGINT, trainer_id BIGINT)");
+        setup.execute("CREATE TABLE trainings (id BIGINT PRIMARY KEY, trainee_id BIGINT, trainer_id BIGINT, "
+                + "training_name VARCHAR(100), training_type_id BIGINT, training_date DATE, training_duration INT)");
+
+        setup.update("INSERT INTO users VALUES (1, 'Ana', 'Diaz', 'Ana.Diaz', TRUE), (2, 'Mike', 'Trainer', "
+                + "'Mike.Trainer', TRUE), (3, 'Sara', 'Coach', 'Sara.Coach', FALSE)");
+        setup.update("INSERT INTO training_types VALUES (1, 'YOGA'), (2, 'CARDIO')");
+        setup.update("INSERT INTO trainees VALUES (1, 1, DATE '1995-04-02', 'Main St')");
+        setup.update("INSERT INTO trainers VALUES (1, 2, 1), (2, 3, 2)");
+        setup.update("INSERT INTO trainee_trainer VALUES (1, 1), (1, 2)");
+        setup.update("INSERT INTO trainings VALUES "
+                + "(1, 1, 1, 'Morning yoga', 1, DATE '2025-01-10', 60), "
+                + "(2, 1, 2, 'Intervals', 2, DATE '2025-02-10', 45), "
+                + "(3, 1, 1, 'Evening yoga', 1, DATE '2025-03-10', 30)");
+
+        repository = new ReactiveReadRepository(
+                DatabaseClient.create(ConnectionFactories.get("r2dbc:h2:mem:///reactiveread")));
+    }
+
+    @Test
+    void traineeTrainingsAreOrderedAndFiltered() {
+        List<TrainingDto> all = repository.findTraineeTrainings("Ana.Diaz", null, null, null, null)
+                .collectList().block();
+        assertEquals(List.of("Morning yoga", "Intervals", "Evening yoga"),
+                all.stream().map(TrainingDto::getTrainingName).toList());
+        assertEquals("YOGA", all.get(0).getTrainingType());
+        assertEquals(Integer.valueOf(60), all.get(0).getTrainingDuration());
+
+        List<TrainingDto> filtered = repository.findTraineeTrainings("Ana.Diaz", LocalDate.of(2025, 2, 1), null,
+                "Mike", "YOG").collectList().block();
+        assertEquals(List.of("Evening yoga"), filtered.stream().map(TrainingDto::getTrainingName).toList());
+    }
+
+    @Test
+    void trainerTrainingsFilterByPeriod() {
+        List<TrainingDto> trainings = repository.findTrainerTrainings("Mike.Trainer", LocalDate.of(2025, 1, 1),
+                LocalDate.of(2025, 1, 31), "Ana").collectList().block();
+        assertEquals(1, trainings.size());
+        assertEquals("Morning yoga", trainings.get(0).getTrainingName());
+    }
+
+    @Test
+    void profilesIncludeTheirLinks() {
+        TraineeProfileDto trainee = repository.findTraineeProfile("Ana.Diaz").block();
+        assertEquals("Ana", trainee.getFirstName());
+        assertEquals(LocalDate.of(1995, 4, 2), trainee.getDateOfBirth());
+        assertEquals(List.of("Mike.Trainer", "Sara.Coach"),
+                trainee.getTrainers().stream().map(TrainerDto::getUsername).toList());
+
+        TrainerProfileDto trainer = repository.findTrainerProfile("Mike.Trainer").block();
+        assertEquals("YOGA", trainer.getSpecialization());
+        assertEquals(1, trainer.getTrainees().size());
+
+        assertNull(repository.findTraineeProfile("Nobody").block());
+    }
+
+    @Test
+    void trainerDirectoryCanSkipInactiveTrainers() {
+        assertEquals(2, repository.findTrainers(false).collectList().block().size());
+        assertEquals(List.of("Mike.Trainer"),
+                repository.findTrainers(true).map(TrainerDto::getUsername).collectList().block());
+    }
+}
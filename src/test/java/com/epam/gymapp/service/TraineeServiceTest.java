@@ -2,27 +2,38 @@ package com.epam.gymapp.service;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
+import com.epam.gymapp.dto.ActionType;
 import com.epam.gymapp.dto.RegistrationDto;
 import com.epam.gymapp.dto.TraineeDto;
 import com.epam.gymapp.dto.TraineeProfileDto;
 import com.epam.gymapp.dto.TrainerDto;
+import com.epam.gymapp.dto.TrainerWorkloadRequest;
 import com.epam.gymapp.exception.NotFoundException;
 import com.epam.gymapp.model.trainee.Trainee;
 import com.epam.gymapp.model.trainer.Trainer;
+import com.epam.gymapp.model.trainingType.TrainingTypeEnum;
 import com.epam.gymapp.model.user.User;
 import com.epam.gymapp.repository.TraineeRepository;
 import com.epam.gymapp.repository.TrainerRepository;
+import com.epam.gymapp.repository.TrainerMonthWorkload;
+import com.epam.gymapp.repository.TrainerSummary;
+import com.epam.gymapp.repository.TrainingRepository;
 import com.epam.gymapp.repository.UserRepository;
 
 import jakarta.persistence.EntityNotFoundException;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.time.LocalDate;
 import java.util.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -37,6 +48,18 @@ public class TraineeServiceTest {
     @Mock 
     private TrainerRepository trainerRepository; 
 
+    @Mock
+    private TrainingRepository trainingRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private UsernameDirectory usernameDirectory;
+
+    @Mock
+    private TrainerMonthlySummaryService monthlySummaryService;
+
     @InjectMocks
     private TraineeService traineeService;
 
@@ -147,33 +170,69 @@ public class TraineeServiceTest {
 
     @Test
     void testUpdateTraineeTrainersByListSuccess() {
-        Trainee trainee = new Trainee();
-        when(traineeRepository.findByUserUsername("user")).thenReturn(Optional.of(trainee));
-
-        Trainer trainer1 = new Trainer();
-        trainer1.setUser(new User("trainer1", "First", true));
-        Trainer trainer2 = new Trainer();
-        trainer2.setUser(new User("trainer2", "First2", true));
-
-        when(trainerRepository.findByUserUsernameIn(Arrays.asList("trainer1", "trainer2")))
-            .thenReturn(Arrays.asList(trainer1, trainer2));
+        when(traineeRepository.findIdByUserUsername("user")).thenReturn(Optional.of(7L));
+        when(trainerRepository.findSummariesByUsernameIn(Set.of("trainer1", "trainer2")))
+            .thenReturn(Arrays.asList(summary(1L, "trainer1"), summary(2L, "trainer2")));
+        when(traineeRepository.findTrainerIds(7L)).thenReturn(Arrays.asList(2L, 3L));
 
         List<TrainerDto> result = traineeService.updateTraineeTrainers("user", Arrays.asList("trainer1", "trainer2"));
 
         assertEquals(2, result.size());
-        verify(traineeRepository).save(trainee);
+        verify(traineeRepository).removeTrainers(7L, Set.of(3L));
+        verify(traineeRepository).addTrainers(7L, Set.of(1L));
+        verify(traineeRepository, never()).save(any());
+    }
+
+    @Test
+    void testUpdateTraineeTrainersByListUnchangedWritesNothing() {
+        when(traineeRepository.findIdByUserUsername("user")).thenReturn(Optional.of(7L));
+        when(trainerRepository.findSummariesByUsernameIn(Set.of("trainer1")))
+            .thenReturn(List.of(summary(1L, "trainer1")));
+        when(traineeRepository.findTrainerIds(7L)).thenReturn(List.of(1L));
+
+        traineeService.updateTraineeTrainers("user", List.of("trainer1"));
+
+        verify(traineeRepository, never()).removeTrainers(anyLong(), anyCollection());
+        verify(traineeRepository, never()).addTrainers(anyLong(), anyCollection());
     }
 
     @Test
     void testUpdateTraineeTrainersByListNotFound() {
-        Trainee trainee = new Trainee();
-        when(traineeRepository.findByUserUsername("user")).thenReturn(Optional.of(trainee));
+        when(traineeRepository.findIdByUserUsername("user")).thenReturn(Optional.of(7L));
 
-        when(trainerRepository.findByUserUsernameIn(Arrays.asList("trainer1"))).thenReturn(Collections.emptyList());
+        when(trainerRepository.findSummariesByUsernameIn(Set.of("trainer1"))).thenReturn(Collections.emptyList());
 
         assertThrows(NotFoundException.class, () -> traineeService.updateTraineeTrainers("user", Arrays.asList("trainer1")));
     }
 
+    @Test
+    void testAddTraineeTrainersKeepsExistingAssignments() {
+        when(traineeRepository.findIdByUserUsername("user")).thenReturn(Optional.of(7L));
+        when(trainerRepository.findSummariesByUsernameIn(Set.of("trainer2")))
+            .thenReturn(List.of(summary(2L, "trainer2")));
+        when(trainerRepository.findSummariesByTraineeId(7L))
+            .thenReturn(Arrays.asList(summary(1L, "trainer1"), summary(2L, "trainer2")));
+
+        List<TrainerDto> result = traineeService.addTraineeTrainers("user", List.of("trainer2"));
+
+        assertEquals(2, result.size());
+        verify(traineeRepository).addTrainers(7L, Set.of(2L));
+        verify(traineeRepository, never()).removeTrainers(anyLong(), anyCollection());
+    }
+
+    @Test
+    void testRemoveTraineeTrainerDeletesOneRow() {
+        when(traineeRepository.findIdByUserUsername("user")).thenReturn(Optional.of(7L));
+        when(trainerRepository.findSummariesByUsernameIn(Set.of("trainer1")))
+            .thenReturn(List.of(summary(1L, "trainer1")));
+        when(trainerRepository.findSummariesByTraineeId(7L)).thenReturn(List.of(summary(2L, "trainer2")));
+
+        List<TrainerDto> result = traineeService.removeTraineeTrainer("user", "trainer1");
+
+        assertEquals("trainer2", result.get(0).getUsername());
+        verify(traineeRepository).removeTrainers(7L, List.of(1L));
+    }
+
     @Test
     void testGetProfileByUsernameSuccess() {
         Trainee trainee = new Trainee();
@@ -192,6 +251,22 @@ public class TraineeServiceTest {
         assertTrue(profile.isActive());
     }
 
+    @Test
+    void testGetProfileByUsernameUsesDirectoryId() {
+        Trainee trainee = new Trainee();
+        User user = new User();
+        user.setFirstName("John");
+        trainee.setUser(user);
+        trainee.setTrainers(new HashSet<>());
+        when(usernameDirectory.findTraineeId("user")).thenReturn(Optional.of(7L));
+        when(traineeRepository.findById(7L)).thenReturn(Optional.of(trainee));
+
+        TraineeProfileDto profile = traineeService.getProfileByUsername("user");
+
+        assertEquals("John", profile.getFirstName());
+        verify(traineeRepository, never()).findByUserUsername(anyString());
+    }
+
     @Test
     void testGetProfileByUsernameNotFound() {
         when(traineeRepository.findByUserUsername("user")).thenReturn(Optional.empty());
@@ -217,6 +292,7 @@ public class TraineeServiceTest {
 
         assertEquals("Updated", result.getFirstName());
         verify(traineeRepository).save(trainee);
+        verify(eventPublisher).publishEvent(CacheInvalidationEvent.of(CacheInvalidationEvent.Type.TRAINEE, "user"));
     }
 
     @Test
@@ -230,17 +306,78 @@ public class TraineeServiceTest {
 
     @Test
     void testDeleteTraineeByUsernameSuccess() {
-        Trainee trainee = new Trainee();
-        when(traineeRepository.findByUserUsername("user")).thenReturn(Optional.of(trainee));
+        when(traineeRepository.findIdByUserUsername("user")).thenReturn(Optional.of(7L));
+        when(traineeRepository.findUserIdById(7L)).thenReturn(70L);
+        List<TrainerMonthWorkload> workloads = List.of(workload("trainer1", 2025, 3, 90L), workload("trainer2", 2025, 4, 45L));
+        when(trainingRepository.sumWorkloadByTrainerAndMonth(7L)).thenReturn(workloads);
+        when(trainingRepository.deleteByTraineeId(7L)).thenReturn(3);
+        when(traineeRepository.deleteTraineeById(7L)).thenReturn(1);
 
         traineeService.deleteTraineeByUsername("user");
 
-        verify(traineeRepository).delete(trainee);
+        InOrder order = inOrder(trainingRepository, traineeRepository, userRepository);
+        order.verify(trainingRepository).deleteByTraineeId(7L);
+        order.verify(traineeRepository).removeAllTrainers(7L);
+        order.verify(traineeRepository).deleteTraineeById(7L);
+        order.verify(userRepository).deleteUserById(70L);
+        verify(monthlySummaryService).removeAll(workloads);
+
+        ArgumentCaptor<Object> events = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher, times(3)).publishEvent(events.capture());
+        assertEquals(CacheInvalidationEvent.of(CacheInvalidationEvent.Type.TRAINEE, "user"), events.getAllValues().get(0));
+        List<TrainerWorkloadRequest> deltas = ((WorkloadChangedEvent) events.getAllValues().get(1)).workloadDeltas();
+        assertEquals(2, deltas.size());
+        assertEquals("trainer1", deltas.get(0).getUsername());
+        assertEquals(LocalDate.of(2025, 3, 1), deltas.get(0).getTrainingDate());
+        assertEquals(Integer.valueOf(90), deltas.get(0).getTrainingDuration());
+        assertEquals(ActionType.DELETE, deltas.get(0).getActionType());
+        assertEquals(TrainingChangedEvent.traineeDeleted(7L), events.getAllValues().get(2));
+    }
+
+    @Test
+    void testDeleteTraineeWithoutTrainingsPublishesNoWorkload() {
+        when(traineeRepository.findIdByUserUsername("user")).thenReturn(Optional.of(7L));
+        when(traineeRepository.findUserIdById(7L)).thenReturn(70L);
+        when(trainingRepository.sumWorkloadByTrainerAndMonth(7L)).thenReturn(List.of());
+        when(traineeRepository.deleteTraineeById(7L)).thenReturn(1);
+
+        traineeService.deleteTraineeByUsername("user");
+
+        verify(userRepository).deleteUserById(70L);
+        verify(eventPublisher).publishEvent(CacheInvalidationEvent.of(CacheInvalidationEvent.Type.TRAINEE, "user"));
+        verifyNoMoreInteractions(eventPublisher);
+    }
+
+    @Test
+    void testDeleteTraineeByUsernameWithStaleDirectoryId() {
+        when(usernameDirectory.findTraineeId("user")).thenReturn(Optional.of(6L));
+        when(traineeRepository.findUserIdById(6L)).thenReturn(null);
+        when(traineeRepository.findIdByUserUsername("user")).thenReturn(Optional.of(7L));
+        when(traineeRepository.findUserIdById(7L)).thenReturn(70L);
+        when(trainingRepository.sumWorkloadByTrainerAndMonth(7L)).thenReturn(List.of());
+        when(traineeRepository.deleteTraineeById(7L)).thenReturn(1);
+
+        traineeService.deleteTraineeByUsername("user");
+
+        verify(trainingRepository).deleteByTraineeId(7L);
+        verify(userRepository).deleteUserById(70L);
+        verify(traineeRepository, never()).deleteTraineeById(6L);
+    }
+
+    @Test
+    void testDeleteTraineeByUsernameFailsWhenNothingIsDeleted() {
+        when(traineeRepository.findIdByUserUsername("user")).thenReturn(Optional.of(7L));
+        when(traineeRepository.findUserIdById(7L)).thenReturn(70L);
+        when(trainingRepository.sumWorkloadByTrainerAndMonth(7L)).thenReturn(List.of());
+        when(traineeRepository.deleteTraineeById(7L)).thenReturn(0);
+
+        assertThrows(NotFoundException.class, () -> traineeService.deleteTraineeByUsername("user"));
+        verify(userRepository, never()).deleteUserById(any());
     }
 
     @Test
     void testDeleteTraineeByUsernameNotFound() {
-        when(traineeRepository.findByUserUsername("user")).thenReturn(Optional.empty());
+        when(traineeRepository.findIdByUserUsername("user")).thenReturn(Optional.empty());
 
         assertThrows(NotFoundException.class, () -> traineeService.deleteTraineeByUsername("user"));
     }
@@ -256,6 +393,7 @@ public class TraineeServiceTest {
 
         assertTrue(user.getIsActive());
         verify(traineeRepository).save(trainee);
+        verify(eventPublisher).publishEvent(new UserStatusChangedEvent(List.of("user"), true));
     }
 
     @Test
@@ -264,4 +402,28 @@ public class TraineeServiceTest {
 
         assertThrows(EntityNotFoundException.class, () -> traineeService.updateStatus("user", true));
     }
+
+    private static TrainerMonthWorkload workload(String username, int year, int month, long minutes) {
+        return new TrainerMonthWorkload() {
+            public Long getTrainerId() { return 1L; }
+            public String getUsername() { return username; }
+            public String getFirstName() { return "First"; }
+            public String getLastName() { return "Last"; }
+            public Boolean getActive() { return true; }
+            public Integer getTrainingYear() { return year; }
+            public Integer getTrainingMonth() { return month; }
+            public Long getMinutes() { return minutes; }
+            public Long getSessions() { return 1L; }
+        };
+    }
+
+    private static TrainerSummary summary(Long id, String username) {
+        return new TrainerSummary() {
+            public Long getId() { return id; }
+            public String getUsername() { return username; }
+            public String getFirstName() { return "First"; }
+            public String getLastName() { return "Last"; }
+            public TrainingTypeEnum getSpecialization() { return TrainingTypeEnum.YOGA; }
+        };
+    }
 }
@@ -0,0 +1,109 @@
+package com.epam.gymapp.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.epam.gymapp.dto.LeaderboardEntryDto;
+import com.epam.gymapp.dto.TrainerLeaderboardDto;
+import com.epam.gymapp.model.trainingType.TrainingTypeEnum;
+import com.epam.gymapp.repository.TrainerRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TrainerLeaderboardServiceTest {
+
+    private static final LocalDate TODAY = LocalDate.now();
+
+    private final TrainerRepository trainerRepository = mock(TrainerRepository.class);
+    private TrainerLeaderboardService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new TrainerLeaderboardService(mock(DataSource.class), mock(PlatformTransactionManager.class),
+                trainerRepository, new SimpleMeterRegistry(), new SyncTaskExecutor(), mock(TaskScheduler.class), 2, 0,
+                100);
+        when(trainerRepository.findUsernameById(5L)).thenReturn(Optional.of("Mike.Trainer"));
+        when(trainerRepository.findUsernameById(6L)).thenReturn(Optional.of("Laura.Trainer"));
+        when(trainerRepository.findUsernameById(7L)).thenReturn(Optional.of("Ann.Trainer"));
+        service.onTrainingChanged(saved(1L, 5L, 20L, TODAY, 90, TrainingTypeEnum.YOGA));
+        service.onTrainingChanged(saved(2L, 6L, 20L, TODAY, 30, TrainingTypeEnum.ZUMBA));
+        service.onTrainingChanged(saved(3L, 6L, 21L, TODAY, 30, TrainingTypeEnum.YOGA));
+        service.onTrainingChanged(saved(4L, 7L, 21L, TODAY, 45, TrainingTypeEnum.ZUMBA));
+        service.onTrainingChanged(saved(5L, 7L, 21L, TODAY.minusMonths(1), 500, TrainingTypeEnum.ZUMBA));
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.stop();
+    }
+
+    @Test
+    void testRanksByMinutesAndSessions() {
+        TrainerLeaderboardDto byMinutes = service.getLeaderboard("minutes", null, 10);
+        TrainerLeaderboardDto bySessions = service.getLeaderboard("SESSIONS", null, 10);
+
+        assertEquals(TODAY.toString().substring(0, 7), byMinutes.getMonth());
+        assertEquals(List.of("Mike.Trainer", "Laura.Trainer"), usernames(byMinutes));
+        assertEquals(90, byMinutes.getEntries().get(0).getMinutes());
+        assertEquals(List.of("Laura.Trainer", "Mike.Trainer"), usernames(bySessions));
+        assertEquals(2, bySessions.getEntries().get(0).getSessions());
+        assertEquals(2, bySessions.getEntries().get(1).getRank());
+        assertEquals(3, service.trainers());
+    }
+
+    @Test
+    void testBoardPerTrainingType() {
+        TrainerLeaderboardDto zumba = service.getLeaderboard("MINUTES", "zumba", 1);
+
+        assertEquals("ZUMBA", zumba.getTrainingType());
+        assertEquals(List.of("Ann.Trainer"), usernames(zumba));
+        assertEquals(45, zumba.getEntries().get(0).getMinutes());
+    }
+
+    @Test
+    void testUpdatesAndDeletesTakeBackTheirMinutes() {
+        service.onTrainingChanged(saved(1L, 5L, 20L, TODAY.minusMonths(1), 90, TrainingTypeEnum.YOGA));
+        service.onTrainingChanged(saved(5L, 7L, 21L, TODAY, 500, TrainingTypeEnum.ZUMBA));
+        service.onTrainingChanged(TrainingChangedEvent.deleted(2L));
+
+        TrainerLeaderboardDto board = service.getLeaderboard("MINUTES", null, 10);
+
+        assertEquals(List.of("Ann.Trainer", "Laura.Trainer"), usernames(board));
+        assertEquals(545, board.getEntries().get(0).getMinutes());
+        assertEquals(30, board.getEntries().get(1).getMinutes());
+
+        service.onTrainingChanged(TrainingChangedEvent.traineeDeleted(21L));
+
+        assertTrue(service.getLeaderboard("MINUTES", null, 10).getEntries().isEmpty());
+        assertEquals(0, service.trainers());
+    }
+
+    @Test
+    void testRejectsUnknownOrderAndLimit() {
+        assertThrows(IllegalArgumentException.class, () -> service.getLeaderboard("RATING", null, 10));
+        assertThrows(IllegalArgumentException.class, () -> service.getLeaderboard("MINUTES", "CHESS", 10));
+        assertThrows(IllegalArgumentException.class, () -> service.getLeaderboard("MINUTES", null, 0));
+    }
+
+    private static List<String> usernames(TrainerLeaderboardDto board) {
+        return board.getEntries().stream().map(LeaderboardEntryDto::getTrainerUsername).toList();
+    }
+
+    private static TrainingChangedEvent saved(Long id, Long trainerId, Long traineeId, LocalDate date, int minutes,
+            TrainingTypeEnum type) {
+        return new TrainingChangedEvent(TrainingChangedEvent.Change.SAVED, id, trainerId, traineeId, date, minutes, type);
+    }
+}
@@ -0,0 +1,95 @@
+package com.epam.gymapp.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Date;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.epam.gymapp.dto.MonthlySummaryDto;
+import com.epam.gymapp.exception.NotFoundException;
+import com.epam.gymapp.model.workload.TrainerMonthlySummary;
+import com.epam.gymapp.repository.TrainerMonthlySummaryRepository;
+import com.epam.gymapp.repository.TrainerRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TrainerMonthlySummaryServiceTest {
+
+    private final TrainerMonthlySummaryRepository summaryRepository = mock(TrainerMonthlySummaryRepository.class);
+    private final TrainerRepository trainerRepository = mock(TrainerRepository.class);
+    private final UsernameDirectory usernameDirectory = mock(UsernameDirectory.class);
+    private TrainerMonthlySummaryService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new TrainerMonthlySummaryService(summaryRepository, trainerRepository, usernameDirectory,
+                mock(PlatformTransactionManager.class), new SimpleMeterRegistry(), new SyncTaskExecutor(), 2, 2);
+    }
+
+    @Test
+    void testRecordAndRemoveAddToTheTrainingMonth() {
+        service.record(5L, Date.valueOf("2025-03-31"), 60);
+        service.remove(5L, Date.valueOf("2025-04-01"), 45);
+
+        verify(summaryRepository).addToMonth(5L, 2025, 3, 60, 1);
+        verify(summaryRepository).addToMonth(5L, 2025, 4, -45, -1);
+    }
+
+    @Test
+    void testTrainingWithoutTrainerIsNotSummarized() {
+        service.record(null, Date.valueOf("2025-03-31"), 60);
+
+        verifyNoInteractions(summaryRepository);
+    }
+
+    @Test
+    void testGetSummaryResolvesTrainerThroughDirectory() {
+        when(usernameDirectory.findTrainerId("Mike.Trainer")).thenReturn(Optional.of(5L));
+        when(summaryRepository.findByTrainerAndYears(5L, 2025, Integer.MAX_VALUE)).thenReturn(List.of(
+                new TrainerMonthlySummary(new TrainerMonthlySummary.Key(5L, 2025, 3), 120, 2)));
+
+        List<MonthlySummaryDto> summary = service.getSummary("Mike.Trainer", 2025, null);
+
+        assertEquals(1, summary.size());
+        assertEquals(3, summary.get(0).getMonth());
+        assertEquals(120, summary.get(0).getMinutes());
+        assertEquals(2, summary.get(0).getSessions());
+        verifyNoInteractions(trainerRepository);
+    }
+
+    @Test
+    void testGetSummaryUnknownTrainer() {
+        when(usernameDirectory.findTrainerId("Nobody")).thenReturn(Optional.empty());
+        when(trainerRepository.findIdByUserUsername("Nobody")).thenReturn(Optional.empty());
+
+        assertThrows(NotFoundException.class, () -> service.getSummary("Nobody", null, null));
+    }
+
+    @Test
+    void testRangesCoverEveryTrainerId() {
+        List<long[]> ranges = service.ranges(List.of(1L, 4L, 9L, 12L, 20L));
+
+        assertEquals(3, ranges.size());
+        assertArrayEquals(new long[] {0, 4}, ranges.get(0));
+        assertArrayEquals(new long[] {5, 12}, ranges.get(1));
+        assertArrayEquals(new long[] {13, Long.MAX_VALUE}, ranges.get(2));
+    }
+
+    @Test
+    void testRebuildRewritesEveryRange() {
+        when(trainerRepository.findAllIds()).thenReturn(List.of(1L, 2L, 3L));
+        when(summaryRepository.rebuildRange(0L, 2L)).thenReturn(5);
+        when(summaryRepository.rebuildRange(3L, Long.MAX_VALUE)).thenReturn(2);
+
+        assertEquals(7, service.rebuild());
+        verify(summaryRepository).rebuildRange(0L, 2L);
+        verify(summaryRepository).rebuildRange(3L, Long.MAX_VALUE);
+    }
+}
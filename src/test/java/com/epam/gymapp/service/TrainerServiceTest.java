@@ -9,6 +9,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import com.epam.gymapp.repository.*;
@@ -43,6 +44,12 @@ class TrainerServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private UsernameDirectory usernameDirectory;
+
     private Trainer trainer;
     private User user;
     private TrainerDto trainerDto;
@@ -189,6 +196,7 @@ class TrainerServiceTest {
         assertNotNull(updatedProfile);
         assertEquals("UpdatedName", updatedProfile.getFirstName());
         assertEquals("UpdatedLast", updatedProfile.getLastName());
+        verify(eventPublisher).publishEvent(CacheInvalidationEvent.of(CacheInvalidationEvent.Type.TRAINER, "trainer1"));
     }
 
     @Test
@@ -208,6 +216,7 @@ class TrainerServiceTest {
 
         assertFalse(trainer.getUser().getIsActive());
         verify(trainerRepository, times(1)).save(any(Trainer.class));
+        verify(eventPublisher).publishEvent(new UserStatusChangedEvent(List.of("trainer1"), false));
     }
 
     @Test
@@ -0,0 +1,107 @@
+package com.epam.gymapp.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.epam.gymapp.dto.ActionType;
+import com.epam.gymapp.dto.TrainerWorkloadRequest;
+
+class TrainerWorkloadFolderTest {
+
+    private final List<List<TrainerWorkloadRequest>> batches = new ArrayList<>();
+    private final List<Long> checkpoints = new ArrayList<>();
+
+    private TrainerWorkloadFolder folder(int batchSize) {
+        return new TrainerWorkloadFolder("run-1", batchSize, (snapshots, lastTrainerId, rowsScanned) -> {
+            batches.add(snapshots);
+            checkpoints.add(lastTrainerId);
+        });
+    }
+
+    @Test
+    void testFold_SumsDurationsPerTrainerAndMonth() {
+        TrainerWorkloadFolder folder = folder(100);
+
+        folder.accept(1, "Mike.Trainer", "Mike", "Trainer", true, LocalDate.of(2023, 10, 1), 60);
+        folder.accept(1, "Mike.Trainer", "Mike", "Trainer", true, LocalDate.of(2023, 10, 20), 30);
+        folder.accept(1, "Mike.Trainer", "Mike", "Trainer", true, LocalDate.of(2023, 11, 2), 45);
+        folder.accept(2, "Laura.Trainer", "Laura", "Trainer", false, LocalDate.of(2023, 10, 5), 50);
+        folder.finish();
+
+        assertEquals(1, batches.size());
+        List<TrainerWorkloadRequest> snapshots = batches.get(0);
+        assertEquals(3, snapshots.size());
+
+        TrainerWorkloadRequest october = snapshots.get(0);
+        assertEquals("Mike.Trainer", october.getUsername());
+        assertEquals(LocalDate.of(2023, 10, 1), october.getTrainingDate());
+        assertEquals(90, october.getTrainingDuration());
+        assertEquals(ActionType.SNAPSHOT, october.getActionType());
+        assertEquals("run-1:1:2023-10", october.getEventId());
+
+        assertEquals(45, snapshots.get(1).getTrainingDuration());
+        assertEquals("Laura.Trainer", snapshots.get(2).getUsername());
+        assertFalse(snapshots.get(2).getIsActive());
+        assertEquals(4, folder.getRowsScanned());
+        assertEquals(3, folder.getSnapshotsPublished());
+    }
+
+    @Test
+    void testFold_BatchesEndAtTrainerBoundaries() {
+        TrainerWorkloadFolder folder = folder(2);
+
+        folder.accept(1, "a", "A", "A", true, LocalDate.of(2023, 1, 1), 10);
+        folder.accept(1, "a", "A", "A", true, LocalDate.of(2023, 2, 1), 10);
+        folder.accept(1, "a", "A", "A", true, LocalDate.of(2023, 3, 1), 10);
+        folder.accept(2, "b", "B", "B", true, LocalDate.of(2023, 1, 1), 10);
+        folder.accept(3, "c", "C", "C", true, LocalDate.of(2023, 1, 1), 10);
+        folder.finish();
+
+        assertEquals(List.of(3, 2), batches.stream().map(List::size).toList());
+        assertEquals(List.of(1L, 3L), checkpoints);
+    }
+
+    @Test
+    void testFold_SendsZeroForMonthsWithoutTrainings() {
+        TrainerWorkloadFolder folder = new TrainerWorkloadFolder("run-1", 100, YearMonth.of(2023, 11),
+                YearMonth.of(2024, 1), (snapshots, lastTrainerId, rowsScanned) -> batches.add(snapshots));
+
+        folder.accept(1, "a", "A", "A", true, LocalDate.of(2023, 8, 1), 10);
+        folder.accept(1, "a", "A", "A", true, LocalDate.of(2023, 10, 1), 20);
+        folder.accept(1, "a", "A", "A", true, LocalDate.of(2023, 12, 1), 30);
+        folder.accept(2, "b", "B", "B", true, null, 0);
+        folder.finish();
+
+        List<TrainerWorkloadRequest> snapshots = batches.get(0);
+        assertEquals(List.of("a:2023-08-01:10", "a:2023-09-01:0", "a:2023-10-01:20", "a:2023-11-01:0",
+                "a:2023-12-01:30", "a:2024-01-01:0", "b:2023-11-01:0", "b:2023-12-01:0", "b:2024-01-01:0"),
+                snapshots.stream()
+                        .map(s -> s.getUsername() + ":" + s.getTrainingDate() + ":" + s.getTrainingDuration())
+                        .toList());
+        assertEquals(4, folder.getRowsScanned());
+    }
+
+    @Test
+    void testFold_NoRows() {
+        TrainerWorkloadFolder folder = folder(10);
+
+        folder.finish();
+
+        assertTrue(batches.isEmpty());
+    }
+
+    @Test
+    void testFold_RejectsUnorderedRows() {
+        TrainerWorkloadFolder folder = folder(10);
+        folder.accept(2, "b", "B", "B", true, LocalDate.of(2023, 1, 1), 10);
+
+        assertThrows(IllegalStateException.class,
+                () -> folder.accept(1, "a", "A", "A", true, LocalDate.of(2023, 1, 1), 10));
+    }
+}
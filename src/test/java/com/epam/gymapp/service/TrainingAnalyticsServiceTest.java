@@ -0,0 +1,112 @@
+package com.epam.gymapp.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.epam.gymapp.dto.TrainingAggregateDto;
+import com.epam.gymapp.dto.TrainingAnalyticsDto;
+import com.epam.gymapp.exception.NotFoundException;
+import com.epam.gymapp.model.trainingType.TrainingTypeEnum;
+import com.epam.gymapp.repository.RoleUsername;
+import com.epam.gymapp.repository.TraineeRepository;
+import com.epam.gymapp.repository.TrainerRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TrainingAnalyticsServiceTest {
+
+    private final UsernameDirectory usernameDirectory = mock(UsernameDirectory.class);
+    private final TrainerRepository trainerRepository = mock(TrainerRepository.class);
+    private TrainingAnalyticsService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new TrainingAnalyticsService(mock(DataSource.class), mock(PlatformTransactionManager.class),
+                usernameDirectory, mock(TraineeRepository.class), trainerRepository, new SimpleMeterRegistry(),
+                new SyncTaskExecutor(), mock(TaskScheduler.class), Duration.ZERO, 16, 100, 2, 1);
+        service.onTrainingChanged(saved(1L, 5L, LocalDate.of(2025, 3, 31), 60, TrainingTypeEnum.YOGA));
+        service.onTrainingChanged(saved(2L, 5L, LocalDate.of(2025, 4, 1), 30, TrainingTypeEnum.YOGA));
+        service.onTrainingChanged(saved(3L, 6L, LocalDate.of(2025, 4, 2), 45, TrainingTypeEnum.ZUMBA));
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void testGroupsByMonthWithLabels() {
+        TrainingAnalyticsDto result = service.aggregate("month", null, null, null, null, null);
+
+        assertEquals("MONTH", result.getGroupBy());
+        assertEquals(3, result.getRows());
+        assertEquals(List.of("2025-03", "2025-04"), result.getGroups().stream().map(TrainingAggregateDto::getKey).toList());
+        assertEquals(75, result.getGroups().get(1).getMinutes());
+        assertEquals(2, result.getGroups().get(1).getSessions());
+    }
+
+    @Test
+    void testFiltersByTrainerAndType() {
+        when(usernameDirectory.findTrainerId("Mike.Trainer")).thenReturn(Optional.of(5L));
+
+        TrainingAnalyticsDto result = service.aggregate("TYPE", LocalDate.of(2025, 4, 1), null, "yoga",
+                "Mike.Trainer", null);
+
+        assertEquals(1, result.getGroups().size());
+        assertEquals("YOGA", result.getGroups().get(0).getKey());
+        assertEquals(30, result.getGroups().get(0).getMinutes());
+    }
+
+    @Test
+    void testLabelsTrainerGroupsWithUsernames() {
+        RoleUsername mike = mock(RoleUsername.class);
+        when(mike.getId()).thenReturn(5L);
+        when(mike.getUsername()).thenReturn("Mike.Trainer");
+        when(trainerRepository.findUsernamesByIds(List.of(5L, 6L))).thenReturn(List.of(mike));
+
+        TrainingAnalyticsDto result = service.aggregate("TRAINER", null, null, null, null, null);
+
+        assertEquals(List.of("Mike.Trainer", "6"), result.getGroups().stream().map(TrainingAggregateDto::getKey).toList());
+        assertEquals(90, result.getGroups().get(0).getMinutes());
+    }
+
+    @Test
+    void testDeletesLeaveTheAggregates() {
+        service.onTrainingChanged(TrainingChangedEvent.deleted(1L));
+        service.onTrainingChanged(TrainingChangedEvent.traineeDeleted(20L));
+
+        TrainingAnalyticsDto result = service.aggregate("NONE", null, null, null, null, null);
+
+        assertEquals(1, result.getRows());
+        assertEquals(45, result.getGroups().get(0).getMinutes());
+    }
+
+    @Test
+    void testUnknownTrainer() {
+        when(usernameDirectory.findTrainerId("Nobody")).thenReturn(Optional.empty());
+        when(trainerRepository.findIdByUserUsername("Nobody")).thenReturn(Optional.empty());
+
+        assertThrows(NotFoundException.class, () -> service.aggregate("TYPE", null, null, null, "Nobody", null));
+        assertThrows(IllegalArgumentException.class, () -> service.aggregate("YEAR", null, null, null, null, null));
+    }
+
+    private static TrainingChangedEvent saved(Long id, Long trainerId, LocalDate date, int minutes,
+            TrainingTypeEnum type) {
+        long traineeId = id < 3 ? 20L : 21L;
+        return new TrainingChangedEvent(TrainingChangedEvent.Change.SAVED, id, trainerId, traineeId, date, minutes, type);
+    }
+}
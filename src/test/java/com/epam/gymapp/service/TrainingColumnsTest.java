@@ -0,0 +1,96 @@
+package com.epam.gymapp.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class TrainingColumnsTest {
+
+    private static final byte YOGA = 1;
+    private static final byte ZUMBA = 2;
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+    private final TrainingColumns columns = new TrainingColumns(16);
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void testMonthAndWeekKeysMatchCalendar() {
+        for (LocalDate date = LocalDate.of(1899, 12, 1); date.isBefore(LocalDate.of(2101, 2, 1)); date = date.plusDays(1)) {
+            int day = (int) date.toEpochDay();
+            assertEquals(date.getYear() * 12 + date.getMonthValue() - 1, TrainingColumns.monthKey(day), date.toString());
+            LocalDate monday = LocalDate.ofEpochDay(TrainingColumns.weekKey(day) * 7L - 3);
+            assertEquals(date.with(java.time.DayOfWeek.MONDAY), monday, date.toString());
+        }
+    }
+
+    @Test
+    void testGroupsByTypeWithFilters() {
+        int march = (int) LocalDate.of(2025, 3, 10).toEpochDay();
+        columns.upsert(1, march, 60, YOGA, 10, 20);
+        columns.upsert(2, march + 1, 30, YOGA, 11, 20);
+        columns.upsert(3, march + 2, 45, ZUMBA, 10, 21);
+        columns.upsert(4, march + 40, 90, ZUMBA, 10, 21);
+
+        assertEquals(List.of(List.of(1L, 2L, 90L), List.of(2L, 1L, 45L)), groups(
+                new TrainingColumns.Filter(march, march + 30, (byte) -1, 0, 0), TrainingColumns.GroupBy.TYPE, 1));
+        assertEquals(List.of(List.of(0L, 3L, 195L)), groups(
+                new TrainingColumns.Filter(Integer.MIN_VALUE, Integer.MAX_VALUE, (byte) -1, 10, 0),
+                TrainingColumns.GroupBy.NONE, 1));
+    }
+
+    @Test
+    void testUpdatesAndDeletesAreSeenByScans() {
+        int day = (int) LocalDate.of(2025, 3, 10).toEpochDay();
+        columns.upsert(1, day, 60, YOGA, 10, 20);
+        columns.upsert(3, day, 60, YOGA, 10, 21);
+        columns.upsert(2, day, 60, YOGA, 10, 20);
+        columns.upsert(1, day, 15, ZUMBA, 10, 20);
+
+        assertTrue(columns.remove(3));
+        assertFalse(columns.remove(3));
+        assertEquals(List.of(List.of(1L, 1L, 60L), List.of(2L, 1L, 15L)),
+                groups(TrainingColumns.Filter.ALL, TrainingColumns.GroupBy.TYPE, 1));
+
+        assertEquals(2, columns.removeTrainee(20));
+        assertEquals(0, columns.size());
+    }
+
+    @Test
+    void testParallelScanMatchesSequentialSum() {
+        LocalDate start = LocalDate.of(2024, 1, 1);
+        long expectedMinutes = 0;
+        for (int i = 1; i <= 50_000; i++) {
+            columns.upsert(i, (int) start.plusDays(i % 400).toEpochDay(), i % 90, (byte) (i % 5), i % 37 + 1, i % 101 + 1);
+            expectedMinutes += i % 90;
+        }
+        for (int i = 1; i <= 50_000; i += 3) {
+            columns.remove(i);
+            expectedMinutes -= i % 90;
+        }
+
+        List<List<Long>> months = groups(TrainingColumns.Filter.ALL, TrainingColumns.GroupBy.MONTH, 1024);
+
+        long months2024 = ChronoUnit.MONTHS.between(start, start.plusDays(399)) + 1;
+        assertEquals(months2024, months.size());
+        assertEquals(expectedMinutes, months.stream().mapToLong(group -> group.get(2)).sum());
+        assertEquals(columns.size(), months.stream().mapToLong(group -> group.get(1)).sum());
+    }
+
+    private List<List<Long>> groups(TrainingColumns.Filter filter, TrainingColumns.GroupBy groupBy, int leafRows) {
+        List<List<Long>> groups = new ArrayList<>();
+        columns.aggregate(pool, filter, groupBy, leafRows)
+                .forEachSorted((key, sessions, minutes) -> groups.add(List.of(key, sessions, minutes)));
+        return groups;
+    }
+}
@@ -0,0 +1,120 @@
+package com.epam.gymapp.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.jms.UncategorizedJmsException;
+import org.springframework.jms.core.JmsTemplate;
+import org.springframework.jms.core.MessagePostProcessor;
+import org.springframework.jms.core.ProducerCallback;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import com.epam.gymapp.dto.ActionType;
+import com.epam.gymapp.dto.TrainerWorkloadRequest;
+import com.epam.gymapp.messaging.WorkloadDeadLetterStore;
+import com.epam.gymapp.messaging.WorkloadDestinations;
+
+class TrainingPublisherTest {
+
+    @Mock
+    private JmsTemplate jmsTemplate;
+
+    @Mock
+    private WorkloadDeadLetterStore deadLetterStore;
+
+    private ThreadPoolTaskScheduler retryScheduler;
+    private TrainingPublisher trainingPublisher;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        retryScheduler = new ThreadPoolTaskScheduler();
+        retryScheduler.initialize();
+        trainingPublisher = new TrainingPublisher(jmsTemplate, deadLetterStore, retryScheduler, 3, 1, 2.0, 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        retryScheduler.shutdown();
+    }
+
+    @Test
+    void testSendTraining_StampsEventId() {
+        TrainerWorkloadRequest request = new TrainerWorkloadRequest();
+        request.setActionType(ActionType.ADD);
+
+        trainingPublisher.sendTraining(request);
+
+        assertNotNull(request.getEventId());
+        verify(jmsTemplate).convertAndSend(eq(WorkloadDestinations.TRAINING_QUEUE), eq(request), any(MessagePostProcessor.class));
+        verifyNoInteractions(deadLetterStore);
+    }
+
+    @Test
+    void testSendTraining_KeepsExistingEventId() {
+        TrainerWorkloadRequest request = new TrainerWorkloadRequest();
+        request.setEventId("event-1");
+
+        trainingPublisher.sendTraining(request);
+
+        assertEquals("event-1", request.getEventId());
+    }
+
+    @Test
+    void testSendTraining_RetriesThenParks() {
+        doThrow(new UncategorizedJmsException("broker down"))
+            .when(jmsTemplate).convertAndSend(anyString(), any(Object.class), any(MessagePostProcessor.class));
+
+        TrainerWorkloadRequest request = new TrainerWorkloadRequest();
+        trainingPublisher.sendTraining(request);
+
+        // Only the first attempt runs on the calling thread; the retries are scheduled.
+        verify(jmsTemplate, times(1)).convertAndSend(anyString(), any(Object.class), any(MessagePostProcessor.class));
+        verify(deadLetterStore, timeout(2000)).park(request);
+        verify(jmsTemplate, times(3)).convertAndSend(anyString(), any(Object.class), any(MessagePostProcessor.class));
+    }
+
+    @Test
+    void testSendTraining_RecoversOnRetry() {
+        doThrow(new UncategorizedJmsException("broker down"))
+            .doNothing()
+            .when(jmsTemplate).convertAndSend(anyString(), any(Object.class), any(MessagePostProcessor.class));
+
+        trainingPublisher.sendTraining(new TrainerWorkloadRequest());
+
+        verify(jmsTemplate, timeout(2000).times(2)).convertAndSend(anyString(), any(Object.class), any(MessagePostProcessor.class));
+        verify(deadLetterStore, never()).park(any());
+    }
+
+    @Test
+    void testSendBatch_UsesOneProducerAndStampsEventIds() {
+        TrainerWorkloadRequest first = new TrainerWorkloadRequest();
+        TrainerWorkloadRequest second = new TrainerWorkloadRequest();
+
+        trainingPublisher.sendBatch(List.of(first, second));
+
+        assertNotNull(first.getEventId());
+        assertNotNull(second.getEventId());
+        verify(jmsTemplate).execute(eq(WorkloadDestinations.TRAINING_QUEUE), any(ProducerCallback.class));
+    }
+
+    @Test
+    void testSendBatch_ParksWholeBatchAfterRetries() {
+        when(jmsTemplate.execute(anyString(), any(ProducerCallback.class)))
+            .thenThrow(new UncategorizedJmsException("broker down"));
+
+        trainingPublisher.sendBatch(List.of(new TrainerWorkloadRequest(), new TrainerWorkloadRequest()));
+
+        verify(deadLetterStore, timeout(2000).times(2)).park(any());
+        verify(jmsTemplate, times(3)).execute(anyString(), any(ProducerCallback.class));
+    }
+}
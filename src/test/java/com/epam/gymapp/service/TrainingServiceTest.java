@@ -13,6 +13,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
 
 import com.epam.gymapp.dto.TrainingDto;
 import com.epam.gymapp.model.trainee.Trainee;
@@ -37,7 +38,13 @@ class TrainingServiceTest {
     private TrainingTypeRepository trainingTypeRepository;
 
     @Mock
-    private TrainingPublisher trainingPublisher;
+    private UsernameDirectory usernameDirectory;
+
+    @Mock
+    private TrainerMonthlySummaryService monthlySummaryService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     private TrainingService trainingService;
@@ -86,10 +93,10 @@ class TrainingServiceTest {
         dto.setTrainingTypeName("Yoga");
         dto.setTrainerUsername("trainer1");
         dto.setTraineeUsername("trainee1");
+        dto.setTrainingDate(Date.valueOf("2025-03-10"));
 
         TrainingType type = new TrainingType(TrainingTypeEnum.YOGA);
-        Trainer trainer = new Trainer();
-        trainer.setUser(new User());
+        Trainer trainer = new Trainer(5L, type, new User(), null);
         Trainee trainee = new Trainee();
         trainee.setUser(new User());
 
@@ -97,13 +104,15 @@ class TrainingServiceTest {
         when(trainerRepository.findByUserUsername("trainer1")).thenReturn(Optional.of(trainer));
         when(traineeRepository.findByUserUsername("trainee1")).thenReturn(Optional.of(trainee));
         when(trainingRepository.save(any(Training.class))).thenAnswer(i -> i.getArguments()[0]);
-        doNothing().when(trainingPublisher).sendTraining(any());
 
         Training result = trainingService.save(dto);
 
         assertNotNull(result);
         assertEquals("Session", result.getTrainingName());
         verify(trainingRepository).save(any(Training.class));
+        verify(monthlySummaryService).record(5L, Date.valueOf("2025-03-10"), 60);
+        verify(eventPublisher).publishEvent(any(TrainingChangedEvent.class));
+        verify(eventPublisher).publishEvent(any(WorkloadChangedEvent.class));
     }
 
     @Test
@@ -125,6 +134,26 @@ class TrainingServiceTest {
         assertEquals(45, result.getTrainingDuration());
     }
 
+    @Test
+    void testUpdate_MovesTrainingBetweenMonths() {
+        Training existing = new Training();
+        existing.setTrainer(new Trainer(5L, null, new User(), null));
+        existing.setTrainingDate(Date.valueOf("2025-03-10"));
+        existing.setTrainingDuration(30);
+
+        Training updated = new Training();
+        updated.setTrainingDate(Date.valueOf("2025-04-02"));
+        updated.setTrainingDuration(45);
+
+        when(trainingRepository.findById(1L)).thenReturn(Optional.of(existing));
+        when(trainingRepository.save(existing)).thenReturn(existing);
+
+        trainingService.update(1L, updated);
+
+        verify(monthlySummaryService).remove(5L, Date.valueOf("2025-03-10"), 30);
+        verify(monthlySummaryService).record(5L, Date.valueOf("2025-04-02"), 45);
+    }
+
     @Test
     void testUpdate_NotFound() {
         when(trainingRepository.findById(1L)).thenReturn(Optional.empty());
@@ -140,6 +169,26 @@ class TrainingServiceTest {
         trainingService.delete(1L);
         verify(trainingRepository).findById(1L);
         verify(trainingRepository).deleteById(1L);
+        verifyNoInteractions(monthlySummaryService);
+    }
+
+    @Test
+    void testDelete_RemovesFromMonthlySummary() {
+        User user = new User();
+        user.setUsername("trainer1");
+        Training training = new Training();
+        java.util.Date trainingDate = new java.util.Date(Date.valueOf("2025-03-10").getTime());
+        training.setTrainer(new Trainer(5L, null, user, null));
+        training.setTrainingDate(trainingDate);
+        training.setTrainingDuration(60);
+        when(trainingRepository.findById(1L)).thenReturn(Optional.of(training));
+
+        trainingService.delete(1L);
+
+        verify(trainingRepository).deleteById(1L);
+        verify(monthlySummaryService).remove(5L, trainingDate, 60);
+        verify(eventPublisher).publishEvent(TrainingChangedEvent.deleted(1L));
+        verify(eventPublisher).publishEvent(any(WorkloadChangedEvent.class));
     }
 
     @Test
@@ -0,0 +1,125 @@
+package com.epam.gymapp.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.sql.Date;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.epam.gymapp.dto.SubmissionStatus;
+import com.epam.gymapp.dto.TrainingDto;
+import com.epam.gymapp.dto.TrainingSubmissionDto;
+import com.epam.gymapp.model.training.Training;
+import com.epam.gymapp.util.TransactionContext;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TrainingSubmissionServiceTest {
+
+    private final TrainingService trainingService = mock(TrainingService.class);
+    private TrainingSubmissionService submissionService;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (submissionService != null) submissionService.stop();
+        TransactionContext.clearTransactionId();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testStoresUnderTheSubmittersTransactionIdAndUser() throws InterruptedException {
+        String[] seen = new String[2];
+        Training saved = mock(Training.class);
+        when(saved.getId()).thenReturn(42L);
+        when(trainingService.save(any(TrainingDto.class))).thenAnswer(invocation -> {
+            seen[0] = TransactionContext.getTransactionId();
+            seen[1] = SecurityContextHolder.getContext().getAuthentication().getName();
+            return saved;
+        });
+        start(10, 1);
+
+        TransactionContext.setTransactionId("tx-async");
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("Trainee.One", null));
+        TrainingSubmissionDto submission = submissionService.submit(training());
+        assertEquals(SubmissionStatus.QUEUED, submission.getStatus());
+
+        TrainingSubmissionDto done = awaitTerminal(submission.getId());
+        assertEquals(SubmissionStatus.COMPLETED, done.getStatus());
+        assertEquals(Long.valueOf(42), done.getTrainingId());
+        assertNotNull(done.getCompletedAt());
+        assertEquals("tx-async", seen[0]);
+        assertEquals("Trainee.One", seen[1]);
+    }
+
+    @Test
+    void testReportsFailureOnTheStatus() throws InterruptedException {
+        when(trainingService.save(any(TrainingDto.class))).thenThrow(new RuntimeException("Trainer not found"));
+        start(10, 1);
+
+        TrainingSubmissionDto done = awaitTerminal(submissionService.submit(training()).getId());
+
+        assertEquals(SubmissionStatus.FAILED, done.getStatus());
+        assertEquals("Trainer not found", done.getError());
+    }
+
+    @Test
+    void testRejectsSubmissionsWhenQueueIsFull() throws InterruptedException {
+        CountDownLatch busy = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(trainingService.save(any(TrainingDto.class))).thenAnswer(invocation -> {
+            busy.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return new Training();
+        });
+        start(1, 1);
+
+        assertNotNull(submissionService.submit(training()));
+        assertTrue(busy.await(5, TimeUnit.SECONDS));
+        assertNotNull(submissionService.submit(training()));
+        assertNull(submissionService.submit(training()));
+        release.countDown();
+    }
+
+    @Test
+    void testRejectsInvalidRequestsBeforeQueueing() {
+        start(10, 1);
+        TrainingDto unknownType = training();
+        unknownType.setTrainingTypeName("pilates");
+        TrainingDto noDuration = training();
+        noDuration.setTrainingDuration(0);
+
+        assertThrows(IllegalArgumentException.class, () -> submissionService.submit(unknownType));
+        assertThrows(IllegalArgumentException.class, () -> submissionService.submit(noDuration));
+        assertEquals(0, submissionService.getQueueSize());
+        verifyNoInteractions(trainingService);
+    }
+
+    private void start(int capacity, int workers) {
+        submissionService = new TrainingSubmissionService(trainingService, new SimpleMeterRegistry(),
+                new SimpleAsyncTaskExecutor(), capacity, workers, 100, Duration.ofSeconds(5));
+    }
+
+    private TrainingSubmissionDto awaitTerminal(String id) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        TrainingSubmissionDto status = submissionService.getStatus(id);
+        while (!status.getStatus().isTerminal() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            status = submissionService.getStatus(id);
+        }
+        return status;
+    }
+
+    private static TrainingDto training() {
+        return new TrainingDto("Trainee.One", "Trainer.One", "Morning session", Date.valueOf("2025-05-01"),
+                "YOGA", 60, "yoga");
+    }
+}
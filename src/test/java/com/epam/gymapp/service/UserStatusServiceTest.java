@@ -0,0 +1,59 @@
+package com.epam.gymapp.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.epam.gymapp.dto.BulkStatusResultDto;
+import com.epam.gymapp.repository.UserRepository;
+
+class UserStatusServiceTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private UserStatusService userStatusService;
+
+    @BeforeEach
+    void setUp() {
+        userStatusService = new UserStatusService(userRepository, mock(PlatformTransactionManager.class),
+                eventPublisher, 2);
+    }
+
+    @Test
+    void updatesInChunksAndReturnsCounts() {
+        when(userRepository.updateActiveByUsernameIn(List.of("a", "b"), false)).thenReturn(1);
+        when(userRepository.countByUsernameIn(List.of("a", "b"))).thenReturn(2L);
+        when(userRepository.updateActiveByUsernameIn(List.of("c", "d"), false)).thenReturn(1);
+        when(userRepository.countByUsernameIn(List.of("c", "d"))).thenReturn(1L);
+
+        BulkStatusResultDto result = userStatusService.changeStatus(List.of("a", "b", "a", "c", "d"), false);
+
+        assertEquals(4, result.getRequested());
+        assertEquals(2, result.getUpdated());
+        assertEquals(1, result.getUnchanged());
+        assertEquals(1, result.getNotFound());
+        verify(eventPublisher).publishEvent(new UserStatusChangedEvent(List.of("a", "b"), false));
+        verify(eventPublisher).publishEvent(new UserStatusChangedEvent(List.of("c", "d"), false));
+    }
+
+    @Test
+    void noEventWhenNothingChanged() {
+        when(userRepository.updateActiveByUsernameIn(List.of("a"), true)).thenReturn(0);
+        when(userRepository.countByUsernameIn(List.of("a"))).thenReturn(1L);
+
+        BulkStatusResultDto result = userStatusService.changeStatus(List.of("a"), true);
+
+        assertEquals(1, result.getUnchanged());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+}
@@ -0,0 +1,82 @@
+package com.epam.gymapp.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+import java.util.Optional;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class UsernameDirectoryTest {
+
+    private UsernameDirectory directory;
+
+    @BeforeEach
+    void setUp() {
+        directory = new UsernameDirectory(mock(DataSource.class), mock(PlatformTransactionManager.class),
+                new SimpleMeterRegistry(), 16, 100);
+    }
+
+    @Test
+    void testFindsTraineesAndTrainers() {
+        directory.put("John.Doe", new UsernameDirectory.Entry(1, 10L, null, true));
+        directory.put("Mike.Trainer", new UsernameDirectory.Entry(3, null, 30L, false));
+
+        assertEquals(Optional.of(new UsernameDirectory.Entry(1, 10L, null, true)), directory.find("John.Doe"));
+        assertEquals(Optional.of(30L), directory.findTrainerId("Mike.Trainer"));
+        assertEquals(Optional.empty(), directory.findTraineeId("Mike.Trainer"));
+        assertEquals(Optional.empty(), directory.find("John.Do"));
+        assertEquals(2, directory.size());
+    }
+
+    @Test
+    void testGrowsPastInitialCapacity() {
+        for (int i = 0; i < 5_000; i++) {
+            directory.put("user." + i, new UsernameDirectory.Entry(i, (long) i + 100_000, null, i % 2 == 0));
+        }
+
+        assertEquals(5_000, directory.size());
+        for (int i = 0; i < 5_000; i++) {
+            UsernameDirectory.Entry entry = directory.find("user." + i).orElseThrow();
+            assertEquals(i, entry.userId());
+            assertEquals(Long.valueOf(i + 100_000L), entry.traineeId());
+            assertEquals(i % 2 == 0, entry.active());
+        }
+    }
+
+    @Test
+    void testStatusChangeUpdatesActiveFlag() {
+        directory.put("John.Doe", new UsernameDirectory.Entry(1, 10L, null, true));
+
+        directory.onUserStatusChanged(new UserStatusChangedEvent(List.of("John.Doe", "Unknown.User"), false));
+
+        assertFalse(directory.find("John.Doe").orElseThrow().active());
+        assertEquals(Optional.empty(), directory.find("Unknown.User"));
+    }
+
+    @Test
+    void testReRegistrationReusesTheEntry() {
+        directory.put("John.Doe", new UsernameDirectory.Entry(1, 10L, null, true));
+        directory.put("John.Doe", new UsernameDirectory.Entry(2, null, 20L, true));
+
+        assertEquals(Optional.of(new UsernameDirectory.Entry(2, null, 20L, true)), directory.find("John.Doe"));
+        assertEquals(1, directory.size());
+    }
+
+    @Test
+    void testUsesLessMemoryPerEntryThanAHashMap() {
+        for (int i = 0; i < 100_000; i++) {
+            directory.put(String.format("User.Name%05d", i), new UsernameDirectory.Entry(i, (long) i, null, true));
+        }
+
+        // Allocated capacity, including growth slack; a HashMap<String, Long> needs about 120 bytes per entry.
+        assertTrue(directory.memoryBytes() / 100_000 < 120, "bytes per entry: " + directory.memoryBytes() / 100_000);
+    }
+}
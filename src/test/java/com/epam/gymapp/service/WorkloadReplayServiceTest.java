@@ -0,0 +1,81 @@
+package com.epam.gymapp.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.jms.support.converter.MessageConverter;
+
+import com.epam.gymapp.dto.ActionType;
+import com.epam.gymapp.dto.TrainerWorkloadRequest;
+import com.epam.gymapp.messaging.WorkloadDeadLetterStore;
+import com.epam.gymapp.messaging.WorkloadNotifier;
+import com.epam.gymapp.model.workload.ReconciliationCheckpoint;
+import com.epam.gymapp.repository.ReconciliationCheckpointRepository;
+
+import jakarta.jms.ConnectionFactory;
+
+class WorkloadReplayServiceTest {
+
+    @Mock
+    private WorkloadNotifier workloadNotifier;
+
+    @Mock
+    private WorkloadDeadLetterStore deadLetterStore;
+
+    @Mock
+    private ReconciliationCheckpointRepository checkpointRepository;
+
+    private WorkloadReplayService workloadReplayService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        // No broker messages: the dead-letter queue is not read.
+        workloadReplayService = new WorkloadReplayService(workloadNotifier, deadLetterStore, checkpointRepository,
+                mock(ConnectionFactory.class), mock(MessageConverter.class), "ActiveMQ.DLQ", 10, 0);
+    }
+
+    private static TrainerWorkloadRequest event(String eventId, ActionType actionType) {
+        TrainerWorkloadRequest request = new TrainerWorkloadRequest("Mike.Trainer", "Mike", "Trainer", true,
+                LocalDate.of(2023, 10, 1), 60, actionType);
+        request.setEventId(eventId);
+        return request;
+    }
+
+    @Test
+    void testReplay_DropsSnapshotsOfEarlierRuns() {
+        when(checkpointRepository.findById(WorkloadReconciliationService.JOB_NAME))
+                .thenReturn(Optional.of(new ReconciliationCheckpoint(WorkloadReconciliationService.JOB_NAME, "run-2")));
+        TrainerWorkloadRequest add = event("e-1", ActionType.ADD);
+        TrainerWorkloadRequest oldSnapshot = event("run-1:7:2023-10", ActionType.SNAPSHOT);
+        TrainerWorkloadRequest latestSnapshot = event("run-2:7:2023-10", ActionType.SNAPSHOT);
+        when(deadLetterStore.drain()).thenReturn(List.of(add, oldSnapshot, latestSnapshot));
+
+        Map<String, Integer> result = workloadReplayService.replay();
+
+        verify(workloadNotifier).publishBatch(List.of(add, latestSnapshot));
+        assertEquals(2, result.get("replayedParked"));
+        assertEquals(1, result.get("droppedStaleSnapshots"));
+    }
+
+    @Test
+    void testReplay_KeepsSnapshotsWhenNoRunIsRecorded() {
+        when(checkpointRepository.findById(WorkloadReconciliationService.JOB_NAME)).thenReturn(Optional.empty());
+        TrainerWorkloadRequest snapshot = event("run-1:7:2023-10", ActionType.SNAPSHOT);
+        when(deadLetterStore.drain()).thenReturn(List.of(snapshot));
+
+        Map<String, Integer> result = workloadReplayService.replay();
+
+        verify(workloadNotifier).publishBatch(List.of(snapshot));
+        assertEquals(0, result.get("droppedStaleSnapshots"));
+    }
+}
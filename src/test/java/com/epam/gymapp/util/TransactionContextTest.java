@@ -0,0 +1,44 @@
+package com.epam.gymapp.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+class TransactionContextTest {
+
+    @AfterEach
+    void tearDown() {
+        TransactionContext.clearTransactionId();
+    }
+
+    @Test
+    void testSetTransactionId_MirrorsIntoMdc() {
+        TransactionContext.setTransactionId("tx-1");
+        assertEquals("tx-1", MDC.get(TransactionContext.MDC_KEY));
+
+        TransactionContext.clearTransactionId();
+        assertNull(MDC.get(TransactionContext.MDC_KEY));
+    }
+
+    @Test
+    void testWrap_CarriesIdToExecutorThreadAndRestoresIt() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(() -> TransactionContext.setTransactionId("worker")).get();
+
+            TransactionContext.setTransactionId("tx-2");
+            Future<String> seen = executor.submit(TransactionContext.wrap(TransactionContext::getTransactionId));
+            assertEquals("tx-2", seen.get());
+
+            assertEquals("worker", executor.submit(TransactionContext::getTransactionId).get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
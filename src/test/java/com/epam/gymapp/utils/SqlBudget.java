@@ -0,0 +1,63 @@
+package com.epam.gymapp.utils;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.epam.gymapp.monitoring.RequestSqlStats;
+import com.epam.gymapp.monitoring.SqlStatsContext;
+import com.epam.gymapp.monitoring.SqlStatsRegistry;
+
+/**
+ * Query budget assertions for tests. Either measure a block of code directly:
+ * <pre>
+ * RequestSqlStats stats = SqlBudget.measure(() -> traineeService.getProfileByUsername("John.Doe"));
+ * SqlBudget.assertWithin(stats, 5, 1);
+ * </pre>
+ * or look up an HTTP request by the {@code X-Transaction-ID} it was sent with.
+ */
+public final class SqlBudget {
+
+    private SqlBudget() {
+    }
+
+    public static RequestSqlStats measure(Runnable action) {
+        RequestSqlStats stats = SqlStatsContext.start();
+        try {
+            action.run();
+            return stats;
+        } finally {
+            SqlStatsContext.stop();
+        }
+    }
+
+    /**
+     * Waits briefly for the request's stats, which are stored once its filter chain returns.
+     */
+    public static RequestSqlStats forRequest(SqlStatsRegistry registry, String transactionId) {
+        AtomicReference<RequestSqlStats> found = new AtomicReference<>();
+        await().atMost(Duration.ofSeconds(2)).pollInterval(Duration.ofMillis(20)).until(() -> {
+            Optional<RequestSqlStats> stats = registry.find(transactionId);
+            stats.ifPresent(found::set);
+            return stats.isPresent();
+        });
+        return found.get();
+    }
+
+    /**
+     * @param maxStatements statements the code may execute
+     * @param maxRepeats times any single statement may run; above that it is treated as N+1
+     */
+    public static void assertWithin(RequestSqlStats stats, int maxStatements, int maxRepeats) {
+        assertTrue(stats.getStatementCount() <= maxStatements,
+                "Expected at most " + maxStatements + " SQL statements but got " + stats);
+        Map.Entry<String, Integer> mostRepeated = stats.getMostRepeatedStatement();
+        assertTrue(mostRepeated == null || mostRepeated.getValue() <= maxRepeats,
+                () -> "Statement ran " + mostRepeated.getValue() + " times (limit " + maxRepeats + "): "
+                        + mostRepeated.getKey());
+    }
+}
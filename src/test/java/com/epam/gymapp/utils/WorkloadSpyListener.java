@@ -1,6 +1,11 @@
 package com.epam.gymapp.utils;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import com.epam.gymapp.dto.TrainerWorkloadRequest;
+import com.epam.gymapp.messaging.WorkloadDestinations;
+import com.epam.gymapp.util.TransactionContext;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.jms.Message;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -8,26 +13,66 @@ import org.springframework.jms.annotation.JmsListener;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 
+/**
+ * Test stand-in for the trainer workload service. Like the real consumer it keeps a window of
+ * recently applied event ids and ignores redelivered or replayed duplicates.
+ */
 @Component
 public class WorkloadSpyListener {
 
+    private static final int DEDUP_WINDOW = 10_000;
+
     @Autowired
     private ObjectMapper objectMapper;
 
     private static TrainerWorkloadRequest lastReceived;
+    private static String lastTransactionId;
+    private static volatile int duplicates;
+
+    private static final Map<String, Boolean> seenEventIds = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+            return size() > DEDUP_WINDOW;
+        }
+    };
 
-    @JmsListener(destination = "training.queue", concurrency = "1-1")
+    @JmsListener(destination = WorkloadDestinations.TRAINING_QUEUE, concurrency = "1-1")
     public void intercept(@Payload TrainerWorkloadRequest request, Message message) throws Exception {
+        String eventId = message.getStringProperty(WorkloadDestinations.EVENT_ID_PROPERTY);
+        if (!markSeen(eventId)) {
+            duplicates++;
+            System.out.println("Ignoring duplicate workload event: " + eventId);
+            return;
+        }
         lastReceived = request;
+        lastTransactionId = TransactionContext.getTransactionId();
         System.out.println("Received workload request: " + objectMapper.writeValueAsString(request));
     }
 
+    private static synchronized boolean markSeen(String eventId) {
+        if (eventId == null) {
+            return true;
+        }
+        return seenEventIds.put(eventId, Boolean.TRUE) == null;
+    }
+
     public static TrainerWorkloadRequest getLastReceived() {
         return lastReceived;
     }
 
-     public static void clear() {
+    public static String getLastTransactionId() {
+        return lastTransactionId;
+    }
+
+    public static int getDuplicates() {
+        return duplicates;
+    }
+
+     public static synchronized void clear() {
         lastReceived = null;
+        lastTransactionId = null;
+        duplicates = 0;
+        seenEventIds.clear();
     }
 }
 
@@ -0,0 +1,11 @@
+Feature: Presupuesto de consultas SQL por petición
+
+  Scenario: Consultar el perfil de un trainee
+    When the profile of trainee "John.Doe" is requested
+    Then the API should respond with HTTP 200
+    And the request should run at most 10 SQL statements
+    And no SQL statement should run more than 3 times
+
+  Scenario: Crear una sesión de entrenamiento
+    When a training session is created with trainer "Mike.Trainer" and trainee "John.Doe"
+    Then the request should run at most 10 SQL statements
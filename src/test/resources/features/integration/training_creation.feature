@@ -3,6 +3,7 @@ Feature:  Crear entrenamientos
   Scenario: Crear una sesión de entrenamiento y actualizar carga
     When a training session is created with trainer "Mike.Trainer" and trainee "John.Doe"
     Then the trainer workload should be updated in the receiving service
+    And the workload update should carry the request's transaction id
 
   Scenario: Crear una sesión de entrenamiento de tipo "YOGA"
     When a training session is created with trainer "Mike.Trainer" and trainee "John.Doe" with type "YOGA"
@@ -0,0 +1,6 @@
+Feature: Entregar actualizaciones de carga sin duplicados
+
+  Scenario: Una actualización de carga reenviada se aplica una sola vez
+    When the same workload event for trainer "Mike.Trainer" is delivered twice
+    Then the trainer workload should be updated in the receiving service
+    And the receiving service should ignore 1 duplicate workload update